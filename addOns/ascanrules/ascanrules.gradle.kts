@@ -13,7 +13,7 @@ zapAddOn {
         dependencies {
             addOns {
                 register("commonlib") {
-                    version.set(">= 1.40.0 & < 2.0.0")
+                    version.set(">= 1.44.0 & < 2.0.0")
                 }
                 register("network") {
                     version.set(">= 0.3.0")
@@ -37,6 +37,7 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.PolicyTag;
 import org.zaproxy.addon.commonlib.http.HttpFieldsNames;
+import org.zaproxy.addon.commonlib.timing.TimingEngine;
 import org.zaproxy.addon.commonlib.timing.TimingUtils;
 import org.zaproxy.zap.extension.ruleconfig.RuleConfigParam;
 
@@ -179,12 +180,16 @@ public class ShellShockScanRule extends AbstractAppParamPlugin implements Common
                     };
 
             boolean vulnerable =
-                    TimingUtils.checkTimingDependence(
-                            BLIND_REQUESTS_LIMIT,
-                            timeSleepSeconds,
-                            requestSender,
-                            TIME_CORRELATION_ERROR_RANGE,
-                            TIME_SLOPE_ERROR_RANGE);
+                    TimingEngine.getInstance()
+                            .checkTimingDependence(
+                                    getParent(),
+                                    getId(),
+                                    getBaseMsg(),
+                                    BLIND_REQUESTS_LIMIT,
+                                    timeSleepSeconds,
+                                    requestSender,
+                                    TIME_CORRELATION_ERROR_RANGE,
+                                    TIME_SLOPE_ERROR_RANGE);
 
             if (vulnerable) {
                 var msg = message.get();
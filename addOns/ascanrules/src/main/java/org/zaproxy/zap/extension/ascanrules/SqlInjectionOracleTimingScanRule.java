@@ -36,6 +36,7 @@ import org.parosproxy.paros.core.scanner.Category;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.PolicyTag;
+import org.zaproxy.addon.commonlib.timing.TimingEngine;
 import org.zaproxy.addon.commonlib.timing.TimingUtils;
 import org.zaproxy.zap.extension.ruleconfig.RuleConfigParam;
 import org.zaproxy.zap.model.Tech;
@@ -238,14 +239,18 @@ public class SqlInjectionOracleTimingScanRule extends AbstractAppParamPlugin
                     };
             boolean isInjectable;
             try {
-                // Use TimingUtils to detect a response to sleep payloads
+                // Use the TimingEngine to detect a response to sleep payloads
                 isInjectable =
-                        TimingUtils.checkTimingDependence(
-                                BLIND_REQUEST_LIMIT,
-                                sleepInSeconds,
-                                requestSender,
-                                TIME_CORRELATION_ERROR_RANGE,
-                                TIME_SLOPE_ERROR_RANGE);
+                        TimingEngine.getInstance()
+                                .checkTimingDependence(
+                                        getParent(),
+                                        getId(),
+                                        getBaseMsg(),
+                                        BLIND_REQUEST_LIMIT,
+                                        sleepInSeconds,
+                                        requestSender,
+                                        TIME_CORRELATION_ERROR_RANGE,
+                                        TIME_SLOPE_ERROR_RANGE);
             } catch (IOException ex) {
                 LOGGER.debug(
                         "Caught {} {} when accessing: {}.",
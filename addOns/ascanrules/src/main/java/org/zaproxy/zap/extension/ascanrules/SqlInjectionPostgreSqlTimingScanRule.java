@@ -37,6 +37,7 @@ import org.parosproxy.paros.core.scanner.Category;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.PolicyTag;
+import org.zaproxy.addon.commonlib.timing.TimingEngine;
 import org.zaproxy.addon.commonlib.timing.TimingUtils;
 import org.zaproxy.zap.extension.ruleconfig.RuleConfigParam;
 import org.zaproxy.zap.model.Tech;
@@ -279,14 +280,18 @@ public class SqlInjectionPostgreSqlTimingScanRule extends AbstractAppParamPlugin
                 boolean isInjectable;
                 try {
                     try {
-                        // use TimingUtils to detect a response to sleep payloads
+                        // use the TimingEngine to detect a response to sleep payloads
                         isInjectable =
-                                TimingUtils.checkTimingDependence(
-                                        BLIND_REQUEST_LIMIT,
-                                        sleepInSeconds,
-                                        requestSender,
-                                        TIME_CORRELATION_ERROR_RANGE,
-                                        TIME_SLOPE_ERROR_RANGE);
+                                TimingEngine.getInstance()
+                                        .checkTimingDependence(
+                                                getParent(),
+                                                getId(),
+                                                getBaseMsg(),
+                                                BLIND_REQUEST_LIMIT,
+                                                sleepInSeconds,
+                                                requestSender,
+                                                TIME_CORRELATION_ERROR_RANGE,
+                                                TIME_SLOPE_ERROR_RANGE);
                     } catch (SocketException ex) {
                         LOGGER.debug(
                                 "Caught {} {} when accessing: {}.\n The target may have replied with a poorly formed redirect due to our input.",
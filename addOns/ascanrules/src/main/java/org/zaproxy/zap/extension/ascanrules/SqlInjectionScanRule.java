@@ -1754,6 +1754,10 @@ public class SqlInjectionScanRule extends AbstractAppParamPlugin
      * parameters from both requests
      */
     private float responseBodyHeuristic(ComparableResponse one, ComparableResponse two) {
+        // Same bodies remain the same once stripped, no need to strip them.
+        if (one.getBody().equals(two.getBody())) {
+            return 1;
+        }
         String stripped1 =
                 stripOffOriginalAndAttackParam(
                         one.getBody(), one.getValueSent(), two.getValueSent());
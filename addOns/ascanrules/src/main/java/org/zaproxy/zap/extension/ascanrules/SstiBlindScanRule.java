@@ -38,6 +38,7 @@ import org.parosproxy.paros.core.scanner.Plugin;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.PolicyTag;
+import org.zaproxy.addon.commonlib.timing.TimingEngine;
 import org.zaproxy.addon.commonlib.timing.TimingUtils;
 import org.zaproxy.addon.oast.ExtensionOast;
 import org.zaproxy.zap.extension.ruleconfig.RuleConfigParam;
@@ -264,12 +265,16 @@ public class SstiBlindScanRule extends AbstractAppParamPlugin implements CommonA
 
         try {
             boolean injectable =
-                    TimingUtils.checkTimingDependence(
-                            BLIND_REQUESTS_LIMIT,
-                            timeSleepSeconds,
-                            requestSender,
-                            TIME_CORRELATION_ERROR_RANGE,
-                            TIME_SLOPE_ERROR_RANGE);
+                    TimingEngine.getInstance()
+                            .checkTimingDependence(
+                                    getParent(),
+                                    getId(),
+                                    getBaseMsg(),
+                                    BLIND_REQUESTS_LIMIT,
+                                    timeSleepSeconds,
+                                    requestSender,
+                                    TIME_CORRELATION_ERROR_RANGE,
+                                    TIME_SLOPE_ERROR_RANGE);
 
             if (injectable) {
                 LOGGER.debug(
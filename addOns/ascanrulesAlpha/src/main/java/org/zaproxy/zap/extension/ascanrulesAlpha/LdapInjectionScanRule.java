@@ -43,6 +43,7 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.DiceMatcher;
 import org.zaproxy.addon.commonlib.PolicyTag;
+import org.zaproxy.addon.commonlib.TextFingerprint;
 import org.zaproxy.zap.model.Tech;
 import org.zaproxy.zap.model.TechSet;
 
@@ -281,10 +282,13 @@ public class LdapInjectionScanRule extends AbstractAppParamPlugin
             // if its not stable (enough), there is not much point in continuing
             HttpMessage repeatMsg = getNewMsg();
             sendAndReceive(repeatMsg);
+            // The original response is compared many times, compute its fingerprint just once.
+            TextFingerprint originalFingerprint =
+                    TextFingerprint.of(originalmsg.getResponseBody().toString());
             int repeatMatch =
                     DiceMatcher.getMatchPercentage(
-                            originalmsg.getResponseBody().toString(),
-                            repeatMsg.getResponseBody().toString());
+                            originalFingerprint,
+                            TextFingerprint.of(repeatMsg.getResponseBody().toString()));
             LOGGER.debug("Got percentage for repeat: {}", repeatMatch);
             if (repeatMatch < matchThreshold) {
                 // the URL is not stable, based on the threshold level set. bale.
@@ -321,10 +325,12 @@ public class LdapInjectionScanRule extends AbstractAppParamPlugin
             this.setParameter(randomParamMsg2, paramname, randomparameterAttack);
             sendAndReceive(randomParamMsg2);
 
+            TextFingerprint randomFingerprint =
+                    TextFingerprint.of(randomParamMsg1.getResponseBody().toString());
             int randomVersusRandomMatch =
                     DiceMatcher.getMatchPercentage(
-                            randomParamMsg1.getResponseBody().toString(),
-                            randomParamMsg2.getResponseBody().toString());
+                            randomFingerprint,
+                            TextFingerprint.of(randomParamMsg2.getResponseBody().toString()));
             LOGGER.debug(
                     "Got percentage match for a random parameter (against another identical request): {}",
                     randomVersusRandomMatch);
@@ -338,9 +344,7 @@ public class LdapInjectionScanRule extends AbstractAppParamPlugin
 
             // now check the random against the original, to make sure the output is different
             int randomVersusOriginalMatch =
-                    DiceMatcher.getMatchPercentage(
-                            randomParamMsg1.getResponseBody().toString(),
-                            originalmsg.getResponseBody().toString());
+                    DiceMatcher.getMatchPercentage(randomFingerprint, originalFingerprint);
             LOGGER.debug(
                     "Got percentage match for a random parameter against the original parameter: {}%, compared to a threshold of %{}",
                     randomVersusOriginalMatch, matchThreshold);
@@ -383,8 +387,8 @@ public class LdapInjectionScanRule extends AbstractAppParamPlugin
 
                 int appendTrueVersusOriginalMatch =
                         DiceMatcher.getMatchPercentage(
-                                appendTrueMsg.getResponseBody().toString(),
-                                originalmsg.getResponseBody().toString());
+                                TextFingerprint.of(appendTrueMsg.getResponseBody().toString()),
+                                originalFingerprint);
                 LOGGER.debug(
                         "Got percentage for append TRUE expression [{}] versus original: {}",
                         appendTrueAttack,
@@ -446,8 +450,8 @@ public class LdapInjectionScanRule extends AbstractAppParamPlugin
 
                 int hopefullyTrueVersusOriginalMatch =
                         DiceMatcher.getMatchPercentage(
-                                hopefullyTrueMsg.getResponseBody().toString(),
-                                originalmsg.getResponseBody().toString());
+                                TextFingerprint.of(hopefullyTrueMsg.getResponseBody().toString()),
+                                originalFingerprint);
                 LOGGER.debug(
                         "Got percentage for hopefully TRUE expression [{}] versus original: {}",
                         hopefullyTrueAttack,
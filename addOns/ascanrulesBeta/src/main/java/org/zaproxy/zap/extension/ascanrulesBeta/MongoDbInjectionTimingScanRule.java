@@ -38,6 +38,7 @@ import org.parosproxy.paros.core.scanner.Category;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.PolicyTag;
+import org.zaproxy.addon.commonlib.timing.TimingEngine;
 import org.zaproxy.addon.commonlib.timing.TimingUtils;
 import org.zaproxy.zap.extension.ruleconfig.RuleConfigParam;
 import org.zaproxy.zap.model.Tech;
@@ -230,14 +231,18 @@ public class MongoDbInjectionTimingScanRule extends AbstractAppParamPlugin
                     };
 
             try {
-                // use TimingUtils to detect a response to sleep payloads
+                // use the TimingEngine to detect a response to sleep payloads
                 boolean isInjectable =
-                        TimingUtils.checkTimingDependence(
-                                BLIND_REQUEST_LIMIT,
-                                timeSleepSeconds,
-                                requestSender,
-                                TIME_CORRELATION_ERROR_RANGE,
-                                TIME_SLOPE_ERROR_RANGE);
+                        TimingEngine.getInstance()
+                                .checkTimingDependence(
+                                        getParent(),
+                                        getId(),
+                                        getBaseMsg(),
+                                        BLIND_REQUEST_LIMIT,
+                                        timeSleepSeconds,
+                                        requestSender,
+                                        TIME_CORRELATION_ERROR_RANGE,
+                                        TIME_SLOPE_ERROR_RANGE);
 
                 if (isInjectable) {
                     // We Found IT!
@@ -38,6 +38,7 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.DiceMatcher;
 import org.zaproxy.addon.commonlib.PolicyTag;
+import org.zaproxy.addon.commonlib.TextFingerprint;
 import org.zaproxy.addon.commonlib.vulnerabilities.Vulnerabilities;
 import org.zaproxy.addon.commonlib.vulnerabilities.Vulnerability;
 import org.zaproxy.zap.model.Tech;
@@ -247,10 +248,13 @@ public class SourceCodeDisclosureFileInclusionScanRule extends AbstractAppParamP
             setParameter(randomfileattackmsg, paramname, NON_EXISTANT_FILENAME);
             sendAndReceive(randomfileattackmsg, false); // do not follow redirects
 
+            // The random file response is compared with all the source file attempts.
+            TextFingerprint randomfilefingerprint =
+                    TextFingerprint.of(randomfileattackmsg.getResponseBody().toString());
             int originalversusrandommatchpercentage =
                     DiceMatcher.getMatchPercentage(
-                            originalmsg.getResponseBody().toString(),
-                            randomfileattackmsg.getResponseBody().toString());
+                            TextFingerprint.of(originalmsg.getResponseBody().toString()),
+                            randomfilefingerprint);
             if (isEmptyOrTooSimilar(randomfileattackmsg, originalversusrandommatchpercentage)) {
                 LOGGER.debug(
                         "The output for a non-existent filename [{}] does not sufficiently differ from that of the original parameter [{}], "
@@ -312,8 +316,9 @@ public class SourceCodeDisclosureFileInclusionScanRule extends AbstractAppParamP
 
                     int randomversussourcefilenamematchpercentage =
                             DiceMatcher.getMatchPercentage(
-                                    randomfileattackmsg.getResponseBody().toString(),
-                                    sourceattackmsg.getResponseBody().toString());
+                                    randomfilefingerprint,
+                                    TextFingerprint.of(
+                                            sourceattackmsg.getResponseBody().toString()));
                     if (isEmptyOrTooSimilar(
                             sourceattackmsg, randomversussourcefilenamematchpercentage)) {
                         LOGGER.debug(
@@ -30,7 +30,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
@@ -85,6 +84,7 @@ import org.zaproxy.addon.authhelper.internal.AuthenticationStep;
 import org.zaproxy.addon.authhelper.internal.auth.Authenticator;
 import org.zaproxy.addon.authhelper.internal.auth.DefaultAuthenticator;
 import org.zaproxy.addon.authhelper.internal.auth.MsLoginAuthenticator;
+import org.zaproxy.addon.commonlib.AhoCorasickMatcher;
 import org.zaproxy.addon.commonlib.AuthConstants;
 import org.zaproxy.addon.commonlib.ResourceIdentificationUtils;
 import org.zaproxy.addon.network.NetworkUtils;
@@ -216,6 +216,12 @@ public class AuthUtils {
     private static Map<String, SessionToken> knownTokenMap =
             Collections.synchronizedMap(new HashMap<>());
 
+    /**
+     * Matches the values of the {@link #knownTokenMap known tokens}, rebuilt lazily when the tokens
+     * change.
+     */
+    private static volatile AhoCorasickMatcher knownTokenMatcher;
+
     /**
      * Session tokens used in authentication requests. We keep track of them so that we can reuse
      * the last known good value, in the case where we don't see the token set in the authentication
@@ -1294,7 +1300,11 @@ public class AuthUtils {
     }
 
     public static void recordSessionToken(SessionToken token) {
-        knownTokenMap.put(token.getValue(), token);
+        synchronized (knownTokenMap) {
+            if (knownTokenMap.put(token.getValue(), token) == null) {
+                knownTokenMatcher = null;
+            }
+        }
         Stats.setHighwaterMark(AUTH_SESSION_TOKENS_MAX, knownTokenMap.size());
     }
 
@@ -1303,25 +1313,53 @@ public class AuthUtils {
     }
 
     public static SessionToken containsSessionToken(String value) {
-        Optional<Entry<String, SessionToken>> entry;
-        synchronized (knownTokenMap) {
-            entry =
-                    knownTokenMap.entrySet().stream()
-                            .filter(m -> value.contains(m.getKey()))
-                            .findFirst();
-        }
-        if (entry.isPresent()) {
-            return entry.get().getValue();
+        String key = getKnownTokenMatcher().findFirst(value, knownTokenMap::containsKey);
+        if (key != null) {
+            return knownTokenMap.get(key);
         }
         return null;
     }
 
+    private static AhoCorasickMatcher getKnownTokenMatcher() {
+        AhoCorasickMatcher matcher = knownTokenMatcher;
+        if (matcher == null) {
+            synchronized (knownTokenMap) {
+                matcher = knownTokenMatcher;
+                if (matcher == null) {
+                    matcher = new AhoCorasickMatcher(knownTokenMap.keySet());
+                    knownTokenMatcher = matcher;
+                }
+            }
+        }
+        return matcher;
+    }
+
     static void removeSessionToken(SessionToken token) {
-        knownTokenMap.remove(token.getValue());
+        synchronized (knownTokenMap) {
+            if (knownTokenMap.remove(token.getValue()) != null) {
+                knownTokenMatcher = null;
+            }
+        }
+    }
+
+    /**
+     * Indexes the session tokens of the given message, to later find the source of the tokens
+     * without searching the history.
+     *
+     * @param historyId the ID of the message.
+     * @param msg the message.
+     * @see #findSessionTokenSource(String, int)
+     */
+    public static void indexSessionTokens(int historyId, HttpMessage msg) {
+        historyProvider.indexSessionTokens(historyId, msg);
     }
 
     public static void clean() {
-        knownTokenMap.clear();
+        synchronized (knownTokenMap) {
+            knownTokenMap.clear();
+            knownTokenMatcher = null;
+        }
+        historyProvider.clearSessionTokenIndex();
         contextVerifMap.clear();
         contextSessionMgmtMap.clear();
         contextVerificationCheckedMap.clear();
@@ -42,6 +42,7 @@ import org.parosproxy.paros.model.Session;
 import org.parosproxy.paros.network.HttpMalformedHeaderException;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.zap.authentication.AuthenticationHelper;
+import org.zaproxy.zap.utils.Stats;
 
 /** A very thin layer on top of the History functionality, to make testing easier. */
 public class HistoryProvider implements SessionChangedListener {
@@ -50,6 +51,9 @@ public class HistoryProvider implements SessionChangedListener {
 
     private static final Logger LOGGER = LogManager.getLogger(HistoryProvider.class);
 
+    private static final String STATS_TOKEN_INDEX_HIT = "stats.auth.session.tokenindex.hit";
+    private static final String STATS_TOKEN_INDEX_MISS = "stats.auth.session.tokenindex.miss";
+
     private static final String QUERY_SESS_MGMT_TOKEN_MSG_IDS =
             """
             SELECT HISTORYID FROM HISTORY
@@ -67,6 +71,8 @@ public class HistoryProvider implements SessionChangedListener {
     private ParosDatabaseServer pds;
     private boolean server;
 
+    private final SessionTokenIndex tokenIndex = new SessionTokenIndex();
+
     private ExtensionHistory extHist;
 
     private ExtensionHistory getExtHistory() {
@@ -138,45 +144,90 @@ public class HistoryProvider implements SessionChangedListener {
         return getExtHistory().getLastHistoryId();
     }
 
+    /**
+     * Indexes the session tokens of the given message.
+     *
+     * @param historyId the ID of the message.
+     * @param msg the message.
+     */
+    public void indexSessionTokens(int historyId, HttpMessage msg) {
+        tokenIndex.index(historyId, AuthUtils.getAllTokens(msg, false).values());
+    }
+
+    /**
+     * Finds the message that is the source of the given token.
+     *
+     * <p>The messages indexed are checked first, falling back to search the history for the
+     * messages not yet searched for the token, for example, if not yet passively scanned.
+     */
     public SessionManagementRequestDetails findSessionTokenSource(String token, int firstId) {
         int lastId = getLastHistoryId();
         if (firstId == -1) {
             firstId = Math.max(1, lastId - MAX_NUM_RECORDS_TO_CHECK);
         }
 
-        LOGGER.debug("Searching for session token from {} down to {} ", lastId, firstId);
+        for (int id : tokenIndex.getIds(token, firstId, lastId)) {
+            SessionManagementRequestDetails details = getSessionTokenSource(id, token);
+            if (details != null) {
+                Stats.incCounter(STATS_TOKEN_INDEX_HIT);
+                return details;
+            }
+        }
+        Stats.incCounter(STATS_TOKEN_INDEX_MISS);
 
-        for (int id : getMessageIds(firstId, lastId, token)) {
-            try {
-                HttpMessage msg = getHttpMessage(id);
-                if (msg == null) {
-                    continue;
-                }
-                Optional<SessionToken> es =
-                        AuthUtils.getAllTokens(msg, false).values().stream()
-                                .filter(v -> v.getValue().equals(token))
-                                .findFirst();
-                if (es.isPresent()) {
-                    AuthUtils.incStatsCounter(
-                            msg.getRequestHeader().getURI(),
-                            AuthUtils.AUTH_SESSION_TOKEN_STATS_PREFIX + es.get().getKey());
-                    List<SessionToken> tokens = new ArrayList<>();
-                    tokens.add(
-                            new SessionToken(
-                                    es.get().getSource(), es.get().getKey(), es.get().getValue()));
-                    return new SessionManagementRequestDetails(msg, tokens, Alert.CONFIDENCE_HIGH);
-                }
-            } catch (Exception e) {
-                LOGGER.debug(e.getMessage(), e);
+        int searchFrom = Math.max(firstId, tokenIndex.getSearchedUpTo(token) + 1);
+        if (searchFrom > lastId) {
+            LOGGER.debug("Session token already searched up to {}", lastId);
+            return null;
+        }
+
+        LOGGER.debug("Searching for session token from {} down to {} ", lastId, searchFrom);
+
+        for (int id : getMessageIds(searchFrom, lastId, token)) {
+            SessionManagementRequestDetails details = getSessionTokenSource(id, token);
+            if (details != null) {
+                return details;
             }
         }
+        tokenIndex.setSearchedUpTo(token, lastId);
         return null;
     }
 
+    private SessionManagementRequestDetails getSessionTokenSource(int id, String token) {
+        try {
+            HttpMessage msg = getHttpMessage(id);
+            if (msg == null) {
+                return null;
+            }
+            Optional<SessionToken> es =
+                    AuthUtils.getAllTokens(msg, false).values().stream()
+                            .filter(v -> v.getValue().equals(token))
+                            .findFirst();
+            if (es.isPresent()) {
+                AuthUtils.incStatsCounter(
+                        msg.getRequestHeader().getURI(),
+                        AuthUtils.AUTH_SESSION_TOKEN_STATS_PREFIX + es.get().getKey());
+                List<SessionToken> tokens = new ArrayList<>();
+                tokens.add(
+                        new SessionToken(
+                                es.get().getSource(), es.get().getKey(), es.get().getValue()));
+                return new SessionManagementRequestDetails(msg, tokens, Alert.CONFIDENCE_HIGH);
+            }
+        } catch (Exception e) {
+            LOGGER.debug(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    void clearSessionTokenIndex() {
+        tokenIndex.clear();
+    }
+
     @Override
     public void sessionChanged(Session session) {
         pds = null;
         server = false;
+        tokenIndex.clear();
     }
 
     @Override
@@ -58,6 +58,7 @@ public class SessionDetectionScanRule extends PluginPassiveScanner {
         if (!AuthUtils.isRelevantToAuth(msg)) {
             return;
         }
+        AuthUtils.indexSessionTokens(id, msg);
         Map<String, SessionToken> responseTokens = AuthUtils.getResponseSessionTokens(msg);
 
         if (!responseTokens.isEmpty()) {
@@ -0,0 +1,133 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.authhelper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the session tokens seen in the messages, from the token value to the IDs of the
+ * newest messages that contain it.
+ *
+ * <p>It also keeps, for the tokens searched and not found, up to which message they were searched,
+ * so that the history is not searched again for the same messages.
+ *
+ * <p>Both the tokens indexed and searched are bounded, the least recently used are discarded.
+ */
+class SessionTokenIndex {
+
+    static final int MIN_TOKEN_LENGTH = AuthUtils.MIN_SESSION_COOKIE_LENGTH;
+    static final int MAX_IDS_PER_TOKEN = 3;
+
+    private static final int DEFAULT_MAX_TOKENS = 10_000;
+
+    private final Map<String, List<Integer>> tokenIds;
+    private final Map<String, Integer> searchedUpTo;
+
+    SessionTokenIndex() {
+        this(DEFAULT_MAX_TOKENS);
+    }
+
+    SessionTokenIndex(int maxTokens) {
+        tokenIds = createLruMap(maxTokens);
+        searchedUpTo = createLruMap(maxTokens);
+    }
+
+    private static <T> Map<String, T> createLruMap(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Indexes the given tokens, seen in the given message.
+     *
+     * @param historyId the ID of the message.
+     * @param tokens the tokens of the message.
+     */
+    synchronized void index(int historyId, Collection<SessionToken> tokens) {
+        for (SessionToken token : tokens) {
+            String value = token.getValue();
+            if (value == null || value.length() < MIN_TOKEN_LENGTH) {
+                continue;
+            }
+            List<Integer> ids = tokenIds.computeIfAbsent(value, k -> new ArrayList<>(1));
+            if (ids.contains(historyId)) {
+                continue;
+            }
+            ids.add(historyId);
+            if (ids.size() > MAX_IDS_PER_TOKEN) {
+                ids.remove(Collections.min(ids));
+            }
+        }
+    }
+
+    /**
+     * Gets the IDs of the messages that contain the given token, within the given range, newest
+     * first.
+     *
+     * @param value the value of the token.
+     * @param first the first ID, inclusive.
+     * @param last the last ID, inclusive.
+     * @return the IDs of the messages, never {@code null}.
+     */
+    synchronized List<Integer> getIds(String value, int first, int last) {
+        List<Integer> ids = tokenIds.get(value);
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream()
+                .filter(id -> id >= first && id <= last)
+                .sorted((a, b) -> Integer.compare(b, a))
+                .toList();
+    }
+
+    /**
+     * Gets the ID of the last message searched, without success, for the given token.
+     *
+     * @param value the value of the token.
+     * @return the ID of the message, or {@code 0} if not searched.
+     */
+    synchronized int getSearchedUpTo(String value) {
+        return searchedUpTo.getOrDefault(value, 0);
+    }
+
+    synchronized void setSearchedUpTo(String value, int lastId) {
+        searchedUpTo.merge(value, lastId, Math::max);
+    }
+
+    synchronized int size() {
+        return tokenIds.size();
+    }
+
+    synchronized void clear() {
+        tokenIds.clear();
+        searchedUpTo.clear();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.authhelper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpRequestHeader;
+import org.parosproxy.paros.network.HttpResponseHeader;
+
+/** Unit test for {@link HistoryProvider}. */
+class HistoryProviderUnitTest {
+
+    private static final String TOKEN = "0123456789abcdef0123";
+
+    private TestHistoryProvider historyProvider;
+
+    @BeforeEach
+    void setUp() {
+        historyProvider = new TestHistoryProvider();
+    }
+
+    @Test
+    void shouldFindNewestIndexedSourceOfTokenInSeveralMessages() throws Exception {
+        // Given
+        HttpMessage newest = null;
+        for (int i = 0; i < SessionTokenIndex.MAX_IDS_PER_TOKEN + 2; i++) {
+            newest = createMessage(TOKEN);
+            historyProvider.addAuthMessageToHistory(newest);
+            historyProvider.indexSessionTokens(historyProvider.getLastHistoryId(), newest);
+        }
+        // When
+        SessionManagementRequestDetails details =
+                historyProvider.findSessionTokenSource(TOKEN, -1);
+        // Then
+        assertThat(details, is(notNullValue()));
+        assertThat(details.getMsg(), is(sameInstance(newest)));
+    }
+
+    private static HttpMessage createMessage(String token) throws Exception {
+        HttpMessage msg =
+                new HttpMessage(
+                        new HttpRequestHeader("GET / HTTP/1.1\r\nHost: example.com\r\n\r\n"));
+        msg.setResponseHeader(
+                new HttpResponseHeader(
+                        "HTTP/1.1 200 OK\r\nX-Session-Token: " + token + "\r\n\r\n"));
+        return msg;
+    }
+}
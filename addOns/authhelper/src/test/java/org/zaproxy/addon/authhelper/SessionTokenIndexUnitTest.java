@@ -0,0 +1,138 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.authhelper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link SessionTokenIndex}. */
+class SessionTokenIndexUnitTest {
+
+    private static final String TOKEN = "0123456789abcdef";
+
+    private SessionTokenIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SessionTokenIndex(2);
+    }
+
+    @Test
+    void shouldReturnNoIdsForUnknownToken() {
+        // Given / When
+        List<Integer> ids = index.getIds(TOKEN, 1, 100);
+        // Then
+        assertThat(ids, is(empty()));
+    }
+
+    @Test
+    void shouldReturnIdsInRangeNewestFirst() {
+        // Given
+        index.index(5, List.of(token(TOKEN)));
+        index.index(10, List.of(token(TOKEN)));
+        index.index(20, List.of(token(TOKEN)));
+        // When
+        List<Integer> ids = index.getIds(TOKEN, 6, 20);
+        // Then
+        assertThat(ids, contains(20, 10));
+    }
+
+    @Test
+    void shouldKeepOnlyNewestIds() {
+        // Given
+        for (int id = 1; id <= SessionTokenIndex.MAX_IDS_PER_TOKEN + 2; id++) {
+            index.index(id, List.of(token(TOKEN)));
+        }
+        // When
+        List<Integer> ids = index.getIds(TOKEN, 1, 100);
+        // Then
+        assertThat(ids, contains(5, 4, 3));
+    }
+
+    @Test
+    void shouldKeepNewestIdsWhenIndexedOutOfOrder() {
+        // Given
+        for (int id : List.of(4, 1, 5, 2, 3)) {
+            index.index(id, List.of(token(TOKEN)));
+        }
+        // When
+        List<Integer> ids = index.getIds(TOKEN, 1, 100);
+        // Then
+        assertThat(ids, contains(5, 4, 3));
+    }
+
+    @Test
+    void shouldNotIndexShortTokens() {
+        // Given
+        index.index(1, List.of(token("short")));
+        // When
+        List<Integer> ids = index.getIds("short", 1, 100);
+        // Then
+        assertThat(ids, is(empty()));
+    }
+
+    @Test
+    void shouldDiscardLeastRecentlyUsedTokens() {
+        // Given
+        index.index(1, List.of(token(TOKEN + "1")));
+        index.index(2, List.of(token(TOKEN + "2")));
+        index.getIds(TOKEN + "1", 1, 100);
+        // When
+        index.index(3, List.of(token(TOKEN + "3")));
+        // Then
+        assertThat(index.size(), is(equalTo(2)));
+        assertThat(index.getIds(TOKEN + "1", 1, 100), contains(1));
+        assertThat(index.getIds(TOKEN + "2", 1, 100), is(empty()));
+    }
+
+    @Test
+    void shouldKeepHighestSearchedId() {
+        // Given
+        index.setSearchedUpTo(TOKEN, 50);
+        // When
+        index.setSearchedUpTo(TOKEN, 30);
+        // Then
+        assertThat(index.getSearchedUpTo(TOKEN), is(equalTo(50)));
+        assertThat(index.getSearchedUpTo("other"), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldClear() {
+        // Given
+        index.index(1, List.of(token(TOKEN)));
+        index.setSearchedUpTo(TOKEN, 50);
+        // When
+        index.clear();
+        // Then
+        assertThat(index.size(), is(equalTo(0)));
+        assertThat(index.getSearchedUpTo(TOKEN), is(equalTo(0)));
+    }
+
+    private static SessionToken token(String value) {
+        return new SessionToken(SessionToken.HEADER_SOURCE, "name", value);
+    }
+}
@@ -65,6 +65,7 @@ public abstract class AutomationJob implements Comparable<AutomationJob> {
     private long timeFinished;
     private boolean enabled = true;
     private boolean alwaysRun = false;
+    private List<String> dependsOn;
 
     public enum Order {
         RUN_FIRST,
@@ -142,6 +143,62 @@ public abstract class AutomationJob implements Comparable<AutomationJob> {
         this.alwaysRun = alwaysRun;
     }
 
+    /**
+     * Gets the names of the jobs this job depends on.
+     *
+     * <p>A job without explicit dependencies depends on all of the jobs defined before it, which
+     * means that plans without any dependencies run their jobs sequentially.
+     *
+     * @return the names of the jobs, or {@code null} if not explicitly set.
+     * @since 0.61.0
+     */
+    public List<String> getDependsOn() {
+        return dependsOn;
+    }
+
+    /**
+     * Sets the names of the jobs this job depends on.
+     *
+     * @param dependsOn the names of the jobs, might be {@code null}.
+     * @since 0.61.0
+     * @see #getDependsOn()
+     */
+    public void setDependsOn(List<String> dependsOn) {
+        this.dependsOn = dependsOn;
+    }
+
+    /**
+     * Gets the resource that this job needs to use exclusively, when jobs are run in parallel.
+     *
+     * <p>Jobs with the same exclusive resource are never run at the same time. By default it's the
+     * type of the job and the context it targets, for example, to not run two active scans against
+     * the same context at the same time.
+     *
+     * @return the exclusive resource, or {@code null} if none.
+     * @since 0.61.0
+     */
+    public String getExclusiveResource() {
+        String context = getContextName();
+        return context == null ? getType() : getType() + '@' + context;
+    }
+
+    /**
+     * Gets the name of the context targeted by the job, as defined in its parameters, or the
+     * default context of the environment if not defined.
+     */
+    private String getContextName() {
+        if (jobData != null
+                && jobData.get("parameters") instanceof Map<?, ?> params
+                && params.get("context") instanceof String context
+                && !context.isEmpty()) {
+            return context;
+        }
+        if (env == null || env.getDefaultContext() == null) {
+            return null;
+        }
+        return env.getDefaultContext().getName();
+    }
+
     public int addDefaultTests(AutomationProgress progress) {
         return ZERO_TESTS;
     }
@@ -172,6 +172,11 @@ public class AutomationPlan {
                         }
                     }
 
+                    Object dependsOn = jobData.remove("dependsOn");
+                    if (dependsOn != null) {
+                        job.setDependsOn(readDependsOn(dependsOn, job.getName()));
+                    }
+
                     job.setEnv(env);
                     job.setJobData(jobData);
                     job.verifyParameters(progress);
@@ -192,6 +197,33 @@ public class AutomationPlan {
         }
     }
 
+    private List<String> readDependsOn(Object dependsOn, String jobName) {
+        List<Object> names;
+        if (dependsOn instanceof String) {
+            names = List.of(dependsOn);
+        } else if (dependsOn instanceof List<?> list) {
+            names = new ArrayList<>(list);
+        } else {
+            progress.warn(
+                    Constant.messages.getString("automation.error.job.dependson", dependsOn));
+            return null;
+        }
+
+        List<String> previousJobs = jobs.stream().map(AutomationJob::getName).toList();
+        List<String> result = new ArrayList<>(names.size());
+        for (Object name : names) {
+            if (!(name instanceof String) || !previousJobs.contains(name)) {
+                progress.warn(
+                        Constant.messages.getString(
+                                "automation.error.job.dependson.unknown", jobName, name));
+                // Safer to wait for all of the previous jobs
+                return null;
+            }
+            result.add((String) name);
+        }
+        return result;
+    }
+
     public AutomationPlan(
             AutomationEnvironment env, List<AutomationJob> jobs, AutomationProgress progress) {
         super();
@@ -21,29 +21,51 @@ package org.zaproxy.addon.automation;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.parosproxy.paros.CommandLine;
 
 public class AutomationProgress {
 
-    private List<String> errors = new ArrayList<>();
-    private List<String> warnings = new ArrayList<>();
-    private List<String> infos = new ArrayList<>();
-    private List<String> allMessages = new ArrayList<>();
-    private List<AutomationJob> runJobs = new ArrayList<>();
+    private List<String> errors = Collections.synchronizedList(new ArrayList<>());
+    private List<String> warnings = Collections.synchronizedList(new ArrayList<>());
+    private List<String> infos = Collections.synchronizedList(new ArrayList<>());
+    private List<String> allMessages = Collections.synchronizedList(new ArrayList<>());
+    private List<AutomationJob> runJobs = Collections.synchronizedList(new ArrayList<>());
     private boolean outputToStdout = false;
-    private Map<String, JobResultData> jobResultDataMap = new HashMap<>();
-    private Map<AutomationJob, JobResults> jobResults = new HashMap<>();
+    private Map<String, JobResultData> jobResultDataMap =
+            Collections.synchronizedMap(new HashMap<>());
+    private Map<AutomationJob, JobResults> jobResults =
+            Collections.synchronizedMap(new HashMap<>());
     private int errorMark;
     private int warningMark;
     private int infoMark;
     private boolean quietMode;
+    private List<AutomationJob> criticalPath = List.of();
+
+    /**
+     * The capture of the job being run by the current thread, used instead of the marks when jobs
+     * run in parallel. Inherited by the threads started by the job, so that their messages are also
+     * associated with the job.
+     */
+    private final InheritableThreadLocal<JobCapture> currentJobCapture =
+            new InheritableThreadLocal<>();
+
+    /** The captures of the jobs being run. */
+    private final Set<JobCapture> activeJobCaptures = ConcurrentHashMap.newKeySet();
 
     public AutomationProgress() {}
 
     public void error(String error) {
+        JobResults current = getCurrentJobResults();
+        if (current != null) {
+            current.errors.add(error);
+        }
         this.errors.add(error);
         this.allMessages.add(error);
         if (outputToStdout) {
@@ -54,6 +76,10 @@ public class AutomationProgress {
     }
 
     public void warn(String warning) {
+        JobResults current = getCurrentJobResults();
+        if (current != null) {
+            current.warnings.add(warning);
+        }
         this.warnings.add(warning);
         this.allMessages.add(warning);
         if (outputToStdout) {
@@ -68,6 +94,10 @@ public class AutomationProgress {
     }
 
     private void infoImpl(String info, boolean toStdout) {
+        JobResults current = getCurrentJobResults();
+        if (current != null) {
+            current.infos.add(info);
+        }
         this.infos.add(info);
         this.allMessages.add(info);
         if (toStdout && outputToStdout && !quietMode) {
@@ -136,22 +166,90 @@ public class AutomationProgress {
         return this.jobResultDataMap.values();
     }
 
-    void addRunJob(AutomationJob job) {
+    /**
+     * Starts capturing the messages generated by the current thread, to be associated with the
+     * next job added with {@link #addRunJob(AutomationJob)} from the same thread.
+     *
+     * <p>Used when running jobs in parallel, as the messages of different jobs are interleaved.
+     */
+    void startJobCapture() {
+        JobCapture capture = new JobCapture();
+        activeJobCaptures.add(capture);
+        currentJobCapture.set(capture);
+    }
+
+    /** Stops capturing the messages generated by the current thread. */
+    void endJobCapture() {
+        JobCapture capture = currentJobCapture.get();
+        if (capture != null) {
+            capture.active = false;
+            activeJobCaptures.remove(capture);
+        }
+        currentJobCapture.remove();
+    }
+
+    /**
+     * Gets the results of the job that generated the current message.
+     *
+     * <p>That's the job being run by the current thread (or the one that started it) or, if not
+     * known (e.g. a thread reused after its job finished), the only job being run, if just one.
+     */
+    private JobResults getCurrentJobResults() {
+        JobCapture capture = currentJobCapture.get();
+        if (capture != null && capture.active) {
+            return capture.results;
+        }
+        Iterator<JobCapture> it = activeJobCaptures.iterator();
+        if (!it.hasNext()) {
+            return null;
+        }
+        capture = it.next();
+        return it.hasNext() ? null : capture.results;
+    }
+
+    synchronized void addRunJob(AutomationJob job) {
         this.runJobs.add(job);
 
-        // Record any new errors, warnings or infos which will have been generated by this job
-        this.jobResults.put(
-                job,
-                new JobResults(
-                        new ArrayList<>(errors.subList(errorMark, errors.size())),
-                        new ArrayList<>(warnings.subList(warningMark, warnings.size())),
-                        new ArrayList<>(infos.subList(infoMark, infos.size()))));
+        JobCapture capture = currentJobCapture.get();
+        if (capture != null && capture.active) {
+            JobResults captured = capture.results;
+            this.jobResults.put(
+                    job,
+                    new JobResults(
+                            new ArrayList<>(captured.errors),
+                            new ArrayList<>(captured.warnings),
+                            new ArrayList<>(captured.infos)));
+            endJobCapture();
+        } else {
+            // Record any new errors, warnings or infos which will have been generated by this job
+            this.jobResults.put(
+                    job,
+                    new JobResults(
+                            new ArrayList<>(errors.subList(errorMark, errors.size())),
+                            new ArrayList<>(warnings.subList(warningMark, warnings.size())),
+                            new ArrayList<>(infos.subList(infoMark, infos.size()))));
+        }
 
         errorMark = errors.size();
         warningMark = warnings.size();
         infoMark = infos.size();
     }
 
+    void setCriticalPath(List<AutomationJob> criticalPath) {
+        this.criticalPath = List.copyOf(criticalPath);
+    }
+
+    /**
+     * Gets the jobs in the critical path of the plan, that is, the chain of dependent jobs that
+     * determined the total time taken when running jobs in parallel.
+     *
+     * @return the jobs in the critical path, empty if the jobs were run sequentially.
+     * @since 0.61.0
+     */
+    public List<AutomationJob> getCriticalPath() {
+        return criticalPath;
+    }
+
     public List<AutomationJob> getRunJobs() {
         return this.runJobs;
     }
@@ -228,4 +326,15 @@ public class AutomationProgress {
             return map;
         }
     }
+
+    /** The messages captured for a job being run in parallel. */
+    private class JobCapture {
+
+        private final JobResults results =
+                new JobResults(
+                        Collections.synchronizedList(new ArrayList<>()),
+                        Collections.synchronizedList(new ArrayList<>()),
+                        Collections.synchronizedList(new ArrayList<>()));
+        private volatile boolean active = true;
+    }
 }
@@ -50,6 +50,7 @@ import javax.swing.Timer;
 import org.apache.commons.httpclient.URI;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.CommandLine;
@@ -127,6 +128,9 @@ public class ExtensionAutomation extends ExtensionAdaptor implements CommandLine
             new ConcurrentHashMap<>();
 
     private CommandLineArgument[] arguments = new CommandLineArgument[5];
+    /** The maximum number of jobs run at the same time, when the plan has job dependencies. */
+    private static final int MAX_PARALLEL_JOBS = 4;
+
     private static final int ARG_AUTO_RUN_IDX = 0;
     private static final int ARG_AUTO_GEN_MIN_IDX = 1;
     private static final int ARG_AUTO_GEN_MAX_IDX = 2;
@@ -624,62 +628,99 @@ public class ExtensionAutomation extends ExtensionAdaptor implements CommandLine
             AutomationEnvironment env,
             AutomationProgress progress,
             List<AutomationJob> jobsToRun) {
-        for (AutomationJob job : jobsToRun) {
+        if (!ParallelJobRunner.isParallel(jobsToRun)) {
+            jobsToRun.forEach(job -> runJob(plan, env, progress, job));
+            return;
+        }
 
-            if ((plan.isStopping() || env.isTimeToQuit())
-                    && (plan.isHardStopping() || !job.isAlwaysRun())) {
-                continue;
-            }
+        ParallelJobRunner runner =
+                new ParallelJobRunner(
+                        jobsToRun,
+                        MAX_PARALLEL_JOBS,
+                        job -> {
+                            progress.startJobCapture();
+                            try {
+                                runJob(plan, env, progress, job);
+                            } finally {
+                                progress.endJobCapture();
+                            }
+                        });
+        runner.run();
+
+        List<AutomationJob> criticalPath = runner.getCriticalPath();
+        progress.setCriticalPath(criticalPath);
+        if (!criticalPath.isEmpty()) {
+            long timeTaken =
+                    criticalPath.get(criticalPath.size() - 1).getTimeFinished()
+                            - criticalPath.get(0).getTimeStarted();
+            progress.info(
+                    Constant.messages.getString(
+                            "automation.info.criticalpath",
+                            criticalPath.stream()
+                                    .map(AutomationJob::getName)
+                                    .collect(Collectors.joining(" -> ")),
+                            DurationFormatUtils.formatDuration(timeTaken, "HH:mm:ss")));
+        }
+    }
 
-            if (job.isAlwaysRun()) {
-                Thread.interrupted();
-            }
+    private void runJob(
+            AutomationPlan plan,
+            AutomationEnvironment env,
+            AutomationProgress progress,
+            AutomationJob job) {
+        if ((plan.isStopping() || env.isTimeToQuit())
+                && (plan.isHardStopping() || !job.isAlwaysRun())) {
+            return;
+        }
 
-            if (!job.isEnabled()) {
-                progress.info(
-                        Constant.messages.getString("automation.info.jobdisabled", job.getType()));
-                job.setStatus(AutomationJob.Status.NOT_ENABLED);
-                continue;
-            }
+        if (job.isAlwaysRun()) {
+            Thread.interrupted();
+        }
 
-            job.applyParameters(progress);
-            progress.info(Constant.messages.getString("automation.info.jobstart", job.getType()));
-            job.setStatus(AutomationJob.Status.RUNNING);
-            AutomationEventPublisher.publishEvent(AutomationEventPublisher.JOB_STARTED, job, null);
-            job.setTimeStarted();
-            Timer timer = null;
-            if (View.isInitialised()) {
-                timer = new Timer(1000, e -> getAutomationPanel().updateJob(job));
-                timer.start();
-            }
-            try {
-                if (job.isLongRunningJob()) {
-                    registerLongRunningJob(job);
-                }
-                job.runJob(env, progress);
-            } catch (Exception e) {
-                LOGGER.error(e.getMessage(), e);
-                progress.error(
-                        Constant.messages.getString(
-                                "automation.error.unexpected.internal", e.getMessage()));
-            }
-            job.setTimeFinished();
-            if (timer != null) {
-                timer.stop();
-            }
-            Stats.incCounter(TOTAL_JOBS_RUN_STATS);
-            Stats.incCounter(JOBS_RUN_STATS_PREFIX + job.getType() + JOBS_RUN_STATS_POSTFIX);
-            job.logTestsToProgress(progress);
-            job.setStatus(AutomationJob.Status.COMPLETED);
-            AutomationEventPublisher.publishEvent(
-                    AutomationEventPublisher.JOB_FINISHED,
-                    job,
-                    job.getPlan().getProgress().getJobResults(job).toMap());
+        if (!job.isEnabled()) {
             progress.info(
+                    Constant.messages.getString("automation.info.jobdisabled", job.getType()));
+            job.setStatus(AutomationJob.Status.NOT_ENABLED);
+            return;
+        }
+
+        job.applyParameters(progress);
+        progress.info(Constant.messages.getString("automation.info.jobstart", job.getType()));
+        job.setStatus(AutomationJob.Status.RUNNING);
+        AutomationEventPublisher.publishEvent(AutomationEventPublisher.JOB_STARTED, job, null);
+        job.setTimeStarted();
+        Timer timer = null;
+        if (View.isInitialised()) {
+            timer = new Timer(1000, e -> getAutomationPanel().updateJob(job));
+            timer.start();
+        }
+        try {
+            if (job.isLongRunningJob()) {
+                registerLongRunningJob(job);
+            }
+            job.runJob(env, progress);
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            progress.error(
                     Constant.messages.getString(
-                            "automation.info.jobend", job.getType(), job.getFormattedTimeTaken()));
-            progress.addRunJob(job);
+                            "automation.error.unexpected.internal", e.getMessage()));
+        }
+        job.setTimeFinished();
+        if (timer != null) {
+            timer.stop();
         }
+        Stats.incCounter(TOTAL_JOBS_RUN_STATS);
+        Stats.incCounter(JOBS_RUN_STATS_PREFIX + job.getType() + JOBS_RUN_STATS_POSTFIX);
+        job.logTestsToProgress(progress);
+        job.setStatus(AutomationJob.Status.COMPLETED);
+        AutomationEventPublisher.publishEvent(
+                AutomationEventPublisher.JOB_FINISHED,
+                job,
+                job.getPlan().getProgress().getJobResults(job).toMap());
+        progress.info(
+                Constant.messages.getString(
+                        "automation.info.jobend", job.getType(), job.getFormattedTimeTaken()));
+        progress.addRunJob(job);
     }
 
     public void runPlanAsync(AutomationPlan plan) {
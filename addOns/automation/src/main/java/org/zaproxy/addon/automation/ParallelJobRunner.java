@@ -0,0 +1,193 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.automation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs the jobs of a plan in parallel, following the dependencies between them.
+ *
+ * <p>A job is started once all the jobs it depends on have finished and no other running job is
+ * using its {@link AutomationJob#getExclusiveResource() exclusive resource}. Jobs without explicit
+ * dependencies depend on all of the jobs defined before them.
+ */
+class ParallelJobRunner {
+
+    private static final Logger LOGGER = LogManager.getLogger(ParallelJobRunner.class);
+
+    private final List<AutomationJob> jobs;
+    private final Map<AutomationJob, List<AutomationJob>> dependencies;
+    private final int maxParallelJobs;
+    private final Consumer<AutomationJob> jobRunner;
+
+    private final Map<AutomationJob, Thread> runningJobs =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    ParallelJobRunner(
+            List<AutomationJob> jobs, int maxParallelJobs, Consumer<AutomationJob> jobRunner) {
+        this.jobs = jobs;
+        this.dependencies = resolveDependencies(jobs);
+        this.maxParallelJobs = maxParallelJobs;
+        this.jobRunner = jobRunner;
+    }
+
+    /**
+     * Tells whether or not the given jobs should be run in parallel, that is, if any of them
+     * declares its dependencies.
+     */
+    static boolean isParallel(List<AutomationJob> jobs) {
+        return jobs.stream().anyMatch(job -> job.getDependsOn() != null);
+    }
+
+    static Map<AutomationJob, List<AutomationJob>> resolveDependencies(List<AutomationJob> jobs) {
+        Map<AutomationJob, List<AutomationJob>> dependencies = new IdentityHashMap<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            AutomationJob job = jobs.get(i);
+            List<AutomationJob> previousJobs = jobs.subList(0, i);
+            List<String> dependsOn = job.getDependsOn();
+            if (dependsOn == null) {
+                dependencies.put(job, previousJobs);
+            } else {
+                dependencies.put(
+                        job,
+                        previousJobs.stream()
+                                .filter(previous -> dependsOn.contains(previous.getName()))
+                                .toList());
+            }
+        }
+        return dependencies;
+    }
+
+    /** Runs all the jobs, returning once all of them have finished. */
+    void run() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        maxParallelJobs,
+                        r -> new Thread(r, "ZAP-Automation-Job-" + threadNumber.incrementAndGet()));
+        BlockingQueue<AutomationJob> finishedQueue = new LinkedBlockingQueue<>();
+
+        List<AutomationJob> pending = new LinkedList<>(jobs);
+        Set<AutomationJob> finished = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> resourcesInUse = new HashSet<>();
+        int running = 0;
+        try {
+            while (!pending.isEmpty() || running > 0) {
+                Iterator<AutomationJob> it = pending.iterator();
+                while (it.hasNext() && running < maxParallelJobs) {
+                    AutomationJob job = it.next();
+                    String resource = job.getExclusiveResource();
+                    if (!finished.containsAll(dependencies.get(job))
+                            || (resource != null && resourcesInUse.contains(resource))) {
+                        continue;
+                    }
+                    it.remove();
+                    if (resource != null) {
+                        resourcesInUse.add(resource);
+                    }
+                    running++;
+                    executor.execute(() -> runJob(job, finishedQueue));
+                }
+
+                AutomationJob job = takeFinished(finishedQueue);
+                running--;
+                finished.add(job);
+                resourcesInUse.remove(job.getExclusiveResource());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runJob(AutomationJob job, BlockingQueue<AutomationJob> finishedQueue) {
+        runningJobs.put(job, Thread.currentThread());
+        try {
+            jobRunner.accept(job);
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        } finally {
+            runningJobs.remove(job);
+            finishedQueue.add(job);
+        }
+    }
+
+    private AutomationJob takeFinished(BlockingQueue<AutomationJob> finishedQueue) {
+        while (true) {
+            try {
+                return finishedQueue.take();
+            } catch (InterruptedException e) {
+                // The plan is being stopped, pass it on to the jobs that would be interrupted if
+                // they were being run sequentially.
+                synchronized (runningJobs) {
+                    runningJobs.forEach(
+                            (job, thread) -> {
+                                if (!job.isAlwaysRun()) {
+                                    thread.interrupt();
+                                }
+                            });
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the critical path of the jobs run, that is, the chain of dependencies that finished
+     * last.
+     *
+     * @return the jobs in the critical path, in the order they were run.
+     */
+    List<AutomationJob> getCriticalPath() {
+        Comparator<AutomationJob> byFinishTime =
+                Comparator.comparingLong(AutomationJob::getTimeFinished);
+        List<AutomationJob> path = new ArrayList<>();
+        AutomationJob job =
+                jobs.stream().filter(ParallelJobRunner::isCompleted).max(byFinishTime).orElse(null);
+        while (job != null) {
+            path.add(0, job);
+            job =
+                    dependencies.get(job).stream()
+                            .filter(ParallelJobRunner::isCompleted)
+                            .max(byFinishTime)
+                            .orElse(null);
+        }
+        return path;
+    }
+
+    private static boolean isCompleted(AutomationJob job) {
+        return job.getStatus() == AutomationJob.Status.COMPLETED;
+    }
+}
@@ -71,6 +71,11 @@ public abstract class JobData extends AutomationData {
         return this.job.isAlwaysRun();
     }
 
+    @JsonInclude(value = JsonInclude.Include.NON_NULL)
+    public List<String> getDependsOn() {
+        return this.job.getDependsOn();
+    }
+
     public List<AutomationData> getTests() {
         List<AbstractAutomationTest> tests = this.job.getTests();
         if (tests.isEmpty()) {
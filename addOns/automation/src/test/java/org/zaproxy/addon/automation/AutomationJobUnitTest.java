@@ -53,6 +53,7 @@ import org.zaproxy.addon.automation.tests.UrlPresenceTest;
 import org.zaproxy.zap.extension.alert.ExtensionAlert;
 import org.zaproxy.zap.extension.stats.ExtensionStats;
 import org.zaproxy.zap.extension.stats.InMemoryStats;
+import org.zaproxy.zap.model.Context;
 import org.zaproxy.zap.utils.I18N;
 
 class AutomationJobUnitTest {
@@ -100,6 +101,43 @@ class AutomationJobUnitTest {
         assertThat(afterNullName, is(equalTo(type)));
     }
 
+    @Test
+    void shouldUseTypeAndContextAsExclusiveResource() {
+        // Given
+        AutomationJob job = new AutomationJobImpl();
+        job.setJobData(Map.of("parameters", Map.of("context", "ctx")));
+        // When
+        String resource = job.getExclusiveResource();
+        // Then
+        assertThat(resource, is(equalTo(job.getType() + "@ctx")));
+    }
+
+    @Test
+    void shouldUseDefaultContextInExclusiveResourceIfContextNotDefined() {
+        // Given
+        AutomationEnvironment env = mock(AutomationEnvironment.class);
+        Context context = mock(Context.class);
+        given(context.getName()).willReturn("default");
+        given(env.getDefaultContext()).willReturn(context);
+        AutomationJob job = new AutomationJobImpl();
+        job.setEnv(env);
+        job.setJobData(Map.of("parameters", Map.of()));
+        // When
+        String resource = job.getExclusiveResource();
+        // Then
+        assertThat(resource, is(equalTo(job.getType() + "@default")));
+    }
+
+    @Test
+    void shouldUseTypeAsExclusiveResourceIfNoContext() {
+        // Given
+        AutomationJob job = new AutomationJobImpl();
+        // When
+        String resource = job.getExclusiveResource();
+        // Then
+        assertThat(resource, is(equalTo(job.getType())));
+    }
+
     @Test
     void shouldExtractExpectedParams() {
         // Given
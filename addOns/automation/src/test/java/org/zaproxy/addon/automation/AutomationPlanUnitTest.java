@@ -22,7 +22,9 @@ package org.zaproxy.addon.automation;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
@@ -33,6 +35,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.parosproxy.paros.Constant;
+import org.zaproxy.addon.automation.jobs.DelayJob;
 import org.zaproxy.zap.utils.I18N;
 
 /** Unit test for {@link AutomationPlan}. */
@@ -67,4 +70,33 @@ class AutomationPlanUnitTest {
         assertThat(progress.getErrors(), is(empty()));
         assertThat(progress.getWarnings(), is(empty()));
     }
+
+    @Test
+    void shouldKeepEmptyDependsOnWhenSavedAndLoaded(@TempDir Path dir) throws IOException {
+        // Given
+        given(ext.getAutomationJob("delay")).willReturn(new DelayJob());
+        var file = dir.resolve("plan.yaml");
+        Files.writeString(
+                file,
+                "env:\n"
+                        + "  contexts:\n"
+                        + "  - name: \"Example\"\n"
+                        + "    urls:\n"
+                        + "    - \"https://www.example.com/\"\n"
+                        + "jobs:\n"
+                        + "- type: delay\n"
+                        + "  name: first\n"
+                        + "- type: delay\n"
+                        + "  name: second\n"
+                        + "  dependsOn: []\n");
+        AutomationPlan plan = new AutomationPlan(ext, file.toFile(), false);
+        // When
+        plan.save();
+        AutomationPlan loadedPlan = new AutomationPlan(ext, file.toFile(), false);
+        // Then
+        assertThat(loadedPlan.getJobs().size(), is(2));
+        assertThat(loadedPlan.getJobs().get(0).getDependsOn(), is(nullValue()));
+        assertThat(loadedPlan.getJobs().get(1).getDependsOn(), is(empty()));
+        assertThat(loadedPlan.getProgress().getErrors(), is(empty()));
+    }
 }
@@ -20,6 +20,7 @@
 package org.zaproxy.addon.automation;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -218,6 +219,80 @@ class AutomationProgressUnitTest extends TestUtils {
         assertThat(progress.getInfos(job3).size(), is(0));
     }
 
+    @Test
+    void shouldReturnCapturedJobResultsForJobsRunInParallel() throws Exception {
+        // Given
+        AutomationJob job1 = mock(AutomationJob.class);
+        AutomationJob job2 = mock(AutomationJob.class);
+        progress.startJobCapture();
+        progress.info("job1info");
+        Thread other =
+                new Thread(
+                        () -> {
+                            progress.startJobCapture();
+                            progress.warn("job2warn");
+                            progress.addRunJob(job2);
+                        });
+
+        // When
+        other.start();
+        other.join();
+        progress.error("job1error");
+        progress.addRunJob(job1);
+        JobResults job1res = progress.getJobResults(job1);
+        JobResults job2res = progress.getJobResults(job2);
+
+        // Then
+        assertThat(job1res.getInfos(), contains("job1info"));
+        assertThat(job1res.getWarnings().size(), is(0));
+        assertThat(job1res.getErrors(), contains("job1error"));
+        assertThat(job2res.getInfos().size(), is(0));
+        assertThat(job2res.getWarnings(), contains("job2warn"));
+        assertThat(job2res.getErrors().size(), is(0));
+        assertThat(progress.getAllMessages().size(), is(3));
+    }
+
+    @Test
+    void shouldCaptureMessagesOfThreadsStartedByJobsRunInParallel() throws Exception {
+        // Given
+        AutomationJob job = mock(AutomationJob.class);
+        progress.startJobCapture();
+        Thread spawned = new Thread(() -> progress.info("spawnedinfo"));
+
+        // When
+        spawned.start();
+        spawned.join();
+        progress.addRunJob(job);
+        JobResults jobres = progress.getJobResults(job);
+
+        // Then
+        assertThat(jobres.getInfos(), contains("spawnedinfo"));
+    }
+
+    @Test
+    void shouldCaptureMessagesOfUnknownThreadsIfJustOneJobRunInParallel() throws Exception {
+        // Given
+        AutomationJob job1 = mock(AutomationJob.class);
+        AutomationJob job2 = mock(AutomationJob.class);
+        Thread other =
+                new Thread(
+                        () -> {
+                            progress.startJobCapture();
+                            progress.addRunJob(job1);
+                            progress.info("unknowninfo");
+                        });
+        progress.startJobCapture();
+
+        // When
+        other.start();
+        other.join();
+        progress.addRunJob(job2);
+
+        // Then
+        assertThat(progress.getJobResults(job1).getInfos().size(), is(0));
+        assertThat(progress.getJobResults(job2).getInfos(), contains("unknowninfo"));
+    }
+
     @Test
     void shouldReturnEmptyResultsForUnrunJobs() {
         // Given
@@ -0,0 +1,247 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.automation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.quality.Strictness;
+
+/** Unit test for {@link ParallelJobRunner}. */
+class ParallelJobRunnerUnitTest {
+
+    @Test
+    void shouldNotBeParallelIfNoJobDependencies() {
+        // Given
+        List<AutomationJob> jobs = List.of(job("a", null), job("b", null));
+
+        // When
+        boolean parallel = ParallelJobRunner.isParallel(jobs);
+
+        // Then
+        assertThat(parallel, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldBeParallelIfAnyJobDependencies() {
+        // Given
+        List<AutomationJob> jobs = List.of(job("a", null), job("b", List.of()));
+
+        // When
+        boolean parallel = ParallelJobRunner.isParallel(jobs);
+
+        // Then
+        assertThat(parallel, is(equalTo(true)));
+    }
+
+    @Test
+    void shouldDependOnAllPreviousJobsIfNoDependencies() {
+        // Given
+        AutomationJob a = job("a", List.of());
+        AutomationJob b = job("b", List.of());
+        AutomationJob c = job("c", null);
+
+        // When
+        var dependencies = ParallelJobRunner.resolveDependencies(List.of(a, b, c));
+
+        // Then
+        assertThat(dependencies.get(a), is(empty()));
+        assertThat(dependencies.get(b), is(empty()));
+        assertThat(dependencies.get(c), contains(a, b));
+    }
+
+    @Test
+    void shouldDependOnlyOnNamedPreviousJobs() {
+        // Given
+        AutomationJob a = job("a", List.of());
+        AutomationJob b = job("b", List.of());
+        AutomationJob c = job("c", List.of("b", "d"));
+        AutomationJob d = job("d", List.of());
+
+        // When
+        var dependencies = ParallelJobRunner.resolveDependencies(List.of(a, b, c, d));
+
+        // Then
+        assertThat(dependencies.get(c), contains(b));
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldRunIndependentJobsAtTheSameTime() {
+        // Given
+        AutomationJob a = job("a", List.of());
+        AutomationJob b = job("b", List.of());
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        List<String> run = Collections.synchronizedList(new ArrayList<>());
+        ParallelJobRunner runner =
+                new ParallelJobRunner(
+                        List.of(a, b),
+                        4,
+                        job -> {
+                            bothRunning.countDown();
+                            if (await(bothRunning)) {
+                                run.add(job.getName());
+                            }
+                        });
+
+        // When
+        runner.run();
+
+        // Then
+        assertThat(run, containsInAnyOrder("a", "b"));
+    }
+
+    @Test
+    void shouldRunDependentJobsAfterTheirDependencies() {
+        // Given
+        AutomationJob a = job("a", List.of());
+        AutomationJob b = job("b", List.of());
+        AutomationJob c = job("c", List.of("a", "b"));
+        List<String> run = Collections.synchronizedList(new ArrayList<>());
+        ParallelJobRunner runner =
+                new ParallelJobRunner(List.of(a, b, c), 4, job -> run.add(job.getName()));
+
+        // When
+        runner.run();
+
+        // Then
+        assertThat(run.size(), is(equalTo(3)));
+        assertThat(run.get(2), is(equalTo("c")));
+    }
+
+    @Test
+    void shouldNotRunJobsWithSameExclusiveResourceAtTheSameTime() {
+        // Given
+        AutomationJob a = job("a", List.of(), "activeScan");
+        AutomationJob b = job("b", List.of(), "activeScan");
+        AutomationJob c = job("c", List.of(), "activeScan");
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ParallelJobRunner runner =
+                new ParallelJobRunner(
+                        List.of(a, b, c),
+                        4,
+                        job -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            sleep(50);
+                            running.decrementAndGet();
+                        });
+
+        // When
+        runner.run();
+
+        // Then
+        assertThat(maxRunning.get(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldNotRunMoreThanMaxParallelJobs() {
+        // Given
+        List<AutomationJob> jobs = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            jobs.add(job("job" + i, List.of()));
+        }
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ParallelJobRunner runner =
+                new ParallelJobRunner(
+                        jobs,
+                        2,
+                        job -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            sleep(50);
+                            running.decrementAndGet();
+                        });
+
+        // When
+        runner.run();
+
+        // Then
+        assertThat(maxRunning.get(), is(equalTo(2)));
+    }
+
+    @Test
+    void shouldReturnCriticalPath() {
+        // Given
+        AutomationJob a = completedJob("a", List.of(), 10);
+        AutomationJob b = completedJob("b", List.of(), 30);
+        AutomationJob c = completedJob("c", List.of("a", "b"), 40);
+        AutomationJob d = completedJob("d", List.of("a"), 20);
+        ParallelJobRunner runner = new ParallelJobRunner(List.of(a, b, c, d), 4, job -> {});
+
+        // When
+        List<AutomationJob> criticalPath = runner.getCriticalPath();
+
+        // Then
+        assertThat(criticalPath, contains(b, c));
+    }
+
+    private static AutomationJob job(String name, List<String> dependsOn) {
+        return job(name, dependsOn, name);
+    }
+
+    private static AutomationJob job(String name, List<String> dependsOn, String resource) {
+        AutomationJob job =
+                mock(AutomationJob.class, withSettings().strictness(Strictness.LENIENT));
+        given(job.getName()).willReturn(name);
+        given(job.getDependsOn()).willReturn(dependsOn);
+        given(job.getExclusiveResource()).willReturn(resource);
+        return job;
+    }
+
+    private static AutomationJob completedJob(String name, List<String> dependsOn, long finish) {
+        AutomationJob job = job(name, dependsOn);
+        given(job.getStatus()).willReturn(AutomationJob.Status.COMPLETED);
+        given(job.getTimeFinished()).willReturn(finish);
+        return job;
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
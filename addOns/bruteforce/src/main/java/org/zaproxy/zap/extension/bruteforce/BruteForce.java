@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.Vector;
 import javax.swing.SwingUtilities;
 import org.apache.commons.httpclient.URI;
@@ -62,6 +63,10 @@ public class BruteForce extends Thread implements BruteForceListenner {
     private int threads = 0;
     private boolean recursive = BruteForceParam.DEFAULT_RECURSIVE;
     private DirBusterManager manager = null;
+    private boolean useConcurrentEngine;
+    private String failCaseString;
+    private Set<String> extensionsToMiss;
+    private volatile ForcedBrowseEngine engine;
     private List<String> extensions = null;
     private int scanId;
 
@@ -103,7 +108,11 @@ public class BruteForce extends Thread implements BruteForceListenner {
         } else {
             extensions = Collections.emptyList();
         }
-        manager.extsToMiss.addAll(bruteForceParam.getExtensionsToMissSet());
+        extensionsToMiss = bruteForceParam.getExtensionsToMissSet();
+        manager.extsToMiss.addAll(extensionsToMiss);
+
+        useConcurrentEngine = bruteForceParam.isConcurrentEngine();
+        failCaseString = bruteForceParam.getFailCaseString();
     }
 
     public BruteForce(
@@ -132,6 +141,11 @@ public class BruteForce extends Thread implements BruteForceListenner {
             Stats.incCounter("stats.bruteforce.started");
             tableModel.clear();
 
+            if (useConcurrentEngine) {
+                runConcurrentEngine();
+                return;
+            }
+
             URL targetURL = new java.net.URI(target.getURI().toString()).toURL();
             manager.setTargetURL(targetURL);
 
@@ -204,20 +218,82 @@ public class BruteForce extends Thread implements BruteForceListenner {
             }
         } catch (java.net.URISyntaxException | MalformedURLException ex) {
             LOGGER.error("Failed brute forcing site {}", target.getURI(), ex);
+        } finally {
+            if (this.listenner != null) {
+                this.listenner.scanFinshed(target);
+            }
+            stopScan = true;
+            LOGGER.info("BruteForce: {} finished", target.getURI());
+            Stats.incCounter("stats.bruteforce.time", System.currentTimeMillis() - startTime);
+            Stats.incCounter("stats.bruteforce.url.request", getWorkDone());
+        }
+    }
+
+    private void runConcurrentEngine() {
+        Wordlist wordlist;
+        try {
+            wordlist = new Wordlist(file.toPath());
+        } catch (IOException e) {
+            LOGGER.error("Failed to read the file {}", file.getAbsolutePath(), e);
+            return;
         }
 
-        if (this.listenner != null) {
-            this.listenner.scanFinshed(target);
+        String baseUrl = target.getScheme() + "://" + target.getHost() + ":" + target.getPort();
+        String startPoint = directory != null ? directory : "/";
+        LOGGER.debug("BruteForce: starting concurrent engine on {}{}", baseUrl, startPoint);
+
+        ForcedBrowseEngine forcedBrowseEngine =
+                new ForcedBrowseEngine(
+                        new SimpleHttpClientImpl(),
+                        ForcedBrowseEngine.getSharedExecutor(),
+                        this,
+                        baseUrl,
+                        wordlist,
+                        extensions,
+                        extensionsToMiss,
+                        failCaseString,
+                        threads,
+                        recursive);
+        engine = forcedBrowseEngine;
+        if (stopScan) {
+            return;
+        }
+
+        Thread progressThread =
+                new Thread(
+                        () -> {
+                            while (!forcedBrowseEngine.hasFinished()) {
+                                notifyProgress(forcedBrowseEngine);
+                                try {
+                                    sleep(1000);
+                                } catch (InterruptedException e) {
+                                    return;
+                                }
+                            }
+                        },
+                        "ZAP-BruteForce-Progress");
+        progressThread.setDaemon(true);
+        progressThread.start();
+
+        forcedBrowseEngine.run(startPoint);
+        progressThread.interrupt();
+        notifyProgress(forcedBrowseEngine);
+    }
+
+    private void notifyProgress(ForcedBrowseEngine forcedBrowseEngine) {
+        if (listenner != null) {
+            listenner.scanProgress(
+                    target, forcedBrowseEngine.getWorkDone(), forcedBrowseEngine.getWorkTotal());
         }
-        stopScan = true;
-        LOGGER.info("BruteForce: {} finished", target.getURI());
-        Stats.incCounter("stats.bruteforce.time", System.currentTimeMillis() - startTime);
-        Stats.incCounter("stats.bruteforce.url.request", getWorkDone());
     }
 
     public void stopScan() {
         Stats.incCounter("stats.bruteforce.stopped");
         stopScan = true;
+        ForcedBrowseEngine currentEngine = engine;
+        if (currentEngine != null) {
+            currentEngine.stop();
+        }
     }
 
     public boolean isStopped() {
@@ -229,10 +305,18 @@ public class BruteForce extends Thread implements BruteForceListenner {
     }
 
     public int getWorkDone() {
+        ForcedBrowseEngine currentEngine = engine;
+        if (currentEngine != null) {
+            return currentEngine.getWorkDone();
+        }
         return this.manager.getTotalDone();
     }
 
     public int getWorkTotal() {
+        ForcedBrowseEngine currentEngine = engine;
+        if (currentEngine != null) {
+            return currentEngine.getWorkTotal();
+        }
         return this.manager.getTotal();
     }
 
@@ -324,14 +408,28 @@ public class BruteForce extends Thread implements BruteForceListenner {
     }
 
     public void pauseScan() {
+        ForcedBrowseEngine currentEngine = engine;
+        if (currentEngine != null) {
+            currentEngine.pause();
+            return;
+        }
         this.pauseScan = true;
     }
 
     public void unpauseScan() {
+        ForcedBrowseEngine currentEngine = engine;
+        if (currentEngine != null) {
+            currentEngine.unpause();
+            return;
+        }
         this.unpauseScan = true;
     }
 
     public boolean isPaused() {
+        ForcedBrowseEngine currentEngine = engine;
+        if (currentEngine != null) {
+            return currentEngine.isPaused();
+        }
         return this.isPaused;
     }
 
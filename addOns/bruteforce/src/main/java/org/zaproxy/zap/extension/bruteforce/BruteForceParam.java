@@ -59,6 +59,7 @@ public class BruteForceParam extends VersionedAbstractParam {
     private static final String FILE_EXTENSIONS = "bruteforce.fileextensions";
     private static final String EXTENSIONS_TO_MISS = "bruteforce.extensionsToMiss";
     private static final String FAIL_CASE_STRING = "bruteforce.failCaseString";
+    private static final String CONCURRENT_ENGINE = "bruteforce.concurrentEngine";
 
     public static final boolean DEFAULT_RECURSIVE = true;
     public static final boolean DEFAULT_BROWSE_FILES = false;
@@ -66,6 +67,7 @@ public class BruteForceParam extends VersionedAbstractParam {
     public static final String EMPTY_STRING = "";
     public static final String DEFAULT_EXTENSIONS_TO_MISS = "jpg, gif, jpeg, ico, tiff, png, bmp";
     public static final String DEFAULT_FAIL_CASE_STRING = Config.failCaseString;
+    public static final boolean DEFAULT_CONCURRENT_ENGINE = false;
 
     private int threadPerScan;
     private boolean recursive = DEFAULT_RECURSIVE;
@@ -76,6 +78,7 @@ public class BruteForceParam extends VersionedAbstractParam {
     private String fileExtensions = EMPTY_STRING;
     private String extensionsToMiss = DEFAULT_EXTENSIONS_TO_MISS;
     private String failCaseString = DEFAULT_FAIL_CASE_STRING;
+    private boolean concurrentEngine = DEFAULT_CONCURRENT_ENGINE;
 
     public BruteForceParam() {}
 
@@ -105,6 +108,8 @@ public class BruteForceParam extends VersionedAbstractParam {
             this.extensionsToMiss =
                     getConfig().getString(EXTENSIONS_TO_MISS, DEFAULT_EXTENSIONS_TO_MISS);
             this.failCaseString = getConfig().getString(FAIL_CASE_STRING, DEFAULT_FAIL_CASE_STRING);
+            this.concurrentEngine =
+                    getConfig().getBoolean(CONCURRENT_ENGINE, DEFAULT_CONCURRENT_ENGINE);
         } catch (Exception e) {
         }
 
@@ -281,4 +286,26 @@ public class BruteForceParam extends VersionedAbstractParam {
         this.failCaseString = failCaseString;
         getConfig().setProperty(FAIL_CASE_STRING, failCaseString);
     }
+
+    /**
+     * Tells whether or not the scans use the {@link ForcedBrowseEngine} instead of the DirBuster
+     * one.
+     *
+     * @return {@code true} if the concurrent engine is used, {@code false} otherwise.
+     */
+    public boolean isConcurrentEngine() {
+        return concurrentEngine;
+    }
+
+    /**
+     * Sets whether or not the scans use the {@link ForcedBrowseEngine} instead of the DirBuster
+     * one.
+     *
+     * @param concurrentEngine {@code true} if the concurrent engine should be used, {@code false}
+     *     otherwise.
+     */
+    public void setConcurrentEngine(boolean concurrentEngine) {
+        this.concurrentEngine = concurrentEngine;
+        getConfig().setProperty(CONCURRENT_ENGINE, concurrentEngine);
+    }
 }
@@ -120,6 +120,7 @@ public class ExtensionBruteForce extends ExtensionAdaptor
         if (hasView()) {
             getBruteForcePanel().unload();
         }
+        ForcedBrowseEngine.shutdownSharedExecutor();
 
         super.unload();
     }
@@ -0,0 +1,495 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.bruteforce;
+
+import com.sittinglittleduck.DirBuster.ExtToCheck;
+import com.sittinglittleduck.DirBuster.HttpResponse;
+import com.sittinglittleduck.DirBuster.SimpleHttpClient;
+import com.sittinglittleduck.DirBuster.SimpleHttpClient.HttpMethod;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * A forced browse engine, an alternative to the DirBuster one.
+ *
+ * <p>The directories are scanned one at a time, by the thread calling {@link #run(String)}, which
+ * reads the words lazily and submits the requests to a shared executor, with a bounded number of
+ * threads. The number of concurrent requests to the target host, by all the scans of the host, is
+ * limited to the number of threads configured. The not found responses are recognised with a
+ * fingerprint of each directory and extension, and when the server responds with
+ * {@code 404 Not Found} the resources are checked with a {@code HEAD} request first.
+ *
+ * <p>Unlike the DirBuster engine, the responses are not parsed for links.
+ */
+public class ForcedBrowseEngine {
+
+    private static final Logger LOGGER = LogManager.getLogger(ForcedBrowseEngine.class);
+
+    private static final String DIRECTORY_SUFFIX = "/";
+
+    /** The maximum number of threads of the shared executor, for all hosts. */
+    static final int MAX_SHARED_THREADS = 100;
+
+    private static final Map<String, HostPermits> HOST_PERMITS = new HashMap<>();
+
+    private static ExecutorService sharedExecutor;
+
+    private final SimpleHttpClient client;
+    private final Executor executor;
+    private final BruteForceListenner listener;
+    private final String baseUrl;
+    private final Wordlist wordlist;
+    private final List<String> suffixes;
+    private final String failCaseString;
+    private final boolean recursive;
+    private final int threads;
+    private Semaphore permits;
+
+    private final Object lock = new Object();
+    private final Deque<String> directories = new ArrayDeque<>();
+    private final Set<String> seenDirectories = ConcurrentHashMap.newKeySet();
+    private int inFlight;
+
+    private volatile boolean stopped;
+    private volatile boolean paused;
+    private volatile boolean finished;
+
+    private final AtomicInteger workDone = new AtomicInteger();
+    private final AtomicInteger workTotal = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private volatile long startTime;
+
+    /**
+     * Constructs a {@code ForcedBrowseEngine}.
+     *
+     * @param client the client to send the requests.
+     * @param executor the executor of the requests.
+     * @param listener the listener notified of the resources found.
+     * @param baseUrl the scheme, host, and port of the target, without trailing slash.
+     * @param wordlist the words to check.
+     * @param extensions the file extensions to check, {@link ExtToCheck#BLANK_EXT} for files
+     *     without extension.
+     * @param extensionsToMiss the extensions that should not be checked.
+     * @param failCaseString the name of a resource that does not exist.
+     * @param threads the maximum number of concurrent requests to the host.
+     * @param recursive {@code true} if the directories found should also be scanned.
+     */
+    public ForcedBrowseEngine(
+            SimpleHttpClient client,
+            Executor executor,
+            BruteForceListenner listener,
+            String baseUrl,
+            Wordlist wordlist,
+            List<String> extensions,
+            Set<String> extensionsToMiss,
+            String failCaseString,
+            int threads,
+            boolean recursive) {
+        this.client = client;
+        this.executor = executor;
+        this.listener = listener;
+        this.baseUrl = baseUrl;
+        this.wordlist = wordlist;
+        this.failCaseString = failCaseString;
+        this.recursive = recursive;
+        this.threads = Math.max(1, threads);
+
+        suffixes = new ArrayList<>(extensions.size() + 1);
+        suffixes.add(DIRECTORY_SUFFIX);
+        for (String extension : extensions) {
+            if (ExtToCheck.BLANK_EXT.equals(extension)) {
+                suffixes.add("");
+            } else if (!extensionsToMiss.contains(extension)) {
+                suffixes.add("." + extension);
+            }
+        }
+    }
+
+    /**
+     * Gets the executor shared by all forced browse scans.
+     *
+     * @return the executor, never {@code null}.
+     */
+    static synchronized ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            // The requests queued are bounded by the permits of the hosts.
+            ThreadPoolExecutor executor =
+                    new ThreadPoolExecutor(
+                            MAX_SHARED_THREADS,
+                            MAX_SHARED_THREADS,
+                            60L,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            r -> {
+                                Thread thread =
+                                        new Thread(
+                                                r,
+                                                "ZAP-BruteForce-"
+                                                        + threadNumber.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            executor.allowCoreThreadTimeOut(true);
+            sharedExecutor = executor;
+        }
+        return sharedExecutor;
+    }
+
+    /** Shuts down the shared executor, if created. */
+    static synchronized void shutdownSharedExecutor() {
+        if (sharedExecutor != null) {
+            sharedExecutor.shutdownNow();
+            sharedExecutor = null;
+        }
+    }
+
+    /**
+     * Scans the given directory, and the directories found if recursive. Blocks until the scan
+     * finishes or is stopped.
+     *
+     * @param startPoint the path of the directory, starting and ending with a slash.
+     */
+    public void run(String startPoint) {
+        startTime = System.nanoTime();
+        permits = acquireHostPermits(baseUrl, threads);
+        try {
+            addDirectory(startPoint);
+
+            String directory;
+            while ((directory = nextDirectory()) != null) {
+                scanDirectory(directory);
+            }
+
+            synchronized (lock) {
+                while (inFlight > 0) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        stopped = true;
+                        break;
+                    }
+                }
+            }
+        } finally {
+            releaseHostPermits(baseUrl);
+        }
+        finished = true;
+        LOGGER.debug(
+                "Finished {} with {} requests, {} per second.",
+                baseUrl,
+                getRequestCount(),
+                getRequestsPerSecond());
+    }
+
+    /**
+     * Gets the permits of the given host, shared by all the scans of the host. The number of
+     * permits is the number of threads of the first scan.
+     */
+    private static Semaphore acquireHostPermits(String host, int threads) {
+        synchronized (HOST_PERMITS) {
+            HostPermits hostPermits =
+                    HOST_PERMITS.computeIfAbsent(host, k -> new HostPermits(threads));
+            hostPermits.engines++;
+            return hostPermits.semaphore;
+        }
+    }
+
+    private static void releaseHostPermits(String host) {
+        synchronized (HOST_PERMITS) {
+            HostPermits hostPermits = HOST_PERMITS.get(host);
+            if (hostPermits != null && --hostPermits.engines == 0) {
+                HOST_PERMITS.remove(host);
+            }
+        }
+    }
+
+    private String nextDirectory() {
+        synchronized (lock) {
+            while (!stopped && directories.isEmpty() && inFlight > 0) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    stopped = true;
+                }
+            }
+            return stopped ? null : directories.poll();
+        }
+    }
+
+    private void addDirectory(String path) {
+        if (!seenDirectories.add(path)) {
+            return;
+        }
+        workTotal.addAndGet(wordlist.size() * suffixes.size());
+        synchronized (lock) {
+            directories.add(path);
+            lock.notifyAll();
+        }
+    }
+
+    private void scanDirectory(String directory) {
+        LOGGER.debug("Scanning {}{}", baseUrl, directory);
+        List<NotFoundFingerprint> fingerprints = new ArrayList<>(suffixes.size());
+        for (String suffix : suffixes) {
+            fingerprints.add(createFingerprint(directory, suffix));
+        }
+
+        for (String word : wordlist) {
+            for (int i = 0; i < suffixes.size(); i++) {
+                if (!waitWhilePaused()) {
+                    return;
+                }
+                String item = word + suffixes.get(i);
+                if (!submit(directory, item, fingerprints.get(i))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private NotFoundFingerprint createFingerprint(String directory, String suffix) {
+        String item = failCaseString + suffix;
+        String path = directory + item;
+        boolean acquired = false;
+        try {
+            // Also counts towards the concurrent requests to the host.
+            permits.acquire();
+            acquired = true;
+            return new NotFoundFingerprint(send(HttpMethod.GET, path), createUrl(path), item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+        } catch (IOException | URISyntaxException e) {
+            LOGGER.debug("Failed to fingerprint {}{}: {}", directory, item, e.getMessage());
+        } finally {
+            if (acquired) {
+                permits.release();
+            }
+        }
+        return new NotFoundFingerprint(404, "", "");
+    }
+
+    private boolean waitWhilePaused() {
+        synchronized (lock) {
+            while (paused && !stopped) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    stopped = true;
+                }
+            }
+        }
+        return !stopped;
+    }
+
+    private boolean submit(String directory, String item, NotFoundFingerprint fingerprint) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+            return false;
+        }
+
+        synchronized (lock) {
+            inFlight++;
+        }
+        try {
+            executor.execute(() -> probe(directory, item, fingerprint));
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Probe rejected, stopping: {}", e.getMessage());
+            stopped = true;
+            probeDone();
+            return false;
+        }
+        return true;
+    }
+
+    private void probe(String directory, String item, NotFoundFingerprint fingerprint) {
+        try {
+            if (stopped) {
+                return;
+            }
+            String path = directory + item;
+            URL url = createUrl(path);
+            if (fingerprint.isStatusCodeEnough()) {
+                int statusCode = send(HttpMethod.HEAD, path).getStatusCode();
+                if (fingerprint.isNotFound(statusCode, null, url, item)) {
+                    return;
+                }
+            }
+
+            HttpResponse response = send(HttpMethod.GET, path);
+            String body = response.getResponseBody();
+            if (fingerprint.isNotFound(response.getStatusCode(), body, url, item)) {
+                return;
+            }
+            found(url, path, response, body, fingerprint);
+        } catch (IOException | URISyntaxException e) {
+            LOGGER.debug("Failed to request {}{}: {}", baseUrl, directory + item, e.getMessage());
+        } catch (Exception e) {
+            LOGGER.warn("Failed to check {}{}", baseUrl, directory + item, e);
+        } finally {
+            workDone.incrementAndGet();
+            probeDone();
+        }
+    }
+
+    private void probeDone() {
+        permits.release();
+        synchronized (lock) {
+            inFlight--;
+            lock.notifyAll();
+        }
+    }
+
+    private HttpResponse send(HttpMethod method, String path) throws IOException {
+        requests.increment();
+        Stats.incCounter("stats.bruteforce.engine.request");
+        return client.send(method, baseUrl + path);
+    }
+
+    private URL createUrl(String path) throws URISyntaxException, MalformedURLException {
+        return new java.net.URI(baseUrl + path).toURL();
+    }
+
+    private void found(
+            URL url,
+            String path,
+            HttpResponse response,
+            String body,
+            NotFoundFingerprint fingerprint) {
+        LOGGER.debug("Found {} {}{}", response.getStatusCode(), baseUrl, path);
+        listener.foundDir(
+                url,
+                response.getStatusCode(),
+                body,
+                fingerprint.getBody(),
+                response.getResponseHeader() + body,
+                null);
+
+        if (recursive && path.endsWith(DIRECTORY_SUFFIX)) {
+            addDirectory(path);
+        }
+    }
+
+    /** Pauses the scan, the requests already submitted still complete. */
+    public void pause() {
+        paused = true;
+    }
+
+    /** Resumes the scan. */
+    public void unpause() {
+        synchronized (lock) {
+            paused = false;
+            lock.notifyAll();
+        }
+    }
+
+    /** Stops the scan, the requests already submitted still complete. */
+    public void stop() {
+        synchronized (lock) {
+            stopped = true;
+            lock.notifyAll();
+        }
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    public boolean hasFinished() {
+        return finished;
+    }
+
+    public int getWorkDone() {
+        return workDone.get();
+    }
+
+    public int getWorkTotal() {
+        return workTotal.get();
+    }
+
+    /**
+     * Gets the number of requests sent, including the ones to fingerprint the not found responses.
+     *
+     * @return the number of requests sent.
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Gets the average number of requests sent per second, since the scan started.
+     *
+     * @return the requests per second, {@code 0} if not started.
+     */
+    public double getRequestsPerSecond() {
+        long start = startTime;
+        if (start == 0) {
+            return 0;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return getRequestCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    private static class HostPermits {
+
+        private final Semaphore semaphore;
+        private int engines;
+
+        HostPermits(int threads) {
+            this.semaphore = new Semaphore(threads);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.bruteforce;
+
+import com.sittinglittleduck.DirBuster.FilterResponce;
+import com.sittinglittleduck.DirBuster.HttpResponse;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * How a server responds to a resource that does not exist, in a given directory and with a given
+ * extension.
+ *
+ * <p>Used to tell apart the resources that exist from the "soft" not found responses, those that
+ * are not {@code 404 Not Found}. The bodies are cleaned as done by the DirBuster engine (dates,
+ * host, URL, path, and IP addresses removed) and the resource requested, which servers often
+ * reflect, is taken into account both as is and URL-encoded.
+ */
+class NotFoundFingerprint {
+
+    private static final int NOT_FOUND = 404;
+    private static final int BAD_REQUEST = 400;
+    private static final int BAD_GATEWAY = 502;
+
+    private final int statusCode;
+    private final String body;
+    private final String item;
+
+    /**
+     * Constructs a {@code NotFoundFingerprint} from the response of a resource known to not exist.
+     *
+     * @param response the response to the resource.
+     * @param url the URL of the resource.
+     * @param item the name of the resource.
+     */
+    NotFoundFingerprint(HttpResponse response, URL url, String item) {
+        this(response.getStatusCode(), clean(response.getResponseBody(), url), item);
+    }
+
+    /**
+     * Constructs a {@code NotFoundFingerprint} with the given status code and (cleaned) body.
+     *
+     * @param statusCode the status code of the not found responses.
+     * @param body the body of the not found responses.
+     * @param item the name of the resource requested, might be reflected in the body.
+     */
+    NotFoundFingerprint(int statusCode, String body, String item) {
+        this.statusCode = statusCode;
+        this.body = body;
+        this.item = item;
+    }
+
+    /**
+     * Tells whether or not the status code alone is enough to know that a resource does not exist,
+     * that is, the server responds with {@code 404 Not Found}.
+     *
+     * @return {@code true} if the status code is enough, {@code false} otherwise.
+     */
+    boolean isStatusCodeEnough() {
+        return statusCode == NOT_FOUND;
+    }
+
+    /**
+     * Gets the (cleaned) body of the not found response.
+     *
+     * @return the body, never {@code null}.
+     */
+    String getBody() {
+        return body;
+    }
+
+    /**
+     * Tells whether or not the given response is a not found response.
+     *
+     * <p>As with the DirBuster engine, the {@code 404 Not Found}, {@code 400 Bad Request}, and
+     * {@code 502 Bad Gateway} responses are always considered not found.
+     *
+     * @param statusCode the status code of the response.
+     * @param body the body of the response, might be {@code null} if not yet known.
+     * @param url the URL of the resource requested.
+     * @param item the name of the resource requested.
+     * @return {@code true} if it's a not found response, {@code false} otherwise.
+     */
+    boolean isNotFound(int statusCode, String body, URL url, String item) {
+        if (isNotFoundStatusCode(statusCode)) {
+            return true;
+        }
+        if (statusCode != this.statusCode || body == null) {
+            return false;
+        }
+        return getExpectedBody(item).equals(clean(body, url));
+    }
+
+    private static boolean isNotFoundStatusCode(int statusCode) {
+        return statusCode == NOT_FOUND
+                || statusCode == BAD_REQUEST
+                || statusCode == BAD_GATEWAY
+                || statusCode == 0;
+    }
+
+    /**
+     * Gets the body expected for the given resource, if not found, that is, the body of the
+     * fingerprint with the resource reflected instead of the one originally requested.
+     */
+    private String getExpectedBody(String otherItem) {
+        if (item.isEmpty() || item.equals(otherItem)) {
+            return body;
+        }
+        String expected = body.replace(item, otherItem);
+        String encodedItem = encode(item);
+        if (!encodedItem.equals(item)) {
+            expected = expected.replace(encodedItem, encode(otherItem));
+        }
+        return expected;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String clean(String body, URL url) {
+        if (body == null) {
+            return "";
+        }
+        return FilterResponce.CleanResponce(body, url, null);
+    }
+}
@@ -50,6 +50,7 @@ public class OptionsBruteForcePanel extends AbstractParamPanel {
     private static final long serialVersionUID = 1L;
     private JPanel panelPortScan = null;
     private JCheckBox checkBoxRecursive = null;
+    private JCheckBox checkBoxConcurrentEngine = null;
     private JComboBox<ForcedBrowseFile> defaultFileList = null;
     private JButton addFileButton = null;
     private JCheckBox checkBoxBrowseFilesWithoutExtension = null;
@@ -276,6 +277,16 @@ public class OptionsBruteForcePanel extends AbstractParamPanel {
             gridBagConstraintsFailCaseString.insets = new Insets(2, 2, 2, 2);
             gridBagConstraintsFailCaseString.gridwidth = 1;
 
+            GridBagConstraints gridBagConstraintsConcurrentEngineCheckBox =
+                    new GridBagConstraints();
+            gridBagConstraintsConcurrentEngineCheckBox.gridx = 0;
+            gridBagConstraintsConcurrentEngineCheckBox.gridy = ++rowNumber;
+            gridBagConstraintsConcurrentEngineCheckBox.weightx = 1.0;
+            gridBagConstraintsConcurrentEngineCheckBox.fill = GridBagConstraints.HORIZONTAL;
+            gridBagConstraintsConcurrentEngineCheckBox.anchor = GridBagConstraints.NORTHWEST;
+            gridBagConstraintsConcurrentEngineCheckBox.insets = new Insets(2, 2, 2, 2);
+            gridBagConstraintsConcurrentEngineCheckBox.gridwidth = 2;
+
             gridBagConstraintsX.gridx = 0;
             gridBagConstraintsX.gridy = ++rowNumber;
             gridBagConstraintsX.anchor = GridBagConstraints.NORTHWEST;
@@ -303,6 +314,8 @@ public class OptionsBruteForcePanel extends AbstractParamPanel {
             panelPortScan.add(getTxtExtensionsToMiss(), gridBagConstraintsExtensionsToMissList);
             panelPortScan.add(jLabelFailCaseString, gridBagConstraintsFailCaseStringLabel);
             panelPortScan.add(getTxtFailCaseString(), gridBagConstraintsFailCaseString);
+            panelPortScan.add(
+                    getCheckBoxConcurrentEngine(), gridBagConstraintsConcurrentEngineCheckBox);
             panelPortScan.add(jLabelx, gridBagConstraintsX);
         }
         return panelPortScan;
@@ -339,6 +352,16 @@ public class OptionsBruteForcePanel extends AbstractParamPanel {
         return checkBoxRecursive;
     }
 
+    private JCheckBox getCheckBoxConcurrentEngine() {
+        if (checkBoxConcurrentEngine == null) {
+            checkBoxConcurrentEngine = new JCheckBox();
+            checkBoxConcurrentEngine.setText(
+                    Constant.messages.getString(MESSAGE_PREFIX + "label.concurrentEngine"));
+            checkBoxConcurrentEngine.setSelected(BruteForceParam.DEFAULT_CONCURRENT_ENGINE);
+        }
+        return checkBoxConcurrentEngine;
+    }
+
     @Override
     public void initParam(Object obj) {
         OptionsParam options = (OptionsParam) obj;
@@ -352,6 +375,7 @@ public class OptionsBruteForcePanel extends AbstractParamPanel {
             getTxtFileExtensions().setEnabled(BruteForceParam.DEFAULT_BROWSE_FILES);
             getTxtExtensionsToMiss().setText(BruteForceParam.DEFAULT_EXTENSIONS_TO_MISS);
             getTxtFailCaseString().setText(BruteForceParam.DEFAULT_FAIL_CASE_STRING);
+            getCheckBoxConcurrentEngine().setSelected(BruteForceParam.DEFAULT_CONCURRENT_ENGINE);
         } else {
             getSpinnerThreadsPerScan().setValue(param.getThreadPerScan());
             getCheckBoxRecursive().setSelected(param.getRecursive());
@@ -363,6 +387,7 @@ public class OptionsBruteForcePanel extends AbstractParamPanel {
             getTxtFileExtensions().setText(param.getFileExtensions());
             getTxtExtensionsToMiss().setText(param.getExtensionsToMiss());
             getTxtFailCaseString().setText(param.getFailCaseString());
+            getCheckBoxConcurrentEngine().setSelected(param.isConcurrentEngine());
         }
 
         getTxtFileExtensions().discardAllEdits();
@@ -389,6 +414,7 @@ public class OptionsBruteForcePanel extends AbstractParamPanel {
         }
         param.setThreadPerScan(getSpinnerThreadsPerScan().getValue());
         param.setRecursive(getCheckBoxRecursive().isSelected());
+        param.setConcurrentEngine(getCheckBoxConcurrentEngine().isSelected());
 
         ForcedBrowseFile selectedDefaultFile =
                 (ForcedBrowseFile) getDefaultFileList().getSelectedItem();
@@ -0,0 +1,147 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.bruteforce;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The words of a forced browse file, read lazily from the memory mapped file.
+ *
+ * <p>Each iteration reads the file again, without keeping the words in memory. Empty lines and
+ * lines starting with {@code #} are ignored, the words are trimmed and made safe to use in URLs.
+ */
+class Wordlist implements Iterable<String> {
+
+    private final ByteBuffer buffer;
+    private final int size;
+
+    /**
+     * Constructs a {@code Wordlist} from the given file.
+     *
+     * @param file the forced browse file.
+     * @throws IOException if an error occurred while mapping the file or if it's too large.
+     */
+    Wordlist(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("File too large: " + file);
+            }
+            // The mapping stays valid after closing the channel.
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        }
+
+        int count = 0;
+        for (Iterator<String> it = iterator(); it.hasNext(); it.next()) {
+            count++;
+        }
+        size = count;
+    }
+
+    /**
+     * Gets the number of words.
+     *
+     * @return the number of words.
+     */
+    int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new WordIterator(buffer.duplicate());
+    }
+
+    /**
+     * Makes the given item safe to be used in a URL path.
+     *
+     * @param item the item, already trimmed.
+     * @return the safe item, might be empty.
+     */
+    static String toSafeItem(String item) {
+        String safeItem = item.replace(" ", "%20").replace("\"", "").replace("\\", "");
+        int start = 0;
+        int end = safeItem.length();
+        while (start < end && safeItem.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && safeItem.charAt(end - 1) == '/') {
+            end--;
+        }
+        return safeItem.substring(start, end);
+    }
+
+    private static class WordIterator implements Iterator<String> {
+
+        private final ByteBuffer buffer;
+        private String next;
+
+        WordIterator(ByteBuffer buffer) {
+            this.buffer = buffer;
+            next = readNext();
+        }
+
+        private String readNext() {
+            while (buffer.hasRemaining()) {
+                int start = buffer.position();
+                int end = start;
+                while (buffer.hasRemaining() && buffer.get() != '\n') {
+                    end++;
+                }
+                if (end > start && buffer.get(end - 1) == '\r') {
+                    end--;
+                }
+                if (end == start || buffer.get(start) == '#') {
+                    continue;
+                }
+
+                byte[] bytes = new byte[end - start];
+                buffer.get(start, bytes);
+                String word = toSafeItem(new String(bytes, StandardCharsets.UTF_8).trim());
+                if (!word.isEmpty()) {
+                    return word;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            String word = next;
+            next = readNext();
+            return word;
+        }
+    }
+}
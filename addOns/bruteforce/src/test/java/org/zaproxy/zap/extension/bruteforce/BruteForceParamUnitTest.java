@@ -120,4 +120,28 @@ class BruteForceParamUnitTest {
             assertThat(param.getThreadPerScan(), is(equalTo(3)));
         }
     }
+
+    @Test
+    void shouldNotUseConcurrentEngineByDefault() {
+        assertThat(param.isConcurrentEngine(), is(equalTo(false)));
+    }
+
+    @Test
+    void shouldLoadConcurrentEngineFromConfig() {
+        // Given
+        configuration.setProperty("bruteforce.concurrentEngine", true);
+        // When
+        param.load(configuration);
+        // Then
+        assertThat(param.isConcurrentEngine(), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldPersistConcurrentEngine() {
+        // Given / When
+        param.setConcurrentEngine(true);
+        // Then
+        assertThat(param.isConcurrentEngine(), is(equalTo(true)));
+        assertThat(configuration.getBoolean("bruteforce.concurrentEngine"), is(equalTo(true)));
+    }
 }
@@ -0,0 +1,380 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.bruteforce;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.sittinglittleduck.DirBuster.ExtToCheck;
+import com.sittinglittleduck.DirBuster.HttpResponse;
+import com.sittinglittleduck.DirBuster.SimpleHttpClient;
+import com.sittinglittleduck.DirBuster.SimpleHttpClient.HttpMethod;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit test for {@link ForcedBrowseEngine}. */
+class ForcedBrowseEngineUnitTest {
+
+    private static final String BASE_URL = "http://example.com:80";
+    private static final String FAIL_CASE = "doesNotExist";
+
+    @TempDir Path dir;
+
+    private FakeHttpClient client;
+    private BruteForceListenner listener;
+    private List<String> found;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        client = new FakeHttpClient();
+        found = Collections.synchronizedList(new ArrayList<>());
+        listener = mock(BruteForceListenner.class);
+        doAnswer(
+                        invocation -> {
+                            found.add(((URL) invocation.getArgument(0)).getPath());
+                            return null;
+                        })
+                .when(listener)
+                .foundDir(any(), anyInt(), anyString(), anyString(), anyString(), isNull());
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldFindDirectoriesAndFiles() throws Exception {
+        // Given
+        client.add("/admin/", 200, "Admin");
+        client.add("/login.php", 200, "Login");
+        ForcedBrowseEngine engine = createEngine("admin\nlogin\nother", List.of("php"), false);
+        // When
+        engine.run("/");
+        // Then
+        assertThat(found, containsInAnyOrder("/admin/", "/login.php"));
+        assertThat(engine.hasFinished(), is(equalTo(true)));
+        assertThat(engine.getWorkDone(), is(equalTo(6)));
+        assertThat(engine.getWorkTotal(), is(equalTo(6)));
+    }
+
+    @Test
+    void shouldUseHeadWhenServerRespondsNotFound() throws Exception {
+        // Given
+        client.add("/admin/", 200, "Admin");
+        ForcedBrowseEngine engine = createEngine("admin\nlogin\nother", List.of(), false);
+        // When
+        engine.run("/");
+        // Then
+        assertThat(found, contains("/admin/"));
+        assertThat(client.count(HttpMethod.HEAD), is(equalTo(3)));
+        assertThat(client.count(HttpMethod.GET), is(equalTo(1)));
+        assertThat(engine.getRequestCount(), is(equalTo(5L)));
+    }
+
+    @Test
+    void shouldIgnoreSoftNotFoundResponses() throws Exception {
+        // Given
+        client.notFoundStatus = 200;
+        client.add("/admin/", 200, "Admin");
+        ForcedBrowseEngine engine = createEngine("admin\nlogin", List.of(), false);
+        // When
+        engine.run("/");
+        // Then
+        assertThat(found, contains("/admin/"));
+        assertThat(client.count(HttpMethod.HEAD), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldIgnoreDynamicSoftNotFoundResponses() throws Exception {
+        // Given
+        client.notFoundStatus = 200;
+        AtomicInteger seconds = new AtomicInteger(10);
+        client.notFoundBody =
+                url ->
+                        "<p>Generated Mon, 19 Oct 2026 17:49:"
+                                + seconds.incrementAndGet()
+                                + " GMT</p><a href=\""
+                                + url
+                                + "\">"
+                                + url.substring(url.lastIndexOf('/') + 1)
+                                + "</a> not found on example.com";
+        client.add("/admin/", 200, "Admin");
+        ForcedBrowseEngine engine = createEngine("admin\nlogin\nold", List.of("php"), false);
+        // When
+        engine.run("/");
+        // Then
+        assertThat(found, contains("/admin/"));
+    }
+
+    @Test
+    void shouldIgnoreBadRequestAndBadGatewayResponses() throws Exception {
+        // Given
+        client.notFoundStatus = 200;
+        client.add("/admin/", 200, "Admin");
+        client.add("/login/", 400, "Bad Request");
+        client.add("/other/", 502, "Bad Gateway");
+        ForcedBrowseEngine engine = createEngine("admin\nlogin\nother", List.of(), false);
+        // When
+        engine.run("/");
+        // Then
+        assertThat(found, contains("/admin/"));
+    }
+
+    @Test
+    void shouldScanDirectoriesFoundIfRecursive() throws Exception {
+        // Given
+        client.add("/admin/", 200, "Admin");
+        client.add("/admin/login/", 200, "Login");
+        ForcedBrowseEngine engine = createEngine("admin\nlogin", List.of(), true);
+        // When
+        engine.run("/");
+        // Then
+        assertThat(found, contains("/admin/", "/admin/login/"));
+        assertThat(engine.getWorkTotal(), is(equalTo(6)));
+    }
+
+    @Test
+    void shouldNotScanDirectoriesFoundIfNotRecursive() throws Exception {
+        // Given
+        client.add("/admin/", 200, "Admin");
+        client.add("/admin/login/", 200, "Login");
+        ForcedBrowseEngine engine = createEngine("admin\nlogin", List.of(), false);
+        // When
+        engine.run("/");
+        // Then
+        assertThat(found, contains("/admin/"));
+    }
+
+    @Test
+    void shouldCheckFilesWithoutExtensionAndSkipExtensionsToMiss() throws Exception {
+        // Given
+        client.add("/readme", 200, "Readme");
+        ForcedBrowseEngine engine =
+                createEngine(
+                        "readme",
+                        List.of(ExtToCheck.BLANK_EXT, "txt", "png"),
+                        Set.of("png"),
+                        false,
+                        2);
+        // When
+        engine.run("/");
+        // Then
+        assertThat(found, contains("/readme"));
+        assertThat(client.requested, containsInAnyOrder(expectedRequests("readme")));
+    }
+
+    @Test
+    void shouldNotExceedThreadsConcurrentRequests() throws Exception {
+        // Given
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            words.append("word").append(i).append('\n');
+        }
+        client.delayMs = 2;
+        ForcedBrowseEngine engine = createEngine(words.toString(), List.of(), Set.of(), false, 2);
+        // When
+        engine.run("/");
+        // Then
+        assertThat(client.maxConcurrent.get(), is(lessThanOrEqualTo(2)));
+        assertThat(engine.getWorkDone(), is(equalTo(50)));
+    }
+
+    @Test
+    void shouldShareConcurrentRequestsLimitOfSameHost() throws Exception {
+        // Given
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            words.append("word").append(i).append('\n');
+        }
+        client.delayMs = 2;
+        ForcedBrowseEngine engine1 = createEngine(words.toString(), List.of(), Set.of(), false, 2);
+        ForcedBrowseEngine engine2 = createEngine(words.toString(), List.of(), Set.of(), false, 2);
+        // When
+        CompletableFuture<Void> run1 = CompletableFuture.runAsync(() -> engine1.run("/a/"));
+        CompletableFuture<Void> run2 = CompletableFuture.runAsync(() -> engine2.run("/b/"));
+        CompletableFuture.allOf(run1, run2).get();
+        // Then
+        assertThat(client.maxConcurrent.get(), is(lessThanOrEqualTo(2)));
+        assertThat(engine1.getWorkDone(), is(equalTo(50)));
+        assertThat(engine2.getWorkDone(), is(equalTo(50)));
+    }
+
+    @Test
+    void shouldNotSendRequestsIfStopped() throws Exception {
+        // Given
+        ForcedBrowseEngine engine = createEngine("admin\nlogin", List.of(), false);
+        engine.stop();
+        // When
+        engine.run("/");
+        // Then
+        assertThat(found, is(empty()));
+        assertThat(engine.isStopped(), is(equalTo(true)));
+        assertThat(engine.hasFinished(), is(equalTo(true)));
+    }
+
+    private static String[] expectedRequests(String word) {
+        return new String[] {
+            "GET /" + FAIL_CASE + "/",
+            "GET /" + FAIL_CASE,
+            "GET /" + FAIL_CASE + ".txt",
+            "HEAD /" + word + "/",
+            "HEAD /" + word,
+            "GET /" + word,
+            "HEAD /" + word + ".txt"
+        };
+    }
+
+    private ForcedBrowseEngine createEngine(
+            String words, List<String> extensions, boolean recursive) throws Exception {
+        return createEngine(words, extensions, Set.of(), recursive, 4);
+    }
+
+    private ForcedBrowseEngine createEngine(
+            String words,
+            List<String> extensions,
+            Set<String> extensionsToMiss,
+            boolean recursive,
+            int threads)
+            throws Exception {
+        Path file = dir.resolve("words.txt");
+        Files.write(file, words.getBytes(StandardCharsets.UTF_8));
+        return new ForcedBrowseEngine(
+                client,
+                executor,
+                listener,
+                BASE_URL,
+                new Wordlist(file),
+                extensions,
+                extensionsToMiss,
+                FAIL_CASE,
+                threads,
+                recursive);
+    }
+
+    private static class FakeHttpClient implements SimpleHttpClient {
+
+        private final Map<String, HttpResponse> responses = new HashMap<>();
+        private final List<String> requested = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+        private int notFoundStatus = 404;
+        private Function<String, String> notFoundBody =
+                url -> "Not found: " + url.substring(url.lastIndexOf('/') + 1);
+        private long delayMs;
+
+        void add(String path, int statusCode, String body) {
+            responses.put(BASE_URL + path, new Response(statusCode, body));
+        }
+
+        int count(HttpMethod method) {
+            synchronized (requested) {
+                return (int)
+                        requested.stream()
+                                .filter(
+                                        e ->
+                                                e.startsWith(method.name() + " ")
+                                                        && !e.contains(FAIL_CASE))
+                                .count();
+            }
+        }
+
+        @Override
+        public HttpResponse send(HttpMethod method, String url) {
+            requested.add(method.name() + " " + url.substring(BASE_URL.length()));
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                if (delayMs > 0) {
+                    Thread.sleep(delayMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            HttpResponse response = responses.get(url);
+            if (response != null) {
+                return response;
+            }
+            return new Response(notFoundStatus, notFoundBody.apply(url));
+        }
+    }
+
+    private static class Response implements HttpResponse {
+
+        private final int statusCode;
+        private final String body;
+
+        Response(int statusCode, String body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getContentType() {
+            return "text/html";
+        }
+
+        @Override
+        public String getResponseHeader() {
+            return "HTTP/1.1 " + statusCode + " OK\r\n\r\n";
+        }
+
+        @Override
+        public String getResponseBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.bruteforce;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import com.sittinglittleduck.DirBuster.HttpResponse;
+import java.net.URI;
+import java.net.URL;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit test for {@link NotFoundFingerprint}. */
+class NotFoundFingerprintUnitTest {
+
+    private static final String BASE_URL = "http://example.com";
+    private static final String FAIL_CASE = "doesNotExist.php";
+
+    @ParameterizedTest
+    @ValueSource(ints = {400, 404, 502})
+    void shouldAlwaysConsiderNotFoundStatusCodes(int statusCode) throws Exception {
+        // Given
+        NotFoundFingerprint fingerprint = fingerprint(200, "Not found");
+        // When
+        boolean notFound = fingerprint.isNotFound(statusCode, "Other", url("/a"), "a");
+        // Then
+        assertThat(notFound, is(equalTo(true)));
+    }
+
+    @Test
+    void shouldNotConsiderNotFoundDifferentStatusCode() throws Exception {
+        // Given
+        NotFoundFingerprint fingerprint = fingerprint(200, "Not found");
+        // When
+        boolean notFound = fingerprint.isNotFound(302, "Not found", url("/a"), "a");
+        // Then
+        assertThat(notFound, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldIgnoreDatesHostAndPath() throws Exception {
+        // Given
+        NotFoundFingerprint fingerprint =
+                fingerprint(
+                        200,
+                        "Mon, 19 Oct 2026 17:49:50 GMT: /dir/" + FAIL_CASE + " not on example.com");
+        // When
+        boolean notFound =
+                fingerprint.isNotFound(
+                        200,
+                        "Tue, 20 Oct 2026 08:01:02 GMT: /dir/login.php not on example.com",
+                        url("/dir/login.php"),
+                        "login.php");
+        // Then
+        assertThat(notFound, is(equalTo(true)));
+    }
+
+    @Test
+    void shouldIgnoreReflectedUrl() throws Exception {
+        // Given
+        NotFoundFingerprint fingerprint =
+                fingerprint(200, "Go back from " + BASE_URL + "/dir/" + FAIL_CASE);
+        // When
+        boolean notFound =
+                fingerprint.isNotFound(
+                        200,
+                        "Go back from " + BASE_URL + "/dir/login.php",
+                        url("/dir/login.php"),
+                        "login.php");
+        // Then
+        assertThat(notFound, is(equalTo(true)));
+    }
+
+    @Test
+    void shouldIgnoreReflectedItem() throws Exception {
+        // Given
+        NotFoundFingerprint fingerprint = fingerprint(200, "File " + FAIL_CASE + " not found.");
+        // When
+        boolean notFound =
+                fingerprint.isNotFound(
+                        200, "File login.php not found.", url("/dir/login.php"), "login.php");
+        // Then
+        assertThat(notFound, is(equalTo(true)));
+    }
+
+    @Test
+    void shouldIgnoreReflectedUrlEncodedItem() throws Exception {
+        // Given
+        String item = "doesNotExist file.php";
+        HttpResponse response = response(200, "File doesNotExist+file.php not found.");
+        NotFoundFingerprint fingerprint =
+                new NotFoundFingerprint(response, url("/dir/doesNotExist%20file.php"), item);
+        // When
+        boolean notFound =
+                fingerprint.isNotFound(
+                        200,
+                        "File my+login.php not found.",
+                        url("/dir/my%20login.php"),
+                        "my login.php");
+        // Then
+        assertThat(notFound, is(equalTo(true)));
+    }
+
+    @Test
+    void shouldNotBeAffectedByShortItems() throws Exception {
+        // Given
+        NotFoundFingerprint fingerprint = fingerprint(200, "Page " + FAIL_CASE + " not available");
+        // When
+        boolean notFound =
+                fingerprint.isNotFound(200, "Page a not available", url("/dir/a"), "a");
+        // Then
+        assertThat(notFound, is(equalTo(true)));
+    }
+
+    @Test
+    void shouldDetectDifferentContent() throws Exception {
+        // Given
+        NotFoundFingerprint fingerprint = fingerprint(200, "File " + FAIL_CASE + " not found.");
+        // When
+        boolean notFound =
+                fingerprint.isNotFound(
+                        200, "Welcome, please login.", url("/dir/login.php"), "login.php");
+        // Then
+        assertThat(notFound, is(equalTo(false)));
+    }
+
+    private static NotFoundFingerprint fingerprint(int statusCode, String body) throws Exception {
+        return new NotFoundFingerprint(
+                response(statusCode, body), url("/dir/" + FAIL_CASE), FAIL_CASE);
+    }
+
+    private static URL url(String path) throws Exception {
+        return new URI(BASE_URL + path).toURL();
+    }
+
+    private static HttpResponse response(int statusCode, String body) {
+        return new HttpResponse() {
+
+            @Override
+            public int getStatusCode() {
+                return statusCode;
+            }
+
+            @Override
+            public String getContentType() {
+                return "text/html";
+            }
+
+            @Override
+            public String getResponseHeader() {
+                return "HTTP/1.1 " + statusCode + " OK\r\n\r\n";
+            }
+
+            @Override
+            public String getResponseBody() {
+                return body;
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.bruteforce;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.emptyIterable;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/** Unit test for {@link Wordlist}. */
+class WordlistUnitTest {
+
+    @TempDir Path dir;
+
+    @Test
+    void shouldReadWordsSkippingCommentsAndEmptyLines() throws Exception {
+        // Given
+        Path file = createFile("# comment\nadmin\n\n  images  \r\n#other\nlogin");
+        // When
+        Wordlist wordlist = new Wordlist(file);
+        // Then
+        assertThat(wordlist.size(), is(equalTo(3)));
+        assertThat(wordlist, contains("admin", "images", "login"));
+    }
+
+    @Test
+    void shouldReadSameWordsInEachIteration() throws Exception {
+        // Given
+        Wordlist wordlist = new Wordlist(createFile("a\nb\n"));
+        List<String> first = toList(wordlist);
+        // When
+        List<String> second = toList(wordlist);
+        // Then
+        assertThat(second, is(equalTo(first)));
+        assertThat(second, contains("a", "b"));
+    }
+
+    @Test
+    void shouldReadEmptyFile() throws Exception {
+        // Given
+        Path file = createFile("");
+        // When
+        Wordlist wordlist = new Wordlist(file);
+        // Then
+        assertThat(wordlist.size(), is(equalTo(0)));
+        assertThat(wordlist, is(emptyIterable()));
+    }
+
+    @Test
+    void shouldSkipWordsEmptyOnceSafe() throws Exception {
+        // Given
+        Path file = createFile("/\n\"\"\nok");
+        // When
+        Wordlist wordlist = new Wordlist(file);
+        // Then
+        assertThat(wordlist, contains("ok"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "admin,admin",
+        "/admin/,admin",
+        "my dir,my%20dir",
+        "'a\"b\\\\c',abc",
+        "a/b,a/b"
+    })
+    void shouldMakeItemsSafe(String item, String expected) {
+        // Given / When
+        String safeItem = Wordlist.toSafeItem(item);
+        // Then
+        assertThat(safeItem, is(equalTo(expected)));
+    }
+
+    private Path createFile(String contents) throws Exception {
+        Path file = dir.resolve("words.txt");
+        Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static List<String> toList(Iterable<String> words) {
+        List<String> list = new ArrayList<>();
+        words.forEach(list::add);
+        return list;
+    }
+}
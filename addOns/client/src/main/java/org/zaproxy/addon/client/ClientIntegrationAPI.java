@@ -27,6 +27,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import net.sf.json.JSONObject;
 import org.apache.commons.lang3.Validate;
@@ -37,12 +38,16 @@ import org.parosproxy.paros.network.HttpHeader;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpRequestHeader;
 import org.zaproxy.addon.client.internal.ClientMap;
+import org.zaproxy.addon.client.internal.EventRateMeter;
+import org.zaproxy.addon.client.internal.db.ClientHistoryWriter;
 import org.zaproxy.zap.extension.api.API;
 import org.zaproxy.zap.extension.api.ApiAction;
 import org.zaproxy.zap.extension.api.ApiException;
 import org.zaproxy.zap.extension.api.ApiImplementor;
 import org.zaproxy.zap.extension.api.ApiResponse;
 import org.zaproxy.zap.extension.api.ApiResponseElement;
+import org.zaproxy.zap.extension.api.ApiResponseSet;
+import org.zaproxy.zap.extension.api.ApiView;
 
 public class ClientIntegrationAPI extends ApiImplementor {
     private static final String PREFIX = "client";
@@ -53,6 +58,8 @@ public class ClientIntegrationAPI extends ApiImplementor {
     private static final String ACTION_REPORT_ZEST_STATEMENT = "reportZestStatement";
     private static final String ACTION_REPORT_ZEST_SCRIPT = "reportZestScript";
 
+    private static final String VIEW_STATS = "stats";
+
     private static final String PARAM_EXPORT_PATH = "pathYaml";
     private static final String PARAM_OBJECT_JSON = "objectJson";
     private static final String PARAM_EVENT_JSON = "eventJson";
@@ -88,6 +95,8 @@ public class ClientIntegrationAPI extends ApiImplementor {
         this.addApiAction(
                 new ApiAction(ACTION_EXPORT_CLIENT_MAP, new String[] {PARAM_EXPORT_PATH}));
 
+        this.addApiView(new ApiView(VIEW_STATS));
+
         addApiOptions(extension.getClientParam());
 
         callbackUrl =
@@ -145,6 +154,22 @@ public class ClientIntegrationAPI extends ApiImplementor {
         return ApiResponseElement.OK;
     }
 
+    @Override
+    public ApiResponse handleApiView(String name, JSONObject params) throws ApiException {
+        if (VIEW_STATS.equals(name)) {
+            EventRateMeter eventRateMeter = clientMap.getEventRateMeter();
+            ClientHistoryWriter historyWriter = extension.getClientHistoryWriter();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("eventsReceived", eventRateMeter.getCount());
+            stats.put("eventsPerSecond", eventRateMeter.getRate());
+            stats.put("historyQueueDepth", historyWriter.getQueueDepth());
+            stats.put("historyPersisted", historyWriter.getPersistedCount());
+            stats.put("historyFailed", historyWriter.getFailedCount());
+            return new ApiResponseSet<>(name, stats);
+        }
+        return super.handleApiView(name, params);
+    }
+
     static String decodeParamString(String body, String param) {
         // Should always start with 'param'=
         String str = body.substring(param.length() + 1);
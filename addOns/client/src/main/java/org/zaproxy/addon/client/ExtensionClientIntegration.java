@@ -71,6 +71,7 @@ import org.zaproxy.addon.client.internal.ClientSideComponent;
 import org.zaproxy.addon.client.internal.ClientSideDetails;
 import org.zaproxy.addon.client.internal.ReportedObject;
 import org.zaproxy.addon.client.internal.db.ClientHistoryDao;
+import org.zaproxy.addon.client.internal.db.ClientHistoryWriter;
 import org.zaproxy.addon.client.internal.db.TableJdo;
 import org.zaproxy.addon.client.pscan.ClientPassiveScanController;
 import org.zaproxy.addon.client.pscan.ClientPassiveScanHelper;
@@ -150,6 +151,7 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
     private ClientHistoryPanel clientHistoryPanel;
     private ClientSpiderPanel clientSpiderPanel;
     private ClientHistoryTableModel clientHistoryTableModel;
+    private final ClientHistoryWriter clientHistoryWriter = new ClientHistoryWriter();
     private RedirectScript redirectScript;
     private ClientZestRecorder clientHandler;
     private SpiderScanController spiderScanController;
@@ -441,6 +443,16 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
         }
     }
 
+    /**
+     * Gets the writer of the client history.
+     *
+     * @return the writer, never {@code null}.
+     * @since 0.32.0
+     */
+    public ClientHistoryWriter getClientHistoryWriter() {
+        return clientHistoryWriter;
+    }
+
     public ClientOptions getClientParam() {
         if (clientParam == null) {
             clientParam = new ClientOptions();
@@ -513,6 +525,9 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
         if (eventConsumer != null) {
             ZAP.getEventBus().unregisterConsumer(eventConsumer);
         }
+        spiderScanController.stopAllScans();
+        closePooledBrowsers();
+        clientHistoryWriter.shutdown();
         Control.getSingleton()
                 .getExtensionLoader()
                 .getExtension(ExtensionPassiveScan2.class)
@@ -535,11 +550,27 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
     @Override
     public void destroy() {
         this.spiderScanController.stopAllScans();
+        closePooledBrowsers();
+        clientHistoryWriter.shutdown();
         if (tableJdo != null) {
             tableJdo.unload();
         }
     }
 
+    /**
+     * Closes the browsers of the spider in the browser pool, they use proxies of this add-on. The
+     * ones still in use are closed once the scans return them.
+     */
+    private static void closePooledBrowsers() {
+        ExtensionSelenium extSelenium =
+                Control.getSingleton().getExtensionLoader().getExtension(ExtensionSelenium.class);
+        if (extSelenium != null) {
+            extSelenium
+                    .getBrowserPool()
+                    .closeBrowsers(key -> key.startsWith(ClientSpider.BROWSER_POOL_KEY_PREFIX));
+        }
+    }
+
     @Override
     public boolean supportsDb(String type) {
         return true;
@@ -589,7 +620,8 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
 
     private ClientHistoryPanel getClientHistoryPanel() {
         if (clientHistoryPanel == null) {
-            clientHistoryPanel = new ClientHistoryPanel(clientHistoryTableModel);
+            clientHistoryPanel =
+                    new ClientHistoryPanel(clientHistoryTableModel, clientHistoryWriter);
         }
         return clientHistoryPanel;
     }
@@ -616,7 +648,7 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
         }
 
         this.clientHistoryTableModel.addReportedObject(obj);
-        ClientHistoryDao.persist(obj);
+        clientHistoryWriter.add(obj);
         incPscanCount();
         this.passiveScanController
                 .getEnabledScanRules()
@@ -862,7 +894,13 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
         @Override
         public void sessionAboutToChange(Session session) {
             spiderScanController.stopAllScans();
+            closePooledBrowsers();
             spiderScanController.reset();
+            try {
+                clientHistoryWriter.flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
 
             if (api != null) {
                 api.clear();
@@ -19,13 +19,17 @@
  */
 package org.zaproxy.addon.client.internal;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import javax.swing.tree.DefaultTreeModel;
 import javax.swing.tree.TreeNode;
@@ -63,6 +67,17 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
     private final Graph<ClientGraphVertex, DefaultEdge> graph =
             new DirectedMultigraph<>(DefaultEdge.class);
 
+    /** The nodes already found, to look them up without locking the whole map. */
+    private final Map<NodeKey, ClientNode> nodeIndex = new ConcurrentHashMap<>();
+
+    /** The component vertices in the graph, to skip the graph lock for known components. */
+    private final Set<ClientGraphVertex> componentVertices = ConcurrentHashMap.newKeySet();
+
+    private final Set<ClientNode> pendingChangedNodes = ConcurrentHashMap.newKeySet();
+    private final Set<ClientNode> pendingStructureChanges = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+    private final EventRateMeter eventRateMeter = new EventRateMeter();
+
     public ClientMap(ClientNode root) {
         super(root);
         this.root = root;
@@ -96,12 +111,12 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
         return this.getNode(url, visited, storage, false, false, 0);
     }
 
-    private synchronized ClientNode getNode(
+    private ClientNode getNode(
             String url, boolean visited, boolean storage, boolean add, boolean publishEvent) {
         return getNode(url, visited, storage, add, publishEvent, 0);
     }
 
-    private synchronized ClientNode getNode(
+    private ClientNode getNode(
             String url,
             boolean visited,
             boolean storage,
@@ -111,6 +126,29 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
         if (url == null) {
             throw new IllegalArgumentException("The url parameter should not be null");
         }
+        NodeKey key = new NodeKey(url, storage);
+        ClientNode node = nodeIndex.get(key);
+        if (node != null) {
+            if (node.getRoot() == root) {
+                return node;
+            }
+            nodeIndex.remove(key, node);
+        }
+
+        node = findOrAddNode(url, visited, storage, add, publishEvent, source);
+        if (node != null) {
+            nodeIndex.put(key, node);
+        }
+        return node;
+    }
+
+    private synchronized ClientNode findOrAddNode(
+            String url,
+            boolean visited,
+            boolean storage,
+            boolean add,
+            boolean publishEvent,
+            int source) {
         List<String> nodeNames =
                 ClientUtils.urlToNodes(url, root.getSession().getUrlParamParser(url));
 
@@ -176,7 +214,7 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
                                     new ClientSideDetails(nodeName, nodeUrl, false, false), false);
                 }
                 this.insertNodeInto(child, parent);
-                this.nodeStructureChanged(parent);
+                notifyNodeStructureChanged(parent);
             }
             parent = child;
         }
@@ -193,10 +231,23 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
 
     public void clear() {
         root.removeAllChildren();
+        nodeIndex.clear();
         this.nodeStructureChanged(root);
         synchronized (graph) {
+            componentVertices.clear();
             graph.removeAllVertices(new HashSet<>(graph.vertexSet()));
         }
+        eventRateMeter.reset();
+    }
+
+    /**
+     * Gets the meter of the objects and events reported by the browsers.
+     *
+     * @return the meter, never {@code null}.
+     * @since 0.32.0
+     */
+    public EventRateMeter getEventRateMeter() {
+        return eventRateMeter;
     }
 
     @Override
@@ -208,7 +259,51 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
         if (!View.isInitialised()) {
             return;
         }
-        ThreadUtils.invokeAndWaitHandled(() -> nodeChanged(node));
+        pendingChangedNodes.add(node);
+        scheduleViewUpdate();
+    }
+
+    private void notifyNodeStructureChanged(ClientNode node) {
+        if (!View.isInitialised()) {
+            nodeStructureChanged(node);
+            return;
+        }
+        pendingStructureChanges.add(node);
+        scheduleViewUpdate();
+    }
+
+    /**
+     * Schedules the update of the view, if not already, so that the changes done while the update
+     * is pending are notified together.
+     */
+    private void scheduleViewUpdate() {
+        if (updateScheduled.compareAndSet(false, true)) {
+            ThreadUtils.invokeLater(this::updateView);
+        }
+    }
+
+    private void updateView() {
+        updateScheduled.set(false);
+        for (ClientNode node : drain(pendingStructureChanges)) {
+            if (node.getRoot() == root) {
+                nodeStructureChanged(node);
+            }
+        }
+        for (ClientNode node : drain(pendingChangedNodes)) {
+            if (node.getRoot() == root) {
+                nodeChanged(node);
+            }
+        }
+    }
+
+    private static List<ClientNode> drain(Set<ClientNode> nodes) {
+        List<ClientNode> drained = new ArrayList<>(nodes.size());
+        for (ClientNode node : nodes) {
+            if (nodes.remove(node)) {
+                drained.add(node);
+            }
+        }
+        return drained;
     }
 
     public void addComponent(String url, ClientSideComponent component) {
@@ -318,6 +413,7 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
 
     public void handleReportObject(String jsonStr, int source) {
         LOGGER.debug("Got object: {}", jsonStr);
+        eventRateMeter.record();
         JSONObject json = JSONObject.fromObject(jsonStr);
         ReportedElement rnode = new ReportedElement(json);
         notifyReportedObjectConsumer(rnode);
@@ -377,6 +473,9 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
     public void addNavigationEdge(
             String urlBefore, ClientSideComponent component, String urlAfter) {
         ClientGraphVertex componentVertex = new ClientGraphVertex.Component(component);
+        if (componentVertices.contains(componentVertex)) {
+            return;
+        }
         synchronized (graph) {
             if (graph.containsVertex(componentVertex)) {
                 return;
@@ -389,11 +488,15 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
         ClientGraphVertex source = new ClientGraphVertex.Url(sourceUrl);
         ClientGraphVertex target = new ClientGraphVertex.Url(targetUrl);
         ClientGraphVertex componentVertex = new ClientGraphVertex.Component(component);
+        if (componentVertices.contains(componentVertex)) {
+            return;
+        }
         synchronized (graph) {
             if (graph.containsVertex(componentVertex)) {
                 return;
             }
 
+            componentVertices.add(componentVertex);
             graph.addVertex(source);
             graph.addVertex(target);
             graph.addVertex(componentVertex);
@@ -408,6 +511,7 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
 
     public void handleReportEvent(String jsonStr, int source) {
         LOGGER.debug("Got event: {}", jsonStr);
+        eventRateMeter.record();
         JSONObject json = JSONObject.fromObject(jsonStr);
         ReportedEvent event = new ReportedEvent(json);
         notifyReportedObjectConsumer(event);
@@ -433,6 +537,8 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
     private static boolean isApiUrl(String url) {
         return url != null && (url.startsWith(API.API_URL) || url.startsWith(API.API_URL_S));
     }
+
+    private record NodeKey(String url, boolean storage) {}
 }
 
 /**
@@ -0,0 +1,94 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.client.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts events and the rate at which they are received, over a sliding window of seconds.
+ *
+ * @since 0.32.0
+ */
+public class EventRateMeter {
+
+    static final int WINDOW_SECONDS = 10;
+
+    private final LongSupplier clock;
+    private final LongAdder total = new LongAdder();
+    private final AtomicLongArray seconds = new AtomicLongArray(WINDOW_SECONDS);
+    private final AtomicLongArray counts = new AtomicLongArray(WINDOW_SECONDS);
+
+    public EventRateMeter() {
+        this(System::currentTimeMillis);
+    }
+
+    EventRateMeter(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /** Records that an event was received. */
+    public void record() {
+        total.increment();
+        long second = clock.getAsLong() / 1000;
+        int slot = (int) (second % WINDOW_SECONDS);
+        long slotSecond = seconds.get(slot);
+        if (slotSecond != second && seconds.compareAndSet(slot, slotSecond, second)) {
+            counts.set(slot, 0);
+        }
+        counts.incrementAndGet(slot);
+    }
+
+    /**
+     * Gets the total number of events received.
+     *
+     * @return the number of events.
+     */
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * Gets the average number of events received per second, in the last seconds.
+     *
+     * @return the number of events per second.
+     */
+    public double getRate() {
+        long now = clock.getAsLong() / 1000;
+        long sum = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            long second = seconds.get(i);
+            if (second <= now && now - second < WINDOW_SECONDS) {
+                sum += counts.get(i);
+            }
+        }
+        return (double) sum / WINDOW_SECONDS;
+    }
+
+    /** Resets the counts. */
+    public void reset() {
+        total.reset();
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            seconds.set(i, 0);
+            counts.set(i, 0);
+        }
+    }
+}
@@ -62,6 +62,37 @@ public class ClientHistoryDao {
         }
     }
 
+    /**
+     * Persists the given objects, in a single transaction.
+     *
+     * @param objs the objects to persist.
+     * @throws javax.jdo.JDOException if an error occurred while persisting the objects, none is
+     *     persisted.
+     * @since 0.32.0
+     */
+    public static void persistAll(List<ReportedObject> objs) {
+        PersistenceManagerFactory pmf = TableJdo.getPmf();
+        if (pmf == null || objs.isEmpty()) {
+            return;
+        }
+        List<ClientHistoryEntry> entries = new ArrayList<>(objs.size());
+        for (ReportedObject obj : objs) {
+            entries.add(toEntry(obj));
+        }
+        PersistenceManager pm = pmf.getPersistenceManager();
+        Transaction tx = pm.currentTransaction();
+        try {
+            tx.begin();
+            pm.makePersistentAll(entries);
+            tx.commit();
+        } finally {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            pm.close();
+        }
+    }
+
     public static List<ReportedObject> loadAll() {
         PersistenceManagerFactory pmf = TableJdo.getPmf();
         if (pmf == null) {
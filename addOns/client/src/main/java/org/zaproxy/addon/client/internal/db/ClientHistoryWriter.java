@@ -0,0 +1,230 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.client.internal.db;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.addon.client.internal.ReportedEvent;
+import org.zaproxy.addon.client.internal.ReportedObject;
+
+/**
+ * Persists the client history in the background, in batches.
+ *
+ * <p>The objects are queued as they are reported and written by a single thread, with as many
+ * objects as are queued (up to a maximum) written in the same transaction. The thread is stopped
+ * once it has written the objects queued before the shutdown.
+ *
+ * @since 0.32.0
+ */
+public class ClientHistoryWriter {
+
+    static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+    private static final Logger LOGGER = LogManager.getLogger(ClientHistoryWriter.class);
+
+    /** Queued on shutdown, the thread stops once it takes it from its queue. */
+    private static final ReportedObject POISON_PILL =
+            new ReportedEvent(new Date(0), "", null, null, null, null, null, null, null, 0);
+
+    private final Consumer<List<ReportedObject>> persister;
+    private final int maxBatchSize;
+    private final Object lock = new Object();
+
+    private BlockingQueue<ReportedObject> queue = new LinkedBlockingQueue<>();
+    private long queued;
+    private long processed;
+    private long persisted;
+    private long failed;
+    private Thread thread;
+
+    public ClientHistoryWriter() {
+        this(ClientHistoryDao::persistAll, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    ClientHistoryWriter(Consumer<List<ReportedObject>> persister, int maxBatchSize) {
+        this.persister = persister;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Queues the given object to be persisted.
+     *
+     * @param obj the object to persist.
+     */
+    public void add(ReportedObject obj) {
+        synchronized (lock) {
+            if (thread == null) {
+                BlockingQueue<ReportedObject> threadQueue = queue;
+                thread = new Thread(() -> run(threadQueue), "ZAP-ClientHistoryWriter");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            queued++;
+            queue.add(obj);
+        }
+    }
+
+    /**
+     * Waits until all the objects queued so far are persisted, or the background thread stops.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void flush() throws InterruptedException {
+        synchronized (lock) {
+            long target = queued;
+            while (processed < target && thread != null) {
+                lock.wait();
+            }
+        }
+    }
+
+    /**
+     * Discards the objects not yet persisted and deletes the persisted ones.
+     *
+     * @throws InterruptedException if interrupted while waiting for a write in progress.
+     */
+    public void deleteAll() throws InterruptedException {
+        synchronized (lock) {
+            List<ReportedObject> discarded = new ArrayList<>();
+            queue.drainTo(discarded);
+            processed += discarded.size();
+        }
+        flush();
+        ClientHistoryDao.deleteAll();
+    }
+
+    /**
+     * Persists the objects queued and stops the background thread, waiting for it to finish.
+     *
+     * <p>Objects added afterwards restart the thread.
+     */
+    public void shutdown() {
+        Thread stoppingThread;
+        synchronized (lock) {
+            stoppingThread = thread;
+            if (stoppingThread == null) {
+                return;
+            }
+            queue.add(POISON_PILL);
+            queue = new LinkedBlockingQueue<>();
+            thread = null;
+            lock.notifyAll();
+        }
+        try {
+            stoppingThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the number of objects waiting to be persisted.
+     *
+     * @return the number of objects.
+     */
+    public int getQueueDepth() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Gets the number of objects persisted.
+     *
+     * @return the number of objects.
+     */
+    public long getPersistedCount() {
+        synchronized (lock) {
+            return persisted;
+        }
+    }
+
+    /**
+     * Gets the number of objects that failed to be persisted.
+     *
+     * @return the number of objects.
+     */
+    public long getFailedCount() {
+        synchronized (lock) {
+            return failed;
+        }
+    }
+
+    private void run(BlockingQueue<ReportedObject> threadQueue) {
+        List<ReportedObject> batch = new ArrayList<>(maxBatchSize);
+        boolean stop = false;
+        try {
+            while (!stop) {
+                try {
+                    batch.add(threadQueue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                threadQueue.drainTo(batch, maxBatchSize - 1);
+                // The pill is the last object of the queue, nothing is added after it.
+                stop = batch.get(batch.size() - 1) == POISON_PILL;
+                if (stop) {
+                    batch.remove(batch.size() - 1);
+                }
+                if (batch.isEmpty()) {
+                    continue;
+                }
+
+                boolean written = false;
+                try {
+                    persister.accept(batch);
+                    written = true;
+                } catch (Exception e) {
+                    LOGGER.warn("Failed to persist client history entries:", e);
+                }
+
+                synchronized (lock) {
+                    processed += batch.size();
+                    if (written) {
+                        persisted += batch.size();
+                    } else {
+                        failed += batch.size();
+                    }
+                    lock.notifyAll();
+                }
+                batch.clear();
+            }
+        } finally {
+            synchronized (lock) {
+                if (thread == Thread.currentThread()) {
+                    // Stopped unexpectedly, the objects still queued are written by the next
+                    // thread started.
+                    LOGGER.warn("The client history writer stopped unexpectedly.");
+                    thread = null;
+                }
+                processed += batch.size();
+                failed += batch.size();
+                lock.notifyAll();
+            }
+        }
+    }
+}
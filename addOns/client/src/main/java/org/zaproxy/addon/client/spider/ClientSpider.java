@@ -44,6 +44,7 @@ import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import javax.swing.table.TableModel;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.commons.httpclient.URI;
 import org.apache.commons.httpclient.URIException;
@@ -85,6 +86,7 @@ import org.zaproxy.addon.network.server.HttpMessageHandler;
 import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
 import org.zaproxy.addon.network.server.HttpServerConfig;
 import org.zaproxy.addon.network.server.Server;
+import org.zaproxy.zap.extension.selenium.BrowserPool;
 import org.zaproxy.zap.extension.selenium.DriverConfiguration;
 import org.zaproxy.zap.extension.selenium.DriverConfiguration.DriverConfigurationBuilder;
 import org.zaproxy.zap.extension.selenium.ExtensionSelenium;
@@ -119,6 +121,10 @@ public class ClientSpider implements GenericScanner2 {
     }
 
     private static final int SHUTDOWN_SLEEP_INTERVAL = 200;
+    private static final String LOCAL_PROXY_IP = "127.0.0.1";
+
+    /** The prefix of the keys of the browsers the spider leases from the browser pool. */
+    public static final String BROWSER_POOL_KEY_PREFIX = "client-spider:";
 
     private ExecutorService threadPool;
 
@@ -295,6 +301,17 @@ public class ClientSpider implements GenericScanner2 {
                         new ClientSpiderThreadFactory(
                                 scanOptions.getThreadPrefix() + scanId + "-thread-"));
 
+        if (scanOptions.getHttpSender() == null) {
+            // Start the browsers while the first URL is being accessed.
+            int initiator = scanOptions.getInitiator();
+            extSelenium
+                    .getBrowserPool()
+                    .warmUp(
+                            createBrowserPoolKey(initiator),
+                            () -> createBrowser(initiator, new HttpSender(initiator)),
+                            options.getThreadCount());
+        }
+
         if (scanOptions.isExistingOnly()) {
             addExistingTasks(clientMap.getRoot());
             if (spiderTasks.isEmpty()) {
@@ -402,7 +419,9 @@ public class ClientSpider implements GenericScanner2 {
             } else {
                 try {
                     wdp = new WebDriverProcess();
-                } catch (IOException e) {
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
                     throw new RuntimeException("Failed to create WebDriver process:", e);
                 }
             }
@@ -1074,62 +1093,119 @@ public class ClientSpider implements GenericScanner2 {
         messagesTableModel.unload();
     }
 
+    private String createBrowserPoolKey(int initiator) {
+        return BROWSER_POOL_KEY_PREFIX
+                + options.getBrowserId()
+                + ":"
+                + initiator
+                + ":"
+                + options.getPageLoadTimeInSecs()
+                + ":"
+                + scanOptions.getIncludeExtensions()
+                + ":"
+                + scanOptions.getExcludeExtensions();
+    }
+
+    private BrowserPool.PooledBrowser createBrowser(int initiator, HttpSender httpSender)
+            throws IOException {
+        PooledProxyHandler handler = new PooledProxyHandler();
+        Server proxy =
+                extensionNetwork.createHttpServer(
+                        HttpServerConfig.builder()
+                                .setHttpMessageHandler(handler)
+                                .setHttpSender(httpSender)
+                                .setServeZapApi(true)
+                                .build());
+        int port = proxy.start(Server.ANY_PORT);
+        PooledProxy pp = new PooledProxy(proxy, port, handler);
+        extClient.registerPortInitiator(port, initiator);
+
+        DriverConfigurationBuilder driverConfBuilder =
+                DriverConfiguration.builder()
+                        .requester(initiator)
+                        .proxyAddress(LOCAL_PROXY_IP)
+                        .proxyPort(port)
+                        .enableExtensions(true);
+        if (!scanOptions.getIncludeExtensions().isEmpty()) {
+            driverConfBuilder.includeExtensions(scanOptions.getIncludeExtensions());
+        }
+        if (!scanOptions.getExcludeExtensions().isEmpty()) {
+            driverConfBuilder.excludeExtensions(scanOptions.getExcludeExtensions());
+        }
+
+        WebDriver wd;
+        try {
+            wd = extSelenium.getWebDriver(options.getBrowserId(), driverConfBuilder.build());
+        } catch (Exception e) {
+            closeProxy(pp);
+            throw e;
+        }
+        return new BrowserPool.PooledBrowser(wd, pp, () -> closeBrowser(wd, pp))
+                .setRequireCleanSession(true);
+    }
+
+    private void closeBrowser(WebDriver wd, PooledProxy pp) {
+        try {
+            extClient.browserClosing(wd);
+            wd.quit();
+        } catch (Exception e) {
+            LOGGER.warn("An error occurred while quitting the browser.", e);
+        }
+        closeProxy(pp);
+    }
+
+    private void closeProxy(PooledProxy pp) {
+        extClient.unregisterPortInitiator(pp.port());
+        try {
+            pp.server().close();
+        } catch (IOException e) {
+            LOGGER.debug("An error occurred while stopping the proxy.", e);
+        }
+    }
+
     @Getter
     public class WebDriverProcess {
 
-        private static final String LOCAL_PROXY_IP = "127.0.0.1";
+        @Getter(AccessLevel.NONE)
+        private final BrowserPool.Lease lease;
 
-        private Server proxy;
-        private WebDriver webDriver;
+        @Getter(AccessLevel.NONE)
+        private final PooledProxy pooledProxy;
+
+        private final WebDriver webDriver;
         private final int proxyPort;
         private final ActionWaitStrategy waitStrategy;
         private final ProxyHandler proxyHandler;
 
-        private WebDriverProcess() throws IOException {
+        private WebDriverProcess() throws Exception {
             this.waitStrategy = createWaitStrategy();
             this.proxyHandler = new ProxyHandler(waitStrategy);
             int initiator = scanOptions.getInitiator();
             HttpSender httpSender = scanOptions.getHttpSender();
             if (httpSender == null) {
-                httpSender = new HttpSender(initiator);
+                // Same proxy and browser configuration for all scans, the browser can be reused.
+                lease =
+                        extSelenium
+                                .getBrowserPool()
+                                .lease(
+                                        createBrowserPoolKey(initiator),
+                                        () -> createBrowser(initiator, new HttpSender(initiator)));
+                pooledProxy = (PooledProxy) lease.getAttachment();
+                webDriver = lease.getWebDriver();
+            } else {
+                lease = null;
+                BrowserPool.PooledBrowser browser = createBrowser(initiator, httpSender);
+                pooledProxy = (PooledProxy) browser.getAttachment();
+                webDriver = browser.getWebDriver();
             }
-            proxy =
-                    extensionNetwork.createHttpServer(
-                            HttpServerConfig.builder()
-                                    .setHttpMessageHandler(proxyHandler)
-                                    .setHttpSender(httpSender)
-                                    .setServeZapApi(true)
-                                    .build());
-            proxyPort = proxy.start(Server.ANY_PORT);
+            proxyPort = pooledProxy.port();
             proxyPorts.add(proxyPort);
-            extClient.registerPortInitiator(proxyPort, initiator);
-
-            clientMap.addListener(waitStrategy);
-
-            DriverConfigurationBuilder driverConfBuilder =
-                    DriverConfiguration.builder()
-                            .requester(initiator)
-                            .proxyAddress(LOCAL_PROXY_IP)
-                            .proxyPort(proxyPort)
-                            .enableExtensions(true);
-            if (!scanOptions.getIncludeExtensions().isEmpty()) {
-                driverConfBuilder.includeExtensions(scanOptions.getIncludeExtensions());
-            }
-            if (!scanOptions.getExcludeExtensions().isEmpty()) {
-                driverConfBuilder.excludeExtensions(scanOptions.getExcludeExtensions());
-            }
 
-            try {
-                webDriver =
-                        extSelenium.getWebDriver(options.getBrowserId(), driverConfBuilder.build());
-                if (ScopeCheck.STRICT.equals(options.getScopeCheck())
-                        || mode == Control.Mode.protect) {
-                    proxyHandler.setAllowAll(false);
-                }
-            } catch (Exception e) {
-                closeProxy();
-                throw e;
+            if (ScopeCheck.STRICT.equals(options.getScopeCheck()) || mode == Control.Mode.protect) {
+                proxyHandler.setAllowAll(false);
             }
+            pooledProxy.handler().setDelegate(proxyHandler);
+            clientMap.addListener(waitStrategy);
 
             waitStrategy.configure(this);
         }
@@ -1145,30 +1221,34 @@ public class ClientSpider implements GenericScanner2 {
                     Duration.ofSeconds(options.getActionWaitTimeInSecs()));
         }
 
-        private void closeProxy() {
-            if (proxy != null) {
-                extClient.unregisterPortInitiator(proxyPort);
-                clientMap.removeListener(waitStrategy);
-                try {
-                    proxy.close();
-                } catch (IOException e) {
-                    LOGGER.debug("An error occurred while stopping the proxy.", e);
-                }
-                proxy = null;
+        private void shutdown() {
+            clientMap.removeListener(waitStrategy);
+            pooledProxy.handler().setDelegate(null);
+            if (lease != null) {
+                lease.close();
+            } else {
+                closeBrowser(webDriver, pooledProxy);
             }
         }
+    }
 
-        private void shutdown() {
-            if (webDriver != null) {
-                try {
-                    extClient.browserClosing(webDriver);
-                    webDriver.quit();
-                } catch (Exception e) {
-                    LOGGER.warn("An error occurred while quitting the browser.", e);
-                }
-            }
+    /** The proxy of a (pooled) browser, with the handler of the scan currently using it. */
+    private record PooledProxy(Server server, int port, PooledProxyHandler handler) {}
+
+    private static class PooledProxyHandler implements HttpMessageHandler {
+
+        private volatile HttpMessageHandler delegate;
 
-            closeProxy();
+        void setDelegate(HttpMessageHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void handleMessage(HttpMessageHandlerContext ctx, HttpMessage httpMessage) {
+            HttpMessageHandler handler = delegate;
+            if (handler != null) {
+                handler.handleMessage(ctx, httpMessage);
+            }
         }
     }
 
@@ -37,7 +37,7 @@ import org.parosproxy.paros.view.View;
 import org.zaproxy.addon.client.ClientHistoryTableModel;
 import org.zaproxy.addon.client.ExtensionClientIntegration;
 import org.zaproxy.addon.client.internal.ReportedObject;
-import org.zaproxy.addon.client.internal.db.ClientHistoryDao;
+import org.zaproxy.addon.client.internal.db.ClientHistoryWriter;
 import org.zaproxy.zap.utils.DisplayUtils;
 import org.zaproxy.zap.utils.FontUtils;
 import org.zaproxy.zap.view.ZapTable;
@@ -49,12 +49,16 @@ public class ClientHistoryPanel extends AbstractPanel {
     public static final String CLIENT_HISTORY_NAME = "tableClientHistory";
 
     private ClientHistoryTableModel clientHistoryTableModel;
+    private ClientHistoryWriter clientHistoryWriter;
     private ZapTable historyTable;
 
-    public ClientHistoryPanel(ClientHistoryTableModel clientHistoryTableModel) {
+    public ClientHistoryPanel(
+            ClientHistoryTableModel clientHistoryTableModel,
+            ClientHistoryWriter clientHistoryWriter) {
         setName(Constant.messages.getString(ExtensionClientIntegration.PREFIX + ".history.title"));
         setIcon(ExtensionClientIntegration.getIcon("calendar-browser.png"));
         this.clientHistoryTableModel = clientHistoryTableModel;
+        this.clientHistoryWriter = clientHistoryWriter;
 
         setLayout(new BorderLayout(0, 0));
 
@@ -81,7 +85,17 @@ public class ClientHistoryPanel extends AbstractPanel {
         clearButton.addActionListener(
                 e -> {
                     clientHistoryTableModel.clear();
-                    ClientHistoryDao.deleteAll();
+                    // Might wait for a write in progress, do not block the EDT.
+                    new Thread(
+                                    () -> {
+                                        try {
+                                            clientHistoryWriter.deleteAll();
+                                        } catch (InterruptedException e1) {
+                                            Thread.currentThread().interrupt();
+                                        }
+                                    },
+                                    "ZAP-ClientHistoryClear")
+                            .start();
                 });
         toolBar.add(clearButton);
 
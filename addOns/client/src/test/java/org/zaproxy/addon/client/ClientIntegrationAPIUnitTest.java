@@ -42,6 +42,9 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpRequestHeader;
 import org.parosproxy.paros.network.HttpSender;
 import org.zaproxy.addon.client.internal.ClientMap;
+import org.zaproxy.addon.client.internal.EventRateMeter;
+import org.zaproxy.addon.client.internal.db.ClientHistoryWriter;
+import org.zaproxy.zap.extension.api.ApiResponse;
 import org.zaproxy.zap.extension.selenium.SeleniumScriptUtils;
 import org.zaproxy.zap.testutils.TestUtils;
 
@@ -286,6 +289,29 @@ class ClientIntegrationAPIUnitTest extends TestUtils {
         verify(clientMap).handleReportEvent(reportedEvent);
     }
 
+    @Test
+    void shouldReturnStats() throws Exception {
+        // Given
+        EventRateMeter eventRateMeter = new EventRateMeter();
+        eventRateMeter.record();
+        eventRateMeter.record();
+        given(clientMap.getEventRateMeter()).willReturn(eventRateMeter);
+        ClientHistoryWriter historyWriter = mock(ClientHistoryWriter.class);
+        given(historyWriter.getQueueDepth()).willReturn(3);
+        given(historyWriter.getPersistedCount()).willReturn(7L);
+        given(extension.getClientHistoryWriter()).willReturn(historyWriter);
+
+        // When
+        ApiResponse response = api.handleApiView("stats", new JSONObject());
+
+        // Then
+        assertThat(response.getName(), is("stats"));
+        JSONObject json = response.toJSON();
+        assertThat(json.getLong("eventsReceived"), is(2L));
+        assertThat(json.getInt("historyQueueDepth"), is(3));
+        assertThat(json.getLong("historyPersisted"), is(7L));
+    }
+
     @Test
     void shouldPassInitiatorToClientCallBackWhenPortRegistered() throws Exception {
         // Given
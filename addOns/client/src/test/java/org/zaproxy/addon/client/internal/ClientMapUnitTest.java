@@ -22,8 +22,10 @@ package org.zaproxy.addon.client.internal;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -38,6 +40,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -294,6 +297,33 @@ class ClientMapUnitTest extends TestUtils {
         assertThat(node1, is(node2));
     }
 
+    @Test
+    void shouldNotGetDeletedNode() {
+        // Given
+        ClientNode node = map.getOrAddNode(BBB_DDD_URL + "/", false, false);
+        map.getNode(BBB_DDD_URL + "/", false, false);
+
+        // When
+        map.deleteNodes(List.of(node));
+
+        // Then
+        assertThat(map.getNode(BBB_DDD_URL + "/", false, false), is(nullValue()));
+    }
+
+    @Test
+    void shouldAddNodeAgainAfterClear() {
+        // Given
+        ClientNode node1 = map.getOrAddNode(BBB_DDD_URL + "/", false, false);
+        map.clear();
+
+        // When
+        ClientNode node2 = map.getOrAddNode(BBB_DDD_URL + "/", false, false);
+
+        // Then
+        assertThat(node2, is(not(sameInstance(node1))));
+        assertThat(node2.getRoot(), is(sameInstance(root)));
+    }
+
     @Test
     void shouldNotGetMissingNode() {
         // Given
@@ -886,6 +916,46 @@ class ClientMapUnitTest extends TestUtils {
         assertThat(componentVertices, is(1L));
     }
 
+    @Test
+    void shouldAddGraphEdgeOnceForSameLinkComponent() {
+        // Given
+        String json =
+                """
+                {
+                  "tagName": "A",
+                  "id": "link1",
+                  "type": "link",
+                  "url": "https://www.example.com/page",
+                  "href": "https://www.example.com/linked",
+                  "nodeName": "A",
+                  "text": "Click here",
+                  "timestamp": 0
+                }""";
+        map.handleReportObject(json);
+
+        // When
+        map.handleReportObject(json);
+
+        // Then
+        assertThat(map.getGraph().vertexSet().size(), is(3));
+        assertThat(map.getGraph().edgeSet().size(), is(2));
+    }
+
+    @Test
+    void shouldCountReportedObjectsAndEvents() {
+        // Given
+        String url = "https://www.example.com/page";
+        String objectJson = REPORTED_OBJECT_JSON.formatted(url, null);
+        String eventJson = REPORTED_EVENT_JSON.formatted(url);
+
+        // When
+        map.handleReportObject(objectJson);
+        map.handleReportEvent(eventJson);
+
+        // Then
+        assertThat(map.getEventRateMeter().getCount(), is(2L));
+    }
+
     @Test
     void shouldNotAddGraphEdgeForNonLinkComponent() {
         // Given
@@ -0,0 +1,100 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.client.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link EventRateMeter}. */
+class EventRateMeterUnitTest {
+
+    private AtomicLong time;
+    private EventRateMeter meter;
+
+    @BeforeEach
+    void setUp() {
+        time = new AtomicLong(1_000_000);
+        meter = new EventRateMeter(time::get);
+    }
+
+    @Test
+    void shouldCountEvents() {
+        // Given / When
+        meter.record();
+        meter.record();
+        meter.record();
+
+        // Then
+        assertThat(meter.getCount(), is(3L));
+    }
+
+    @Test
+    void shouldComputeRateOverWindow() {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            meter.record();
+        }
+        time.addAndGet(1000);
+        for (int i = 0; i < 10; i++) {
+            meter.record();
+        }
+
+        // When
+        double rate = meter.getRate();
+
+        // Then
+        assertThat(rate, is(closeTo(30.0 / EventRateMeter.WINDOW_SECONDS, 0.001)));
+    }
+
+    @Test
+    void shouldNotIncludeEventsOutsideWindowInRate() {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            meter.record();
+        }
+        time.addAndGet(EventRateMeter.WINDOW_SECONDS * 1000L);
+        meter.record();
+
+        // When
+        double rate = meter.getRate();
+
+        // Then
+        assertThat(rate, is(closeTo(1.0 / EventRateMeter.WINDOW_SECONDS, 0.001)));
+        assertThat(meter.getCount(), is(21L));
+    }
+
+    @Test
+    void shouldReset() {
+        // Given
+        meter.record();
+
+        // When
+        meter.reset();
+
+        // Then
+        assertThat(meter.getCount(), is(0L));
+        assertThat(meter.getRate(), is(closeTo(0, 0.001)));
+    }
+}
@@ -25,11 +25,20 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import javax.jdo.JDOException;
+import javax.jdo.PersistenceManager;
+import javax.jdo.PersistenceManagerFactory;
+import javax.jdo.Transaction;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.zaproxy.addon.client.internal.ReportedElement;
@@ -241,6 +250,39 @@ class ClientHistoryDaoUnitTest {
         }
     }
 
+    @Test
+    void shouldRollbackAndThrowIfPersistingAllFails() {
+        // Given
+        PersistenceManagerFactory pmf = mock(PersistenceManagerFactory.class);
+        PersistenceManager pm = mock(PersistenceManager.class);
+        Transaction tx = mock(Transaction.class);
+        given(pmf.getPersistenceManager()).willReturn(pm);
+        given(pm.currentTransaction()).willReturn(tx);
+        given(tx.isActive()).willReturn(true);
+        given(pm.makePersistentAll(anyList())).willThrow(new JDOException());
+        try (MockedStatic<TableJdo> tableJdo = mockStatic(TableJdo.class)) {
+            tableJdo.when(TableJdo::getPmf).thenReturn(pmf);
+            List<ReportedObject> objects =
+                    List.of(
+                            new ReportedEvent(
+                                    TIMESTAMP,
+                                    TYPE,
+                                    TAG_NAME,
+                                    ELEMENT_ID,
+                                    NODE_NAME,
+                                    URL,
+                                    XPATH,
+                                    HREF,
+                                    TEXT,
+                                    1));
+
+            // When / Then
+            assertThrows(JDOException.class, () -> ClientHistoryDao.persistAll(objects));
+            verify(tx).rollback();
+            verify(pm).close();
+        }
+    }
+
     @Test
     void shouldReturnEmptyListWhenLoadingWithNullPmf() {
         // Given
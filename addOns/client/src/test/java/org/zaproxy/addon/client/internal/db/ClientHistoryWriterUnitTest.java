@@ -0,0 +1,215 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.client.internal.db;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.zaproxy.addon.client.internal.ReportedObject;
+
+/** Unit test for {@link ClientHistoryWriter}. */
+class ClientHistoryWriterUnitTest {
+
+    private final List<List<ReportedObject>> batches =
+            Collections.synchronizedList(new ArrayList<>());
+    private ClientHistoryWriter writer;
+
+    @AfterEach
+    void cleanUp() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    void shouldPersistAllObjectsInOrderOnFlush() throws Exception {
+        // Given
+        writer = new ClientHistoryWriter(batch -> batches.add(new ArrayList<>(batch)), 10);
+        List<ReportedObject> objects = createObjects(25);
+
+        // When
+        objects.forEach(writer::add);
+        writer.flush();
+
+        // Then
+        List<ReportedObject> persisted = new ArrayList<>();
+        batches.forEach(persisted::addAll);
+        assertThat(persisted, contains(objects.toArray()));
+        assertThat(batches.stream().map(List::size).toList(), everyItem(lessThanOrEqualTo(10)));
+        assertThat(writer.getPersistedCount(), is(25L));
+        assertThat(writer.getQueueDepth(), is(0));
+    }
+
+    @Test
+    void shouldBatchObjectsQueuedWhileWriting() throws Exception {
+        // Given
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        writer =
+                new ClientHistoryWriter(
+                        batch -> {
+                            batches.add(new ArrayList<>(batch));
+                            firstBatchStarted.countDown();
+                            await(release);
+                        },
+                        100);
+        List<ReportedObject> objects = createObjects(6);
+        writer.add(objects.get(0));
+        firstBatchStarted.await(5, TimeUnit.SECONDS);
+
+        // When
+        objects.subList(1, 6).forEach(writer::add);
+        int queueDepth = writer.getQueueDepth();
+        release.countDown();
+        writer.flush();
+
+        // Then
+        assertThat(queueDepth, is(5));
+        assertThat(batches.size(), is(2));
+        assertThat(batches.get(1).size(), is(5));
+    }
+
+    @Test
+    void shouldContinueAfterFailedBatch() throws Exception {
+        // Given
+        writer =
+                new ClientHistoryWriter(
+                        batch -> {
+                            if (batches.isEmpty()) {
+                                batches.add(List.of());
+                                throw new RuntimeException();
+                            }
+                            batches.add(new ArrayList<>(batch));
+                        },
+                        1);
+        List<ReportedObject> objects = createObjects(2);
+
+        // When
+        objects.forEach(writer::add);
+        writer.flush();
+
+        // Then
+        assertThat(batches.size(), is(2));
+        assertThat(writer.getPersistedCount(), is(1L));
+        assertThat(writer.getFailedCount(), is(1L));
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldPersistQueuedObjectsOnShutdownWithoutInterruptingWrite() throws Exception {
+        // Given
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        writer =
+                new ClientHistoryWriter(
+                        batch -> {
+                            firstBatchStarted.countDown();
+                            await(release);
+                            if (Thread.currentThread().isInterrupted()) {
+                                interrupted.set(true);
+                            }
+                            batches.add(new ArrayList<>(batch));
+                        },
+                        1);
+        createObjects(3).forEach(writer::add);
+        firstBatchStarted.await(5, TimeUnit.SECONDS);
+
+        // When
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(writer::shutdown);
+        Thread.sleep(100);
+        release.countDown();
+        shutdown.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(interrupted.get(), is(equalTo(false)));
+        assertThat(batches.size(), is(3));
+        assertThat(writer.getPersistedCount(), is(3L));
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldNotWaitOnFlushIfThreadStoppedUnexpectedly() throws Exception {
+        // Given
+        writer =
+                new ClientHistoryWriter(
+                        batch -> {
+                            if (batches.isEmpty()) {
+                                batches.add(List.of());
+                                throw new AssertionError();
+                            }
+                            batches.add(new ArrayList<>(batch));
+                        },
+                        1);
+        writer.add(mock(ReportedObject.class));
+        writer.flush();
+
+        // When
+        writer.add(mock(ReportedObject.class));
+        writer.flush();
+
+        // Then
+        assertThat(writer.getFailedCount(), is(1L));
+        assertThat(writer.getPersistedCount(), is(1L));
+    }
+
+    @Test
+    void shouldNotWaitOnFlushIfNothingAdded() throws Exception {
+        // Given
+        writer = new ClientHistoryWriter(batches::add, 10);
+
+        // When
+        writer.flush();
+
+        // Then
+        assertThat(batches.size(), is(0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<ReportedObject> createObjects(int count) {
+        List<ReportedObject> objects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            objects.add(mock(ReportedObject.class));
+        }
+        return objects;
+    }
+}
@@ -27,6 +27,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.atLeastOnce;
@@ -34,6 +35,7 @@ import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -103,6 +105,7 @@ import org.zaproxy.addon.network.server.HttpMessageHandler;
 import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
 import org.zaproxy.addon.network.server.HttpServerConfig;
 import org.zaproxy.addon.network.server.Server;
+import org.zaproxy.zap.extension.selenium.BrowserPool;
 import org.zaproxy.zap.extension.selenium.DriverConfiguration;
 import org.zaproxy.zap.extension.selenium.ExtensionSelenium;
 import org.zaproxy.zap.testutils.TestUtils;
@@ -121,6 +124,7 @@ class ClientSpiderUnitTest extends TestUtils {
     private CountDownLatch proxyCdl;
     private WebDriver wd;
     private ExtensionSelenium extSel;
+    private BrowserPool browserPool;
     private ExtensionClientIntegration extClient;
     private Session session;
     private ExtensionNetwork network;
@@ -159,6 +163,8 @@ class ClientSpiderUnitTest extends TestUtils {
                 mock(ExtensionHistory.class, withSettings().strictness(Strictness.LENIENT));
         when(extensionLoader.getExtension(ExtensionHistory.class)).thenReturn(history);
         when(extensionLoader.getExtension(ExtensionSelenium.class)).thenReturn(extSel);
+        browserPool = spy(new BrowserPool());
+        given(extSel.getBrowserPool()).willReturn(browserPool);
         network = mock(ExtensionNetwork.class, withSettings().strictness(Strictness.LENIENT));
         when(extensionLoader.getExtension(ExtensionNetwork.class)).thenReturn(network);
         serverMock = mock(Server.class, withSettings().strictness(Strictness.LENIENT));
@@ -215,6 +221,7 @@ class ClientSpiderUnitTest extends TestUtils {
 
     @AfterEach
     void tearDown() throws Exception {
+        browserPool.close();
         assertThat(logEvents, is(empty()));
 
         Configurator.reconfigure(getClass().getResource("/log4j2-test.properties").toURI());
@@ -247,6 +254,19 @@ class ClientSpiderUnitTest extends TestUtils {
         return mapListener;
     }
 
+    @Test
+    void shouldWarmUpBrowsersForAllThreadsOnStart() {
+        // Given
+        clientOptions.setThreadCount(2);
+
+        // When
+        spider.run();
+        spider.stopScan();
+
+        // Then
+        verify(browserPool).warmUp(anyString(), any(), eq(2));
+    }
+
     @Test
     void shouldRequestInScopeUrls() {
         // Given
@@ -0,0 +1,211 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Predicate;
+
+/**
+ * An Aho-Corasick automaton, to find which of several keywords are contained in a text with a
+ * single pass over the text.
+ *
+ * <p>Instances are immutable and can be used concurrently.
+ *
+ * @since 1.44.0
+ */
+public final class AhoCorasickMatcher {
+
+    private final List<String> keywords;
+    private final boolean ignoreCase;
+    private final Node root = new Node();
+
+    /**
+     * Constructs an {@code AhoCorasickMatcher} for the given keywords, matched case sensitively.
+     *
+     * @param keywords the keywords to match.
+     */
+    public AhoCorasickMatcher(Collection<String> keywords) {
+        this(keywords, false);
+    }
+
+    /**
+     * Constructs an {@code AhoCorasickMatcher} for the given keywords.
+     *
+     * @param keywords the keywords to match.
+     * @param ignoreCase {@code true} if the keywords should be matched case insensitively, {@code
+     *     false} otherwise.
+     */
+    public AhoCorasickMatcher(Collection<String> keywords, boolean ignoreCase) {
+        this.keywords = List.copyOf(keywords);
+        this.ignoreCase = ignoreCase;
+        for (int i = 0; i < this.keywords.size(); i++) {
+            String keyword = this.keywords.get(i);
+            Node node = root;
+            for (int j = 0; j < keyword.length(); j++) {
+                node = node.next.computeIfAbsent(normalise(keyword.charAt(j)), c -> new Node());
+            }
+            node.addKeyword(i);
+        }
+        buildLinks();
+    }
+
+    private char normalise(char c) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+
+    private void buildLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.next.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            for (Map.Entry<Character, Node> entry : node.next.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+                Node fail = node.fail;
+                while (fail != root && !fail.next.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                Node target = fail.next.get(c);
+                child.fail = target != null ? target : root;
+                child.output =
+                        child.fail.keywordIndexes != null ? child.fail : child.fail.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Gets the keywords matched, in the order they were given.
+     *
+     * @return the keywords, never {@code null}.
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Finds the keywords contained in the given text, notifying the given handler of each
+     * occurrence, in the order they end in the text.
+     *
+     * @param text the text to search.
+     * @param handler the handler notified of the keywords found.
+     */
+    public void find(String text, MatchHandler handler) {
+        if (root.keywordIndexes != null && !notify(root, 0, handler)) {
+            return;
+        }
+
+        Node state = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = normalise(text.charAt(i));
+            while (state != root && !state.next.containsKey(c)) {
+                state = state.fail;
+            }
+            state = state.next.getOrDefault(c, root);
+            for (Node node = state.keywordIndexes != null ? state : state.output;
+                    node != null;
+                    node = node.output) {
+                if (!notify(node, i + 1, handler)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean notify(Node node, int end, MatchHandler handler) {
+        for (int index : node.keywordIndexes) {
+            if (!handler.onMatch(index, end - keywords.get(index).length(), end)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first keyword, in the order they end in the text, that is contained in the given
+     * text and is accepted by the given predicate.
+     *
+     * @param text the text to search.
+     * @param accept the predicate to accept the keywords found.
+     * @return the keyword found, or {@code null} if none.
+     */
+    public String findFirst(String text, Predicate<String> accept) {
+        String[] match = new String[1];
+        find(
+                text,
+                (index, start, end) -> {
+                    String keyword = keywords.get(index);
+                    if (accept.test(keyword)) {
+                        match[0] = keyword;
+                        return false;
+                    }
+                    return true;
+                });
+        return match[0];
+    }
+
+    /** A handler of the keywords found in a text. */
+    @FunctionalInterface
+    public interface MatchHandler {
+
+        /**
+         * Called when a keyword is found in the text.
+         *
+         * @param keywordIndex the index of the keyword, as in {@link #getKeywords()}.
+         * @param start the index of the text where the keyword starts, inclusive.
+         * @param end the index of the text where the keyword ends, exclusive.
+         * @return {@code true} to continue the search, {@code false} to stop it.
+         */
+        boolean onMatch(int keywordIndex, int start, int end);
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> next = new HashMap<>();
+
+        /** The longest proper suffix of this node that is also in the trie. */
+        private Node fail;
+
+        /** The longest proper suffix of this node that is a keyword. */
+        private Node output;
+
+        /** The indexes of the keywords that end in this node, if any. */
+        private int[] keywordIndexes;
+
+        void addKeyword(int index) {
+            if (keywordIndexes == null) {
+                keywordIndexes = new int[] {index};
+            } else {
+                int[] indexes = new int[keywordIndexes.length + 1];
+                System.arraycopy(keywordIndexes, 0, indexes, 0, keywordIndexes.length);
+                indexes[keywordIndexes.length] = index;
+                keywordIndexes = indexes;
+            }
+        }
+    }
+}
@@ -19,8 +19,6 @@
  */
 package org.zaproxy.addon.commonlib;
 
-import java.util.Arrays;
-
 /**
  * A {@code DiceMatcher} that implements the Dice algorithm to measure the similarity between two
  * strings
@@ -50,49 +48,21 @@ public final class DiceMatcher {
 
         if (a == null || b == null) return 0;
 
-        String s = a.replaceAll("\\s+", " ");
-        String t = b.replaceAll("\\s+", " ");
-
-        // Quick check to catch equal strings:
-        if (s.equals(t)) return 100;
-        // avoid exception for single character searches
-        if (s.length() < 2 || t.length() < 2) return 0;
-
-        final int[] sPairs = getBigrams(s);
-        final int[] tPairs = getBigrams(t);
-
-        // Sort the bigram arrays:
-        Arrays.sort(sPairs);
-        Arrays.sort(tPairs);
-
-        // Count the matches:
-        int matches = 0;
-        int i = 0;
-        int j = 0;
-        int n = s.length() - 1;
-        int m = t.length() - 1;
-        while (i < n && j < m) {
-            if (sPairs[i] == tPairs[j]) {
-                matches += 2;
-                i++;
-                j++;
-            } else if (sPairs[i] < tPairs[j]) i++;
-            else j++;
-        }
-        return (int) Math.floor((double) matches * 100 / (n + m));
+        return TextFingerprint.of(a).getDiceMatchPercentage(TextFingerprint.of(b));
     }
 
-    private static int[] getBigrams(String str) {
-        final int n = str.length() - 1;
-        final int[] pairs = new int[n];
-        for (int i = 0; i < n; i++)
-            if (i == 0) pairs[i] = str.charAt(i) << 16;
-            else if (i == n - 1) pairs[i - 1] |= str.charAt(i);
-            else {
-                int p = pairs[i - 1] | str.charAt(i);
-                pairs[i - 1] = p;
-                pairs[i] = p << 16;
-            }
-        return pairs;
+    /**
+     * Gets the match percentage of the texts of the given fingerprints. Allows to compute the
+     * fingerprint of a text once and compare it with many others.
+     *
+     * @param a The fingerprint of the first string to be compared
+     * @param b The fingerprint of the second string to be compared
+     * @return The match percentage of the two strings, rounded off to the nearest integer
+     * @since 1.44.0
+     */
+    public static int getMatchPercentage(TextFingerprint a, TextFingerprint b) {
+        if (a == null || b == null) return 0;
+
+        return a.getDiceMatchPercentage(b);
     }
 }
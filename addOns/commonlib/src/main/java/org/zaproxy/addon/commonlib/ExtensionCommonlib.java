@@ -22,21 +22,31 @@ package org.zaproxy.addon.commonlib;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.httpclient.URI;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.control.Control.Mode;
 import org.parosproxy.paros.extension.ExtensionAdaptor;
 import org.parosproxy.paros.extension.ExtensionHook;
 import org.parosproxy.paros.extension.SessionChangedListener;
+import org.parosproxy.paros.model.Model;
 import org.parosproxy.paros.model.Session;
+import org.zaproxy.addon.commonlib.alerts.AlertSummary;
+import org.zaproxy.addon.commonlib.internal.AlertSummaryTracker;
 import org.zaproxy.addon.commonlib.internal.vulns.LegacyVulnerabilities;
+import org.zaproxy.addon.commonlib.timing.TimingEngine;
 import org.zaproxy.addon.commonlib.ui.GenerateFixPromptMenu;
 import org.zaproxy.addon.commonlib.ui.PopupMenuTreeTools;
 import org.zaproxy.addon.commonlib.ui.ProgressPanel;
 import org.zaproxy.addon.commonlib.ui.SitesTreeInfoMenu;
 import org.zaproxy.addon.commonlib.ui.TabbedOutputPanel;
+import org.zaproxy.zap.ZAP;
+import org.zaproxy.zap.extension.alert.AlertEventPublisher;
 
 public class ExtensionCommonlib extends ExtensionAdaptor {
 
+    private static final Logger LOGGER = LogManager.getLogger(ExtensionCommonlib.class);
+
     private static final ValueProvider DEFAULT_VALUE_PROVIDER = new DefaultValueProvider();
 
     @SuppressWarnings("removal")
@@ -105,6 +115,8 @@ public class ExtensionCommonlib extends ExtensionAdaptor {
 
     private ProgressPanel progressPanel;
 
+    private final AlertSummaryTracker alertSummaryTracker = new AlertSummaryTracker();
+
     public ExtensionCommonlib() {
         LegacyVulnerabilities.load();
     }
@@ -122,6 +134,23 @@ public class ExtensionCommonlib extends ExtensionAdaptor {
             extensionHook.getHookMenu().addPopupMenuItem(new PopupMenuTreeTools());
         }
         extensionHook.addSessionListener(new SessionChangedListenerImpl());
+
+        ZAP.getEventBus()
+                .registerConsumer(
+                        alertSummaryTracker, AlertEventPublisher.getPublisher().getPublisherName());
+    }
+
+    @Override
+    public void postInit() {
+        reloadAlertSummary();
+    }
+
+    private void reloadAlertSummary() {
+        try {
+            alertSummaryTracker.reload(Model.getSingleton().getDb().getTableAlert());
+        } catch (Exception e) {
+            LOGGER.warn("Failed to load the alerts of the session:", e);
+        }
     }
 
     public ProgressPanel getProgressPanel() {
@@ -142,6 +171,9 @@ public class ExtensionCommonlib extends ExtensionAdaptor {
             getView().setOutputPanel(null);
         }
         LegacyVulnerabilities.unload();
+        ZAP.getEventBus()
+                .unregisterConsumer(
+                        alertSummaryTracker, AlertEventPublisher.getPublisher().getPublisherName());
     }
 
     @Override
@@ -194,11 +226,22 @@ public class ExtensionCommonlib extends ExtensionAdaptor {
         this.valueProviderImpl = provider;
     }
 
+    /**
+     * Gets the summary of the alerts raised in the current session, maintained incrementally as
+     * the alerts are added, changed, and removed.
+     *
+     * @return the summary, never {@code null}.
+     * @since 1.44.0
+     */
+    public AlertSummary getAlertSummary() {
+        return alertSummaryTracker.getSummary();
+    }
+
     private class SessionChangedListenerImpl implements SessionChangedListener {
 
         @Override
         public void sessionChanged(Session session) {
-            // Nothing to do
+            reloadAlertSummary();
         }
 
         @Override
@@ -207,6 +250,8 @@ public class ExtensionCommonlib extends ExtensionAdaptor {
                 getProgressPanel().clearAndDispose();
             }
             SourceSinkUtils.reset();
+            alertSummaryTracker.clear();
+            TimingEngine.getInstance().clearBaselines();
         }
 
         @Override
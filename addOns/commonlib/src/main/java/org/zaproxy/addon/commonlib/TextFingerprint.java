@@ -0,0 +1,140 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * A compact fingerprint of a text (usually a response body), to be computed once and compared
+ * against many others.
+ *
+ * <p>The fingerprint keeps the whitespace normalised text and its sorted bigrams, used by the
+ * {@link DiceMatcher}. Comparisons do not need to process the original text again.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @since 1.44.0
+ */
+public final class TextFingerprint {
+
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    private final String normalised;
+    private final int[] sortedBigrams;
+
+    private TextFingerprint(String text) {
+        this.normalised = WHITESPACE_PATTERN.matcher(text).replaceAll(" ");
+        if (normalised.length() < 2) {
+            this.sortedBigrams = new int[0];
+        } else {
+            this.sortedBigrams = getBigrams(normalised);
+            Arrays.sort(sortedBigrams);
+        }
+    }
+
+    /**
+     * Creates the fingerprint of the given text.
+     *
+     * @param text the text, might be {@code null}.
+     * @return the fingerprint, or {@code null} if the given text is {@code null}.
+     */
+    public static TextFingerprint of(String text) {
+        if (text == null) {
+            return null;
+        }
+        return new TextFingerprint(text);
+    }
+
+    /**
+     * Gets the length of the text, after replacing the sequences of whitespace characters with a
+     * single space.
+     *
+     * @return the normalised length.
+     */
+    public int getNormalisedLength() {
+        return normalised.length();
+    }
+
+    /**
+     * Gets the Dice match percentage between this and the given fingerprint, the same as {@link
+     * DiceMatcher#getMatchPercentage(String, String)} would return for the original texts.
+     *
+     * @param other the other fingerprint.
+     * @return the match percentage, rounded down to the nearest integer.
+     */
+    public int getDiceMatchPercentage(TextFingerprint other) {
+        if (normalised.equals(other.normalised)) {
+            return 100;
+        }
+        if (normalised.length() < 2 || other.normalised.length() < 2) {
+            return 0;
+        }
+        int n = sortedBigrams.length;
+        int m = other.sortedBigrams.length;
+        return (int) Math.floor((double) countMatches(other) * 100 / (n + m));
+    }
+
+    /** Counts the matches between the sorted bigrams. */
+    private int countMatches(TextFingerprint other) {
+        int[] sPairs = sortedBigrams;
+        int[] tPairs = other.sortedBigrams;
+        int matches = 0;
+        int i = 0;
+        int j = 0;
+        int n = sPairs.length;
+        int m = tPairs.length;
+        while (i < n && j < m) {
+            if (sPairs[i] == tPairs[j]) {
+                matches += 2;
+                i++;
+                j++;
+            } else if (sPairs[i] < tPairs[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return matches;
+    }
+
+    /*
+     * Source : https://en.wikibooks.org/wiki/Algorithm_Implementation/Strings/Dice%27s_coefficient
+     * License :  https://creativecommons.org/licenses/by-sa/3.0/
+     * Author : Jelle Fresen
+     * Changes : Fixed indexing to prevent out of array access
+     *           Address various issues identified by static analysis
+     *           Moved from DiceMatcher, bigrams are kept sorted in the fingerprint
+     * Released under CC-BY-SA.
+     */
+    static int[] getBigrams(String str) {
+        final int n = str.length() - 1;
+        final int[] pairs = new int[n];
+        for (int i = 0; i < n; i++)
+            if (i == 0) pairs[i] = str.charAt(i) << 16;
+            else if (i == n - 1) pairs[i - 1] |= str.charAt(i);
+            else {
+                int p = pairs[i - 1] | str.charAt(i);
+                pairs[i - 1] = p;
+                pairs[i] = p << 16;
+            }
+        return pairs;
+    }
+}
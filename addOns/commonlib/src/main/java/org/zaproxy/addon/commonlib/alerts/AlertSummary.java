@@ -0,0 +1,170 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.alerts;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the alerts raised in the session, as maintained from the alert events
+ * (see {@link org.zaproxy.addon.commonlib.ExtensionCommonlib#getAlertSummary()}).
+ *
+ * <p>The counts by risk, site, and rule do not include the false positives, the counts by
+ * confidence include all the alerts.
+ *
+ * @since 1.44.0
+ */
+public final class AlertSummary {
+
+    /** The maximum number of history IDs kept for each {@link AlertGroup}. */
+    public static final int MAX_HISTORY_IDS = 10;
+
+    /** An empty summary, no alerts. */
+    public static final AlertSummary EMPTY =
+            new AlertSummary(0, Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+    private final int alertCount;
+    private final Map<Integer, Integer> countsByRisk;
+    private final Map<Integer, Integer> countsByConfidence;
+    private final Map<String, Integer> countsBySite;
+    private final Map<Integer, Integer> countsByRule;
+    private final Map<String, AlertGroup> groups;
+
+    /**
+     * Constructs an {@code AlertSummary} with the given counts and groups.
+     *
+     * <p>The maps are not copied, they should not be modified afterwards.
+     *
+     * @param alertCount the number of alerts, including the false positives.
+     * @param countsByRisk the counts by risk.
+     * @param countsByConfidence the counts by confidence.
+     * @param countsBySite the counts by site.
+     * @param countsByRule the counts by rule (plugin ID).
+     * @param groups the groups by alert reference.
+     */
+    public AlertSummary(
+            int alertCount,
+            Map<Integer, Integer> countsByRisk,
+            Map<Integer, Integer> countsByConfidence,
+            Map<String, Integer> countsBySite,
+            Map<Integer, Integer> countsByRule,
+            Map<String, AlertGroup> groups) {
+        this.alertCount = alertCount;
+        this.countsByRisk = countsByRisk;
+        this.countsByConfidence = countsByConfidence;
+        this.countsBySite = countsBySite;
+        this.countsByRule = countsByRule;
+        this.groups = groups;
+    }
+
+    /**
+     * Gets the number of alerts, including the false positives.
+     *
+     * @return the number of alerts.
+     */
+    public int getAlertCount() {
+        return alertCount;
+    }
+
+    /**
+     * Gets the number of alerts by risk.
+     *
+     * @return an unmodifiable map with the risk as key and the number of alerts as value.
+     */
+    public Map<Integer, Integer> getCountsByRisk() {
+        return countsByRisk;
+    }
+
+    /**
+     * Gets the number of alerts by confidence.
+     *
+     * @return an unmodifiable map with the confidence as key and the number of alerts as value.
+     */
+    public Map<Integer, Integer> getCountsByConfidence() {
+        return countsByConfidence;
+    }
+
+    /**
+     * Gets the number of alerts by site, for example, {@code https://www.example.com}.
+     *
+     * @return an unmodifiable map with the site as key and the number of alerts as value.
+     */
+    public Map<String, Integer> getCountsBySite() {
+        return countsBySite;
+    }
+
+    /**
+     * Gets the number of alerts by rule.
+     *
+     * @return an unmodifiable map with the plugin ID as key and the number of alerts as value.
+     */
+    public Map<Integer, Integer> getCountsByRule() {
+        return countsByRule;
+    }
+
+    /**
+     * Gets the groups of alerts, in the order they were first raised.
+     *
+     * @return an unmodifiable list with the groups.
+     */
+    public List<AlertGroup> getGroups() {
+        return List.copyOf(groups.values());
+    }
+
+    /**
+     * Gets the group of alerts with the given alert reference.
+     *
+     * @param alertRef the alert reference.
+     * @return the group, or {@code null} if there are no alerts with the given reference.
+     */
+    public AlertGroup getGroup(String alertRef) {
+        return groups.get(alertRef);
+    }
+
+    /**
+     * The alerts with the same alert reference. The name, risk, and systemic state are the ones of
+     * the first alert of the group.
+     *
+     * @param name the name of the alert.
+     * @param risk the risk of the alert.
+     * @param pluginId the ID of the rule that raised the alert.
+     * @param alertRef the alert reference.
+     * @param systemic {@code true} if the alert is systemic, {@code false} otherwise.
+     * @param instanceCount the number of alerts, including the false positives.
+     * @param falsePositiveCount the number of alerts that are false positives.
+     * @param historyIds the history IDs of the first alerts that are not false positives, at most
+     *     {@link #MAX_HISTORY_IDS}.
+     */
+    public record AlertGroup(
+            String name,
+            int risk,
+            int pluginId,
+            String alertRef,
+            boolean systemic,
+            int instanceCount,
+            int falsePositiveCount,
+            List<Integer> historyIds) {
+
+        public AlertGroup {
+            historyIds = historyIds == null ? Collections.emptyList() : List.copyOf(historyIds);
+        }
+    }
+}
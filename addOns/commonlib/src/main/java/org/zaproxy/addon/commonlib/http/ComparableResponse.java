@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.TreeMap;
 import java.util.regex.Pattern;
 import net.htmlparser.jericho.Element;
@@ -88,6 +89,11 @@ public class ComparableResponse {
     private Map<String, Integer> allPaths;
     private int numPaths;
 
+    // Metrics of the body, computed once as the same response is usually compared many times.
+    private volatile int wordCount = -1;
+    private volatile int lineCount = -1;
+    private volatile int[] keywordCounts;
+
     // Use variables instead of constants to be able to tune it depending on the differences on
     // normal request replay.
     private float statusCodeWeight = STATUS_CODE_WEIGHT;
@@ -155,6 +161,40 @@ public class ComparableResponse {
         return valueSent;
     }
 
+    private int getWordCount() {
+        if (wordCount == -1) {
+            wordCount = WORD_SPLIT_PATTERN.split(body).length;
+        }
+        return wordCount;
+    }
+
+    private int getLineCount() {
+        if (lineCount == -1) {
+            lineCount = CRLF_SPLIT_PATTERN.split(body).length;
+        }
+        return lineCount;
+    }
+
+    private int[] getKeywordCounts() {
+        int[] result = keywordCounts;
+        if (result == null) {
+            String lowerCaseBody = body.toLowerCase();
+            result = new int[RELEVANT_KEYWORDS.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] =
+                        StringUtils.countMatches(
+                                lowerCaseBody, RELEVANT_KEYWORDS.get(i).toLowerCase());
+            }
+            keywordCounts = result;
+        }
+        return result;
+    }
+
+    private static boolean hasSameBody(ComparableResponse response1, ComparableResponse response2) {
+        return response1.body.length() == response2.body.length()
+                && response1.body.equals(response2.body);
+    }
+
     /**
      * Compare this {@code ComparableResponse} with another based on heuristics. 0 means very
      * different and 1 very similar.
@@ -170,33 +210,42 @@ public class ComparableResponse {
         if (total == 0) {
             return 0f;
         }
+        // The body based heuristics (except the reflections) are fully similar for the same body.
+        boolean sameBody = hasSameBody(this, otherResponse);
+
         // compare the body HTML
-        total *=
-                bodyTreesStructureHeuristic(this, otherResponse) * bodyStructureWeight
-                        + (1 - bodyStructureWeight);
+        if (!sameBody || !Objects.equals(getContentType(this), getContentType(otherResponse))) {
+            total *=
+                    bodyTreesStructureHeuristic(this, otherResponse) * bodyStructureWeight
+                            + (1 - bodyStructureWeight);
+        }
 
         // compare headers
         total *= headersCompareHeuristic(this, otherResponse) * headersWeight + (1 - headersWeight);
 
-        // compare number of lines
-        total *=
-                lineCountHeuristic(this, otherResponse) * numberLinesWeight
-                        + (1 - numberLinesWeight);
+        if (!sameBody) {
+            // compare number of lines
+            total *=
+                    lineCountHeuristic(this, otherResponse) * numberLinesWeight
+                            + (1 - numberLinesWeight);
 
-        // compare number of words
-        total *=
-                wordCountHeuristic(this, otherResponse) * numberWordsWeight
-                        + (1 - numberWordsWeight);
+            // compare number of words
+            total *=
+                    wordCountHeuristic(this, otherResponse) * numberWordsWeight
+                            + (1 - numberWordsWeight);
+        }
 
         // compare reflections in normal state and HTML encoded
         total *=
                 inputReflectionHeuristic(this, otherResponse) * reflectionWeight
                         + (1 - reflectionWeight);
 
-        // compare the number relevant keywords
-        total *=
-                relevantKeywordsCountHeuristic(this, otherResponse) * relevantKeywordsWeight
-                        + (1 - relevantKeywordsWeight);
+        if (!sameBody) {
+            // compare the number relevant keywords
+            total *=
+                    relevantKeywordsCountHeuristic(this, otherResponse) * relevantKeywordsWeight
+                            + (1 - relevantKeywordsWeight);
+        }
 
         return total;
     }
@@ -252,15 +301,16 @@ public class ComparableResponse {
             ComparableResponse response1, ComparableResponse response2) {
         float nRelevantKeywordsR1 = 0;
         float nRelevantKeywordsR2 = 0;
-        for (String keyword : RELEVANT_KEYWORDS) {
+        int[] keywordCountsR1 = response1.getKeywordCounts();
+        int[] keywordCountsR2 = response2.getKeywordCounts();
+        for (int i = 0; i < RELEVANT_KEYWORDS.size(); i++) {
+            String keyword = RELEVANT_KEYWORDS.get(i);
             if (keyword.equalsIgnoreCase(response1.getValueSent())
                     || keyword.equalsIgnoreCase(response2.getValueSent())) {
                 continue;
             }
-            nRelevantKeywordsR1 +=
-                    StringUtils.countMatches(response1.body.toLowerCase(), keyword.toLowerCase());
-            nRelevantKeywordsR2 +=
-                    StringUtils.countMatches(response2.body.toLowerCase(), keyword.toLowerCase());
+            nRelevantKeywordsR1 += keywordCountsR1[i];
+            nRelevantKeywordsR2 += keywordCountsR2[i];
         }
 
         if (nRelevantKeywordsR1 > nRelevantKeywordsR2) {
@@ -331,8 +381,8 @@ public class ComparableResponse {
      */
     public static float wordCountHeuristic(
             ComparableResponse response1, ComparableResponse response2) {
-        float nWords1 = WORD_SPLIT_PATTERN.split(response1.body).length;
-        float nWords2 = WORD_SPLIT_PATTERN.split(response2.body).length;
+        float nWords1 = response1.getWordCount();
+        float nWords2 = response2.getWordCount();
 
         if (nWords1 > nWords2) {
             return nWords2 / nWords1;
@@ -352,8 +402,8 @@ public class ComparableResponse {
      */
     public static float lineCountHeuristic(
             ComparableResponse response1, ComparableResponse response2) {
-        float nLinesR1 = CRLF_SPLIT_PATTERN.split(response1.body).length;
-        float nLinesR2 = CRLF_SPLIT_PATTERN.split(response2.body).length;
+        float nLinesR1 = response1.getLineCount();
+        float nLinesR2 = response2.getLineCount();
 
         if (nLinesR1 > nLinesR2) {
             return nLinesR2 / nLinesR1;
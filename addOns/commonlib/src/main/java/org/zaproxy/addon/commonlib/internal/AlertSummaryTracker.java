@@ -0,0 +1,395 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.core.scanner.Alert;
+import org.parosproxy.paros.db.DatabaseException;
+import org.parosproxy.paros.db.RecordAlert;
+import org.parosproxy.paros.db.TableAlert;
+import org.parosproxy.paros.model.Model;
+import org.zaproxy.addon.commonlib.alerts.AlertSummary;
+import org.zaproxy.zap.eventBus.Event;
+import org.zaproxy.zap.eventBus.EventConsumer;
+import org.zaproxy.zap.extension.alert.AlertEventPublisher;
+
+/**
+ * Keeps the {@link AlertSummary} of the session up to date, from the alert events.
+ *
+ * <p>Each event updates the counts incrementally, the snapshot is only created when requested
+ * after a change, so reading the summary does not require traversing all the alerts. The alerts
+ * added or changed are read from the parameters of the events, the database is only read if the
+ * parameters are not enough (for example, the first alert of its kind).
+ *
+ * <p>The summary is exposed through {@link
+ * org.zaproxy.addon.commonlib.ExtensionCommonlib#getAlertSummary()}, only the extension changes
+ * the tracked alerts.
+ */
+public final class AlertSummaryTracker implements EventConsumer {
+
+    private static final Logger LOGGER = LogManager.getLogger(AlertSummaryTracker.class);
+
+    private static final String AMBIGUOUS_ALERT_REF = "";
+
+    private final Map<Integer, Instance> instances = new HashMap<>();
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+    private final Map<Integer, Integer> countsByRisk = new HashMap<>();
+    private final Map<Integer, Integer> countsByConfidence = new HashMap<>();
+    private final Map<String, Integer> countsBySite = new HashMap<>();
+    private final Map<Integer, Integer> countsByRule = new HashMap<>();
+
+    /**
+     * The alert references by plugin ID and alert name, {@link #AMBIGUOUS_ALERT_REF} if the same
+     * plugin ID and name was seen with different alert references.
+     */
+    private final Map<String, String> alertRefs = new HashMap<>();
+
+    private AlertSummary summary = AlertSummary.EMPTY;
+    private boolean changed;
+
+    /**
+     * Gets the summary of the alerts.
+     *
+     * @return the summary, never {@code null}.
+     */
+    public synchronized AlertSummary getSummary() {
+        if (changed) {
+            summary = createSummary();
+            changed = false;
+        }
+        return summary;
+    }
+
+    /**
+     * Adds or updates the given alert.
+     *
+     * @param recordAlert the alert.
+     */
+    synchronized void update(RecordAlert recordAlert) {
+        remove(recordAlert.getAlertId());
+        Alert alert = new Alert(recordAlert);
+        alertRefs.merge(
+                createAlertRefKey(alert.getPluginId(), alert.getName()),
+                alert.getAlertRef(),
+                (a, b) -> a.equals(b) ? a : AMBIGUOUS_ALERT_REF);
+        add(
+                new Instance(
+                        recordAlert.getAlertId(),
+                        recordAlert.getHistoryId(),
+                        alert.getPluginId(),
+                        alert.getAlertRef(),
+                        alert.getRisk(),
+                        alert.getConfidence(),
+                        getSite(alert.getUri())),
+                new Group(alert));
+    }
+
+    /**
+     * Adds or updates the alert with the given ID, from the parameters of an alert event.
+     *
+     * @param alertId the ID of the alert.
+     * @param parameters the parameters of the event.
+     * @return {@code true} if the alert was updated, {@code false} if the parameters are not
+     *     enough, and the alert should be read from the database.
+     */
+    synchronized boolean update(int alertId, Map<String, String> parameters) {
+        Integer pluginId = getInt(parameters, AlertEventPublisher.PLUGIN_ID);
+        Integer historyId = getInt(parameters, AlertEventPublisher.HISTORY_REFERENCE_ID);
+        Integer risk = getInt(parameters, AlertEventPublisher.RISK);
+        Integer confidence = getInt(parameters, AlertEventPublisher.CONFIDENCE);
+        String name = parameters.get(AlertEventPublisher.NAME);
+        String uri = parameters.get(AlertEventPublisher.URI);
+        if (pluginId == null
+                || historyId == null
+                || risk == null
+                || confidence == null
+                || name == null
+                || uri == null) {
+            return false;
+        }
+
+        String alertRef = alertRefs.get(createAlertRefKey(pluginId, name));
+        Group group = alertRef != null ? groups.get(alertRef) : null;
+        if (group == null) {
+            return false;
+        }
+
+        remove(alertId);
+        add(
+                new Instance(
+                        alertId, historyId, pluginId, alertRef, risk, confidence, getSite(uri)),
+                group);
+        return true;
+    }
+
+    private static String createAlertRefKey(int pluginId, String name) {
+        return pluginId + ":" + name;
+    }
+
+    private static Integer getInt(Map<String, String> parameters, String name) {
+        String value = parameters.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Removes the alert with the given ID.
+     *
+     * @param alertId the ID of the alert.
+     */
+    private synchronized void remove(int alertId) {
+        Instance instance = instances.remove(alertId);
+        if (instance == null) {
+            return;
+        }
+
+        Group group = groups.get(instance.alertRef());
+        group.remove(instance);
+        if (group.instances.isEmpty()) {
+            groups.remove(instance.alertRef());
+        }
+        decrement(countsByConfidence, instance.confidence());
+        if (!instance.falsePositive()) {
+            decrement(countsByRisk, instance.risk());
+            decrement(countsBySite, instance.site());
+            decrement(countsByRule, instance.pluginId());
+        }
+        changed = true;
+    }
+
+    /** Removes all the alerts. */
+    public synchronized void clear() {
+        instances.clear();
+        groups.clear();
+        alertRefs.clear();
+        countsByRisk.clear();
+        countsByConfidence.clear();
+        countsBySite.clear();
+        countsByRule.clear();
+        summary = AlertSummary.EMPTY;
+        changed = false;
+    }
+
+    /**
+     * Replaces the alerts with the ones in the given table, for example, after opening a session.
+     *
+     * @param tableAlert the table with the alerts.
+     * @throws DatabaseException if an error occurred while reading the alerts.
+     */
+    public synchronized void reload(TableAlert tableAlert) throws DatabaseException {
+        clear();
+        for (Integer alertId : tableAlert.getAlertList()) {
+            RecordAlert recordAlert = tableAlert.read(alertId);
+            if (recordAlert != null) {
+                update(recordAlert);
+            }
+        }
+    }
+
+    @Override
+    public void eventReceived(Event event) {
+        switch (event.getEventType()) {
+            case AlertEventPublisher.ALERT_ADDED_EVENT:
+            case AlertEventPublisher.ALERT_CHANGED_EVENT:
+                Integer alertId = getAlertId(event);
+                if (alertId == null || update(alertId, event.getParameters())) {
+                    return;
+                }
+                try {
+                    RecordAlert recordAlert =
+                            Model.getSingleton().getDb().getTableAlert().read(alertId);
+                    if (recordAlert != null) {
+                        update(recordAlert);
+                    }
+                } catch (DatabaseException e) {
+                    LOGGER.warn("Failed to read the alert {}:", alertId, e);
+                }
+                break;
+
+            case AlertEventPublisher.ALERT_REMOVED_EVENT:
+                alertId = getAlertId(event);
+                if (alertId != null) {
+                    remove(alertId);
+                }
+                break;
+
+            case AlertEventPublisher.ALL_ALERTS_REMOVED_EVENT:
+                clear();
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private static Integer getAlertId(Event event) {
+        Map<String, String> parameters = event.getParameters();
+        if (parameters == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(parameters.get(AlertEventPublisher.ALERT_ID));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adds the given instance, to its existing group or, if none, to the given group.
+     *
+     * @param instance the instance to add.
+     * @param newGroup the group to use if none exists yet for the instance.
+     */
+    private void add(Instance instance, Group newGroup) {
+        instances.put(instance.alertId(), instance);
+        groups.computeIfAbsent(instance.alertRef(), k -> newGroup).add(instance);
+        countsByConfidence.merge(instance.confidence(), 1, Integer::sum);
+        if (!instance.falsePositive()) {
+            countsByRisk.merge(instance.risk(), 1, Integer::sum);
+            countsBySite.merge(instance.site(), 1, Integer::sum);
+            countsByRule.merge(instance.pluginId(), 1, Integer::sum);
+        }
+        changed = true;
+    }
+
+    private static <K> void decrement(Map<K, Integer> counts, K key) {
+        counts.computeIfPresent(key, (k, v) -> v == 1 ? null : v - 1);
+    }
+
+    static String getSite(String uri) {
+        if (uri == null) {
+            return "";
+        }
+        int idx = uri.indexOf("://");
+        if (idx == -1) {
+            return "";
+        }
+        int end = idx + 3;
+        while (end < uri.length() && "/?#".indexOf(uri.charAt(end)) == -1) {
+            end++;
+        }
+        return uri.substring(0, end);
+    }
+
+    private AlertSummary createSummary() {
+        Map<String, AlertSummary.AlertGroup> summaryGroups = new LinkedHashMap<>();
+        for (Group group : groups.values()) {
+            List<Integer> historyIds = new ArrayList<>(group.firstInstances.size());
+            group.firstInstances.forEach(instance -> historyIds.add(instance.historyId()));
+            summaryGroups.put(
+                    group.alertRef,
+                    new AlertSummary.AlertGroup(
+                            group.name,
+                            group.risk,
+                            group.pluginId,
+                            group.alertRef,
+                            group.systemic,
+                            group.instances.size(),
+                            group.falsePositiveCount,
+                            historyIds));
+        }
+        return new AlertSummary(
+                instances.size(),
+                Map.copyOf(countsByRisk),
+                Map.copyOf(countsByConfidence),
+                Map.copyOf(countsBySite),
+                Map.copyOf(countsByRule),
+                Collections.unmodifiableMap(summaryGroups));
+    }
+
+    private record Instance(
+            int alertId,
+            int historyId,
+            int pluginId,
+            String alertRef,
+            int risk,
+            int confidence,
+            String site) {
+
+        boolean falsePositive() {
+            return confidence == Alert.CONFIDENCE_FALSE_POSITIVE;
+        }
+    }
+
+    private static class Group {
+
+        private final String name;
+        private final int risk;
+        private final int pluginId;
+        private final String alertRef;
+        private final boolean systemic;
+        private final Map<Integer, Instance> instances = new LinkedHashMap<>();
+
+        /** The first instances that are not false positives, up to the maximum history IDs. */
+        private final List<Instance> firstInstances = new ArrayList<>();
+
+        private int falsePositiveCount;
+
+        Group(Alert alert) {
+            name = alert.getName();
+            risk = alert.getRisk();
+            pluginId = alert.getPluginId();
+            alertRef = alert.getAlertRef();
+            systemic = alert.isSystemic();
+        }
+
+        void add(Instance instance) {
+            instances.put(instance.alertId(), instance);
+            if (instance.falsePositive()) {
+                falsePositiveCount++;
+            } else if (firstInstances.size() < AlertSummary.MAX_HISTORY_IDS) {
+                firstInstances.add(instance);
+            }
+        }
+
+        void remove(Instance instance) {
+            instances.remove(instance.alertId());
+            if (instance.falsePositive()) {
+                falsePositiveCount--;
+                return;
+            }
+            if (!firstInstances.remove(instance)
+                    || firstInstances.size() < AlertSummary.MAX_HISTORY_IDS - 1) {
+                return;
+            }
+            // The list was full, take the next instance that is not a false positive, if any.
+            int count = 0;
+            for (Instance other : instances.values()) {
+                if (!other.falsePositive() && ++count == AlertSummary.MAX_HISTORY_IDS) {
+                    firstInstances.add(other);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.timing;
+
+/**
+ * The normal (not delayed) response times of a host, in seconds. The mean and standard deviation
+ * are computed online with Welford's method, so adding a sample is O(1) in time and space.
+ *
+ * <p>Instances are thread-safe, the same baseline is shared by all the scan rules (and threads)
+ * that scan the host.
+ *
+ * @since 1.44.0
+ */
+public class LatencyBaseline {
+
+    private int count;
+    private double mean;
+    private double varianceN;
+
+    LatencyBaseline() {}
+
+    /**
+     * Adds a response time observed while the host was not expected to delay the response.
+     *
+     * @param seconds the response time, in seconds.
+     */
+    public synchronized void addSample(double seconds) {
+        if (seconds < 0 || Double.isNaN(seconds)) {
+            return;
+        }
+        count++;
+        double delta = seconds - mean;
+        mean += delta / count;
+        varianceN += delta * (seconds - mean);
+    }
+
+    /**
+     * Gets the number of samples added.
+     *
+     * @return the number of samples.
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean response time.
+     *
+     * @return the mean, in seconds, or 0 if no samples were added.
+     */
+    public synchronized double getMean() {
+        return mean;
+    }
+
+    /**
+     * Gets the (sample) standard deviation of the response times.
+     *
+     * @return the standard deviation, in seconds, or 0 if less than 2 samples were added.
+     */
+    public synchronized double getStandardDeviation() {
+        if (count < 2) {
+            return 0;
+        }
+        return Math.sqrt(varianceN / (count - 1));
+    }
+}
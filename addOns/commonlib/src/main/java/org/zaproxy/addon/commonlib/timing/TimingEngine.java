@@ -0,0 +1,372 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.timing;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.httpclient.URI;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.core.scanner.HostProcess;
+import org.parosproxy.paros.network.HttpMessage;
+import org.zaproxy.addon.commonlib.timing.TimingUtils.RequestSender;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * The engine used by the time-based blind scan rules, an evolution of {@link
+ * TimingUtils#checkTimingDependence(int, int, RequestSender, double, double)}.
+ *
+ * <p>The engine:
+ *
+ * <ul>
+ *   <li>keeps a {@link LatencyBaseline} per host, built from the responses that were not delayed,
+ *       which is shared by all the rules and parameters scanned. The baselines are discarded when
+ *       they get old and when the session changes, the latency of the host might have changed;
+ *   <li>applies a sequential probability ratio test to the high/low delay pairs, stopping as soon
+ *       as the evidence is conclusive either way. Once the baseline of the host is established the
+ *       injection is confirmed with fewer pairs than allowed by the limit (a single pair for the
+ *       usual limit of 4 requests), provided that the responses are delayed by the requested time
+ *       plus the normal latency of the host. Otherwise the same number of requests as {@code
+ *       TimingUtils} is used;
+ *   <li>caps the number of timing checks in flight, across all the threads of the scan of a host,
+ *       so that concurrent delayed requests do not skew the response times of the target;
+ *   <li>reports, per scan rule, the number of requests sent and the requests and time saved.
+ * </ul>
+ *
+ * @since 1.44.0
+ */
+public class TimingEngine {
+
+    /** The default maximum number of timing checks that can be in flight at the same time. */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 10;
+
+    static final String STATS_PREFIX = "stats.ascan.";
+    static final String STATS_REQUESTS = ".timing.requests";
+    static final String STATS_REQUESTS_SAVED = ".timing.requests.saved";
+    static final String STATS_TIME_SAVED = ".timing.time.saved";
+
+    static final int LOW_SLEEP_TIME_SECONDS = 1;
+
+    /** The minimum number of samples for the baseline of a host to be used. */
+    static final int MINIMUM_BASELINE_SAMPLES = 10;
+
+    /**
+     * The maximum number of high/low delay pairs required to confirm the injection once the
+     * baseline of the host is established. Lower limits require one pair less than the limit
+     * allows, so that a confirmation always saves requests.
+     */
+    static final int MINIMUM_CONFIRMATION_PAIRS = 3;
+
+    /**
+     * How many standard deviations the latency of a delayed response can differ from the mean of
+     * the baseline for the injection to be confirmed before reaching the limit, a single slow
+     * response does not confirm it.
+     */
+    static final double BASELINE_TOLERANCE = 3;
+
+    /** How long a baseline is used before being discarded, the latency might have changed. */
+    static final Duration BASELINE_MAX_AGE = Duration.ofMinutes(10);
+
+    /**
+     * The minimum standard deviation assumed for the response times, to account for the
+     * granularity of the measurements (usually whole seconds).
+     */
+    static final double MINIMUM_STANDARD_DEVIATION = 0.5;
+
+    // False positive and false negative rates of the sequential test.
+    private static final double ALPHA = 0.001;
+    private static final double BETA = 0.01;
+    private static final double UPPER_BOUND = Math.log((1 - BETA) / ALPHA);
+    private static final double LOWER_BOUND = Math.log(BETA / (1 - ALPHA));
+
+    private static final int MINIMUM_REQUESTS = 2;
+
+    private static final Logger LOGGER = LogManager.getLogger(TimingEngine.class);
+
+    private static final TimingEngine INSTANCE =
+            new TimingEngine(DEFAULT_MAX_IN_FLIGHT, Clock.systemUTC());
+
+    private final Map<String, TimedBaseline> baselines;
+    private final Map<HostProcess, Semaphore> inFlight;
+    private final Semaphore defaultInFlight;
+    private final int maxInFlight;
+    private final Clock clock;
+
+    TimingEngine(int maxInFlight, Clock clock) {
+        this.baselines = new ConcurrentHashMap<>();
+        // Weak keys, the semaphores go away with the scans.
+        this.inFlight = Collections.synchronizedMap(new WeakHashMap<>());
+        this.defaultInFlight = new Semaphore(maxInFlight, true);
+        this.maxInFlight = maxInFlight;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the engine shared by all scan rules.
+     *
+     * @return the engine, never {@code null}.
+     */
+    public static TimingEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the latency baseline of the host of the given message.
+     *
+     * @param msg the message.
+     * @return the baseline, never {@code null}.
+     */
+    public LatencyBaseline getBaseline(HttpMessage msg) {
+        long now = clock.millis();
+        return baselines
+                .compute(
+                        getHostKey(msg),
+                        (k, v) -> {
+                            if (v == null || now - v.created() >= BASELINE_MAX_AGE.toMillis()) {
+                                return new TimedBaseline(new LatencyBaseline(), now);
+                            }
+                            return v;
+                        })
+                .baseline();
+    }
+
+    /** Discards the latency baselines of all hosts. */
+    public void clearBaselines() {
+        baselines.clear();
+    }
+
+    private static String getHostKey(HttpMessage msg) {
+        URI uri = msg.getRequestHeader().getURI();
+        try {
+            return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+        } catch (Exception e) {
+            return uri.toString();
+        }
+    }
+
+    /**
+     * Sends time-based blind requests and tells whether or not the response times depend on the
+     * requested delay.
+     *
+     * <p>Behaves as {@link TimingUtils#checkTimingDependence(int, int, RequestSender, double,
+     * double)}, sending alternating high and low delay requests up to {@code requestsLimit}, but
+     * stops earlier when the sequential test is conclusive.
+     *
+     * @param hostProcess the host process of the scan, the number of checks in flight is limited
+     *     per host process. Might be {@code null}, in which case a limit shared with other callers
+     *     without host process is used.
+     * @param pluginId the ID of the scan rule, for the stats.
+     * @param baseMsg the message being scanned, to obtain the host.
+     * @param requestsLimit the hard limit on how many times at most requestSender will be called.
+     * @param highSleepTimeSeconds the high sleep value to send in requests.
+     * @param requestSender function that takes in the expected time, sends the request, and returns
+     *     the actual delay.
+     * @param correlationErrorRange the interval of acceptance for the regression correlation.
+     * @param slopeErrorRange the interval of acceptance for the regression slope.
+     * @return {@code true} if the response times correlate linearly, {@code false} otherwise.
+     * @throws IllegalArgumentException if less than 2 is provided as the requestsLimit.
+     * @throws IOException if the RequestSender throws an IOException, it will bubble up here.
+     */
+    public boolean checkTimingDependence(
+            HostProcess hostProcess,
+            int pluginId,
+            HttpMessage baseMsg,
+            int requestsLimit,
+            int highSleepTimeSeconds,
+            RequestSender requestSender,
+            double correlationErrorRange,
+            double slopeErrorRange)
+            throws IOException {
+        if (requestsLimit < MINIMUM_REQUESTS) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "requires at least %d requests to get results", MINIMUM_REQUESTS));
+        }
+
+        Semaphore semaphore = getInFlight(hostProcess);
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        LatencyBaseline baseline = getBaseline(baseMsg);
+        Check check =
+                new Check(
+                        baseline,
+                        requestsLimit,
+                        highSleepTimeSeconds,
+                        requestSender,
+                        correlationErrorRange,
+                        slopeErrorRange);
+        try {
+            return check.run();
+        } finally {
+            semaphore.release();
+            recordStats(pluginId, check, requestsLimit, highSleepTimeSeconds);
+        }
+    }
+
+    private Semaphore getInFlight(HostProcess hostProcess) {
+        if (hostProcess == null) {
+            return defaultInFlight;
+        }
+        return inFlight.computeIfAbsent(hostProcess, k -> new Semaphore(maxInFlight, true));
+    }
+
+    private static void recordStats(
+            int pluginId, Check check, int requestsLimit, int highSleepTimeSeconds) {
+        String prefix = STATS_PREFIX + pluginId;
+        Stats.incCounter(prefix + STATS_REQUESTS, check.requestsSent);
+        if (!check.concludedEarly) {
+            return;
+        }
+
+        // Requests are sent in pairs, the limit might be exceeded by one.
+        int requestsExpected = requestsLimit + requestsLimit % 2;
+        int requestsSaved = requestsExpected - check.requestsSent;
+        if (requestsSaved <= 0) {
+            return;
+        }
+        LOGGER.debug("Timing check concluded, {} requests saved.", requestsSaved);
+        Stats.incCounter(prefix + STATS_REQUESTS_SAVED, requestsSaved);
+        Stats.incCounter(
+                prefix + STATS_TIME_SAVED,
+                TimeUnit.SECONDS.toMillis(
+                        (requestsSaved / 2L) * (highSleepTimeSeconds + LOW_SLEEP_TIME_SECONDS)));
+    }
+
+    private record TimedBaseline(LatencyBaseline baseline, long created) {}
+
+    private static class Check {
+
+        private final LatencyBaseline baseline;
+        private final int requestsLimit;
+        private final int highSleepTimeSeconds;
+        private final RequestSender requestSender;
+        private final double correlationErrorRange;
+        private final double slopeErrorRange;
+        private final OnlineSimpleLinearRegression regression;
+
+        private int requestsSent;
+        private boolean concludedEarly;
+
+        Check(
+                LatencyBaseline baseline,
+                int requestsLimit,
+                int highSleepTimeSeconds,
+                RequestSender requestSender,
+                double correlationErrorRange,
+                double slopeErrorRange) {
+            this.baseline = baseline;
+            this.requestsLimit = requestsLimit;
+            this.highSleepTimeSeconds = highSleepTimeSeconds;
+            this.requestSender = requestSender;
+            this.correlationErrorRange = correlationErrorRange;
+            this.slopeErrorRange = slopeErrorRange;
+            this.regression = new OnlineSimpleLinearRegression();
+        }
+
+        boolean run() throws IOException {
+            boolean baselineEstablished = baseline.getCount() >= MINIMUM_BASELINE_SAMPLES;
+            double deviation =
+                    Math.max(
+                            baselineEstablished ? baseline.getStandardDeviation() : 0,
+                            MINIMUM_STANDARD_DEVIATION);
+            // The difference of two independent response times.
+            double pairVariance = 2 * deviation * deviation;
+            double expectedDifference = highSleepTimeSeconds - LOW_SLEEP_TIME_SECONDS;
+            int maximumPairs = (requestsLimit + 1) / 2;
+            int minimumPairs =
+                    baselineEstablished
+                            ? Math.max(1, Math.min(MINIMUM_CONFIRMATION_PAIRS, maximumPairs - 1))
+                            : maximumPairs;
+            boolean withinBaseline = baselineEstablished;
+
+            double logLikelihoodRatio = 0;
+            int pairs = 0;
+            while (requestsSent < requestsLimit) {
+                double high = send(highSleepTimeSeconds);
+                if (high < highSleepTimeSeconds) {
+                    // Not delayed, a normal response time.
+                    baseline.addSample(high);
+                    return false;
+                }
+                if (!addAndTestConfidence(highSleepTimeSeconds, high)) {
+                    return false;
+                }
+
+                double low = send(LOW_SLEEP_TIME_SECONDS);
+                if (low < LOW_SLEEP_TIME_SECONDS
+                        || !addAndTestConfidence(LOW_SLEEP_TIME_SECONDS, low)) {
+                    return false;
+                }
+                pairs++;
+                withinBaseline &=
+                        isWithinBaseline(highSleepTimeSeconds, high, deviation)
+                                && isWithinBaseline(LOW_SLEEP_TIME_SECONDS, low, deviation);
+
+                double difference = high - low;
+                double deviationH0 = difference;
+                double deviationH1 = difference - expectedDifference;
+                logLikelihoodRatio +=
+                        (deviationH0 * deviationH0 - deviationH1 * deviationH1)
+                                / (2 * pairVariance);
+
+                if (logLikelihoodRatio <= LOWER_BOUND) {
+                    concludedEarly = true;
+                    return false;
+                }
+                if (logLikelihoodRatio >= UPPER_BOUND && pairs >= minimumPairs && withinBaseline) {
+                    concludedEarly = true;
+                    return isWithinConfidence();
+                }
+            }
+            return isWithinConfidence();
+        }
+
+        private double send(int delay) throws IOException {
+            requestsSent++;
+            return requestSender.apply(delay);
+        }
+
+        private boolean isWithinBaseline(int delay, double y, double deviation) {
+            return Math.abs(y - delay - baseline.getMean()) <= BASELINE_TOLERANCE * deviation;
+        }
+
+        private boolean addAndTestConfidence(int delay, double y) {
+            regression.addPoint(delay, y);
+            // failure case if we're clearly not even close
+            return regression.isWithinConfidence(0.3, 1.0, 0.5);
+        }
+
+        private boolean isWithinConfidence() {
+            return regression.isWithinConfidence(correlationErrorRange, 1.0, slopeErrorRange);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link AhoCorasickMatcher}. */
+class AhoCorasickMatcherUnitTest {
+
+    @Test
+    void shouldNotMatchIfNoKeywords() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of());
+        // When
+        String match = matcher.findFirst("some text", k -> true);
+        // Then
+        assertThat(match, is(nullValue()));
+    }
+
+    @Test
+    void shouldNotMatchIfKeywordsNotContained() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("abcd", "xyz"));
+        // When
+        String match = matcher.findFirst("abcxy abc xz", k -> true);
+        // Then
+        assertThat(match, is(nullValue()));
+    }
+
+    @Test
+    void shouldMatchKeywordContained() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("token123", "other"));
+        // When
+        String match = matcher.findFirst("Bearer token123", k -> true);
+        // Then
+        assertThat(match, is(equalTo("token123")));
+    }
+
+    @Test
+    void shouldMatchKeywordEqualToText() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("token123"));
+        // When
+        String match = matcher.findFirst("token123", k -> true);
+        // Then
+        assertThat(match, is(equalTo("token123")));
+    }
+
+    @Test
+    void shouldMatchKeywordAfterPartialMatches() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("abcabd"));
+        // When
+        String match = matcher.findFirst("xxabcabcabdxx", k -> true);
+        // Then
+        assertThat(match, is(equalTo("abcabd")));
+    }
+
+    @Test
+    void shouldMatchKeywordThatIsSuffixOfAnother() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("abcde", "cd"));
+        // When
+        String match = matcher.findFirst("abcdx", k -> true);
+        // Then
+        assertThat(match, is(equalTo("cd")));
+    }
+
+    @Test
+    void shouldMatchOnlyAcceptedKeywords() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("one", "two"));
+        // When
+        String match = matcher.findFirst("one two", "two"::equals);
+        // Then
+        assertThat(match, is(equalTo("two")));
+    }
+
+    @Test
+    void shouldMatchKeywordsIgnoringCase() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("abcdef"), true);
+        // When
+        String match = matcher.findFirst("xxABCdefxx", k -> true);
+        // Then
+        assertThat(match, is(equalTo("abcdef")));
+    }
+
+    @Test
+    void shouldNotMatchKeywordsWithDifferentCaseByDefault() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("abcdef"));
+        // When
+        String match = matcher.findFirst("xxABCdefxx", k -> true);
+        // Then
+        assertThat(match, is(nullValue()));
+    }
+
+    @Test
+    void shouldFindAllOccurrencesOfAllKeywords() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("ab", "b", "ab"));
+        List<String> matches = new ArrayList<>();
+        // When
+        matcher.find(
+                "abxab",
+                (index, start, end) -> {
+                    matches.add(index + ":" + start + "-" + end);
+                    return true;
+                });
+        // Then
+        assertThat(matches, contains("0:0-2", "2:0-2", "1:1-2", "0:3-5", "2:3-5", "1:4-5"));
+    }
+
+    @Test
+    void shouldStopFindingWhenHandlerReturnsFalse() {
+        // Given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("a"));
+        List<Integer> starts = new ArrayList<>();
+        // When
+        matcher.find(
+                "aaa",
+                (index, start, end) -> {
+                    starts.add(start);
+                    return false;
+                });
+        // Then
+        assertThat(starts, contains(0));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/** Unit test for {@link TextFingerprint}. */
+class TextFingerprintUnitTest {
+
+    @Test
+    void shouldReturnNullFingerprintForNullText() {
+        // Given / When
+        TextFingerprint fingerprint = TextFingerprint.of(null);
+        // Then
+        assertThat(fingerprint, is(nullValue()));
+    }
+
+    @Test
+    void shouldNormaliseWhitespace() {
+        // Given / When
+        TextFingerprint fingerprint = TextFingerprint.of("a \r\n\t b");
+        // Then
+        assertThat(fingerprint.getNormalisedLength(), is(3));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "abc, abc",
+        "abc, abd",
+        "'Lorem ipsum', 'Lorem  ipsum dolor'",
+        "a, a",
+        "a, b",
+        "'', abc",
+        "night, nacht"
+    })
+    void shouldHaveSameMatchPercentageAsDiceMatcher(String a, String b) {
+        // Given
+        TextFingerprint fingerprintA = TextFingerprint.of(a);
+        TextFingerprint fingerprintB = TextFingerprint.of(b);
+        // When
+        int percentage = fingerprintA.getDiceMatchPercentage(fingerprintB);
+        // Then
+        assertThat(percentage, is(DiceMatcher.getMatchPercentage(a, b)));
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Vector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.quality.Strictness;
+import org.parosproxy.paros.Constant;
+import org.parosproxy.paros.core.scanner.Alert;
+import org.parosproxy.paros.db.RecordAlert;
+import org.parosproxy.paros.db.TableAlert;
+import org.zaproxy.addon.commonlib.alerts.AlertSummary;
+import org.zaproxy.zap.eventBus.Event;
+import org.zaproxy.zap.eventBus.EventPublisher;
+import org.zaproxy.zap.extension.alert.AlertEventPublisher;
+import org.zaproxy.zap.utils.I18N;
+
+/** Unit test for {@link AlertSummaryTracker}. */
+class AlertSummaryTrackerUnitTest {
+
+    private AlertSummaryTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        Constant.messages = new I18N(Locale.ROOT);
+        tracker = new AlertSummaryTracker();
+    }
+
+    @Test
+    void shouldHaveEmptySummaryByDefault() {
+        // Given / When
+        AlertSummary summary = tracker.getSummary();
+        // Then
+        assertThat(summary, is(sameInstance(AlertSummary.EMPTY)));
+        assertThat(summary.getAlertCount(), is(0));
+        assertThat(summary.getGroups(), hasSize(0));
+    }
+
+    @Test
+    void shouldCountAlertsAdded() {
+        // Given
+        tracker.update(recordAlert(1, 10, 100, "100-1", Alert.RISK_HIGH, Alert.CONFIDENCE_HIGH));
+        tracker.update(recordAlert(2, 11, 100, "100-1", Alert.RISK_HIGH, Alert.CONFIDENCE_LOW));
+        tracker.update(recordAlert(3, 12, 200, "200", Alert.RISK_LOW, Alert.CONFIDENCE_LOW));
+        // When
+        AlertSummary summary = tracker.getSummary();
+        // Then
+        assertThat(summary.getAlertCount(), is(3));
+        assertThat(
+                summary.getCountsByRisk(),
+                is(equalTo(Map.of(Alert.RISK_HIGH, 2, Alert.RISK_LOW, 1))));
+        assertThat(
+                summary.getCountsByConfidence(),
+                is(equalTo(Map.of(Alert.CONFIDENCE_HIGH, 1, Alert.CONFIDENCE_LOW, 2))));
+        assertThat(summary.getCountsByRule(), is(equalTo(Map.of(100, 2, 200, 1))));
+        assertThat(summary.getCountsBySite(), is(equalTo(Map.of("https://example.com", 3))));
+        assertThat(summary.getGroups(), hasSize(2));
+        AlertSummary.AlertGroup group = summary.getGroup("100-1");
+        assertThat(group.pluginId(), is(100));
+        assertThat(group.instanceCount(), is(2));
+        assertThat(group.historyIds(), contains(10, 11));
+    }
+
+    @Test
+    void shouldNotCountFalsePositivesByRiskSiteOrRule() {
+        // Given
+        tracker.update(recordAlert(1, 10, 100, "100", Alert.RISK_HIGH, Alert.CONFIDENCE_HIGH));
+        tracker.update(
+                recordAlert(2, 11, 100, "100", Alert.RISK_HIGH, Alert.CONFIDENCE_FALSE_POSITIVE));
+        // When
+        AlertSummary summary = tracker.getSummary();
+        // Then
+        assertThat(summary.getAlertCount(), is(2));
+        assertThat(summary.getCountsByRisk(), is(equalTo(Map.of(Alert.RISK_HIGH, 1))));
+        assertThat(summary.getCountsByRule(), is(equalTo(Map.of(100, 1))));
+        assertThat(summary.getCountsBySite(), is(equalTo(Map.of("https://example.com", 1))));
+        AlertSummary.AlertGroup group = summary.getGroup("100");
+        assertThat(group.instanceCount(), is(2));
+        assertThat(group.falsePositiveCount(), is(1));
+        assertThat(group.historyIds(), contains(10));
+    }
+
+    @Test
+    void shouldUpdateCountsWhenAlertChanged() {
+        // Given
+        tracker.update(recordAlert(1, 10, 100, "100", Alert.RISK_HIGH, Alert.CONFIDENCE_HIGH));
+        // When
+        tracker.update(
+                recordAlert(1, 10, 100, "100", Alert.RISK_HIGH, Alert.CONFIDENCE_FALSE_POSITIVE));
+        // Then
+        AlertSummary summary = tracker.getSummary();
+        assertThat(summary.getAlertCount(), is(1));
+        assertThat(summary.getCountsByRisk(), is(equalTo(Map.of())));
+        assertThat(
+                summary.getCountsByConfidence(),
+                is(equalTo(Map.of(Alert.CONFIDENCE_FALSE_POSITIVE, 1))));
+    }
+
+    @Test
+    void shouldRemoveAlertAndEmptyGroup() {
+        // Given
+        tracker.update(recordAlert(1, 10, 100, "100", Alert.RISK_HIGH, Alert.CONFIDENCE_HIGH));
+        tracker.update(recordAlert(2, 11, 200, "200", Alert.RISK_LOW, Alert.CONFIDENCE_LOW));
+        // When
+        tracker.eventReceived(event(AlertEventPublisher.ALERT_REMOVED_EVENT, "1"));
+        // Then
+        AlertSummary summary = tracker.getSummary();
+        assertThat(summary.getAlertCount(), is(1));
+        assertThat(summary.getGroup("100"), is(nullValue()));
+        assertThat(summary.getCountsByRule(), is(equalTo(Map.of(200, 1))));
+    }
+
+    @Test
+    void shouldClearWhenAllAlertsRemoved() {
+        // Given
+        tracker.update(recordAlert(1, 10, 100, "100", Alert.RISK_HIGH, Alert.CONFIDENCE_HIGH));
+        // When
+        tracker.eventReceived(event(AlertEventPublisher.ALL_ALERTS_REMOVED_EVENT, null));
+        // Then
+        assertThat(tracker.getSummary(), is(sameInstance(AlertSummary.EMPTY)));
+    }
+
+    @Test
+    void shouldKeepLimitedNumberOfHistoryIds() {
+        // Given
+        for (int i = 1; i <= AlertSummary.MAX_HISTORY_IDS + 5; i++) {
+            tracker.update(recordAlert(i, i, 100, "100", Alert.RISK_HIGH, Alert.CONFIDENCE_HIGH));
+        }
+        // When
+        AlertSummary.AlertGroup group = tracker.getSummary().getGroup("100");
+        // Then
+        assertThat(group.instanceCount(), is(AlertSummary.MAX_HISTORY_IDS + 5));
+        assertThat(group.historyIds(), hasSize(AlertSummary.MAX_HISTORY_IDS));
+    }
+
+    @Test
+    void shouldRefillHistoryIdsWhenOneRemoved() {
+        // Given
+        for (int i = 1; i <= AlertSummary.MAX_HISTORY_IDS + 1; i++) {
+            tracker.update(recordAlert(i, i, 100, "100", Alert.RISK_HIGH, Alert.CONFIDENCE_HIGH));
+        }
+        // When
+        tracker.eventReceived(event(AlertEventPublisher.ALERT_REMOVED_EVENT, "1"));
+        // Then
+        AlertSummary.AlertGroup group = tracker.getSummary().getGroup("100");
+        assertThat(group.instanceCount(), is(AlertSummary.MAX_HISTORY_IDS));
+        assertThat(group.historyIds(), hasSize(AlertSummary.MAX_HISTORY_IDS));
+        assertThat(group.historyIds(), not(hasItem(1)));
+        assertThat(group.historyIds(), hasItem(AlertSummary.MAX_HISTORY_IDS + 1));
+    }
+
+    @Test
+    void shouldUpdateFromEventParametersWithoutReadingTable() {
+        // Given
+        tracker.update(recordAlert(1, 10, 100, "100-1", Alert.RISK_HIGH, Alert.CONFIDENCE_HIGH));
+        Map<String, String> parameters =
+                Map.of(
+                        AlertEventPublisher.ALERT_ID, "2",
+                        AlertEventPublisher.PLUGIN_ID, "100",
+                        AlertEventPublisher.NAME, "Alert 100",
+                        AlertEventPublisher.HISTORY_REFERENCE_ID, "11",
+                        AlertEventPublisher.RISK, String.valueOf(Alert.RISK_HIGH),
+                        AlertEventPublisher.CONFIDENCE, String.valueOf(Alert.CONFIDENCE_LOW),
+                        AlertEventPublisher.URI, "https://example.org/path");
+        // When
+        tracker.eventReceived(
+                new Event(
+                        mock(EventPublisher.class),
+                        AlertEventPublisher.ALERT_ADDED_EVENT,
+                        null,
+                        parameters));
+        // Then
+        AlertSummary summary = tracker.getSummary();
+        assertThat(summary.getAlertCount(), is(2));
+        assertThat(
+                summary.getCountsBySite(),
+                is(equalTo(Map.of("https://example.com", 1, "https://example.org", 1))));
+        AlertSummary.AlertGroup group = summary.getGroup("100-1");
+        assertThat(group.instanceCount(), is(2));
+        assertThat(group.historyIds(), contains(10, 11));
+    }
+
+    @Test
+    void shouldNotUpdateFromEventParametersIfGroupUnknown() {
+        // Given
+        Map<String, String> parameters =
+                Map.of(
+                        AlertEventPublisher.PLUGIN_ID, "100",
+                        AlertEventPublisher.NAME, "Alert 100",
+                        AlertEventPublisher.HISTORY_REFERENCE_ID, "11",
+                        AlertEventPublisher.RISK, String.valueOf(Alert.RISK_HIGH),
+                        AlertEventPublisher.CONFIDENCE, String.valueOf(Alert.CONFIDENCE_LOW),
+                        AlertEventPublisher.URI, "https://example.org/path");
+        // When
+        boolean updated = tracker.update(2, parameters);
+        // Then
+        assertThat(updated, is(false));
+        assertThat(tracker.getSummary(), is(sameInstance(AlertSummary.EMPTY)));
+    }
+
+    @Test
+    void shouldReuseSummaryIfNotChanged() {
+        // Given
+        tracker.update(recordAlert(1, 10, 100, "100", Alert.RISK_HIGH, Alert.CONFIDENCE_HIGH));
+        AlertSummary summary = tracker.getSummary();
+        // When
+        AlertSummary other = tracker.getSummary();
+        // Then
+        assertThat(other, is(sameInstance(summary)));
+    }
+
+    @Test
+    void shouldReloadFromTable() throws Exception {
+        // Given
+        tracker.update(recordAlert(1, 10, 100, "100", Alert.RISK_HIGH, Alert.CONFIDENCE_HIGH));
+        TableAlert tableAlert = mock(TableAlert.class);
+        given(tableAlert.getAlertList()).willReturn(new Vector<>(List.of(5)));
+        RecordAlert recordAlert =
+                recordAlert(5, 50, 300, "300", Alert.RISK_MEDIUM, Alert.CONFIDENCE_MEDIUM);
+        given(tableAlert.read(5)).willReturn(recordAlert);
+        // When
+        tracker.reload(tableAlert);
+        // Then
+        AlertSummary summary = tracker.getSummary();
+        assertThat(summary.getAlertCount(), is(1));
+        assertThat(summary.getCountsByRule(), is(equalTo(Map.of(300, 1))));
+    }
+
+    @Test
+    void shouldExtractSite() {
+        assertThat(AlertSummaryTracker.getSite("https://example.com"), is("https://example.com"));
+        assertThat(
+                AlertSummaryTracker.getSite("http://example.com:8080/path?a=b"),
+                is("http://example.com:8080"));
+        assertThat(AlertSummaryTracker.getSite("https://example.com?a"), is("https://example.com"));
+        assertThat(AlertSummaryTracker.getSite(""), is(""));
+        assertThat(AlertSummaryTracker.getSite(null), is(""));
+    }
+
+    private static Event event(String type, String alertId) {
+        Map<String, String> parameters =
+                alertId == null ? Map.of() : Map.of(AlertEventPublisher.ALERT_ID, alertId);
+        return new Event(mock(EventPublisher.class), type, null, parameters);
+    }
+
+    private static RecordAlert recordAlert(
+            int alertId, int historyId, int pluginId, String alertRef, int risk, int confidence) {
+        RecordAlert rec = mock(RecordAlert.class, withSettings().strictness(Strictness.LENIENT));
+        given(rec.getAlertId()).willReturn(alertId);
+        given(rec.getHistoryId()).willReturn(historyId);
+        given(rec.getPluginId()).willReturn(pluginId);
+        given(rec.getAlertRef()).willReturn(alertRef);
+        given(rec.getRisk()).willReturn(risk);
+        given(rec.getConfidence()).willReturn(confidence);
+        given(rec.getAlert()).willReturn("Alert " + pluginId);
+        given(rec.getDescription()).willReturn("");
+        given(rec.getSolution()).willReturn("");
+        given(rec.getUri()).willReturn("https://example.com/path/" + alertId);
+        given(rec.getParam()).willReturn("");
+        given(rec.getAttack()).willReturn("");
+        given(rec.getOtherInfo()).willReturn("");
+        given(rec.getReference()).willReturn("");
+        given(rec.getEvidence()).willReturn("");
+        return rec;
+    }
+}
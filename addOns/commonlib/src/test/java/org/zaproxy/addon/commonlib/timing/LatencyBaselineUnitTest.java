@@ -0,0 +1,65 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.timing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link LatencyBaseline}. */
+class LatencyBaselineUnitTest {
+
+    @Test
+    void shouldHaveNoSamplesByDefault() {
+        // Given / When
+        LatencyBaseline baseline = new LatencyBaseline();
+        // Then
+        assertThat(baseline.getCount(), is(0));
+        assertThat(baseline.getMean(), is(0.0));
+        assertThat(baseline.getStandardDeviation(), is(0.0));
+    }
+
+    @Test
+    void shouldComputeMeanAndStandardDeviation() {
+        // Given
+        LatencyBaseline baseline = new LatencyBaseline();
+        // When
+        for (double sample : new double[] {2, 4, 4, 4, 5, 5, 7, 9}) {
+            baseline.addSample(sample);
+        }
+        // Then
+        assertThat(baseline.getCount(), is(8));
+        assertThat(baseline.getMean(), is(closeTo(5, 0.0001)));
+        assertThat(baseline.getStandardDeviation(), is(closeTo(2.1381, 0.0001)));
+    }
+
+    @Test
+    void shouldIgnoreInvalidSamples() {
+        // Given
+        LatencyBaseline baseline = new LatencyBaseline();
+        // When
+        baseline.addSample(-1);
+        baseline.addSample(Double.NaN);
+        // Then
+        assertThat(baseline.getCount(), is(0));
+    }
+}
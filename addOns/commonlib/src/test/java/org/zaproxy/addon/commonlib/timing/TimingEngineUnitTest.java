@@ -0,0 +1,277 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.timing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.httpclient.URI;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.core.scanner.HostProcess;
+import org.parosproxy.paros.network.HttpMessage;
+import org.zaproxy.zap.extension.stats.InMemoryStats;
+import org.zaproxy.zap.utils.Stats;
+
+/** Unit test for {@link TimingEngine}. */
+class TimingEngineUnitTest {
+
+    private static final int PLUGIN_ID = 1234;
+    private static final double CORRELATION_ERROR_RANGE = 0.1;
+    private static final double SLOPE_ERROR_RANGE = 0.2;
+
+    private InMemoryStats stats;
+    private HttpMessage msg;
+    private Clock clock;
+    private TimingEngine engine;
+    private List<Double> delays;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stats = new InMemoryStats();
+        Stats.addListener(stats);
+        msg = new HttpMessage(new URI("http://example.com/path", true));
+        clock = mock(Clock.class);
+        engine = new TimingEngine(TimingEngine.DEFAULT_MAX_IN_FLIGHT, clock);
+        delays = new ArrayList<>();
+    }
+
+    @AfterEach
+    void cleanup() {
+        Stats.removeListener(stats);
+    }
+
+    @Test
+    void shouldRequireAtLeastTwoRequests() {
+        // Given / When / Then
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        engine.checkTimingDependence(
+                                null,
+                                PLUGIN_ID,
+                                msg,
+                                1,
+                                5,
+                                x -> x,
+                                CORRELATION_ERROR_RANGE,
+                                SLOPE_ERROR_RANGE));
+    }
+
+    @Test
+    void shouldSendAllRequestsWhileBaselineNotEstablished() throws IOException {
+        // Given / When
+        boolean result = check(4, 15, x -> x);
+        // Then
+        assertThat(result, is(true));
+        assertThat(delays.toArray(), arrayContaining(15.0, 1.0, 15.0, 1.0));
+        assertThat(stats.getStat("stats.ascan.1234.timing.requests"), is(4L));
+        assertThat(stats.getStat("stats.ascan.1234.timing.requests.saved"), is(nullValue()));
+    }
+
+    @Test
+    void shouldConcludeEarlyOnceBaselineEstablished() throws IOException {
+        // Given
+        establishBaseline(0.2);
+        // When
+        boolean result = check(10, 15, x -> x + 0.2);
+        // Then
+        assertThat(result, is(true));
+        assertThat(delays.toArray(), arrayContaining(15.0, 1.0, 15.0, 1.0, 15.0, 1.0));
+        assertThat(stats.getStat("stats.ascan.1234.timing.requests"), is(6L));
+        assertThat(stats.getStat("stats.ascan.1234.timing.requests.saved"), is(4L));
+        assertThat(stats.getStat("stats.ascan.1234.timing.time.saved"), is(32000L));
+    }
+
+    @Test
+    void shouldConcludeEarlyWithLowLimitOnceBaselineEstablished() throws IOException {
+        // Given
+        establishBaseline(0.2);
+        // When
+        boolean result = check(4, 15, x -> x + 0.2);
+        // Then
+        assertThat(result, is(true));
+        assertThat(delays.toArray(), arrayContaining(15.0, 1.0));
+        assertThat(stats.getStat("stats.ascan.1234.timing.requests"), is(2L));
+        assertThat(stats.getStat("stats.ascan.1234.timing.requests.saved"), is(2L));
+        assertThat(stats.getStat("stats.ascan.1234.timing.time.saved"), is(16000L));
+    }
+
+    @Test
+    void shouldNotConcludeEarlyIfResponseTimesDifferFromBaseline() throws IOException {
+        // Given
+        establishBaseline(0.2);
+        List<Double> responseTimes = new ArrayList<>(List.of(17.2, 1.2, 15.2, 1.2));
+        // When
+        boolean result = check(4, 15, x -> responseTimes.remove(0));
+        // Then
+        assertThat(result, is(true));
+        assertThat(delays.toArray(), arrayContaining(15.0, 1.0, 15.0, 1.0));
+        assertThat(stats.getStat("stats.ascan.1234.timing.requests.saved"), is(nullValue()));
+    }
+
+    @Test
+    void shouldNotConfirmWithSinglePairEvenIfBaselineEstablished() throws IOException {
+        // Given
+        establishBaseline(0.2);
+        List<Double> responseTimes = new ArrayList<>(List.of(15.2, 1.2, 0.2));
+        // When
+        boolean result = check(10, 15, x -> responseTimes.remove(0));
+        // Then
+        assertThat(result, is(false));
+        assertThat(delays.size(), is(3));
+    }
+
+    @Test
+    void shouldNotAddDelayedResponseTimesToBaseline() throws IOException {
+        // Given / When
+        check(4, 15, x -> x);
+        // Then
+        assertThat(engine.getBaseline(msg).getCount(), is(0));
+    }
+
+    @Test
+    void shouldDiscardBaselineOnceExpired() {
+        // Given
+        given(clock.millis()).willReturn(0L);
+        LatencyBaseline baseline = engine.getBaseline(msg);
+        given(clock.millis()).willReturn(TimingEngine.BASELINE_MAX_AGE.toMillis() - 1);
+        LatencyBaseline baselineBeforeExpiry = engine.getBaseline(msg);
+        given(clock.millis()).willReturn(TimingEngine.BASELINE_MAX_AGE.toMillis());
+        // When
+        LatencyBaseline baselineAfterExpiry = engine.getBaseline(msg);
+        // Then
+        assertThat(baselineBeforeExpiry, is(baseline));
+        assertThat(baselineAfterExpiry == baseline, is(false));
+    }
+
+    @Test
+    void shouldDiscardBaselinesWhenCleared() {
+        // Given
+        LatencyBaseline baseline = engine.getBaseline(msg);
+        // When
+        engine.clearBaselines();
+        // Then
+        assertThat(engine.getBaseline(msg) == baseline, is(false));
+    }
+
+    @Test
+    void shouldLimitChecksInFlightPerHostProcess() {
+        // Given
+        engine = new TimingEngine(1, clock);
+        HostProcess hostProcess = mock(HostProcess.class);
+        HostProcess otherHostProcess = mock(HostProcess.class);
+        // When
+        boolean result =
+                assertTimeoutPreemptively(
+                        Duration.ofSeconds(5),
+                        () ->
+                                engine.checkTimingDependence(
+                                        hostProcess,
+                                        PLUGIN_ID,
+                                        msg,
+                                        2,
+                                        15,
+                                        x -> {
+                                            // Would block if the limit was shared.
+                                            check(otherHostProcess, 2, 15, y -> y);
+                                            return x;
+                                        },
+                                        CORRELATION_ERROR_RANGE,
+                                        SLOPE_ERROR_RANGE));
+        // Then
+        assertThat(result, is(true));
+    }
+
+    @Test
+    void shouldGiveUpQuicklyAndLearnBaselineWhenNotDelayed() throws IOException {
+        // Given / When
+        boolean result = check(4, 15, x -> 0.5);
+        // Then
+        assertThat(result, is(false));
+        assertThat(delays.size(), is(1));
+        assertThat(engine.getBaseline(msg).getCount(), is(1));
+    }
+
+    @Test
+    void shouldGiveUpWhenResponsesAreAlwaysSlow() throws IOException {
+        // Given / When
+        boolean result = check(10, 15, x -> 20);
+        // Then
+        assertThat(result, is(false));
+        assertThat(delays.size(), is(2));
+    }
+
+    @Test
+    void shouldShareBaselineForSameHost() throws Exception {
+        // Given
+        HttpMessage otherMsg = new HttpMessage(new URI("http://example.com/other", true));
+        HttpMessage otherHostMsg = new HttpMessage(new URI("http://example.org/", true));
+        // When
+        LatencyBaseline baseline = engine.getBaseline(msg);
+        // Then
+        assertThat(engine.getBaseline(otherMsg), is(baseline));
+        assertThat(engine.getBaseline(otherHostMsg) == baseline, is(false));
+    }
+
+    private void establishBaseline(double latency) {
+        LatencyBaseline baseline = engine.getBaseline(msg);
+        for (int i = 0; i < TimingEngine.MINIMUM_BASELINE_SAMPLES; i++) {
+            baseline.addSample(latency);
+        }
+    }
+
+    private boolean check(int requestsLimit, int highSleep, TimingUtils.RequestSender sender)
+            throws IOException {
+        return check(null, requestsLimit, highSleep, sender);
+    }
+
+    private boolean check(
+            HostProcess hostProcess,
+            int requestsLimit,
+            int highSleep,
+            TimingUtils.RequestSender sender)
+            throws IOException {
+        return engine.checkTimingDependence(
+                hostProcess,
+                PLUGIN_ID,
+                msg,
+                requestsLimit,
+                highSleep,
+                x -> {
+                    delays.add(x);
+                    return sender.apply(x);
+                },
+                CORRELATION_ERROR_RANGE,
+                SLOPE_ERROR_RANGE);
+    }
+}
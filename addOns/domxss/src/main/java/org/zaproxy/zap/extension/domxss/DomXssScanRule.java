@@ -24,13 +24,9 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Stack;
 import java.util.TreeSet;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -49,9 +45,11 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.UnreachableBrowserException;
 import org.parosproxy.paros.Constant;
+import org.parosproxy.paros.control.Control;
 import org.parosproxy.paros.core.scanner.AbstractAppParamPlugin;
 import org.parosproxy.paros.core.scanner.Alert;
 import org.parosproxy.paros.core.scanner.Category;
+import org.parosproxy.paros.core.scanner.HostProcess;
 import org.parosproxy.paros.core.scanner.NameValuePair;
 import org.parosproxy.paros.core.scanner.Plugin;
 import org.parosproxy.paros.model.Model;
@@ -67,6 +65,7 @@ import org.zaproxy.addon.network.server.HttpMessageHandler;
 import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
 import org.zaproxy.addon.network.server.Server;
 import org.zaproxy.zap.extension.selenium.Browser;
+import org.zaproxy.zap.extension.selenium.BrowserPool;
 import org.zaproxy.zap.extension.selenium.ExtensionSelenium;
 import org.zaproxy.zap.model.Context;
 import org.zaproxy.zap.utils.Stats;
@@ -143,12 +142,6 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
         ALERT_TAGS = Collections.unmodifiableMap(alertTags);
     }
 
-    private static Map<Browser, Stack<WebDriverWrapper>> freeDrivers = new HashMap<>();
-    private static List<WebDriverWrapper> takenDrivers = new ArrayList<>();
-
-    private static Thread reaperThread = null;
-    private static Object reaperThreadSync = new Object();
-
     static ExtensionNetwork extensionNetwork;
 
     static Server proxy = null;
@@ -217,6 +210,21 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
 
         LOGGER.debug("Using browser: {}", browser);
         steps = new ArrayList<>();
+
+        warmUpBrowsers();
+    }
+
+    /** Starts in the background the browsers for the threads scanning the host. */
+    private void warmUpBrowsers() {
+        HostProcess parent = getParent();
+        if (proxyPort == -1 || parent == null || parent.getScannerParam() == null) {
+            return;
+        }
+        getBrowserPool()
+                .warmUp(
+                        getBrowserPoolKey(browser),
+                        this::createPooledBrowser,
+                        parent.getScannerParam().getThreadPerHost());
     }
 
     private static boolean isSupportedBrowser(Browser browser) {
@@ -304,88 +312,45 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
         return webDriver;
     }
 
-    private WebDriverWrapper getWebDriver() {
-        WebDriverWrapper driver = null;
-        try {
-            driver = freeDrivers.get(browser).pop();
-            if (!driver.getBrowser().equals(browser)) {
-                driver.getDriver().quit();
-                driver = null;
-            }
-        } catch (Exception e) {
-            // Ignore
-        }
-        if (driver == null) {
-            driver = new WebDriverWrapper(createWebDriver(), browser);
-        }
-        synchronized (takenDrivers) {
-            takenDrivers.add(driver);
-        }
+    private static BrowserPool getBrowserPool() {
+        return Control.getSingleton()
+                .getExtensionLoader()
+                .getExtension(ExtensionSelenium.class)
+                .getBrowserPool();
+    }
 
-        if (reaperThread == null) {
-            synchronized (reaperThreadSync) {
-                if (reaperThread == null) {
-                    reaperThread =
-                            new Thread(
-                                    () -> {
-                                        LOGGER.info("Reaper thread starting");
-                                        reaperThread.setName("ZAP-DomXssReaper");
-                                        do {
-                                            try {
-                                                Thread.sleep(5000);
-                                            } catch (InterruptedException e) {
-                                                // Ignore
-                                            }
-                                            Date now = new Date();
-                                            // concurrent modification exception :(
-                                            synchronized (takenDrivers) {
-                                                Iterator<WebDriverWrapper> iter =
-                                                        takenDrivers.iterator();
-                                                while (iter.hasNext()) {
-                                                    WebDriverWrapper wrapper = iter.next();
-                                                    if ((now.getTime()
-                                                                            - wrapper.getLastAccessed()
-                                                                                    .getTime())
-                                                                    / 1000
-                                                            > 10) {
-                                                        LOGGER.debug(
-                                                                "Driver hung {}",
-                                                                wrapper.getDriver().hashCode());
-                                                        wrapper.getDriver().quit();
-                                                        wrapper.setDriver(createWebDriver());
-                                                        LOGGER.debug(
-                                                                "New driver {}",
-                                                                wrapper.getDriver().hashCode());
-                                                    }
-                                                }
-                                            }
-                                        } while (takenDrivers.size() > 0);
-                                        LOGGER.info(
-                                                "Reaper thread exiting {}", takenDrivers.size());
-
-                                        reaperThread = null;
-                                    });
-                    reaperThread.start();
-                }
-            }
-        }
-        return driver;
+    private static String getBrowserPoolKey(Browser browser) {
+        return "domxss:" + browser.getId() + ":" + proxyPort;
+    }
+
+    private BrowserPool.PooledBrowser createPooledBrowser() {
+        return new BrowserPool.PooledBrowser(createWebDriver());
+    }
+
+    private BrowserPool.Lease leaseBrowser() throws Exception {
+        return getBrowserPool().lease(getBrowserPoolKey(browser), this::createPooledBrowser);
+    }
+
+    private WebDriverWrapper getWebDriver() throws Exception {
+        return new WebDriverWrapper(leaseBrowser(), browser);
     }
 
     private void returnDriver(WebDriverWrapper driver) {
-        synchronized (takenDrivers) {
-            try {
-                driver.getDriver().switchTo().alert().accept();
-            } catch (Exception e) {
-                // ignore
-            }
-            driver.getDriver().get("about:blank");
-            if (takenDrivers.remove(driver)) {
-                freeDrivers.computeIfAbsent(driver.getBrowser(), k -> new Stack<>()).push(driver);
+        // The pool dismisses any alert and navigates to about:blank before reusing the browser.
+        driver.getLease().close();
+    }
 
-            } else {
-                LOGGER.debug("Driver not in 'taken' list");
-            }
+    /**
+     * Replaces the browser of the given wrapper, discarding the current one which is no longer
+     * usable.
+     */
+    private void replaceDriver(WebDriverWrapper wrapper) {
+        LOGGER.debug("Replacing unusable browser {}", wrapper.getDriver().hashCode());
+        wrapper.getLease().invalidate();
+        try {
+            wrapper.setLease(leaseBrowser());
+        } catch (Exception e) {
+            LOGGER.debug("Failed to start a new browser: {}", e.getMessage());
         }
     }
 
@@ -396,18 +361,13 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
     }
 
     static void tidyUp() {
-        // Tidy up...
-        // Dont kill drivers in the 'taken' list as there may be multiple scans
-        WebDriverWrapper driver;
-        for (Entry<Browser, Stack<WebDriverWrapper>> map : freeDrivers.entrySet()) {
-            while (!map.getValue().isEmpty()) {
-                try {
-                    driver = map.getValue().pop();
-                    driver.getDriver().quit();
-                } catch (Exception e) {
-                    // Ignore
-                }
-            }
+        // Dont close the leased browsers as there may be multiple scans
+        if (proxyPort == -1) {
+            return;
+        }
+        BrowserPool pool = getBrowserPool();
+        for (Browser browser : Browser.values()) {
+            pool.closeIdle(getBrowserPoolKey(browser));
         }
     }
 
@@ -424,22 +384,14 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
         } catch (UnhandledAlertException uae) {
             throw uae;
         } catch (NoSuchSessionException enve) {
-            // Pause, retry
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                //
-            }
+            // Replace the browser, retry
+            replaceDriver(wrapper);
             if (retry >= 0) {
                 this.getHelper(wrapper, url, retry - 1);
             }
         } catch (UnreachableBrowserException ube) {
-            // Pause, retry
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                //
-            }
+            // Replace the browser, retry
+            replaceDriver(wrapper);
             if (retry >= 0) {
                 this.getHelper(wrapper, url, retry - 1);
             }
@@ -464,22 +416,14 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
         } catch (UnhandledAlertException uae) {
             throw uae;
         } catch (NoSuchSessionException enve) {
-            // Pause, retry
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                // Ignore
-            }
+            // Replace the browser, retry
+            replaceDriver(wrapper);
             if (retry >= 0) {
                 return this.findHelper(wrapper, by, retry - 1);
             }
         } catch (UnreachableBrowserException ube) {
-            // Pause, retry
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                // Ignore
-            }
+            // Replace the browser, retry
+            replaceDriver(wrapper);
             if (retry >= 0) {
                 return this.findHelper(wrapper, by, retry - 1);
             }
@@ -71,6 +71,8 @@ public class ExtensionDomXSS extends ExtensionAdaptor {
 
     @Override
     public void stop() {
+        DomXssScanRule.tidyUp();
+
         Server proxy = DomXssScanRule.proxy;
         if (proxy != null) {
             try {
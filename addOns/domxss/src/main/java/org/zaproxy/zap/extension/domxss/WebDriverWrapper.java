@@ -22,11 +22,13 @@ package org.zaproxy.zap.extension.domxss;
 import java.util.Date;
 import org.openqa.selenium.WebDriver;
 import org.zaproxy.zap.extension.selenium.Browser;
+import org.zaproxy.zap.extension.selenium.BrowserPool;
 
 public class WebDriverWrapper {
     private WebDriver driver;
     private Browser browser;
     private Date lastAccessed;
+    private BrowserPool.Lease lease;
 
     public WebDriverWrapper(WebDriver driver, Browser browser) {
         super();
@@ -35,6 +37,11 @@ public class WebDriverWrapper {
         lastAccessed = new Date();
     }
 
+    WebDriverWrapper(BrowserPool.Lease lease, Browser browser) {
+        this(lease.getWebDriver(), browser);
+        this.lease = lease;
+    }
+
     public WebDriver getDriver() {
         lastAccessed = new Date();
         return driver;
@@ -52,4 +59,13 @@ public class WebDriverWrapper {
     public Date getLastAccessed() {
         return lastAccessed;
     }
+
+    BrowserPool.Lease getLease() {
+        return lease;
+    }
+
+    void setLease(BrowserPool.Lease lease) {
+        setDriver(lease.getWebDriver());
+        this.lease = lease;
+    }
 }
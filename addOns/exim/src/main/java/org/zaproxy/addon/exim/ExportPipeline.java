@@ -0,0 +1,152 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.exim;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.parosproxy.paros.db.DatabaseException;
+import org.parosproxy.paros.model.HistoryReference;
+import org.zaproxy.zap.model.Context;
+
+/**
+ * A pipeline that exports messages, reading and preparing them in batches in worker threads while
+ * the previous batches are written, in the original order, by the calling thread.
+ */
+class ExportPipeline {
+
+    static final int DEFAULT_BATCH_SIZE = 250;
+
+    private static final int MAX_THREADS = 4;
+
+    private final ExporterType type;
+    private final Context context;
+    private final int batchSize;
+    private final int threads;
+
+    ExportPipeline(ExporterType type, Context context) {
+        this(
+                type,
+                context,
+                DEFAULT_BATCH_SIZE,
+                Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    ExportPipeline(ExporterType type, Context context, int batchSize, int threads) {
+        this.type = type;
+        this.context = context;
+        this.batchSize = batchSize;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Exports the messages with the given IDs.
+     *
+     * @param writer the writer to where to export the messages.
+     * @param historyIds the IDs of the messages.
+     * @return the number of messages exported.
+     * @throws DatabaseException if an error occurred while reading the messages.
+     * @throws IOException if an error occurred while exporting the messages.
+     */
+    int export(Writer writer, List<Integer> historyIds) throws DatabaseException, IOException {
+        if (historyIds.isEmpty()) {
+            return 0;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        threads,
+                        r -> {
+                            Thread thread =
+                                    new Thread(
+                                            r, "ZAP-Exim-Export-" + threadNumber.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        // Keep a bounded number of batches in memory, enough to keep all threads busy.
+        int maxPendingBatches = threads * 2;
+        Deque<Future<List<Entry>>> pending = new ArrayDeque<>(maxPendingBatches);
+        int count = 0;
+        try {
+            int next = 0;
+            while (next < historyIds.size() || !pending.isEmpty()) {
+                while (next < historyIds.size() && pending.size() < maxPendingBatches) {
+                    List<Integer> batch =
+                            historyIds.subList(next, Math.min(next + batchSize, historyIds.size()));
+                    pending.add(executor.submit(() -> readBatch(batch)));
+                    next += batch.size();
+                }
+
+                for (Entry entry : getBatch(pending.poll())) {
+                    count++;
+                    type.write(writer, entry.ref, entry.prepared);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return count;
+    }
+
+    private List<Entry> readBatch(List<Integer> ids) throws DatabaseException, IOException {
+        List<Entry> entries = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            HistoryReference ref = new HistoryReference(id, true);
+            if (context != null && !context.isInContext(ref)) {
+                continue;
+            }
+            entries.add(new Entry(ref, type.prepare(ref)));
+        }
+        return entries;
+    }
+
+    private static List<Entry> getBatch(Future<List<Entry>> future)
+            throws DatabaseException, IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while exporting the messages.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DatabaseException dbException) {
+                throw dbException;
+            }
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private record Entry(HistoryReference ref, Object prepared) {}
+}
@@ -21,6 +21,8 @@ package org.zaproxy.addon.exim;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -31,6 +33,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.db.DatabaseException;
 import org.parosproxy.paros.model.HistoryReference;
@@ -39,7 +42,6 @@ import org.zaproxy.addon.exim.ExporterOptions.Source;
 import org.zaproxy.addon.exim.har.HarExporter;
 import org.zaproxy.addon.exim.sites.SitesTreeHandler;
 import org.zaproxy.addon.exim.sites.YamlExporter;
-import org.zaproxy.zap.model.Context;
 import org.zaproxy.zap.utils.Stats;
 
 /**
@@ -61,6 +63,8 @@ public class Exporter {
         HistoryReference.TYPE_PROXIED, HistoryReference.TYPE_ZAP_USER
     };
 
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
     private final Model model;
 
     Exporter(Model model) {
@@ -134,10 +138,15 @@ public class Exporter {
      * @return the result of the export.
      */
     public ExporterResult export(ExporterOptions options) {
+        long start = System.currentTimeMillis();
         ExporterResult result = exportImpl(options);
+        result.setTimeTaken(System.currentTimeMillis() - start);
         Stats.incCounter(
                 ExtensionExim.STATS_PREFIX + "exporter." + options.getType() + ".count",
                 result.getCount());
+        Stats.incCounter(
+                ExtensionExim.STATS_PREFIX + "exporter." + options.getType() + ".time",
+                result.getTimeTaken());
         return result;
     }
 
@@ -148,13 +157,7 @@ public class Exporter {
             return result;
         }
 
-        try (var writer =
-                Files.newBufferedWriter(
-                        file,
-                        StandardCharsets.UTF_8,
-                        StandardOpenOption.WRITE,
-                        StandardOpenOption.CREATE,
-                        StandardOpenOption.TRUNCATE_EXISTING)) {
+        try (var writer = createWriter(file, options.isCompress())) {
 
             ExporterType optionsType = fromString(options.getType());
             if (Source.SITESTREE.equals(options.getSource())) {
@@ -224,17 +227,22 @@ public class Exporter {
 
         ExporterType type = createExporterType(options);
         type.begin(writer);
-        Context context = options.getContext();
-        for (Integer id : historyIds) {
-            HistoryReference ref = new HistoryReference(id, true);
-            if (context != null && !context.isInContext(ref)) {
-                continue;
-            }
+        result.addCount(new ExportPipeline(type, options.getContext()).export(writer, historyIds));
+        type.end(writer);
+    }
 
-            result.incrementCount();
-            type.write(writer, ref);
+    private static BufferedWriter createWriter(Path file, boolean compress) throws IOException {
+        OutputStream os =
+                Files.newOutputStream(
+                        file,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+        if (compress) {
+            os = new GZIPOutputStream(os, OUTPUT_BUFFER_SIZE);
         }
-        type.end(writer);
+        return new BufferedWriter(
+                new OutputStreamWriter(os, StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE);
     }
 
     private static boolean isValid(Path file, ExporterResult result) {
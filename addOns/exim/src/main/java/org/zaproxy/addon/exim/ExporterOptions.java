@@ -39,12 +39,15 @@ public class ExporterOptions {
     private final String type;
     private final Source source;
     private final Path outputFile;
+    private final boolean compress;
 
-    private ExporterOptions(Context context, String type, Source source, Path outputFile) {
+    private ExporterOptions(
+            Context context, String type, Source source, Path outputFile, boolean compress) {
         this.context = context;
         this.type = type;
         this.source = source;
         this.outputFile = outputFile;
+        this.compress = compress;
     }
 
     public Context getContext() {
@@ -63,6 +66,16 @@ public class ExporterOptions {
         return outputFile;
     }
 
+    /**
+     * Tells whether or not the output file should be compressed, with gzip.
+     *
+     * @return {@code true} if the output file should be compressed, {@code false} otherwise.
+     * @since 0.23.0
+     */
+    public boolean isCompress() {
+        return compress;
+    }
+
     /**
      * Returns a new builder.
      *
@@ -83,6 +96,7 @@ public class ExporterOptions {
         private String type;
         private Source source;
         private Path outputFile;
+        private boolean compress;
 
         private Builder() {
             type = HarExporter.ID;
@@ -149,6 +163,21 @@ public class ExporterOptions {
             return this;
         }
 
+        /**
+         * Sets whether or not the output file should be compressed, with gzip.
+         *
+         * <p>Default value: {@code false}.
+         *
+         * @param compress {@code true} if the output file should be compressed, {@code false}
+         *     otherwise.
+         * @return the builder for chaining.
+         * @since 0.23.0
+         */
+        public Builder setCompress(boolean compress) {
+            this.compress = compress;
+            return this;
+        }
+
         /**
          * Builds the options from the specified data.
          *
@@ -160,7 +189,7 @@ public class ExporterOptions {
             if (outputFile == null) {
                 throw new IllegalStateException("The outputFile must be set.");
             }
-            return new ExporterOptions(context, type, source, outputFile);
+            return new ExporterOptions(context, type, source, outputFile, compress);
         }
     }
 
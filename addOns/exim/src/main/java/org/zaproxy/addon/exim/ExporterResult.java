@@ -34,6 +34,7 @@ public class ExporterResult {
     private List<String> errors;
     private Throwable cause;
     private int count;
+    private long timeTaken;
 
     /**
      * Gets the count of exported messages.
@@ -52,6 +53,33 @@ public class ExporterResult {
         this.count += n;
     }
 
+    /**
+     * Gets the time taken by the export.
+     *
+     * @return the time taken, in milliseconds.
+     * @since 0.23.0
+     */
+    public long getTimeTaken() {
+        return timeTaken;
+    }
+
+    void setTimeTaken(long timeTaken) {
+        this.timeTaken = timeTaken;
+    }
+
+    /**
+     * Gets the throughput of the export, the number of messages (or nodes) exported per second.
+     *
+     * @return the throughput, {@code 0} if nothing was exported.
+     * @since 0.23.0
+     */
+    public double getThroughput() {
+        if (count == 0) {
+            return 0;
+        }
+        return count * 1000.0 / Math.max(1, timeTaken);
+    }
+
     /**
      * Gets the errors that happened while exporting, if any.
      *
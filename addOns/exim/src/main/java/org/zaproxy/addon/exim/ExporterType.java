@@ -89,6 +89,38 @@ public abstract class ExporterType {
      */
     public abstract void write(Writer writer, HistoryReference ref) throws IOException;
 
+    /**
+     * Prepares the data to export for the given {@code HistoryReference}.
+     *
+     * <p>Called concurrently, from several threads and not in the order of the messages, before
+     * {@link #write(Writer, HistoryReference, Object)}, for types that have expensive conversions
+     * that do not depend on the state of the export. By default nothing is prepared.
+     *
+     * @param ref the {@code HistoryReference} being exported.
+     * @return the data prepared, might be {@code null}.
+     * @throws IOException if an error occurs while preparing the data.
+     * @since 0.23.0
+     */
+    public Object prepare(HistoryReference ref) throws IOException {
+        return null;
+    }
+
+    /**
+     * Called for each {@code HistoryReference} to export, in order, with the data previously
+     * {@link #prepare(HistoryReference) prepared}.
+     *
+     * <p>By default calls {@link #write(Writer, HistoryReference)}.
+     *
+     * @param writer to where to export the data.
+     * @param ref the {@code HistoryReference} being exported.
+     * @param prepared the data prepared, might be {@code null}.
+     * @throws IOException if an error occurs while exporting.
+     * @since 0.23.0
+     */
+    public void write(Writer writer, HistoryReference ref, Object prepared) throws IOException {
+        write(writer, ref);
+    }
+
     /**
      * Called when the export ends.
      *
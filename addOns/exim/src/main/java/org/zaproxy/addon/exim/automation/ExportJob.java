@@ -55,6 +55,7 @@ public class ExportJob extends AutomationJob {
     private static final String PARAM_TYPE = "type";
     private static final String PARAM_SOURCE = "source";
     private static final String PARAM_FILE_NAME = "fileName";
+    private static final String PARAM_COMPRESS = "compress";
 
     private final ExtensionExim extension;
 
@@ -125,6 +126,7 @@ public class ExportJob extends AutomationJob {
         map.put(PARAM_TYPE, "");
         map.put(PARAM_SOURCE, "");
         map.put(PARAM_FILE_NAME, "");
+        map.put(PARAM_COMPRESS, "");
         return map;
     }
 
@@ -152,6 +154,7 @@ public class ExportJob extends AutomationJob {
                         .setOutputFile(path)
                         .setType(getParameters().getType())
                         .setSource(getParameters().getSource())
+                        .setCompress(getParameters().isCompress())
                         .build();
 
         ExporterResult result = extension.getExporter().export(options);
@@ -161,6 +164,14 @@ public class ExportJob extends AutomationJob {
                         getName(),
                         result.getCount(),
                         path.toAbsolutePath()));
+        if (result.getCount() > 0) {
+            progress.info(
+                    Constant.messages.getString(
+                            "exim.automation.export.throughput",
+                            getName(),
+                            String.format(Locale.ROOT, "%.1f", result.getThroughput()),
+                            result.getTimeTaken()));
+        }
         result.getErrors()
                 .forEach(
                         error ->
@@ -261,5 +272,6 @@ public class ExportJob extends AutomationJob {
         private String type = HarExporter.ID;
         private Source source = Source.HISTORY;
         private String fileName;
+        private boolean compress;
     }
 }
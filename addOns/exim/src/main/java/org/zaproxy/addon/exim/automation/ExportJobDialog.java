@@ -44,6 +44,7 @@ public class ExportJobDialog extends StandardFieldsDialog {
     private static final String TYPE_PARAM = "exim.automation.dialog.type";
     private static final String SOURCE_PARAM = "exim.automation.export.dialog.source";
     private static final String FILE_NAME_PARAM = "exim.automation.dialog.filename";
+    private static final String COMPRESS_PARAM = "exim.automation.export.dialog.compress";
 
     private ExportJob job;
 
@@ -51,7 +52,7 @@ public class ExportJobDialog extends StandardFieldsDialog {
     private DefaultComboBoxModel<ExporterOptions.Source> sourceOptionModel;
 
     public ExportJobDialog(ExportJob job) {
-        super(View.getSingleton().getMainFrame(), TITLE, DisplayUtils.getScaledDimension(550, 250));
+        super(View.getSingleton().getMainFrame(), TITLE, DisplayUtils.getScaledDimension(550, 280));
         this.job = job;
 
         this.addTextField(NAME_PARAM, this.job.getData().getName());
@@ -77,6 +78,8 @@ public class ExportJobDialog extends StandardFieldsDialog {
         sourceOptionModel.setSelectedItem(job.getParameters().getSource());
         this.addComboField(SOURCE_PARAM, sourceOptionModel);
 
+        this.addCheckBoxField(COMPRESS_PARAM, job.getParameters().isCompress());
+
         this.addPadding();
     }
 
@@ -91,6 +94,7 @@ public class ExportJobDialog extends StandardFieldsDialog {
         this.job
                 .getParameters()
                 .setSource((ExporterOptions.Source) sourceOptionModel.getSelectedItem());
+        this.job.getParameters().setCompress(getBoolValue(COMPRESS_PARAM));
         this.job.resetAndSetChanged();
     }
 
@@ -22,6 +22,7 @@ package org.zaproxy.addon.exim.har;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import de.sstoehr.harreader.model.HarEntry;
 import de.sstoehr.harreader.model.HarLog;
 import java.io.IOException;
 import java.io.Writer;
@@ -66,12 +67,24 @@ public class HarExporter extends ExporterType {
 
     @Override
     public void write(Writer writer, HistoryReference ref) throws IOException {
+        write(writer, ref, prepare(ref));
+    }
+
+    @Override
+    public HarEntry prepare(HistoryReference ref) throws IOException {
         try {
-            generator.writePOJO(
-                    HarUtils.createHarEntry(
-                            ref.getHistoryId(), ref.getHistoryType(), ref.getHttpMessage()));
+            return HarUtils.createHarEntry(
+                    ref.getHistoryId(), ref.getHistoryType(), ref.getHttpMessage());
         } catch (DatabaseException ignore) {
             // The message is cached in the HistoryReference.
+            return null;
+        }
+    }
+
+    @Override
+    public void write(Writer writer, HistoryReference ref, Object prepared) throws IOException {
+        if (prepared != null) {
+            generator.writePOJO(prepared);
         }
     }
 
@@ -84,6 +84,17 @@ class ExporterOptionsUnitTest extends TestUtils {
         assertThat(options.getType(), is(equalTo(HarExporter.ID)));
         assertThat(options.getSource(), is(equalTo(Source.HISTORY)));
         assertThat(options.getOutputFile(), is(equalTo(outputFile)));
+        assertThat(options.isCompress(), is(equalTo(false)));
+    }
+
+    @Test
+    void shouldSetCompress() {
+        // Given
+        ExporterOptions.Builder builder = builderWithOutputFile();
+        // When
+        ExporterOptions options = builder.setCompress(true).build();
+        // Then
+        assertThat(options.isCompress(), is(equalTo(true)));
     }
 
     @Test
@@ -52,6 +52,30 @@ class ExporterResultUnitTest {
         assertThat(result.getCount(), is(equalTo(2)));
     }
 
+    @Test
+    void shouldHaveZeroThroughputIfNothingExported() {
+        // Given
+        ExporterResult result = new ExporterResult();
+        result.setTimeTaken(1000);
+        // When
+        double throughput = result.getThroughput();
+        // Then
+        assertThat(throughput, is(equalTo(0.0)));
+    }
+
+    @Test
+    void shouldComputeThroughputFromCountAndTimeTaken() {
+        // Given
+        ExporterResult result = new ExporterResult();
+        result.addCount(500);
+        result.setTimeTaken(250);
+        // When
+        double throughput = result.getThroughput();
+        // Then
+        assertThat(result.getTimeTaken(), is(equalTo(250L)));
+        assertThat(throughput, is(equalTo(2000.0)));
+    }
+
     @Test
     void shouldNotHaveErrorsByDefault() {
         // Given
@@ -34,10 +34,13 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.withSettings;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -138,21 +141,23 @@ class ExporterUnitTest extends TestUtils {
     private void databaseWithMessageForTypes(int... types) throws Exception {
         given(tableHistory.getHistoryIdsOfHistType(sessionId, types)).willReturn(List.of(1));
 
-        given(tableHistory.read(1))
-                .willReturn(
-                        new RecordHistory(
-                                1,
-                                42,
-                                sessionId,
-                                1L,
-                                2,
-                                "GET http://example.com/1 HTTP/1.1",
-                                new byte[] {0x01},
-                                "HTTP/1.1 200",
-                                new byte[] {0x02},
-                                "",
-                                "note 1",
-                                true));
+        given(tableHistory.read(1)).willReturn(recordHistory(1));
+    }
+
+    private RecordHistory recordHistory(int id) throws Exception {
+        return new RecordHistory(
+                id,
+                42,
+                sessionId,
+                1L,
+                2,
+                "GET http://example.com/" + id + " HTTP/1.1",
+                new byte[] {0x01},
+                "HTTP/1.1 200",
+                new byte[] {0x02},
+                "",
+                "note " + id,
+                true);
     }
 
     @Test
@@ -248,6 +253,50 @@ class ExporterUnitTest extends TestUtils {
         assertThat(Files.readString(outputFile), is(equalTo("http://example.com/1\n")));
     }
 
+    @Test
+    void shouldExportCompressedIfEnabled() throws Exception {
+        // Given
+        optionsWithType(UrlExporter.ID);
+        given(options.isCompress()).willReturn(true);
+        databaseWithHistoryMessage();
+        // When
+        ExporterResult result = exporter.export(options);
+        // Then
+        assertCount(result, 1);
+        assertThat(result.getErrors(), is(empty()));
+        try (var is = new GZIPInputStream(Files.newInputStream(outputFile))) {
+            assertThat(
+                    new String(is.readAllBytes(), StandardCharsets.UTF_8),
+                    is(equalTo("http://example.com/1\n")));
+        }
+    }
+
+    @Test
+    void shouldExportMessagesInOrderWhenInSeveralBatches() throws Exception {
+        // Given
+        optionsWithType(UrlExporter.ID);
+        int messages = ExportPipeline.DEFAULT_BATCH_SIZE * 3 + 7;
+        List<Integer> ids = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int id = 1; id <= messages; id++) {
+            ids.add(id);
+            given(tableHistory.read(id)).willReturn(recordHistory(id));
+            expected.append("http://example.com/").append(id).append('\n');
+        }
+        given(
+                        tableHistory.getHistoryIdsOfHistType(
+                                sessionId,
+                                HistoryReference.TYPE_PROXIED,
+                                HistoryReference.TYPE_ZAP_USER))
+                .willReturn(ids);
+        // When
+        ExporterResult result = exporter.export(options);
+        // Then
+        assertCount(result, messages);
+        assertThat(result.getErrors(), is(empty()));
+        assertThat(Files.readString(outputFile), is(equalTo(expected.toString())));
+    }
+
     @Test
     void shouldExportAllToUrls() throws Exception {
         // Given
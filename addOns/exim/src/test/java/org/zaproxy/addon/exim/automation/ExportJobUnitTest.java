@@ -108,14 +108,15 @@ class ExportJobUnitTest extends TestUtils {
         Map<String, String> params = job.getCustomConfigParameters();
 
         // Then
-        assertThat(params, is(aMapWithSize(4)));
+        assertThat(params, is(aMapWithSize(5)));
         assertThat(
                 params,
                 allOf(
                         hasEntry("type", ""),
                         hasEntry("fileName", ""),
                         hasEntry("source", ""),
-                        hasEntry("context", "")));
+                        hasEntry("context", ""),
+                        hasEntry("compress", "")));
     }
 
     @Test
@@ -190,6 +191,42 @@ class ExportJobUnitTest extends TestUtils {
                                 .formatted(file.toString())));
     }
 
+    @Test
+    void shouldReportExporterThroughput() throws IOException {
+        // Given
+        AutomationPlan plan = new AutomationPlan();
+        AutomationProgress progress = plan.getProgress();
+        AutomationEnvironment env = mock(AutomationEnvironment.class);
+        ContextWrapper contextWrapper = new ContextWrapper(mock(Context.class), env);
+        given(env.getContextWrapper(any())).willReturn(contextWrapper);
+        Path file = Files.createTempFile("zap", "export");
+        String yamlStr = "parameters:\n  fileName: " + file.toString() + "\n  compress: true";
+        Yaml yaml = new Yaml();
+        Object data = yaml.load(yamlStr);
+        ExporterResult result = mock();
+        given(result.getCount()).willReturn(42);
+        given(result.getThroughput()).willReturn(123.0);
+        given(result.getTimeTaken()).willReturn(340L);
+        given(exporter.export(any())).willReturn(result);
+
+        job.setJobData(((LinkedHashMap<?, ?>) data));
+        job.setPlan(plan);
+
+        // When
+        job.verifyParameters(progress);
+        job.runJob(env, progress);
+
+        // Then
+        assertThat(progress.hasWarnings(), is(equalTo(false)));
+        assertThat(progress.hasErrors(), is(equalTo(false)));
+        assertThat(job.getParameters().isCompress(), is(equalTo(true)));
+        assertThat(
+                progress.getInfos(),
+                hasItem(
+                        "Job export: Exported 123.0 message(s) / node(s) per second,"
+                                + " time taken: 340 ms."));
+    }
+
     @Test
     void shouldReportExporterErrors() {
         // Given
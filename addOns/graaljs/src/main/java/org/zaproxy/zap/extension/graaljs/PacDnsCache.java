@@ -0,0 +1,258 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.graaljs;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of DNS resolutions, used by the PAC helper functions.
+ *
+ * <p>Successful and failed resolutions are kept for different times. Once an entry expires the
+ * (stale) address is still returned while it's resolved again in the background, in a small
+ * dedicated pool of daemon threads, so the PAC evaluation does not block on DNS more than once per
+ * host.
+ */
+class PacDnsCache {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+    static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(10);
+    static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private static final int REFRESH_THREADS = 2;
+
+    private static ThreadPoolExecutor refreshExecutor;
+
+    private final Resolver resolver;
+    private final Executor executor;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final Map<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    PacDnsCache() {
+        this(
+                InetAddress::getByName,
+                task -> getRefreshExecutor().execute(task),
+                Clock.systemUTC(),
+                DEFAULT_TTL,
+                DEFAULT_NEGATIVE_TTL,
+                DEFAULT_MAX_ENTRIES);
+    }
+
+    PacDnsCache(
+            Resolver resolver,
+            Executor executor,
+            Clock clock,
+            Duration ttl,
+            Duration negativeTtl,
+            int maxEntries) {
+        this.resolver = Objects.requireNonNull(resolver);
+        this.executor = Objects.requireNonNull(executor);
+        this.clock = Objects.requireNonNull(clock);
+        this.ttlMillis = ttl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+    }
+
+    /**
+     * Resolves the given host name.
+     *
+     * @param hostName the host name.
+     * @return the address, or {@code null} if the host could not be resolved.
+     */
+    InetAddress resolve(String hostName) {
+        return resolveEntry(hostName).getAddress();
+    }
+
+    /**
+     * Resolves the given host name, returning also when the resolution expires.
+     *
+     * @param hostName the host name.
+     * @return the resolution, never {@code null}.
+     */
+    Entry resolveEntry(String hostName) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(hostName);
+        }
+
+        if (entry == null) {
+            misses.increment();
+            entry = lookup(hostName);
+            synchronized (entries) {
+                entries.put(hostName, entry);
+            }
+            return entry;
+        }
+
+        hits.increment();
+        if (entry.isExpired(clock.millis()) && entry.refreshing.compareAndSet(false, true)) {
+            try {
+                executor.execute(
+                        () -> {
+                            Entry refreshed = lookup(hostName);
+                            synchronized (entries) {
+                                entries.put(hostName, refreshed);
+                            }
+                        });
+            } catch (RejectedExecutionException e) {
+                // Shutting down, try again on next resolution.
+                entry.refreshing.set(false);
+            }
+        }
+        return entry;
+    }
+
+    private Entry lookup(String hostName) {
+        InetAddress address;
+        try {
+            address = resolver.resolve(hostName);
+        } catch (UnknownHostException e) {
+            address = null;
+        }
+        long ttl = address != null ? ttlMillis : negativeTtlMillis;
+        return new Entry(address, clock.millis() + ttl);
+    }
+
+    /**
+     * Tells whether or not the given expiry time was reached.
+     *
+     * @param expiresAt the time, in milliseconds.
+     * @return {@code true} if expired, {@code false} otherwise.
+     * @see Entry#getExpiresAt()
+     */
+    boolean isExpired(long expiresAt) {
+        return clock.millis() >= expiresAt;
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    private static synchronized Executor getRefreshExecutor() {
+        if (refreshExecutor == null) {
+            AtomicInteger threadNumber = new AtomicInteger(1);
+            refreshExecutor =
+                    new ThreadPoolExecutor(
+                            REFRESH_THREADS,
+                            REFRESH_THREADS,
+                            30,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            r -> {
+                                Thread thread =
+                                        new Thread(
+                                                r,
+                                                "ZAP-PacDnsRefresh-"
+                                                        + threadNumber.getAndIncrement());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            refreshExecutor.allowCoreThreadTimeOut(true);
+        }
+        return refreshExecutor;
+    }
+
+    /**
+     * Shuts down the executor used to refresh the expired resolutions, if created. A new one is
+     * created if needed afterwards.
+     */
+    static synchronized void shutdownRefreshExecutor() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+            refreshExecutor = null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Resolver {
+        InetAddress resolve(String hostName) throws UnknownHostException;
+    }
+
+    /** A resolution of a host name. */
+    static class Entry {
+
+        private final InetAddress address;
+        private final long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(InetAddress address, long expiresAt) {
+            this.address = address;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Gets the address of the host.
+         *
+         * @return the address, or {@code null} if the host could not be resolved.
+         */
+        InetAddress getAddress() {
+            return address;
+        }
+
+        /**
+         * Gets the time when the resolution expires.
+         *
+         * @return the time, in milliseconds.
+         */
+        long getExpiresAt() {
+            return expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
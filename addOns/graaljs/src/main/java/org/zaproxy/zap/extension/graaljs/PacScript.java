@@ -25,7 +25,6 @@ import java.net.InetAddress;
 import java.net.NetworkInterface;
 import java.net.SocketException;
 import java.net.URL;
-import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -40,8 +39,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import javax.script.Invocable;
@@ -51,6 +54,7 @@ import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.Value;
 import org.graalvm.polyglot.proxy.ProxyExecutable;
+import org.zaproxy.zap.utils.Stats;
 
 /**
  * Represents a PAC script file and methods to evaluate its content.
@@ -73,10 +77,36 @@ class PacScript {
     private static final String TYPE_PROXY_DATA_SEPARATOR = " ";
     private static final String HOST_PORT_SEPARATOR = ":";
 
+    private static final Pattern FIND_PROXY_FOR_URL_DECLARATION =
+            Pattern.compile("function\\s+FindProxyForURL\\s*\\(\\s*([\\w$]+)\\s*,");
+
+    static final int DEFAULT_MAX_CACHED_RESULTS = 1000;
+
+    static final String STATS_EVALUATIONS = "stats.graaljs.pac.evaluations";
+    static final String STATS_EVALUATION_TIME = "stats.graaljs.pac.evaluation.time.ns";
+    static final String STATS_CACHE_HITS = "stats.graaljs.pac.cache.hits";
+
     private final Invocable pacImpl;
 
+    private final boolean urlSensitive;
+    private final Map<String, CachedResult> resultsCache;
+    private final PacDnsCache dnsCache;
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder evaluationTime = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+
     private Clock baseClock;
 
+    /** Tells whether or not the current evaluation used the clock, thus can't be cached. */
+    private boolean timeDependent;
+
+    /**
+     * When the result of the current evaluation expires, the earliest expiry of the host names
+     * resolved, if any.
+     */
+    private long resultExpiresAt;
+
     /**
      * Constructs a {@code PacScript} from the given URL (read with UTF-8 charset).
      *
@@ -115,10 +145,26 @@ class PacScript {
      * @throws IllegalArgumentException if {@code scriptContent} is {@code null} or empty.
      */
     public PacScript(String scriptContent) throws ScriptException {
+        this(scriptContent, new PacDnsCache(), DEFAULT_MAX_CACHED_RESULTS);
+    }
+
+    PacScript(String scriptContent, PacDnsCache dnsCache, int maxCachedResults)
+            throws ScriptException {
         if (scriptContent == null || scriptContent.isEmpty()) {
             throw new IllegalArgumentException("The PAC script content must not be null or empty.");
         }
         this.baseClock = Clock.systemDefaultZone();
+        this.dnsCache = Objects.requireNonNull(dnsCache);
+        this.urlSensitive = isUrlSensitive(scriptContent);
+        this.resultsCache =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                        return size() > maxCachedResults;
+                    }
+                };
 
         Engine engine =
                 Engine.newBuilder("js").option("engine.WarnInterpreterOnly", "false").build();
@@ -130,10 +176,10 @@ class PacScript {
         se.put("dateRange", (ProxyExecutable) this::dateRange);
         se.put("dnsDomainIs", (ProxyExecutable) PacScript::dnsDomainIs);
         se.put("dnsDomainLevels", (ProxyExecutable) PacScript::dnsDomainLevels);
-        se.put("dnsResolve", (ProxyExecutable) PacScript::dnsResolve);
-        se.put("isInNet", (ProxyExecutable) PacScript::isInNet);
+        se.put("dnsResolve", (ProxyExecutable) this::dnsResolve);
+        se.put("isInNet", (ProxyExecutable) this::isInNet);
         se.put("isPlainHostName", (ProxyExecutable) PacScript::isPlainHostName);
-        se.put("isResolvable", (ProxyExecutable) PacScript::isResolvable);
+        se.put("isResolvable", (ProxyExecutable) this::isResolvable);
         se.put("localHostOrDomainIs", (ProxyExecutable) PacScript::localHostOrDomainIs);
         se.put("myIpAddress", (ProxyExecutable) PacScript::myIpAddress);
         se.put("shExpMatch", (ProxyExecutable) PacScript::shExpMatch);
@@ -144,14 +190,85 @@ class PacScript {
         pacImpl = se;
     }
 
+    /**
+     * Tells whether or not the {@code FindProxyForURL} function of the given script might use the
+     * URL, in which case the results can't be shared by all the URLs of a host.
+     *
+     * <p>Errs on the side of caution, if the function declaration is not found the script is
+     * considered URL sensitive.
+     *
+     * @param scriptContent the contents of the PAC script.
+     * @return {@code true} if the URL might be used, {@code false} otherwise.
+     */
+    static boolean isUrlSensitive(String scriptContent) {
+        Matcher matcher = FIND_PROXY_FOR_URL_DECLARATION.matcher(scriptContent);
+        if (!matcher.find()) {
+            return true;
+        }
+        if (scriptContent.contains("arguments")) {
+            return true;
+        }
+
+        Pattern usage =
+                Pattern.compile("(?<![\\w$.])" + Pattern.quote(matcher.group(1)) + "(?![\\w$])");
+        Matcher usageMatcher = usage.matcher(scriptContent);
+        usageMatcher.region(matcher.end(), scriptContent.length());
+        return usageMatcher.find();
+    }
+
     void setBaseClock(Clock baseClock) {
         this.baseClock = baseClock;
+        clearCaches();
     }
 
     public void close() {
+        clearCaches();
         ((GraalJSScriptEngine) pacImpl).close();
     }
 
+    /** Clears the cached results and DNS resolutions. */
+    public void clearCaches() {
+        synchronized (resultsCache) {
+            resultsCache.clear();
+        }
+        dnsCache.clear();
+    }
+
+    boolean isUrlSensitive() {
+        return urlSensitive;
+    }
+
+    /**
+     * Gets the number of times the {@code FindProxyForURL} function was called.
+     *
+     * @return the number of evaluations.
+     */
+    long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    /**
+     * Gets the total time spent calling the {@code FindProxyForURL} function.
+     *
+     * @return the time, in nanoseconds.
+     */
+    long getEvaluationTime() {
+        return evaluationTime.sum();
+    }
+
+    /**
+     * Gets the number of proxy settings obtained from the cache.
+     *
+     * @return the number of cache hits.
+     */
+    long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    PacDnsCache getDnsCache() {
+        return dnsCache;
+    }
+
     /**
      * Calls the FindProxyForURL function of this PAC script.
      *
@@ -162,24 +279,69 @@ class PacScript {
      *     function.
      */
     String evaluate(String url, String host) throws ScriptException {
-        try {
-            return (String) pacImpl.invokeFunction("FindProxyForURL", url, host);
-        } catch (Exception e) {
-            throw new ScriptException(e);
+        synchronized (pacImpl) {
+            timeDependent = false;
+            resultExpiresAt = Long.MAX_VALUE;
+            long start = System.nanoTime();
+            try {
+                return (String) pacImpl.invokeFunction("FindProxyForURL", url, host);
+            } catch (Exception e) {
+                throw new ScriptException(e);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                evaluations.increment();
+                evaluationTime.add(elapsed);
+                Stats.incCounter(STATS_EVALUATIONS);
+                // In nanoseconds, the evaluations usually take well under a millisecond.
+                Stats.incCounter(STATS_EVALUATION_TIME, elapsed);
+            }
         }
     }
 
     /**
      * Finds the proxy settings for the given url and host.
      *
+     * <p>The settings are cached by host, or by URL if the script uses the URL, unless the script
+     * depends on the current date or time. The settings that depend on the resolution of host
+     * names are cached only while the resolutions are.
+     *
      * @param url the URL.
      * @param host the host.
-     * @return a list of proxy settings, empty if none.
+     * @return an unmodifiable list of proxy settings, empty if none.
      * @throws ScriptException if an error occurred while calling the {@code FindProxyForURL}
      *     function or parsing its result.
      */
     public List<Setting> findProxyForUrl(String url, String host) throws ScriptException {
-        String result = evaluate(url, host);
+        String key = urlSensitive ? host + " " + url : host;
+        CachedResult cachedResult;
+        synchronized (resultsCache) {
+            cachedResult = resultsCache.get(key);
+        }
+        if (cachedResult != null && !dnsCache.isExpired(cachedResult.expiresAt())) {
+            cacheHits.increment();
+            Stats.incCounter(STATS_CACHE_HITS);
+            return cachedResult.settings();
+        }
+
+        List<Setting> settings;
+        boolean cacheable;
+        long expiresAt;
+        synchronized (pacImpl) {
+            settings = parseSettings(evaluate(url, host));
+            expiresAt = resultExpiresAt;
+            cacheable = !timeDependent && !dnsCache.isExpired(expiresAt);
+        }
+        if (cacheable) {
+            synchronized (resultsCache) {
+                resultsCache.put(key, new CachedResult(settings, expiresAt));
+            }
+        }
+        return settings;
+    }
+
+    private record CachedResult(List<Setting> settings, long expiresAt) {}
+
+    private static List<Setting> parseSettings(String result) throws ScriptException {
         if (result == null || result.isEmpty()) {
             return Collections.emptyList();
         }
@@ -197,7 +359,7 @@ class PacScript {
                 break;
             }
         }
-        return settings;
+        return Collections.unmodifiableList(settings);
     }
 
     private static Setting createSetting(String value) throws ScriptException {
@@ -539,12 +701,13 @@ class PacScript {
      * @see <a href="http://findproxyforurl.com/netscape-documentation/#dnsResolve">Netscape
      *     documentation</a>
      */
-    private static String dnsResolve(Value... args) {
-        String hostName = extractArg(args, 0);
-        InetAddress address;
-        try {
-            address = InetAddress.getByName(hostName);
-        } catch (UnknownHostException e) {
+    private String dnsResolve(Value... args) {
+        return resolveAddress(extractArg(args, 0));
+    }
+
+    private String resolveAddress(String hostName) {
+        InetAddress address = resolve(hostName);
+        if (address == null) {
             return ""; // Unknown host
         }
 
@@ -570,15 +733,15 @@ class PacScript {
      *     {@code false} otherwise.
      * @see <a href="http://findproxyforurl.com/netscape-documentation/#isInNet">Netscape
      *     documentation</a>
-     * @see PacScript#dnsResolve(String)
+     * @see PacScript#dnsResolve(Value...)
      */
-    private static boolean isInNet(Value... args) {
-        Value host = args[0];
+    private boolean isInNet(Value... args) {
+        String host = extractArg(args, 0);
         String network = extractArg(args, 1);
         String mask = extractArg(args, 2);
 
         // Retrieves ip addresses in a String array format
-        String[] hostBytes = dnsResolve(host).split("\\.");
+        String[] hostBytes = resolveAddress(host).split("\\.");
         String[] networkBytes = network.split("\\.");
         String[] maskBytes = mask.split("\\.");
 
@@ -649,14 +812,14 @@ class PacScript {
      * @see <a href="http://findproxyforurl.com/netscape-documentation/#isResolvable">Netscape
      *     documentation</a>
      */
-    private static boolean isResolvable(Value... args) {
-        try {
-            InetAddress.getByName(extractArg(args, 0));
-        } catch (UnknownHostException e) {
-            return false; // Unknown host
-        }
+    private boolean isResolvable(Value... args) {
+        return resolve(extractArg(args, 0)) != null;
+    }
 
-        return true;
+    private InetAddress resolve(String hostName) {
+        PacDnsCache.Entry entry = dnsCache.resolveEntry(hostName);
+        resultExpiresAt = Math.min(resultExpiresAt, entry.getExpiresAt());
+        return entry.getAddress();
     }
 
     /**
@@ -986,6 +1149,7 @@ class PacScript {
     }
 
     private Clock getClock(String timeZone) {
+        timeDependent = true;
         if (GMT_TIME_ZONE.equals(timeZone)) {
             return baseClock.withZone(ZoneId.of(GMT_TIME_ZONE));
         }
@@ -0,0 +1,204 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.graaljs;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link PacDnsCache}. */
+class PacDnsCacheUnitTest {
+
+    private static final Duration TTL = Duration.ofSeconds(60);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(10);
+
+    private AtomicInteger lookups;
+    private List<Runnable> tasks;
+    private TestClock clock;
+
+    @BeforeEach
+    void setUp() {
+        lookups = new AtomicInteger();
+        tasks = new ArrayList<>();
+        clock = new TestClock();
+    }
+
+    @Test
+    void shouldResolveHostOnlyOnceWhileNotExpired() {
+        // Given
+        PacDnsCache dnsCache = createDnsCache(10);
+        // When
+        InetAddress address1 = dnsCache.resolve("example.com");
+        InetAddress address2 = dnsCache.resolve("example.com");
+        // Then
+        assertThat(address1.getHostAddress(), is("192.0.2.1"));
+        assertThat(address2, is(address1));
+        assertThat(lookups.get(), is(1));
+        assertThat(dnsCache.getMisses(), is(1L));
+        assertThat(dnsCache.getHits(), is(1L));
+    }
+
+    @Test
+    void shouldCacheUnknownHosts() {
+        // Given
+        PacDnsCache dnsCache = createDnsCache(10);
+        // When
+        InetAddress address1 = dnsCache.resolve("unknown.example.com");
+        InetAddress address2 = dnsCache.resolve("unknown.example.com");
+        // Then
+        assertThat(address1, is(nullValue()));
+        assertThat(address2, is(nullValue()));
+        assertThat(lookups.get(), is(1));
+    }
+
+    @Test
+    void shouldExpireResolutionsAfterTtl() {
+        // Given
+        PacDnsCache dnsCache = createDnsCache(10);
+        // When
+        PacDnsCache.Entry entry = dnsCache.resolveEntry("example.com");
+        PacDnsCache.Entry unknownEntry = dnsCache.resolveEntry("unknown.example.com");
+        // Then
+        assertThat(entry.getExpiresAt(), is(TTL.toMillis()));
+        assertThat(unknownEntry.getExpiresAt(), is(NEGATIVE_TTL.toMillis()));
+        assertThat(dnsCache.isExpired(entry.getExpiresAt()), is(false));
+        clock.advance(TTL);
+        assertThat(dnsCache.isExpired(entry.getExpiresAt()), is(true));
+    }
+
+    @Test
+    void shouldReturnStaleAddressAndRefreshInBackgroundOnceExpired() {
+        // Given
+        PacDnsCache dnsCache = createDnsCache(10);
+        dnsCache.resolve("example.com");
+        clock.advance(TTL);
+        // When
+        InetAddress address = dnsCache.resolve("example.com");
+        dnsCache.resolve("example.com");
+        // Then
+        assertThat(address.getHostAddress(), is("192.0.2.1"));
+        assertThat(tasks.size(), is(1));
+        assertThat(lookups.get(), is(1));
+        tasks.get(0).run();
+        assertThat(lookups.get(), is(2));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries() {
+        // Given
+        PacDnsCache dnsCache = createDnsCache(1);
+        dnsCache.resolve("a.example.com");
+        dnsCache.resolve("b.example.com");
+        // When
+        dnsCache.resolve("a.example.com");
+        // Then
+        assertThat(lookups.get(), is(3));
+    }
+
+    @Test
+    void shouldResolveAgainAfterClear() {
+        // Given
+        PacDnsCache dnsCache = createDnsCache(10);
+        dnsCache.resolve("example.com");
+        // When
+        dnsCache.clear();
+        dnsCache.resolve("example.com");
+        // Then
+        assertThat(lookups.get(), is(2));
+    }
+
+    @Test
+    void shouldRefreshAgainIfRefreshRejected() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        PacDnsCache dnsCache =
+                new PacDnsCache(
+                        this::resolve,
+                        task -> {
+                            if (attempts.incrementAndGet() == 1) {
+                                throw new RejectedExecutionException();
+                            }
+                            tasks.add(task);
+                        },
+                        clock,
+                        TTL,
+                        NEGATIVE_TTL,
+                        10);
+        dnsCache.resolve("example.com");
+        clock.advance(TTL);
+        // When
+        InetAddress address = dnsCache.resolve("example.com");
+        dnsCache.resolve("example.com");
+        // Then
+        assertThat(address.getHostAddress(), is("192.0.2.1"));
+        assertThat(attempts.get(), is(2));
+        assertThat(tasks.size(), is(1));
+    }
+
+    private PacDnsCache createDnsCache(int maxEntries) {
+        return new PacDnsCache(this::resolve, tasks::add, clock, TTL, NEGATIVE_TTL, maxEntries);
+    }
+
+    private InetAddress resolve(String hostName) throws UnknownHostException {
+        lookups.incrementAndGet();
+        if (hostName.startsWith("unknown")) {
+            throw new UnknownHostException(hostName);
+        }
+        return InetAddress.getByAddress(hostName, new byte[] {(byte) 192, 0, 2, 1});
+    }
+
+    private static class TestClock extends Clock {
+
+        private Instant instant = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
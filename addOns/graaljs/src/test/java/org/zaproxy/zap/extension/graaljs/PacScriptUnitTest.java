@@ -22,12 +22,16 @@ package org.zaproxy.zap.extension.graaljs;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.net.InetAddress;
 import java.net.URL;
 import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -35,6 +39,7 @@ import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.WeekFields;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.script.ScriptException;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
@@ -506,6 +511,168 @@ class PacScriptUnitTest extends TestUtils {
                 () -> pacScript.findProxyForUrl("http://example.com/", "example.com"));
     }
 
+    @Test
+    void shouldNotBeUrlSensitiveIfScriptDoesNotUseUrl() {
+        // Given
+        String script = "function FindProxyForURL(url, host) { return host + 'url'; }";
+        // When
+        boolean urlSensitive = PacScript.isUrlSensitive(script);
+        // Then
+        assertThat(urlSensitive, is(false));
+    }
+
+    @Test
+    void shouldBeUrlSensitiveIfScriptUsesUrl() {
+        // Given
+        String script =
+                "function FindProxyForURL(u, h) { return shExpMatch(u, '*.pdf') ? 'DIRECT' : ''; }";
+        // When
+        boolean urlSensitive = PacScript.isUrlSensitive(script);
+        // Then
+        assertThat(urlSensitive, is(true));
+    }
+
+    @Test
+    void shouldBeUrlSensitiveIfFunctionDeclarationNotFound() {
+        // Given
+        String script = "var FindProxyForURL = function(url, host) { return 'DIRECT'; }";
+        // When
+        boolean urlSensitive = PacScript.isUrlSensitive(script);
+        // Then
+        assertThat(urlSensitive, is(true));
+    }
+
+    @Test
+    void shouldCacheSettingsByHostIfScriptDoesNotUseUrl() throws Exception {
+        // Given
+        PacScript pacScript = new PacScript(returns("DIRECT"));
+        List<Setting> settings = pacScript.findProxyForUrl("http://example.com/a", "example.com");
+        // When
+        List<Setting> cachedSettings =
+                pacScript.findProxyForUrl("http://example.com/b", "example.com");
+        // Then
+        assertThat(cachedSettings, is(sameInstance(settings)));
+        assertThat(pacScript.getEvaluations(), is(1L));
+        assertThat(pacScript.getCacheHits(), is(1L));
+    }
+
+    @Test
+    void shouldCacheSettingsByUrlIfScriptUsesUrl() throws Exception {
+        // Given
+        PacScript pacScript =
+                new PacScript(
+                        "function FindProxyForURL(url, host) { return url.endsWith('a') ? 'DIRECT' : ''; }");
+        // When
+        List<Setting> settings1 = pacScript.findProxyForUrl("http://example.com/a", "example.com");
+        List<Setting> settings2 = pacScript.findProxyForUrl("http://example.com/b", "example.com");
+        pacScript.findProxyForUrl("http://example.com/a", "example.com");
+        // Then
+        assertThat(settings1, hasSize(1));
+        assertThat(settings2, hasSize(0));
+        assertThat(pacScript.getEvaluations(), is(2L));
+        assertThat(pacScript.getCacheHits(), is(1L));
+    }
+
+    @Test
+    void shouldNotCacheSettingsIfScriptDependsOnTime() throws Exception {
+        // Given
+        PacScript pacScript =
+                new PacScript(
+                        "function FindProxyForURL(url, host) { return weekdayRange('SUN', 'SAT') ? 'DIRECT' : ''; }");
+        pacScript.setBaseClock(FIXED_CLOCK);
+        // When
+        pacScript.findProxyForUrl("http://example.com/", "example.com");
+        pacScript.findProxyForUrl("http://example.com/", "example.com");
+        // Then
+        assertThat(pacScript.getEvaluations(), is(2L));
+        assertThat(pacScript.getCacheHits(), is(0L));
+    }
+
+    @Test
+    void shouldNotCacheFailedEvaluations() throws Exception {
+        // Given
+        PacScript pacScript = new PacScript(returns("PROXY host"));
+        // When
+        assertThrows(
+                ScriptException.class,
+                () -> pacScript.findProxyForUrl("http://example.com/", "example.com"));
+        assertThrows(
+                ScriptException.class,
+                () -> pacScript.findProxyForUrl("http://example.com/", "example.com"));
+        // Then
+        assertThat(pacScript.getEvaluations(), is(2L));
+    }
+
+    @Test
+    void shouldResolveHostsThroughDnsCache() throws Exception {
+        // Given
+        AtomicInteger lookups = new AtomicInteger();
+        PacDnsCache dnsCache =
+                new PacDnsCache(
+                        hostName -> {
+                            lookups.incrementAndGet();
+                            return InetAddress.getByAddress(hostName, new byte[] {10, 0, 0, 1});
+                        },
+                        Runnable::run,
+                        FIXED_CLOCK,
+                        Duration.ofMinutes(1),
+                        Duration.ofSeconds(1),
+                        10);
+        PacScript pacScript =
+                new PacScript(
+                        "function FindProxyForURL(url, host) { return isInNet(host, '10.0.0.0', '255.0.0.0') && isResolvable(host) ? dnsResolve(host) : 'FAILURE'; }",
+                        dnsCache,
+                        0);
+        // When
+        String result1 = pacScript.evaluate("http://example.com/", "example.com");
+        String result2 = pacScript.evaluate("http://example.com/", "example.com");
+        // Then
+        assertEquals("10.0.0.1", result1);
+        assertEquals("10.0.0.1", result2);
+        assertThat(lookups.get(), is(1));
+    }
+
+    @Test
+    void shouldCacheSettingsThatDependOnHostResolutionsWhileNotExpired() throws Exception {
+        // Given
+        PacScript pacScript = createPacScriptResolvingHosts(Duration.ofMinutes(1));
+        // When
+        pacScript.findProxyForUrl("http://example.com/", "example.com");
+        List<Setting> settings = pacScript.findProxyForUrl("http://example.com/", "example.com");
+        // Then
+        assertThat(settings, hasSize(1));
+        assertThat(pacScript.getEvaluations(), is(1L));
+        assertThat(pacScript.getCacheHits(), is(1L));
+    }
+
+    @Test
+    void shouldNotCacheSettingsThatDependOnExpiredHostResolutions() throws Exception {
+        // Given
+        PacScript pacScript = createPacScriptResolvingHosts(Duration.ZERO);
+        // When
+        pacScript.findProxyForUrl("http://example.com/", "example.com");
+        List<Setting> settings = pacScript.findProxyForUrl("http://example.com/", "example.com");
+        // Then
+        assertThat(settings, hasSize(1));
+        assertThat(pacScript.getEvaluations(), is(2L));
+        assertThat(pacScript.getCacheHits(), is(0L));
+    }
+
+    private static PacScript createPacScriptResolvingHosts(Duration ttl) throws ScriptException {
+        PacDnsCache dnsCache =
+                new PacDnsCache(
+                        hostName -> InetAddress.getByAddress(hostName, new byte[] {10, 0, 0, 1}),
+                        Runnable::run,
+                        FIXED_CLOCK,
+                        ttl,
+                        ttl,
+                        10);
+        return new PacScript(
+                "function FindProxyForURL(url, host) { return isInNet(host, '10.0.0.0', '255.0.0.0') ? 'DIRECT' : 'PROXY proxy:8080'; }",
+                dnsCache,
+                PacScript.DEFAULT_MAX_CACHED_RESULTS);
+    }
+
     private static URL getFileUrl(String fileName) {
         return PacScriptUnitTest.class.getResource(fileName);
     }
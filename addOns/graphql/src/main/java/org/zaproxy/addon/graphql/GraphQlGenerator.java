@@ -40,7 +40,15 @@ import graphql.schema.idl.UnExecutableSchemaGenerator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 import net.sf.json.JSONArray;
 import net.sf.json.JSONObject;
 import org.apache.commons.lang3.StringUtils;
@@ -48,10 +56,15 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.zaproxy.addon.commonlib.ValueProvider;
 import org.zaproxy.addon.graphql.GraphQlParam.RequestMethodOption;
+import org.zaproxy.zap.utils.Stats;
 
 public class GraphQlGenerator {
 
     private static final Logger LOGGER = LogManager.getLogger(GraphQlGenerator.class);
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern PUNCTUATOR_SPACES_PATTERN =
+            Pattern.compile(" ?([{}()\\[\\]:,]) ?");
+    private static final AtomicInteger THREAD_POOL_ID = new AtomicInteger();
     private final Requestor requestor;
     private final GraphQlParam param;
     private final GraphQLSchema schema;
@@ -67,6 +80,18 @@ public class GraphQlGenerator {
     private final int maxMessages;
     private int messagesSent;
 
+    /** The canonical form of the operations already sent, to not send equivalent ones. */
+    private final Set<String> operationsSent = new HashSet<>();
+
+    /**
+     * The selection sets already generated with inline arguments, by type name and depth. The
+     * selection set of a type depends only on those when the arguments are inline.
+     */
+    private final Map<String, String> selectionSets = new HashMap<>();
+
+    private final List<String[]> batch = new ArrayList<>();
+    private ThreadPoolExecutor executor;
+
     public GraphQlGenerator(
             ValueProvider valueProvider,
             String sdl,
@@ -105,6 +130,15 @@ public class GraphQlGenerator {
 
     /** Generates and sends graphql requests based on user set parameters. */
     public void generateAndSend() {
+        startSending();
+        try {
+            generateAndSendImpl();
+        } finally {
+            finishSending();
+        }
+    }
+
+    private void generateAndSendImpl() {
         switch (param.getArgsType()) {
             case INLINE:
                 inlineArgsEnabled = true;
@@ -245,8 +279,128 @@ public class GraphQlGenerator {
             throw new InterruptedException();
         }
         prefixRequestType(query, requestType);
-        requestor.sendQuery(query.toString(), variables.toString(), param.getRequestMethod());
+        String queryString = query.toString();
+        String variablesString = variables.toString();
+        if (!operationsSent.add(canonicalize(queryString) + '\n' + variablesString)) {
+            Stats.incCounter(GraphQlStats.DUPLICATE_OPERATIONS_SKIPPED);
+            return;
+        }
         messagesSent++;
+        dispatch(queryString, variablesString);
+    }
+
+    /**
+     * Gets the canonical form of the given query, with the whitespace collapsed and the spaces
+     * around punctuators removed, so that equivalent queries have the same form.
+     */
+    static String canonicalize(String query) {
+        String collapsed = WHITESPACE_PATTERN.matcher(query.trim()).replaceAll(" ");
+        return PUNCTUATOR_SPACES_PATTERN.matcher(collapsed).replaceAll("$1");
+    }
+
+    private void dispatch(String query, String variables) {
+        RequestMethodOption method = param.getRequestMethod();
+        if (param.getBatchSize() > 1 && method == RequestMethodOption.POST_JSON) {
+            batch.add(new String[] {query, variables});
+            if (batch.size() >= param.getBatchSize()) {
+                sendBatch();
+            }
+            return;
+        }
+        execute(() -> requestor.sendQuery(query, variables, method));
+    }
+
+    private void sendBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<String[]> operations = new ArrayList<>(batch);
+        batch.clear();
+        if (operations.size() == 1) {
+            String[] operation = operations.get(0);
+            execute(
+                    () ->
+                            requestor.sendQuery(
+                                    operation[0], operation[1], RequestMethodOption.POST_JSON));
+            return;
+        }
+        Stats.incCounter(GraphQlStats.BATCHED_REQUESTS);
+        execute(() -> requestor.sendBatch(operations));
+    }
+
+    private void execute(Runnable task) {
+        if (executor == null) {
+            task.run();
+            return;
+        }
+        executor.execute(task);
+    }
+
+    /**
+     * Starts the executor used to send the requests, if using more than one thread.
+     *
+     * <p>The queue is bounded and, once full, the generator sends the request itself, which keeps
+     * the generation from getting too far ahead of the requests sent.
+     */
+    private void startSending() {
+        int threads = param.getThreads();
+        if (threads <= 1) {
+            return;
+        }
+        int poolId = THREAD_POOL_ID.incrementAndGet();
+        AtomicInteger threadId = new AtomicInteger();
+        executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(threads * 2),
+                        r -> {
+                            Thread thread =
+                                    new Thread(
+                                            r,
+                                            "ZAP-GraphQL-Sender-"
+                                                    + poolId
+                                                    + "-"
+                                                    + threadId.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private void finishSending() {
+        if (isStopped()) {
+            batch.clear();
+        } else {
+            sendBatch();
+        }
+
+        if (executor == null) {
+            return;
+        }
+        if (isStopped()) {
+            executor.shutdownNow();
+        } else {
+            executor.shutdown();
+        }
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                if (isStopped()) {
+                    executor.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    private static boolean isStopped() {
+        return Thread.currentThread() instanceof ParserThread
+                && !((ParserThread) Thread.currentThread()).isRunning();
     }
 
     private GraphQLObjectType getRequestTypeObject(RequestType requestType) {
@@ -302,6 +456,32 @@ public class GraphQlGenerator {
             Requestor requestor,
             RequestType requestType)
             throws InterruptedException {
+        if (requestor == null && inlineArgsEnabled && type instanceof GraphQLNamedType) {
+            String key = ((GraphQLNamedType) type).getName() + ':' + depth;
+            String selectionSet = selectionSets.get(key);
+            if (selectionSet == null) {
+                int start = query.length();
+                generateSelectionSet(
+                        query, variables, variableName, type, depth, requestor, requestType);
+                selectionSet = query.substring(start);
+                selectionSets.put(key, selectionSet);
+            } else {
+                query.append(selectionSet);
+            }
+            return;
+        }
+        generateSelectionSet(query, variables, variableName, type, depth, requestor, requestType);
+    }
+
+    private void generateSelectionSet(
+            StringBuilder query,
+            JSONObject variables,
+            StringBuilder variableName,
+            GraphQLType type,
+            int depth,
+            Requestor requestor,
+            RequestType requestType)
+            throws InterruptedException {
         if (depth >= param.getMaxQueryDepth()) {
             if (param.getLenientMaxQueryDepthEnabled()) {
                 query.append(getFirstLeafQuery(type, variables, variableName));
@@ -318,13 +498,10 @@ public class GraphQlGenerator {
             GraphQLObjectType object = (GraphQLObjectType) type;
             List<GraphQLFieldDefinition> fields = object.getFieldDefinitions();
             for (GraphQLFieldDefinition field : fields) {
-                if (Thread.currentThread() instanceof ParserThread) {
-                    ParserThread t = (ParserThread) Thread.currentThread();
-                    if (!t.isRunning()) {
-                        LOGGER.debug("Stopping the GraphQL Generator.");
-                        // Break out of recursion.
-                        throw new InterruptedException();
-                    }
+                if (isStopped()) {
+                    LOGGER.debug("Stopping the GraphQL Generator.");
+                    // Break out of recursion.
+                    throw new InterruptedException();
                 }
                 GraphQLType fieldType = field.getType();
                 String beforeSendingByLeaf = query.toString();
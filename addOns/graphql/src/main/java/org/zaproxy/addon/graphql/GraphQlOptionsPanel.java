@@ -60,6 +60,8 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
     private JLabel maxAdditionalQueryDepthLabel;
     private JComboBox<CycleDetectionModeOption> cycleDetectionModeOptions;
     private ZapNumberSpinner maxCycleDetectionAlertsNumberSpinner;
+    private ZapNumberSpinner threadsNumberSpinner;
+    private ZapNumberSpinner batchSizeNumberSpinner;
 
     public GraphQlOptionsPanel() {
         super();
@@ -91,6 +93,8 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
         getRequestMethodOptions().setSelectedItem(param.getRequestMethod());
         getCycleDetectionModeOptions().setSelectedItem(param.getCycleDetectionMode());
         getMaxCycleDetectionAlertsNumberSpinner().setValue(param.getMaxCycleDetectionAlerts());
+        getThreadsNumberSpinner().setValue(param.getThreads());
+        getBatchSizeNumberSpinner().setValue(param.getBatchSize());
     }
 
     @Override
@@ -110,6 +114,8 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
         param.setCycleDetectionMode(
                 (CycleDetectionModeOption) getCycleDetectionModeOptions().getSelectedItem());
         param.setMaxCycleDetectionAlerts(getMaxCycleDetectionAlertsNumberSpinner().getValue());
+        param.setThreads(getThreadsNumberSpinner().getValue());
+        param.setBatchSize(getBatchSizeNumberSpinner().getValue());
     }
 
     private JCheckBox getQueryGenEnabled() {
@@ -155,6 +161,12 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
                     new JLabel(Constant.messages.getString("graphql.options.label.split"));
             JLabel requestMethodLabel =
                     new JLabel(Constant.messages.getString("graphql.options.label.requestMethod"));
+            JLabel threadsLabel =
+                    new JLabel(Constant.messages.getString("graphql.options.label.threads"));
+            JLabel batchSizeLabel =
+                    new JLabel(Constant.messages.getString("graphql.options.label.batchSize"));
+            batchSizeLabel.setToolTipText(
+                    Constant.messages.getString("graphql.options.label.batchSize.tooltip"));
 
             int i = -1;
             queryGenConfigPanel.add(
@@ -196,6 +208,16 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
             queryGenConfigPanel.add(
                     getRequestMethodOptions(),
                     LayoutHelper.getGBC(1, i, 1, 1.0, new Insets(2, 2, 2, 2)));
+            queryGenConfigPanel.add(
+                    threadsLabel, LayoutHelper.getGBC(0, ++i, 1, 1.0, new Insets(2, 2, 2, 2)));
+            queryGenConfigPanel.add(
+                    getThreadsNumberSpinner(),
+                    LayoutHelper.getGBC(1, i, 1, 1.0, new Insets(2, 2, 2, 2)));
+            queryGenConfigPanel.add(
+                    batchSizeLabel, LayoutHelper.getGBC(0, ++i, 1, 1.0, new Insets(2, 2, 2, 2)));
+            queryGenConfigPanel.add(
+                    getBatchSizeNumberSpinner(),
+                    LayoutHelper.getGBC(1, i, 1, 1.0, new Insets(2, 2, 2, 2)));
         }
         return queryGenConfigPanel;
     }
@@ -349,6 +371,22 @@ public class GraphQlOptionsPanel extends AbstractParamPanel {
         return maxCycleDetectionAlertsNumberSpinner;
     }
 
+    private ZapNumberSpinner getThreadsNumberSpinner() {
+        if (threadsNumberSpinner == null) {
+            threadsNumberSpinner =
+                    new ZapNumberSpinner(1, GraphQlParam.DEFAULT_THREADS, Integer.MAX_VALUE);
+        }
+        return threadsNumberSpinner;
+    }
+
+    private ZapNumberSpinner getBatchSizeNumberSpinner() {
+        if (batchSizeNumberSpinner == null) {
+            batchSizeNumberSpinner =
+                    new ZapNumberSpinner(1, GraphQlParam.DEFAULT_BATCH_SIZE, Integer.MAX_VALUE);
+        }
+        return batchSizeNumberSpinner;
+    }
+
     @Override
     public String getHelpIndex() {
         return "graphql.options";
@@ -46,6 +46,8 @@ public class GraphQlParam extends VersionedAbstractParam {
     private static final String PARAM_CYCLE_DETECTION_MODE = PARAM_BASE_KEY + ".cycleDetectionMode";
     private static final String PARAM_CYCLE_DETECTION_MAX_ALERTS =
             PARAM_BASE_KEY + ".cycleDetectionMaxAlerts";
+    private static final String PARAM_THREADS = PARAM_BASE_KEY + ".threads";
+    private static final String PARAM_BATCH_SIZE = PARAM_BASE_KEY + ".batchSize";
 
     public static final boolean DEFAULT_QUERY_GEN_ENABLED = true;
     public static final int DEFAULT_MAX_QUERY_DEPTH = 5;
@@ -59,6 +61,8 @@ public class GraphQlParam extends VersionedAbstractParam {
     public static final CycleDetectionModeOption DEFAULT_CYCLE_DETECTION_MODE =
             CycleDetectionModeOption.QUICK;
     public static final int DEFAULT_MAX_CYCLE_DETECTION_ALERTS = 100;
+    public static final int DEFAULT_THREADS = 4;
+    public static final int DEFAULT_BATCH_SIZE = 1;
 
     /**
      * The version of the configurations. Used to keep track of configurations changes between
@@ -189,6 +193,8 @@ public class GraphQlParam extends VersionedAbstractParam {
     private RequestMethodOption requestMethod;
     private CycleDetectionModeOption cycleDetectionMode;
     private int maxCycleDetectionAlerts;
+    private int threads = DEFAULT_THREADS;
+    private int batchSize = DEFAULT_BATCH_SIZE;
 
     public int getMaxQueryDepth() {
         return maxQueryDepth;
@@ -334,6 +340,51 @@ public class GraphQlParam extends VersionedAbstractParam {
         getConfig().setProperty(PARAM_CYCLE_DETECTION_MAX_ALERTS, maxCycleDetectionAlerts);
     }
 
+    /**
+     * Gets the number of threads used to send the generated requests.
+     *
+     * @return the number of threads.
+     * @since 0.35.0
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the number of threads used to send the generated requests.
+     *
+     * @param threads the number of threads, values less than {@code 1} are set to {@code 1}.
+     * @since 0.35.0
+     */
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+        getConfig().setProperty(PARAM_THREADS, this.threads);
+    }
+
+    /**
+     * Gets the number of operations sent in a single (batched) request.
+     *
+     * <p>Only used with the {@link RequestMethodOption#POST_JSON POST_JSON} request method.
+     *
+     * @return the number of operations per request, {@code 1} if the operations are not batched.
+     * @since 0.35.0
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of operations sent in a single (batched) request.
+     *
+     * @param batchSize the number of operations per request, values less than {@code 1} are set
+     *     to {@code 1} (no batching).
+     * @since 0.35.0
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+        getConfig().setProperty(PARAM_BATCH_SIZE, this.batchSize);
+    }
+
     @Override
     protected String getConfigVersionKey() {
         return PARAM_BASE_KEY + VERSION_ATTRIBUTE;
@@ -360,6 +411,8 @@ public class GraphQlParam extends VersionedAbstractParam {
         cycleDetectionMode = getEnum(PARAM_CYCLE_DETECTION_MODE, DEFAULT_CYCLE_DETECTION_MODE);
         maxCycleDetectionAlerts =
                 getInt(PARAM_CYCLE_DETECTION_MAX_ALERTS, DEFAULT_MAX_CYCLE_DETECTION_ALERTS);
+        threads = Math.max(1, getInt(PARAM_THREADS, DEFAULT_THREADS));
+        batchSize = Math.max(1, getInt(PARAM_BATCH_SIZE, DEFAULT_BATCH_SIZE));
     }
 
     @Override
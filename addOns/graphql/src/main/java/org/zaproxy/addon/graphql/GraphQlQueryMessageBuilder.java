@@ -22,6 +22,8 @@ package org.zaproxy.addon.graphql;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import net.sf.json.JSONArray;
 import net.sf.json.JSONObject;
 import org.apache.commons.httpclient.URI;
 import org.parosproxy.paros.network.HttpHeader;
@@ -80,14 +82,39 @@ public class GraphQlQueryMessageBuilder {
         return new HttpMessage(msgHeader, msgBody);
     }
 
+    /**
+     * Builds a message with the given operations batched in a JSON array, sent with a POST
+     * request.
+     *
+     * @param operations the operations, each with the query and the variables.
+     * @return the message.
+     * @throws IOException if an error occurred while building the message.
+     * @since 0.35.0
+     */
+    public HttpMessage buildBatchQueryMessage(List<String[]> operations) throws IOException {
+        JSONArray msgBodyJson = new JSONArray();
+        for (String[] operation : operations) {
+            msgBodyJson.add(createJsonOperation(operation[0], operation[1]));
+        }
+        return buildJsonPostMessage(msgBodyJson.toString());
+    }
+
     private HttpMessage buildJsonPostQueryMessage(String query, String variables)
             throws IOException {
-        JSONObject msgBodyJson = new JSONObject();
-        msgBodyJson.put("query", query);
+        return buildJsonPostMessage(createJsonOperation(query, variables).toString());
+    }
+
+    private static JSONObject createJsonOperation(String query, String variables) {
+        JSONObject operation = new JSONObject();
+        operation.put("query", query);
         if (!variables.isEmpty()) {
-            msgBodyJson.put("variables", variables);
+            operation.put("variables", variables);
         }
-        HttpRequestBody msgBody = new HttpRequestBody(msgBodyJson.toString());
+        return operation;
+    }
+
+    private HttpMessage buildJsonPostMessage(String body) throws IOException {
+        HttpRequestBody msgBody = new HttpRequestBody(body);
 
         HttpRequestHeader msgHeader =
                 new HttpRequestHeader(HttpRequestHeader.POST, endpointUrl, HttpHeader.HTTP11);
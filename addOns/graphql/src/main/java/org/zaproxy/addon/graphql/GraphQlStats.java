@@ -29,4 +29,6 @@ final class GraphQlStats {
     static final String SCHEMA_FILE_IMPORTED = "stats.graphql.schema.file.imported";
     static final String SCHEMA_URL_IMPORTED = "stats.graphql.schema.url.imported";
     static final String INTROSPECTION_URL_IMPORTED = "stats.graphql.introspection.url.imported";
+    static final String DUPLICATE_OPERATIONS_SKIPPED = "stats.graphql.operations.duplicate";
+    static final String BATCHED_REQUESTS = "stats.graphql.requests.batched";
 }
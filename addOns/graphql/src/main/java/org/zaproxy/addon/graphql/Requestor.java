@@ -63,6 +63,24 @@ public class Requestor {
         return null;
     }
 
+    /**
+     * Sends the given operations in a single request, batched in a JSON array.
+     *
+     * @param operations the operations, each with the query and the variables.
+     * @return the message sent, or {@code null} if an error occurred.
+     * @since 0.35.0
+     */
+    public HttpMessage sendBatch(List<String[]> operations) {
+        try {
+            HttpMessage message = queryMsgBuilder.buildBatchQueryMessage(operations);
+            send(message);
+            return message;
+        } catch (IOException e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
+        return null;
+    }
+
     public void send(HttpMessage message) throws IOException {
         sender.sendAndReceive(message, requestConfig);
     }
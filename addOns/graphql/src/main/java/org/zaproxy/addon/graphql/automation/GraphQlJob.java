@@ -245,5 +245,7 @@ public class GraphQlJob extends AutomationJob {
         private String cycleDetectionMode =
                 GraphQlParam.DEFAULT_CYCLE_DETECTION_MODE.name().toLowerCase(Locale.ROOT);
         private Integer maxCycleDetectionAlerts = GraphQlParam.DEFAULT_MAX_CYCLE_DETECTION_ALERTS;
+        private Integer threads = GraphQlParam.DEFAULT_THREADS;
+        private Integer batchSize = GraphQlParam.DEFAULT_BATCH_SIZE;
     }
 }
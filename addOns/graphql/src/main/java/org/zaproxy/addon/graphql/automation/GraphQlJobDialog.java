@@ -61,6 +61,8 @@ public class GraphQlJobDialog extends StandardFieldsDialog {
     private static final String ARGS_TYPE_PARAM = "graphql.automation.dialog.argstype";
     private static final String QUERY_SPLIT_TYPE_PARAM = "graphql.automation.dialog.querysplittype";
     private static final String REQUEST_METHOD_PARAM = "graphql.automation.dialog.requestmethod";
+    private static final String THREADS_PARAM = "graphql.automation.dialog.threads";
+    private static final String BATCH_SIZE_PARAM = "graphql.automation.dialog.batchsize";
     private static final String CYCLE_DETECTION_MODE_PARAM =
             "graphql.automation.dialog.cycleDetectionMode";
     private static final String MAX_CYCLE_DETECTION_ALERTS_PARAM =
@@ -175,6 +177,21 @@ public class GraphQlJobDialog extends StandardFieldsDialog {
                         : GraphQlParam.RequestMethodOption.POST_JSON);
         this.addComboField(1, REQUEST_METHOD_PARAM, requestMethodModel);
 
+        this.addNumberField(
+                1,
+                THREADS_PARAM,
+                1,
+                Integer.MAX_VALUE,
+                getInt(this.job.getParameters().getThreads(), GraphQlParam.DEFAULT_THREADS));
+        this.addNumberField(
+                1,
+                BATCH_SIZE_PARAM,
+                1,
+                Integer.MAX_VALUE,
+                getInt(
+                        this.job.getParameters().getBatchSize(),
+                        GraphQlParam.DEFAULT_BATCH_SIZE));
+
         this.addPadding(1);
 
         /* Cycle Detection Config Tab */
@@ -238,6 +255,8 @@ public class GraphQlJobDialog extends StandardFieldsDialog {
                 GraphQlParam.RequestMethodOption rm = (GraphQlParam.RequestMethodOption) rmObj;
                 this.job.getParameters().setRequestMethod(rm.name().toLowerCase());
             }
+            this.job.getParameters().setThreads(this.getIntValue(THREADS_PARAM));
+            this.job.getParameters().setBatchSize(this.getIntValue(BATCH_SIZE_PARAM));
 
             Object cdmObj = cycleDetectionModel.getSelectedItem();
             if (cdmObj instanceof GraphQlParam.CycleDetectionModeOption) {
@@ -258,12 +277,18 @@ public class GraphQlJobDialog extends StandardFieldsDialog {
             this.job.getParameters().setArgsType(null);
             this.job.getParameters().setQuerySplitType(null);
             this.job.getParameters().setRequestMethod(null);
+            this.job.getParameters().setThreads(null);
+            this.job.getParameters().setBatchSize(null);
             this.job.getParameters().setCycleDetectionMode(null);
             this.job.getParameters().setMaxCycleDetectionAlerts(null);
         }
         this.job.resetAndSetChanged();
     }
 
+    private static int getInt(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
     @Override
     public String validateFields() {
         // Nothing to do
@@ -21,6 +21,7 @@ package org.zaproxy.addon.graphql;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -35,6 +36,7 @@ import org.zaproxy.addon.commonlib.ValueProvider;
 import org.zaproxy.addon.graphql.GraphQlParam.ArgsTypeOption;
 import org.zaproxy.addon.graphql.GraphQlParam.QuerySplitOption;
 import org.zaproxy.zap.testutils.TestUtils;
+import org.zaproxy.zap.utils.ZapXmlConfiguration;
 
 class GraphQlGeneratorUnitTest extends TestUtils {
     GraphQlGenerator generator;
@@ -89,6 +91,68 @@ class GraphQlGeneratorUnitTest extends TestUtils {
         verify(requestor, times(2)).sendQuery(anyString(), anyString(), any());
     }
 
+    @Test
+    void shouldNotSendEquivalentOperations() {
+        // Given
+        Requestor requestor = mock(Requestor.class);
+        GraphQlParam bothArgsParam = createParam();
+        bothArgsParam.setArgsType(ArgsTypeOption.BOTH);
+        GraphQlGenerator generator =
+                new GraphQlGenerator(
+                        valueProvider,
+                        getHtml("scalarFieldsOnly.graphql"),
+                        requestor,
+                        bothArgsParam,
+                        0);
+
+        // When
+        generator.generateAndSend();
+
+        // Then
+        verify(requestor, times(5)).sendQuery(anyString(), anyString(), any());
+    }
+
+    @Test
+    void shouldBatchOperationsWhenBatchSizeSet() {
+        // Given
+        Requestor requestor = mock(Requestor.class);
+        GraphQlParam batchParam = createParam();
+        batchParam.setArgsType(ArgsTypeOption.INLINE);
+        batchParam.setBatchSize(2);
+        GraphQlGenerator generator =
+                new GraphQlGenerator(
+                        valueProvider,
+                        getHtml("scalarFieldsOnly.graphql"),
+                        requestor,
+                        batchParam,
+                        0);
+
+        // When
+        generator.generateAndSend();
+
+        // Then
+        verify(requestor, times(2)).sendBatch(anyList());
+        verify(requestor, times(1)).sendQuery(anyString(), anyString(), any());
+    }
+
+    @Test
+    void shouldCanonicalizeEquivalentQueries() {
+        // Given
+        String query = "query { book (id: 1) { id  name } } ";
+        String equivalentQuery = "query {book(id:1){id name}}";
+        // When
+        String canonicalQuery = GraphQlGenerator.canonicalize(query);
+        // Then
+        assertEquals(GraphQlGenerator.canonicalize(equivalentQuery), canonicalQuery);
+    }
+
+    private static GraphQlParam createParam() {
+        GraphQlParam param = new GraphQlParam();
+        param.load(new ZapXmlConfiguration());
+        param.setThreads(1);
+        return param;
+    }
+
     @Test
     void scalarFieldsOnly() {
         generator = createGraphQlGenerator(getHtml("scalarFieldsOnly.graphql"));
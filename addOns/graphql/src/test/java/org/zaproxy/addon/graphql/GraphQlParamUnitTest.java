@@ -29,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.parosproxy.paros.Constant;
 import org.zaproxy.addon.graphql.GraphQlParam.ArgsTypeOption;
 import org.zaproxy.addon.graphql.GraphQlParam.CycleDetectionModeOption;
@@ -43,6 +44,8 @@ class GraphQlParamUnitTest {
     private static final String PARAM_ARGS_TYPE = "graphql.argsType";
     private static final String PARAM_QUERY_SPLIT_TYPE = "graphql.querySplitType";
     private static final String PARAM_REQUEST_METHOD = "graphql.requestMethod";
+    private static final String PARAM_THREADS = "graphql.threads";
+    private static final String PARAM_BATCH_SIZE = "graphql.batchSize";
 
     private ZapXmlConfiguration config;
     private GraphQlParam options;
@@ -129,6 +132,33 @@ class GraphQlParamUnitTest {
         assertThat(options.getRequestMethod(), is(equalTo(RequestMethodOption.POST_JSON)));
     }
 
+    @Test
+    void shouldLoadConfigWithThreadsAndBatchSize() {
+        // Given
+        options = new GraphQlParam();
+        config.setProperty(PARAM_THREADS, "8");
+        config.setProperty(PARAM_BATCH_SIZE, "10");
+        // When
+        options.load(config);
+        // Then
+        assertThat(options.getThreads(), is(equalTo(8)));
+        assertThat(options.getBatchSize(), is(equalTo(10)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-1", "0", "Not Valid"})
+    void shouldUseValidThreadsAndBatchSizeWithInvalidValues(String value) {
+        // Given
+        options = new GraphQlParam();
+        config.setProperty(PARAM_THREADS, value);
+        config.setProperty(PARAM_BATCH_SIZE, value);
+        // When
+        options.load(config);
+        // Then
+        assertThat(options.getThreads() >= 1, is(equalTo(true)));
+        assertThat(options.getBatchSize(), is(equalTo(1)));
+    }
+
     @Test
     void shouldWriteConfigCorrectly() {
         // Given
@@ -147,6 +177,8 @@ class GraphQlParamUnitTest {
         options.setRequestMethod(RequestMethodOption.POST_GRAPHQL);
         options.setCycleDetectionMode(CycleDetectionModeOption.EXHAUSTIVE);
         options.setMaxCycleDetectionAlerts(9999);
+        options.setThreads(8);
+        options.setBatchSize(10);
         // Then
         assertThat(
                 ConfigurationUtils.toString(config).replaceAll("\\R", "\n"),
@@ -164,6 +196,8 @@ graphql.querySplitType=ROOT_FIELD
 graphql.requestMethod=POST_GRAPHQL
 graphql.cycleDetectionMode=EXHAUSTIVE
 graphql.cycleDetectionMaxAlerts=9999
+graphql.threads=8
+graphql.batchSize=10
 graphql[@version]=2""")));
     }
 }
@@ -276,7 +276,7 @@ class GraphQlJobUnitTest extends TestUtils {
                 job.getConfigParameters(new GraphQlParamWrapper(), job.getParamMethodName());
 
         // Then
-        assertThat(params.size(), is(equalTo(11)));
+        assertThat(params.size(), is(equalTo(13)));
         assertThat(params.containsKey("queryGenEnabled"), is(equalTo(true)));
         assertThat(params.containsKey("argsType"), is(equalTo(true)));
         assertThat(params.containsKey("lenientMaxQueryDepthEnabled"), is(equalTo(true)));
@@ -288,6 +288,8 @@ class GraphQlJobUnitTest extends TestUtils {
         assertThat(params.containsKey("requestMethod"), is(equalTo(true)));
         assertThat(params.containsKey("cycleDetectionMode"), is(equalTo(true)));
         assertThat(params.containsKey("maxCycleDetectionAlerts"), is(equalTo(true)));
+        assertThat(params.containsKey("threads"), is(equalTo(true)));
+        assertThat(params.containsKey("batchSize"), is(equalTo(true)));
     }
 
     @Test
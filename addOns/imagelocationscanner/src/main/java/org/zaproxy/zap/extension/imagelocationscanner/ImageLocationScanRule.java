@@ -56,6 +56,14 @@ public class ImageLocationScanRule extends PluginPassiveScanner {
     private static final Logger LOGGER = LogManager.getLogger(ImageLocationScanRule.class);
     private static final String MESSAGE_PREFIX = "imagelocationscanner.";
     public static final int PLUGIN_ID = 10103;
+
+    /**
+     * The configuration key for the maximum number of bytes of JPEG and PNG images read while
+     * scanning for metadata.
+     */
+    static final String MAX_METADATA_BYTES_KEY = "rules.imagelocationscanner.maxmetadatabytes";
+
+    private static final ImageMetadataScanner METADATA_SCANNER = new ImageMetadataScanner();
     private static final Map<String, String> ALERT_TAGS;
 
     static {
@@ -135,8 +143,7 @@ public class ImageLocationScanRule extends PluginPassiveScanner {
                 || extension.equals("tif")) {
 
             String hasGPS =
-                    ILS.scanForLocationInImage(
-                            msg.getResponseBody().getBytes(), ILS.OutputFormat.out_text);
+                    METADATA_SCANNER.scan(msg.getResponseBody().getBytes(), getMaxMetadataBytes());
 
             if (!hasGPS.isEmpty()) {
                 buildAlert(hasGPS).raise();
@@ -147,6 +154,14 @@ public class ImageLocationScanRule extends PluginPassiveScanner {
         }
     }
 
+    private int getMaxMetadataBytes() {
+        if (getConfig() == null) {
+            return ImageMetadataScanner.DEFAULT_MAX_METADATA_BYTES;
+        }
+        return getConfig()
+                .getInt(MAX_METADATA_BYTES_KEY, ImageMetadataScanner.DEFAULT_MAX_METADATA_BYTES);
+    }
+
     @Override
     public String getName() {
         return Constant.messages.getString(MESSAGE_PREFIX + "name");
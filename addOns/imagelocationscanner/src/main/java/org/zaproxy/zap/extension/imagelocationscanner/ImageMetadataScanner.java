@@ -0,0 +1,231 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.imagelocationscanner;
+
+import com.veggiespam.imagelocationscanner.ILS;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Scans the metadata of images, reading just the segments that can hold metadata.
+ *
+ * <p>For JPEG only the segments before the image data (SOS marker) are read and for PNG the image
+ * data chunks (IDAT) are skipped, both up to a maximum number of bytes. TIFF and HEIF are scanned
+ * whole, as their metadata can be anywhere in the file. Data not recognised as one of those formats
+ * is not scanned at all.
+ *
+ * <p>The results are cached by the hash of the data scanned, so the same image served from
+ * different URLs is scanned just once.
+ */
+class ImageMetadataScanner {
+
+    static final int DEFAULT_MAX_METADATA_BYTES = 256 * 1024;
+    static final int DEFAULT_MAX_CACHE_ENTRIES = 1000;
+
+    private static final byte[] JPEG_EOI = {(byte) 0xFF, (byte) 0xD9};
+    private static final byte[] PNG_SIGNATURE = {
+        (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+    };
+    private static final byte[] PNG_IEND = {
+        0, 0, 0, 0, 'I', 'E', 'N', 'D', (byte) 0xAE, 0x42, 0x60, (byte) 0x82
+    };
+
+    private final Function<byte[], String> scanner;
+    private final Map<ByteBuffer, String> cache;
+
+    ImageMetadataScanner() {
+        this(
+                data -> ILS.scanForLocationInImage(data, ILS.OutputFormat.out_text),
+                DEFAULT_MAX_CACHE_ENTRIES);
+    }
+
+    ImageMetadataScanner(Function<byte[], String> scanner, int maxCacheEntries) {
+        this.scanner = scanner;
+        this.cache =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<ByteBuffer, String> eldest) {
+                        return size() > maxCacheEntries;
+                    }
+                };
+    }
+
+    /**
+     * Scans the given image data.
+     *
+     * @param data the image data.
+     * @param maxMetadataBytes the maximum number of bytes to read for JPEG and PNG, if not positive
+     *     the {@link #DEFAULT_MAX_METADATA_BYTES default} is used.
+     * @return the findings, or an empty string if none or the data is not a supported image.
+     */
+    String scan(byte[] data, int maxMetadataBytes) {
+        byte[] metadata =
+                extractMetadata(
+                        data,
+                        maxMetadataBytes > 0 ? maxMetadataBytes : DEFAULT_MAX_METADATA_BYTES);
+        if (metadata == null) {
+            return "";
+        }
+
+        ByteBuffer key = ByteBuffer.wrap(hash(metadata));
+        synchronized (cache) {
+            String result = cache.get(key);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        String result = scanner.apply(metadata);
+        if (result == null) {
+            result = "";
+        }
+        synchronized (cache) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Extracts the part of the image data that should be scanned for metadata.
+     *
+     * @param data the image data.
+     * @param maxBytes the maximum number of bytes to extract, for JPEG and PNG.
+     * @return the data to scan, or {@code null} if the data should not be scanned.
+     */
+    static byte[] extractMetadata(byte[] data, int maxBytes) {
+        if (data == null || data.length < 12) {
+            return null;
+        }
+        if (isJpeg(data)) {
+            return extractJpegMetadata(data, maxBytes);
+        }
+        if (startsWith(data, PNG_SIGNATURE)) {
+            return extractPngMetadata(data, maxBytes);
+        }
+        if (isTiff(data) || isHeif(data)) {
+            return data;
+        }
+        return null;
+    }
+
+    private static boolean isJpeg(byte[] data) {
+        return (data[0] & 0xFF) == 0xFF && (data[1] & 0xFF) == 0xD8 && (data[2] & 0xFF) == 0xFF;
+    }
+
+    private static boolean isTiff(byte[] data) {
+        return (data[0] == 'I' && data[1] == 'I' && data[2] == 0x2A && data[3] == 0)
+                || (data[0] == 'M' && data[1] == 'M' && data[2] == 0 && data[3] == 0x2A);
+    }
+
+    private static boolean isHeif(byte[] data) {
+        return data[4] == 'f' && data[5] == 't' && data[6] == 'y' && data[7] == 'p';
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        return Arrays.equals(data, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    private static byte[] extractJpegMetadata(byte[] data, int maxBytes) {
+        int pos = 2;
+        while (pos + 4 <= data.length) {
+            if ((data[pos] & 0xFF) != 0xFF) {
+                break;
+            }
+            int marker = data[pos + 1] & 0xFF;
+            if (marker == 0xFF) {
+                // Fill byte.
+                pos++;
+                continue;
+            }
+            if (marker == 0xDA || marker == 0xD9) {
+                break;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                pos += 2;
+                continue;
+            }
+            int end = pos + 2 + (((data[pos + 2] & 0xFF) << 8) | (data[pos + 3] & 0xFF));
+            if (end > data.length || end > maxBytes) {
+                break;
+            }
+            pos = end;
+        }
+
+        byte[] metadata = Arrays.copyOf(data, pos + JPEG_EOI.length);
+        System.arraycopy(JPEG_EOI, 0, metadata, pos, JPEG_EOI.length);
+        return metadata;
+    }
+
+    private static byte[] extractPngMetadata(byte[] data, int maxBytes) {
+        // The signature is always included, even if longer than the maximum.
+        ByteBuffer metadata =
+                ByteBuffer.allocate(
+                        PNG_SIGNATURE.length
+                                + Math.min(data.length, Math.max(maxBytes, 0))
+                                + PNG_IEND.length);
+        metadata.put(data, 0, PNG_SIGNATURE.length);
+        int pos = PNG_SIGNATURE.length;
+        while (pos + 12 <= data.length) {
+            long length = ByteBuffer.wrap(data, pos, 4).getInt() & 0xFFFFFFFFL;
+            long end = pos + 12 + length;
+            if (end > data.length) {
+                break;
+            }
+            if (isChunk(data, pos, 'I', 'E', 'N', 'D')) {
+                break;
+            }
+            if (!isChunk(data, pos, 'I', 'D', 'A', 'T')) {
+                if (metadata.position() + end - pos > maxBytes) {
+                    break;
+                }
+                metadata.put(data, pos, (int) (end - pos));
+            }
+            pos = (int) end;
+        }
+        metadata.put(PNG_IEND);
+        return Arrays.copyOf(metadata.array(), metadata.position());
+    }
+
+    private static boolean isChunk(byte[] data, int pos, char a, char b, char c, char d) {
+        return data[pos + 4] == a && data[pos + 5] == b && data[pos + 6] == c && data[pos + 7] == d;
+    }
+
+    private static byte[] hash(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            // Always available.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.PolicyTag;
 import org.zaproxy.zap.testutils.PassiveScannerTestUtils;
+import org.zaproxy.zap.utils.ZapXmlConfiguration;
 
 class ImageLocationScanRuleUnitTest extends PassiveScannerTestUtils<ImageLocationScanRule> {
     private static final int PLUGIN_ID = ImageLocationScanRule.PLUGIN_ID;
@@ -113,6 +114,34 @@ class ImageLocationScanRuleUnitTest extends PassiveScannerTestUtils<ImageLocatio
         assertThat(alertsRaised.get(0).getEvidence(), containsString("Owner Name"));
     }
 
+    @Test
+    void shouldNotRaiseAlertIfMetadataBeyondMaxBytes() throws IOException {
+        // Given
+        ZapXmlConfiguration config = new ZapXmlConfiguration();
+        config.setProperty(ImageLocationScanRule.MAX_METADATA_BYTES_KEY, 1000);
+        rule.setConfig(config);
+        HttpMessage msg = createHttpMessageFromFilename("exif_gps_01.jpg");
+        // When
+        scanHttpResponseReceive(msg);
+        // Then
+        assertThat(alertsRaised.size(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldRaiseAlertForSameImageFromDifferentUrls() throws IOException {
+        // Given
+        HttpMessage msg = createHttpMessageFromFilename("exif_gps_01.jpg");
+        HttpMessage otherMsg = createHttpMessageFromFilename("exif_gps_01.jpg");
+        otherMsg.getRequestHeader()
+                .setURI(new org.apache.commons.httpclient.URI(URI + "copy.jpg", true));
+        // When
+        scanHttpResponseReceive(msg);
+        scanHttpResponseReceive(otherMsg);
+        // Then
+        assertThat(alertsRaised.size(), is(equalTo(2)));
+        assertThat(alertsRaised.get(1).getEvidence(), containsString("Exif_GPS"));
+    }
+
     @Test
     void testOfScanHttpRequestSend() throws HttpMalformedHeaderException {
         // the method should do nothing (test just for code coverage)
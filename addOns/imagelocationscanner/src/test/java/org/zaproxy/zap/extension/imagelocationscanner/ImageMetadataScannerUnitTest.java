@@ -0,0 +1,189 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.imagelocationscanner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link ImageMetadataScanner}. */
+class ImageMetadataScannerUnitTest {
+
+    @Test
+    void shouldNotScanDataThatIsNotASupportedImage() {
+        // Given
+        List<byte[]> scanned = new ArrayList<>();
+        ImageMetadataScanner scanner = createScanner(scanned);
+        byte[] data = "<html><body>Not an image</body></html>".getBytes(StandardCharsets.UTF_8);
+        // When
+        String result = scanner.scan(data, 0);
+        // Then
+        assertThat(result, is(equalTo("")));
+        assertThat(scanned.size(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldScanJpegMetadataBeforeImageData() throws Exception {
+        // Given
+        byte[] data = readResource("exif_gps_01.jpg");
+        ImageMetadataScanner scanner = new ImageMetadataScanner();
+        // When
+        byte[] metadata =
+                ImageMetadataScanner.extractMetadata(
+                        data, ImageMetadataScanner.DEFAULT_MAX_METADATA_BYTES);
+        String result = scanner.scan(data, 0);
+        // Then
+        assertThat(metadata.length, is(lessThan(data.length)));
+        assertThat(result, containsString("Exif_GPS"));
+    }
+
+    @Test
+    void shouldNotReadJpegSegmentsBeyondMaxBytes() throws Exception {
+        // Given
+        byte[] data = readResource("exif_gps_01.jpg");
+        ImageMetadataScanner scanner = new ImageMetadataScanner();
+        // When
+        String result = scanner.scan(data, 1000);
+        // Then
+        assertThat(result, is(equalTo("")));
+    }
+
+    @Test
+    void shouldSkipPngImageData() throws Exception {
+        // Given
+        byte[] text = pngChunk("tEXt", "Comment\0Hello".getBytes(StandardCharsets.ISO_8859_1));
+        byte[] data = png(pngChunk("IHDR", new byte[13]), text, pngChunk("IDAT", new byte[500]));
+        // When
+        byte[] metadata = ImageMetadataScanner.extractMetadata(data, 1024);
+        // Then
+        byte[] expected =
+                png(pngChunk("IHDR", new byte[13]), text, pngChunk("IEND", new byte[0]));
+        assertThat(Arrays.equals(metadata, expected), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldExtractOnlyPngSignatureIfMaxBytesLowerThanSignature() {
+        // Given
+        byte[] data = png(pngChunk("IHDR", new byte[13]), pngChunk("IDAT", new byte[500]));
+        // When
+        byte[] metadata = ImageMetadataScanner.extractMetadata(data, 4);
+        // Then
+        byte[] expected = png(pngChunk("IEND", new byte[0]));
+        assertThat(Arrays.equals(metadata, expected), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldScanTiffWhole() {
+        // Given
+        byte[] data = {'I', 'I', 0x2A, 0, 8, 0, 0, 0, 0, 0, 0, 0};
+        // When
+        byte[] metadata = ImageMetadataScanner.extractMetadata(data, 4);
+        // Then
+        assertThat(metadata, is(equalTo(data)));
+    }
+
+    @Test
+    void shouldNotExtractFromTooShortData() {
+        // Given
+        byte[] data = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+        // When
+        byte[] metadata = ImageMetadataScanner.extractMetadata(data, 1024);
+        // Then
+        assertThat(metadata, is(nullValue()));
+    }
+
+    @Test
+    void shouldScanSameImageOnce() throws Exception {
+        // Given
+        List<byte[]> scanned = new ArrayList<>();
+        ImageMetadataScanner scanner = createScanner(scanned);
+        byte[] data = readResource("exif_gps_01.jpg");
+        // When
+        String first = scanner.scan(data, 0);
+        String second = scanner.scan(data.clone(), 0);
+        // Then
+        assertThat(scanned.size(), is(equalTo(1)));
+        assertThat(first, is(equalTo("Result")));
+        assertThat(second, is(equalTo("Result")));
+    }
+
+    @Test
+    void shouldScanAgainOnceCleared() throws Exception {
+        // Given
+        List<byte[]> scanned = new ArrayList<>();
+        ImageMetadataScanner scanner = createScanner(scanned);
+        byte[] data = readResource("exif_gps_01.jpg");
+        scanner.scan(data, 0);
+        // When
+        scanner.clear();
+        scanner.scan(data, 0);
+        // Then
+        assertThat(scanned.size(), is(equalTo(2)));
+    }
+
+    private static ImageMetadataScanner createScanner(List<byte[]> scanned) {
+        return new ImageMetadataScanner(
+                data -> {
+                    scanned.add(data);
+                    return "Result";
+                },
+                10);
+    }
+
+    private static byte[] readResource(String name) throws Exception {
+        return Files.readAllBytes(
+                Paths.get(ImageMetadataScannerUnitTest.class.getResource(name).toURI()));
+    }
+
+    private static byte[] png(byte[]... chunks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        for (byte[] chunk : chunks) {
+            out.writeBytes(chunk);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] pngChunk(String type, byte[] data) {
+        ByteBuffer chunk = ByteBuffer.allocate(12 + data.length);
+        chunk.putInt(data.length);
+        chunk.put(type.getBytes(StandardCharsets.US_ASCII));
+        chunk.put(data);
+        if ("IEND".equals(type)) {
+            chunk.putInt(0xAE426082);
+        } else {
+            chunk.putInt(0);
+        }
+        return chunk.array();
+    }
+}
@@ -24,7 +24,9 @@ import java.lang.management.MemoryUsage;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.commons.httpclient.URIException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -68,6 +70,8 @@ public class StatsMonitor implements StatsListener, EventConsumer {
     private static final long MEM_GC_CHECK_MSEC = TimeUnit.MINUTES.toMillis(1);
 
     private InMemoryStats stats = new InMemoryStats();
+    // The responses by site and status code class (e.g. 2xx), updated as the stats are changed
+    private final Map<String, StatusCodeCounts> siteStatusCodeCounts = new ConcurrentHashMap<>();
     private long lastGc;
 
     private ExtensionInsights ext;
@@ -161,22 +165,11 @@ public class StatsMonitor implements StatsListener, EventConsumer {
     }
 
     private void processStatusCodeStats() {
-        // Count of responses by site and status code
-        Map<String, Map<String, Long>> siteCodeStats = stats.getAllSiteStats(STATS_CODE_PREFIX);
-        for (Entry<String, Map<String, Long>> site2stats : siteCodeStats.entrySet()) {
-            String site = site2stats.getKey();
-            long total = 0;
-            Map<String, Long> codeCounts = new HashMap<>();
-
-            for (Entry<String, Long> k2stat : site2stats.getValue().entrySet()) {
-                // Summarise by 1xx, 2xx etc
-                String key =
-                        k2stat.getKey()
-                                .substring(
-                                        STATS_CODE_PREFIX.length(), STATS_CODE_PREFIX.length() + 1);
-                codeCounts.merge(key, k2stat.getValue(), Long::sum);
-                total += k2stat.getValue();
-            }
+        // Count of responses by site and status code class
+        for (Entry<String, StatusCodeCounts> siteCounts : siteStatusCodeCounts.entrySet()) {
+            String site = siteCounts.getKey();
+            Map<String, Long> codeCounts = siteCounts.getValue().getCounts();
+            long total = codeCounts.values().stream().mapToLong(Long::longValue).sum();
 
             for (Entry<String, Long> entry : codeCounts.entrySet()) {
                 recordInsight(
@@ -413,6 +406,7 @@ public class StatsMonitor implements StatsListener, EventConsumer {
     public void counterInc(String site, String key) {
         if (isRelevant(key)) {
             stats.counterInc(site, key);
+            updateStatusCodeCounts(site, key, 1);
         }
     }
 
@@ -427,6 +421,7 @@ public class StatsMonitor implements StatsListener, EventConsumer {
     public void counterInc(String site, String key, long inc) {
         if (isRelevant(key)) {
             stats.counterInc(site, key, inc);
+            updateStatusCodeCounts(site, key, inc);
         }
     }
 
@@ -441,6 +436,7 @@ public class StatsMonitor implements StatsListener, EventConsumer {
     public void counterDec(String site, String key) {
         if (isRelevant(key)) {
             stats.counterDec(site, key);
+            updateStatusCodeCounts(site, key, -1);
         }
     }
 
@@ -455,6 +451,7 @@ public class StatsMonitor implements StatsListener, EventConsumer {
     public void counterDec(String site, String key, long dec) {
         if (isRelevant(key)) {
             stats.counterDec(site, key, dec);
+            updateStatusCodeCounts(site, key, -dec);
         }
     }
 
@@ -489,21 +486,63 @@ public class StatsMonitor implements StatsListener, EventConsumer {
     @Override
     public void allCleared() {
         stats.allCleared();
+        siteStatusCodeCounts.clear();
         ext.clearInsights();
     }
 
     @Override
     public void allCleared(String site) {
         stats.allCleared(site);
+        siteStatusCodeCounts.remove(site);
     }
 
     @Override
     public void cleared(String keyPrefix) {
         stats.cleared(keyPrefix);
+        reloadStatusCodeCounts();
     }
 
     @Override
     public void cleared(String site, String keyPrefix) {
         stats.cleared(site, keyPrefix);
+        reloadStatusCodeCounts();
+    }
+
+    private void updateStatusCodeCounts(String site, String key, long delta) {
+        if (site == null || !key.startsWith(STATS_CODE_PREFIX)) {
+            return;
+        }
+        siteStatusCodeCounts
+                .computeIfAbsent(site, k -> new StatusCodeCounts())
+                .add(key.substring(STATS_CODE_PREFIX.length()), delta);
+    }
+
+    private void reloadStatusCodeCounts() {
+        // Rare, just recreate the counts from the stats
+        siteStatusCodeCounts.clear();
+        stats.getAllSiteStats(STATS_CODE_PREFIX)
+                .forEach(
+                        (site, siteStats) ->
+                                siteStats.forEach(
+                                        (key, value) -> updateStatusCodeCounts(site, key, value)));
+    }
+
+    /** The number of responses by status code class, the first digit of the status code. */
+    private static class StatusCodeCounts {
+
+        private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+        void add(String code, long delta) {
+            if (code.isEmpty()) {
+                return;
+            }
+            counts.computeIfAbsent(code.substring(0, 1), k -> new LongAdder()).add(delta);
+        }
+
+        Map<String, Long> getCounts() {
+            Map<String, Long> values = new HashMap<>();
+            counts.forEach((k, v) -> values.put(k, v.sum()));
+            return values;
+        }
     }
 }
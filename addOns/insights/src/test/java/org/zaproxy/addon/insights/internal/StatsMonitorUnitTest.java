@@ -0,0 +1,104 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.insights.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.zaproxy.addon.insights.ExtensionInsights;
+import org.zaproxy.zap.testutils.TestUtils;
+
+/** Unit test for {@link StatsMonitor}. */
+class StatsMonitorUnitTest extends TestUtils {
+
+    private static final String SITE = "https://example.com";
+
+    private ExtensionInsights ext;
+    private StatsMonitor statsMonitor;
+
+    @BeforeAll
+    static void setupMessages() {
+        mockMessages(new ExtensionInsights());
+    }
+
+    @BeforeEach
+    void setup() {
+        ext = mock(ExtensionInsights.class);
+        given(ext.getParam()).willReturn(new InsightsParam());
+        statsMonitor = new StatsMonitor(ext);
+    }
+
+    @Test
+    void shouldRecordStatusCodeInsightsFromCounters() {
+        // Given
+        statsMonitor.counterInc(SITE, "stats.code.200");
+        statsMonitor.counterInc(SITE, "stats.code.200", 2);
+        statsMonitor.counterInc(SITE, "stats.code.404");
+        // When
+        statsMonitor.processStats();
+        // Then
+        assertThat(
+                getCodeInsights(),
+                containsInAnyOrder("insight.code.2xx:75", "insight.code.4xx:25"));
+    }
+
+    @Test
+    void shouldNotRecordStatusCodeInsightsAfterAllCleared() {
+        // Given
+        statsMonitor.counterInc(SITE, "stats.code.200");
+        statsMonitor.allCleared(SITE);
+        // When
+        statsMonitor.processStats();
+        // Then
+        assertThat(getCodeInsights(), is(empty()));
+    }
+
+    @Test
+    void shouldRecreateStatusCodeCountsWhenCleared() {
+        // Given
+        statsMonitor.counterInc(SITE, "stats.code.200");
+        statsMonitor.counterInc(SITE, "stats.code.500");
+        statsMonitor.cleared(SITE, "stats.code.5");
+        // When
+        statsMonitor.processStats();
+        // Then
+        assertThat(getCodeInsights(), containsInAnyOrder("insight.code.2xx:100"));
+    }
+
+    private List<String> getCodeInsights() {
+        ArgumentCaptor<Insight> captor = ArgumentCaptor.forClass(Insight.class);
+        verify(ext, atLeast(0)).recordInsight(captor.capture());
+        return captor.getAllValues().stream()
+                .filter(i -> i.getKey().startsWith("insight.code."))
+                .map(i -> i.getKey() + ":" + i.getStatistic())
+                .toList();
+    }
+}
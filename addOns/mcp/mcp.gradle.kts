@@ -28,7 +28,7 @@ zapAddOn {
                     version.set(">=0.59.0")
                 }
                 register("commonlib") {
-                    version.set(">=1.17.0")
+                    version.set(">=1.44.0")
                 }
                 register("network") {
                     version.set(">=0.1.0")
@@ -30,11 +30,14 @@ import java.util.Vector;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
+import org.parosproxy.paros.control.Control;
 import org.parosproxy.paros.core.scanner.Alert;
 import org.parosproxy.paros.db.DatabaseException;
 import org.parosproxy.paros.db.RecordAlert;
 import org.parosproxy.paros.db.TableAlert;
 import org.parosproxy.paros.model.Model;
+import org.zaproxy.addon.commonlib.ExtensionCommonlib;
+import org.zaproxy.addon.commonlib.alerts.AlertSummary;
 import org.zaproxy.addon.mcp.McpResource;
 
 /**
@@ -65,32 +68,7 @@ public class AlertsResource implements McpResource {
     @Override
     public String readContent() {
         try {
-            // This is nasty, but there are no better options in the 2.17 core :(
-            TableAlert tableAlert = Model.getSingleton().getDb().getTableAlert();
-            Vector<Integer> alertIds = tableAlert.getAlertList();
-            Map<String, SummaryEntry> summaryByAlertRef = new LinkedHashMap<>();
-
-            for (Integer alertId : alertIds) {
-
-                RecordAlert recAlert = tableAlert.read(alertId);
-                Alert alert = new Alert(recAlert);
-                summaryByAlertRef.compute(
-                        alert.getAlertRef(),
-                        (k, existing) -> {
-                            if (existing == null) {
-                                return new SummaryEntry(
-                                        alert.getName(),
-                                        alert.getRisk(),
-                                        alert.getPluginId(),
-                                        alert.getAlertRef(),
-                                        alert.isSystemic());
-                            }
-                            existing.incrementCount();
-                            return existing;
-                        });
-            }
-
-            List<SummaryEntry> entries = new ArrayList<>(summaryByAlertRef.values());
+            List<SummaryEntry> entries = getSummaryEntries();
             entries.sort(Comparator.comparingInt((SummaryEntry e) -> e.risk).reversed());
 
             ArrayNode array = OBJECT_MAPPER.createArrayNode();
@@ -113,6 +91,52 @@ public class AlertsResource implements McpResource {
         }
     }
 
+    private static List<SummaryEntry> getSummaryEntries() throws DatabaseException {
+        ExtensionCommonlib extCommonlib =
+                Control.getSingleton().getExtensionLoader().getExtension(ExtensionCommonlib.class);
+        if (extCommonlib != null) {
+            // Maintained incrementally, no need to read all the alerts
+            List<SummaryEntry> entries = new ArrayList<>();
+            for (AlertSummary.AlertGroup group : extCommonlib.getAlertSummary().getGroups()) {
+                entries.add(
+                        new SummaryEntry(
+                                group.name(),
+                                group.risk(),
+                                group.pluginId(),
+                                group.alertRef(),
+                                group.systemic(),
+                                group.instanceCount()));
+            }
+            return entries;
+        }
+
+        // This is nasty, but there are no better options in the 2.17 core :(
+        TableAlert tableAlert = Model.getSingleton().getDb().getTableAlert();
+        Vector<Integer> alertIds = tableAlert.getAlertList();
+        Map<String, SummaryEntry> summaryByAlertRef = new LinkedHashMap<>();
+
+        for (Integer alertId : alertIds) {
+
+            RecordAlert recAlert = tableAlert.read(alertId);
+            Alert alert = new Alert(recAlert);
+            summaryByAlertRef.compute(
+                    alert.getAlertRef(),
+                    (k, existing) -> {
+                        if (existing == null) {
+                            return new SummaryEntry(
+                                    alert.getName(),
+                                    alert.getRisk(),
+                                    alert.getPluginId(),
+                                    alert.getAlertRef(),
+                                    alert.isSystemic());
+                        }
+                        existing.incrementCount();
+                        return existing;
+                    });
+        }
+        return new ArrayList<>(summaryByAlertRef.values());
+    }
+
     private static class SummaryEntry {
         final String name;
         final int risk;
@@ -122,12 +146,22 @@ public class AlertsResource implements McpResource {
         int instanceCount;
 
         SummaryEntry(String name, int risk, int pluginId, String alertRef, boolean systemic) {
+            this(name, risk, pluginId, alertRef, systemic, 1);
+        }
+
+        SummaryEntry(
+                String name,
+                int risk,
+                int pluginId,
+                String alertRef,
+                boolean systemic,
+                int instanceCount) {
             this.name = name;
             this.risk = risk;
             this.pluginId = pluginId;
             this.alertRef = alertRef;
             this.systemic = systemic;
-            this.instanceCount = 1;
+            this.instanceCount = instanceCount;
         }
 
         void incrementCount() {
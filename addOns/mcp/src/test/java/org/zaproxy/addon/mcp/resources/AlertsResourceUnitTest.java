@@ -23,6 +23,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.withSettings;
 
 import java.util.List;
@@ -39,6 +41,8 @@ import org.parosproxy.paros.db.RecordAlert;
 import org.parosproxy.paros.db.TableAlert;
 import org.parosproxy.paros.extension.ExtensionLoader;
 import org.parosproxy.paros.model.Model;
+import org.zaproxy.addon.commonlib.ExtensionCommonlib;
+import org.zaproxy.addon.commonlib.alerts.AlertSummary;
 import org.zaproxy.zap.utils.I18N;
 
 /** Unit tests for {@link AlertsResource}. */
@@ -179,6 +183,45 @@ class AlertsResourceUnitTest {
                                 + "\"instancesUri\":\"zap://alerts/100-1\"}]"));
     }
 
+    @Test
+    void shouldUseAlertSummaryIfAvailable() throws Exception {
+        // Given
+        AlertSummary summary = mock(AlertSummary.class);
+        given(summary.getGroups())
+                .willReturn(
+                        List.of(
+                                new AlertSummary.AlertGroup(
+                                        "Low", Alert.RISK_LOW, 100, "100-1", false, 3, 0, null),
+                                new AlertSummary.AlertGroup(
+                                        "High", Alert.RISK_HIGH, 200, "200", true, 1, 0, null)));
+        ExtensionCommonlib extCommonlib = mock(ExtensionCommonlib.class);
+        given(extCommonlib.getAlertSummary()).willReturn(summary);
+        given(extensionLoader.getExtension(ExtensionCommonlib.class)).willReturn(extCommonlib);
+
+        // When
+        String content = resource.readContent();
+
+        // Then
+        assertThat(
+                content,
+                equalTo(
+                        "[{\"name\":\"High\","
+                                + "\"risk\":\"High\","
+                                + "\"pluginId\":200,"
+                                + "\"alertRef\":\"200\","
+                                + "\"systemic\":true,"
+                                + "\"instanceCount\":1,"
+                                + "\"instancesUri\":\"zap://alerts/200\"},"
+                                + "{\"name\":\"Low\","
+                                + "\"risk\":\"Low\","
+                                + "\"pluginId\":100,"
+                                + "\"alertRef\":\"100-1\","
+                                + "\"systemic\":false,"
+                                + "\"instanceCount\":3,"
+                                + "\"instancesUri\":\"zap://alerts/100-1\"}]"));
+        verify(tableAlert, never()).getAlertList();
+    }
+
     private static RecordAlert mockRecordAlert(
             int alertId, int pluginId, String alertRef, int risk, int confidence, String name) {
         RecordAlert rec = mock(RecordAlert.class, withSettings().strictness(Strictness.LENIENT));
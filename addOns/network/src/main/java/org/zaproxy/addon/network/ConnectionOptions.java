@@ -53,6 +53,14 @@ public class ConnectionOptions extends VersionedAbstractParam {
     /** The default TTL (in seconds) of successful DNS queries. */
     public static final int DNS_DEFAULT_TTL_SUCCESSFUL_QUERIES = 30;
 
+    /**
+     * The default maximum number of concurrent HTTP/2 streams per host, used by the active scanner.
+     */
+    public static final int DEFAULT_HTTP2_MAX_STREAMS_PER_HOST = 20;
+
+    /** The default maximum number of pooled connections per host. */
+    public static final int DEFAULT_POOL_MAX_PER_HOST = 1000;
+
     /**
      * The current version of the configurations. Used to keep track of configuration changes
      * between releases, in case changes/updates are needed.
@@ -84,6 +92,16 @@ public class ConnectionOptions extends VersionedAbstractParam {
     private static final String TLS_ALLOW_UNSAFE_RENEGOTIATION =
             TLS_PROTOCOLS_KEY + ".allowUnsafeRenegotiation";
 
+    private static final String HTTP2_BASE_KEY = BASE_KEY + ".http2.";
+    private static final String HTTP2_SCANNER_KEY = HTTP2_BASE_KEY + "scanner";
+    private static final String HTTP2_MAX_STREAMS_PER_HOST_KEY =
+            HTTP2_BASE_KEY + "maxStreamsPerHost";
+
+    private static final String POOL_BASE_KEY = BASE_KEY + ".pool.";
+    private static final String POOL_MAX_PER_HOST_KEY = POOL_BASE_KEY + "maxPerHost";
+    private static final String POOL_IDLE_TIMEOUT_KEY = POOL_BASE_KEY + "idleTimeoutInSecs";
+    private static final String POOL_TTL_KEY = POOL_BASE_KEY + "ttlInSecs";
+
     private static final String HTTP_PROXY_BASE_KEY = BASE_KEY + ".httpProxy.";
     private static final String HTTP_PROXY_ENABLED_KEY = HTTP_PROXY_BASE_KEY + "enabled";
     private static final String HTTP_PROXY_HOST_KEY = HTTP_PROXY_BASE_KEY + "host";
@@ -150,6 +168,11 @@ public class ConnectionOptions extends VersionedAbstractParam {
     private int dnsTtlSuccessfulQueries = DNS_DEFAULT_TTL_SUCCESSFUL_QUERIES;
     private List<String> tlsProtocols = TlsUtils.getSupportedTlsProtocols();
     private boolean allowUnsafeRenegotiation;
+    private boolean http2ForScanner;
+    private int http2MaxStreamsPerHost = DEFAULT_HTTP2_MAX_STREAMS_PER_HOST;
+    private int poolMaxPerHost = DEFAULT_POOL_MAX_PER_HOST;
+    private int poolIdleTimeoutInSecs;
+    private int poolTtlInSecs;
 
     private boolean httpProxyEnabled;
     private HttpProxy httpProxy = DEFAULT_HTTP_PROXY;
@@ -211,6 +234,14 @@ public class ConnectionOptions extends VersionedAbstractParam {
         allowUnsafeRenegotiation = getBoolean(TLS_ALLOW_UNSAFE_RENEGOTIATION, false);
         setAllowUnsafeRenegotiationSystemProperty(allowUnsafeRenegotiation);
 
+        http2ForScanner = getBoolean(HTTP2_SCANNER_KEY, false);
+        setHttp2MaxStreamsPerHostImpl(
+                getInt(HTTP2_MAX_STREAMS_PER_HOST_KEY, DEFAULT_HTTP2_MAX_STREAMS_PER_HOST));
+
+        setPoolMaxPerHostImpl(getInt(POOL_MAX_PER_HOST_KEY, DEFAULT_POOL_MAX_PER_HOST));
+        poolIdleTimeoutInSecs = Math.max(0, getInt(POOL_IDLE_TIMEOUT_KEY, 0));
+        poolTtlInSecs = Math.max(0, getInt(POOL_TTL_KEY, 0));
+
         parseHttpProxyOptions();
         parseSocksProxyOptions();
 
@@ -494,6 +525,136 @@ public class ConnectionOptions extends VersionedAbstractParam {
         System.setProperty("sun.security.ssl.allowUnsafeRenegotiation", String.valueOf(allow));
     }
 
+    /**
+     * Tells whether or not the requests of the active scanner should use HTTP/2, when supported by
+     * the target host.
+     *
+     * @return {@code true} if the active scanner should use HTTP/2, {@code false} otherwise.
+     * @since 0.30.0
+     * @see #getHttp2MaxStreamsPerHost()
+     */
+    public boolean isHttp2ForScanner() {
+        return http2ForScanner;
+    }
+
+    /**
+     * Sets whether or not the requests of the active scanner should use HTTP/2, when supported by
+     * the target host.
+     *
+     * <p>The HTTP/2 support is negotiated through ALPN, the hosts that do not support it are
+     * accessed with HTTP/1.1. The concurrent requests of the scan threads are multiplexed over the
+     * connection to the host.
+     *
+     * @param http2ForScanner {@code true} if the active scanner should use HTTP/2, {@code false}
+     *     otherwise.
+     * @since 0.30.0
+     */
+    public void setHttp2ForScanner(boolean http2ForScanner) {
+        this.http2ForScanner = http2ForScanner;
+        getConfig().setProperty(HTTP2_SCANNER_KEY, http2ForScanner);
+    }
+
+    /**
+     * Gets the maximum number of concurrent HTTP/2 streams per host, used by the active scanner.
+     *
+     * @return the maximum number of streams, always greater than zero.
+     * @since 0.30.0
+     * @see #isHttp2ForScanner()
+     */
+    public int getHttp2MaxStreamsPerHost() {
+        return http2MaxStreamsPerHost;
+    }
+
+    /**
+     * Sets the maximum number of concurrent HTTP/2 streams per host, used by the active scanner.
+     *
+     * @param maxStreams the maximum number of streams, values lower than one reset to the default.
+     * @since 0.30.0
+     * @see #DEFAULT_HTTP2_MAX_STREAMS_PER_HOST
+     */
+    public void setHttp2MaxStreamsPerHost(int maxStreams) {
+        setHttp2MaxStreamsPerHostImpl(maxStreams);
+        getConfig().setProperty(HTTP2_MAX_STREAMS_PER_HOST_KEY, http2MaxStreamsPerHost);
+    }
+
+    private void setHttp2MaxStreamsPerHostImpl(int maxStreams) {
+        http2MaxStreamsPerHost = maxStreams < 1 ? DEFAULT_HTTP2_MAX_STREAMS_PER_HOST : maxStreams;
+    }
+
+    /**
+     * Gets the maximum number of pooled connections per host.
+     *
+     * @return the maximum number of connections, always greater than zero.
+     * @since 0.30.0
+     */
+    public int getPoolMaxPerHost() {
+        return poolMaxPerHost;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per host.
+     *
+     * @param max the maximum number of connections, values lower than one reset to the default.
+     * @since 0.30.0
+     * @see #DEFAULT_POOL_MAX_PER_HOST
+     */
+    public void setPoolMaxPerHost(int max) {
+        setPoolMaxPerHostImpl(max);
+        getConfig().setProperty(POOL_MAX_PER_HOST_KEY, poolMaxPerHost);
+
+        notifyChangesListeners();
+    }
+
+    private void setPoolMaxPerHostImpl(int max) {
+        poolMaxPerHost = max < 1 ? DEFAULT_POOL_MAX_PER_HOST : max;
+    }
+
+    /**
+     * Gets the time after which idle pooled connections are closed.
+     *
+     * @return the time, in seconds, zero if idle connections are kept.
+     * @since 0.30.0
+     */
+    public int getPoolIdleTimeoutInSecs() {
+        return poolIdleTimeoutInSecs;
+    }
+
+    /**
+     * Sets the time after which idle pooled connections are closed.
+     *
+     * @param timeout the time, in seconds, zero or negative to keep the idle connections.
+     * @since 0.30.0
+     */
+    public void setPoolIdleTimeoutInSecs(int timeout) {
+        poolIdleTimeoutInSecs = Math.max(0, timeout);
+        getConfig().setProperty(POOL_IDLE_TIMEOUT_KEY, poolIdleTimeoutInSecs);
+
+        notifyChangesListeners();
+    }
+
+    /**
+     * Gets the time to live of the pooled connections.
+     *
+     * @return the time, in seconds, zero if the connections do not expire.
+     * @since 0.30.0
+     */
+    public int getPoolTtlInSecs() {
+        return poolTtlInSecs;
+    }
+
+    /**
+     * Sets the time to live of the pooled connections, connections older than that are not reused.
+     *
+     * @param ttl the time, in seconds, zero or negative if the connections should not expire.
+     * @since 0.30.0
+     */
+    public void setPoolTtlInSecs(int ttl) {
+        poolTtlInSecs = Math.max(0, ttl);
+        getConfig().setProperty(POOL_TTL_KEY, poolTtlInSecs);
+
+        notifyChangesListeners();
+    }
+
     private void parseHttpProxyOptions() {
 
         httpProxyEnabled = getBoolean(HTTP_PROXY_ENABLED_KEY, false);
@@ -130,6 +130,11 @@ class ConnectionOptionsPanel extends AbstractParamPanel {
         private final ZapNumberSpinner dnsTtlSuccessfulNumberSpinner;
         private final SecurityProtocolsPanel securityProtocolsPanel;
         private final JCheckBox allowUnsafeRenegotiationCheckBox;
+        private final ZapNumberSpinner poolMaxPerHostNumberSpinner;
+        private final ZapNumberSpinner poolIdleTimeoutNumberSpinner;
+        private final ZapNumberSpinner poolTtlNumberSpinner;
+        private final JCheckBox http2ForScannerCheckBox;
+        private final ZapNumberSpinner http2MaxStreamsNumberSpinner;
         private final JPanel panel;
 
         GeneralPanel() {
@@ -223,6 +228,39 @@ class ConnectionOptionsPanel extends AbstractParamPanel {
                     Constant.messages.getString(
                             "network.ui.options.connection.general.unsaferenegotiation.tooltip"));
 
+            poolMaxPerHostNumberSpinner =
+                    new ZapNumberSpinner(
+                            1, ConnectionOptions.DEFAULT_POOL_MAX_PER_HOST, Integer.MAX_VALUE);
+            poolIdleTimeoutNumberSpinner = new ZapNumberSpinner(0, 0, Integer.MAX_VALUE);
+            poolTtlNumberSpinner = new ZapNumberSpinner(0, 0, Integer.MAX_VALUE);
+            JPanel poolPanel =
+                    createPoolPanel(
+                            poolMaxPerHostNumberSpinner,
+                            poolIdleTimeoutNumberSpinner,
+                            poolTtlNumberSpinner);
+
+            http2ForScannerCheckBox =
+                    new JCheckBox(
+                            Constant.messages.getString(
+                                    "network.ui.options.connection.general.http2scanner"));
+            http2ForScannerCheckBox.setToolTipText(
+                    Constant.messages.getString(
+                            "network.ui.options.connection.general.http2scanner.tooltip"));
+            http2MaxStreamsNumberSpinner =
+                    new ZapNumberSpinner(
+                            1,
+                            ConnectionOptions.DEFAULT_HTTP2_MAX_STREAMS_PER_HOST,
+                            Integer.MAX_VALUE);
+            JLabel http2MaxStreamsLabel =
+                    new JLabel(
+                            Constant.messages.getString(
+                                    "network.ui.options.connection.general.http2maxstreams"));
+            http2MaxStreamsLabel.setLabelFor(http2MaxStreamsNumberSpinner);
+            http2ForScannerCheckBox.addItemListener(
+                    e ->
+                            http2MaxStreamsNumberSpinner.setEnabled(
+                                    http2ForScannerCheckBox.isSelected()));
+
             Component spacer = Box.createHorizontalGlue();
 
             panel = new JPanel();
@@ -250,7 +288,13 @@ class ConnectionOptionsPanel extends AbstractParamPanel {
                             .addComponent(spacer)
                             .addComponent(dnsPanel)
                             .addComponent(securityProtocolsPanel)
-                            .addComponent(allowUnsafeRenegotiationCheckBox));
+                            .addComponent(allowUnsafeRenegotiationCheckBox)
+                            .addComponent(poolPanel)
+                            .addComponent(http2ForScannerCheckBox)
+                            .addGroup(
+                                    layout.createSequentialGroup()
+                                            .addComponent(http2MaxStreamsLabel)
+                                            .addComponent(http2MaxStreamsNumberSpinner)));
 
             layout.setVerticalGroup(
                     layout.createSequentialGroup()
@@ -271,7 +315,76 @@ class ConnectionOptionsPanel extends AbstractParamPanel {
                             .addComponent(spacer)
                             .addComponent(dnsPanel)
                             .addComponent(securityProtocolsPanel)
-                            .addComponent(allowUnsafeRenegotiationCheckBox));
+                            .addComponent(allowUnsafeRenegotiationCheckBox)
+                            .addComponent(poolPanel)
+                            .addComponent(http2ForScannerCheckBox)
+                            .addGroup(
+                                    layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                                            .addComponent(http2MaxStreamsLabel)
+                                            .addComponent(http2MaxStreamsNumberSpinner)));
+        }
+
+        private static JPanel createPoolPanel(
+                ZapNumberSpinner maxPerHost, ZapNumberSpinner idleTimeout, ZapNumberSpinner ttl) {
+            JPanel poolPanel = new JPanel();
+            poolPanel.setBorder(
+                    BorderFactory.createTitledBorder(
+                            null,
+                            Constant.messages.getString(
+                                    "network.ui.options.connection.general.pool.title"),
+                            TitledBorder.DEFAULT_JUSTIFICATION,
+                            TitledBorder.DEFAULT_POSITION,
+                            FontUtils.getFont(FontUtils.Size.standard)));
+
+            JLabel maxPerHostLabel =
+                    new JLabel(
+                            Constant.messages.getString(
+                                    "network.ui.options.connection.general.pool.maxperhost"));
+            maxPerHostLabel.setLabelFor(maxPerHost);
+            JLabel idleTimeoutLabel =
+                    new JLabel(
+                            Constant.messages.getString(
+                                    "network.ui.options.connection.general.pool.idletimeout"));
+            idleTimeoutLabel.setLabelFor(idleTimeout);
+            JLabel ttlLabel =
+                    new JLabel(
+                            Constant.messages.getString(
+                                    "network.ui.options.connection.general.pool.ttl"));
+            ttlLabel.setLabelFor(ttl);
+
+            GroupLayout layout = new GroupLayout(poolPanel);
+            poolPanel.setLayout(layout);
+            layout.setAutoCreateGaps(true);
+            layout.setAutoCreateContainerGaps(true);
+
+            layout.setHorizontalGroup(
+                    layout.createSequentialGroup()
+                            .addGroup(
+                                    layout.createParallelGroup(GroupLayout.Alignment.TRAILING)
+                                            .addComponent(maxPerHostLabel)
+                                            .addComponent(idleTimeoutLabel)
+                                            .addComponent(ttlLabel))
+                            .addGroup(
+                                    layout.createParallelGroup(GroupLayout.Alignment.LEADING)
+                                            .addComponent(maxPerHost)
+                                            .addComponent(idleTimeout)
+                                            .addComponent(ttl)));
+
+            layout.setVerticalGroup(
+                    layout.createSequentialGroup()
+                            .addGroup(
+                                    layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                                            .addComponent(maxPerHostLabel)
+                                            .addComponent(maxPerHost))
+                            .addGroup(
+                                    layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                                            .addComponent(idleTimeoutLabel)
+                                            .addComponent(idleTimeout))
+                            .addGroup(
+                                    layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                                            .addComponent(ttlLabel)
+                                            .addComponent(ttl)));
+            return poolPanel;
         }
 
         private void updateUserAgentsComboBox() {
@@ -292,6 +405,12 @@ class ConnectionOptionsPanel extends AbstractParamPanel {
             dnsTtlSuccessfulNumberSpinner.setValue(options.getDnsTtlSuccessfulQueries());
             securityProtocolsPanel.setSecurityProtocolsEnabled(options.getTlsProtocols());
             allowUnsafeRenegotiationCheckBox.setSelected(options.isAllowUnsafeRenegotiation());
+            poolMaxPerHostNumberSpinner.setValue(options.getPoolMaxPerHost());
+            poolIdleTimeoutNumberSpinner.setValue(options.getPoolIdleTimeoutInSecs());
+            poolTtlNumberSpinner.setValue(options.getPoolTtlInSecs());
+            http2ForScannerCheckBox.setSelected(options.isHttp2ForScanner());
+            http2MaxStreamsNumberSpinner.setValue(options.getHttp2MaxStreamsPerHost());
+            http2MaxStreamsNumberSpinner.setEnabled(options.isHttp2ForScanner());
         }
 
         void validate() throws Exception {
@@ -305,6 +424,11 @@ class ConnectionOptionsPanel extends AbstractParamPanel {
             options.setDnsTtlSuccessfulQueries(dnsTtlSuccessfulNumberSpinner.getValue());
             options.setTlsProtocols(securityProtocolsPanel.getSelectedProtocols());
             options.setAllowUnsafeRenegotiation(allowUnsafeRenegotiationCheckBox.isSelected());
+            options.setPoolMaxPerHost(poolMaxPerHostNumberSpinner.getValue());
+            options.setPoolIdleTimeoutInSecs(poolIdleTimeoutNumberSpinner.getValue());
+            options.setPoolTtlInSecs(poolTtlNumberSpinner.getValue());
+            options.setHttp2ForScanner(http2ForScannerCheckBox.isSelected());
+            options.setHttp2MaxStreamsPerHost(http2MaxStreamsNumberSpinner.getValue());
         }
     }
 
@@ -106,6 +106,7 @@ import org.zaproxy.addon.network.internal.client.LegacyUtils;
 import org.zaproxy.addon.network.internal.client.ZapAuthenticator;
 import org.zaproxy.addon.network.internal.client.ZapProxySelector;
 import org.zaproxy.addon.network.internal.client.apachev5.HttpSenderApache;
+import org.zaproxy.addon.network.internal.client.apachev5.ZapPoolingHttpClientConnectionManager;
 import org.zaproxy.addon.network.internal.handlers.PassThroughHandler;
 import org.zaproxy.addon.network.internal.handlers.TlsConfig;
 import org.zaproxy.addon.network.internal.ratelimit.RateLimitExtensionHelper;
@@ -315,6 +316,18 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
         return connectionOptions;
     }
 
+    /**
+     * Gets the connection pool of the HTTP sender.
+     *
+     * @return the connection pool, might be {@code null}.
+     */
+    ZapPoolingHttpClientConnectionManager getConnectionPool() {
+        if (httpSenderNetwork instanceof HttpSenderApache) {
+            return ((HttpSenderApache) httpSenderNetwork).getConnectionPool();
+        }
+        return null;
+    }
+
     /**
      * Gets the HTTP proxy.
      *
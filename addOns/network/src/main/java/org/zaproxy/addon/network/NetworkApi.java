@@ -38,6 +38,7 @@ import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import net.sf.json.JSONException;
 import net.sf.json.JSONObject;
+import org.apache.hc.core5.pool.PoolStats;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.network.HttpMalformedHeaderException;
@@ -46,6 +47,8 @@ import org.zaproxy.addon.network.common.HttpProxy;
 import org.zaproxy.addon.network.internal.cert.CertificateUtils;
 import org.zaproxy.addon.network.internal.client.HttpProxyExclusion;
 import org.zaproxy.addon.network.internal.client.SocksProxy;
+import org.zaproxy.addon.network.internal.client.apachev5.ConnectionPoolMetrics;
+import org.zaproxy.addon.network.internal.client.apachev5.ZapPoolingHttpClientConnectionManager;
 import org.zaproxy.addon.network.internal.ratelimit.RateLimitRule;
 import org.zaproxy.addon.network.internal.server.http.Alias;
 import org.zaproxy.addon.network.internal.server.http.LocalServerConfig;
@@ -83,6 +86,11 @@ public class NetworkApi extends ApiImplementor {
     private static final String ACTION_REMOVE_PASS_THROUGH = "removePassThrough";
     private static final String ACTION_REMOVE_RATE_LIMIT_RULE = "removeRateLimitRule";
     private static final String ACTION_SET_ALIAS_ENABLED = "setAliasEnabled";
+    private static final String ACTION_SET_CONNECTION_POOL_IDLE_TIMEOUT =
+            "setConnectionPoolIdleTimeout";
+    private static final String ACTION_SET_CONNECTION_POOL_MAX_PER_HOST =
+            "setConnectionPoolMaxPerHost";
+    private static final String ACTION_SET_CONNECTION_POOL_TTL = "setConnectionPoolTtl";
     private static final String ACTION_SET_CONNECTION_TIMEOUT = "setConnectionTimeout";
     private static final String ACTION_SET_DEFAULT_USER_AGENT = "setDefaultUserAgent";
     private static final String ACTION_SET_DNS_TTL_SUCCESSFUL_QUERIES =
@@ -102,6 +110,8 @@ public class NetworkApi extends ApiImplementor {
     private static final String ACTION_SET_USE_GLOBAL_HTTP_STATE = "setUseGlobalHttpState";
 
     private static final String VIEW_GET_ALIASES = "getAliases";
+    private static final String VIEW_GET_CONNECTION_POOL_HOSTS = "getConnectionPoolHosts";
+    private static final String VIEW_GET_CONNECTION_POOL_STATS = "getConnectionPoolStats";
     private static final String VIEW_GET_CONNECTION_TIMEOUT = "getConnectionTimeout";
     private static final String VIEW_GET_HTTP_PROXY = "getHttpProxy";
     private static final String VIEW_GET_HTTP_PROXY_EXCLUSIONS = "getHttpProxyExclusions";
@@ -137,6 +147,7 @@ public class NetworkApi extends ApiImplementor {
     private static final String PARAM_INDEX = "index";
     private static final String PARAM_MATCH_REGEX = "matchRegex";
     private static final String PARAM_MATCH_STRING = "matchString";
+    private static final String PARAM_MAX = "max";
     private static final String PARAM_NAME = "name";
     private static final String PARAM_PASSWORD = "password";
     private static final String PARAM_PORT = "port";
@@ -252,6 +263,15 @@ public class NetworkApi extends ApiImplementor {
         this.addApiAction(
                 new ApiAction(ACTION_SET_USE_GLOBAL_HTTP_STATE, Arrays.asList(PARAM_USE)));
 
+        this.addApiAction(
+                new ApiAction(
+                        ACTION_SET_CONNECTION_POOL_IDLE_TIMEOUT, Arrays.asList(PARAM_TIMEOUT)));
+        this.addApiAction(
+                new ApiAction(ACTION_SET_CONNECTION_POOL_MAX_PER_HOST, Arrays.asList(PARAM_MAX)));
+        this.addApiAction(new ApiAction(ACTION_SET_CONNECTION_POOL_TTL, Arrays.asList(PARAM_TTL)));
+
+        this.addApiView(new ApiView(VIEW_GET_CONNECTION_POOL_HOSTS));
+        this.addApiView(new ApiView(VIEW_GET_CONNECTION_POOL_STATS));
         this.addApiView(new ApiView(VIEW_GET_CONNECTION_TIMEOUT));
         this.addApiView(new ApiView(VIEW_GET_DEFAULT_USER_AGENT));
         this.addApiView(new ApiView(VIEW_GET_DNS_TTL_SUCCESSFUL_QUERIES));
@@ -433,6 +453,27 @@ public class NetworkApi extends ApiImplementor {
                     }
                     return ApiResponseElement.OK;
                 }
+            case ACTION_SET_CONNECTION_POOL_IDLE_TIMEOUT:
+                {
+                    int timeout = ApiUtils.getIntParam(params, PARAM_TIMEOUT);
+                    extensionNetwork.getConnectionOptions().setPoolIdleTimeoutInSecs(timeout);
+                    return ApiResponseElement.OK;
+                }
+            case ACTION_SET_CONNECTION_POOL_MAX_PER_HOST:
+                {
+                    int max = ApiUtils.getIntParam(params, PARAM_MAX);
+                    if (max < 1) {
+                        throw new ApiException(ApiException.Type.ILLEGAL_PARAMETER, PARAM_MAX);
+                    }
+                    extensionNetwork.getConnectionOptions().setPoolMaxPerHost(max);
+                    return ApiResponseElement.OK;
+                }
+            case ACTION_SET_CONNECTION_POOL_TTL:
+                {
+                    int ttl = ApiUtils.getIntParam(params, PARAM_TTL);
+                    extensionNetwork.getConnectionOptions().setPoolTtlInSecs(ttl);
+                    return ApiResponseElement.OK;
+                }
             case ACTION_SET_CONNECTION_TIMEOUT:
                 {
                     int timeout = ApiUtils.getIntParam(params, PARAM_TIMEOUT);
@@ -727,6 +768,36 @@ public class NetworkApi extends ApiImplementor {
                     }
                     return response;
                 }
+            case VIEW_GET_CONNECTION_POOL_HOSTS:
+                {
+                    ApiResponseList response = new ApiResponseList(name);
+                    for (Map.Entry<String, PoolStats> hostStats :
+                            getConnectionPool().getHostStats().entrySet()) {
+                        Map<String, Object> entry = new LinkedHashMap<>();
+                        entry.put("host", hostStats.getKey());
+                        putPoolStats(entry, hostStats.getValue());
+                        response.addItem(new ApiResponseSet<>("host", entry));
+                    }
+                    return response;
+                }
+            case VIEW_GET_CONNECTION_POOL_STATS:
+                {
+                    ZapPoolingHttpClientConnectionManager pool = getConnectionPool();
+                    ConnectionPoolMetrics metrics = pool.getMetrics();
+                    Map<String, Object> data = new LinkedHashMap<>();
+                    putPoolStats(data, pool.getTotalStats());
+                    data.put("maxPerHost", pool.getDefaultMaxPerRoute());
+                    data.put("leases", metrics.getLeases());
+                    data.put("averageLeaseTime", metrics.getAverageLeaseTime());
+                    data.put("maxLeaseTime", metrics.getMaxLeaseTime());
+                    data.put("connections", metrics.getConnections());
+                    data.put("averageConnectTime", metrics.getAverageConnectTime());
+                    data.put("reuseRatio", metrics.getReuseRatio());
+                    data.put("tlsHandshakes", metrics.getTlsHandshakes());
+                    data.put("averageTlsHandshakeTime", metrics.getAverageTlsHandshakeTime());
+                    data.put("evictions", metrics.getEvictions());
+                    return new ApiResponseSet<>(name, data);
+                }
             case VIEW_GET_CONNECTION_TIMEOUT:
                 {
                     int timeout = extensionNetwork.getConnectionOptions().getTimeoutInSecs();
@@ -962,6 +1033,21 @@ public class NetworkApi extends ApiImplementor {
         }
     }
 
+    private ZapPoolingHttpClientConnectionManager getConnectionPool() throws ApiException {
+        ZapPoolingHttpClientConnectionManager pool = extensionNetwork.getConnectionPool();
+        if (pool == null) {
+            throw new ApiException(ApiException.Type.DOES_NOT_EXIST);
+        }
+        return pool;
+    }
+
+    private static void putPoolStats(Map<String, Object> data, PoolStats stats) {
+        data.put("leased", stats.getLeased());
+        data.put("available", stats.getAvailable());
+        data.put("pending", stats.getPending());
+        data.put("max", stats.getMax());
+    }
+
     private static boolean isValidPort(int port) {
         return port > 0 && port <= 65535;
     }
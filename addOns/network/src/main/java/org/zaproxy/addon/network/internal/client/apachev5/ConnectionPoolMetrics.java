@@ -0,0 +1,173 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.client.apachev5;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * The metrics of the connection pool, for example, how long it takes to lease and establish the
+ * connections.
+ *
+ * <p>The metrics are also kept in the {@link Stats}, the times in milliseconds.
+ */
+public class ConnectionPoolMetrics {
+
+    static final String LEASES_STATS = "stats.network.pool.leases";
+    static final String LEASE_TIME_STATS = "stats.network.pool.lease.time";
+    static final String CONNECTIONS_STATS = "stats.network.pool.connections";
+    static final String CONNECT_TIME_STATS = "stats.network.pool.connect.time";
+    static final String TLS_HANDSHAKES_STATS = "stats.network.pool.tls.handshakes";
+    static final String TLS_HANDSHAKE_TIME_STATS = "stats.network.pool.tls.handshake.time";
+    static final String EVICTIONS_STATS = "stats.network.pool.evictions";
+
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseTimeNanos = new LongAdder();
+    private final LongAccumulator maxLeaseTimeNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder connectTimeNanos = new LongAdder();
+    private final LongAdder tlsHandshakes = new LongAdder();
+    private final LongAdder tlsHandshakeTimeNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    void leaseCompleted(long timeNanos) {
+        leases.increment();
+        leaseTimeNanos.add(timeNanos);
+        maxLeaseTimeNanos.accumulate(timeNanos);
+        Stats.incCounter(LEASES_STATS);
+        Stats.incCounter(LEASE_TIME_STATS, TimeUnit.NANOSECONDS.toMillis(timeNanos));
+    }
+
+    void connectionEstablished(long timeNanos) {
+        connections.increment();
+        connectTimeNanos.add(timeNanos);
+        Stats.incCounter(CONNECTIONS_STATS);
+        Stats.incCounter(CONNECT_TIME_STATS, TimeUnit.NANOSECONDS.toMillis(timeNanos));
+    }
+
+    void tlsHandshakeCompleted(long timeNanos) {
+        tlsHandshakes.increment();
+        tlsHandshakeTimeNanos.add(timeNanos);
+        Stats.incCounter(TLS_HANDSHAKES_STATS);
+        Stats.incCounter(TLS_HANDSHAKE_TIME_STATS, TimeUnit.NANOSECONDS.toMillis(timeNanos));
+    }
+
+    void connectionsEvicted(int count) {
+        if (count <= 0) {
+            return;
+        }
+        evictions.add(count);
+        Stats.incCounter(EVICTIONS_STATS, count);
+    }
+
+    /**
+     * Gets the number of connections leased from the pool.
+     *
+     * @return the number of leases.
+     */
+    public long getLeases() {
+        return leases.sum();
+    }
+
+    /**
+     * Gets the average time waiting for a connection from the pool.
+     *
+     * @return the average time, in milliseconds.
+     */
+    public double getAverageLeaseTime() {
+        return averageMillis(leaseTimeNanos.sum(), leases.sum());
+    }
+
+    /**
+     * Gets the maximum time waiting for a connection from the pool.
+     *
+     * @return the maximum time, in milliseconds.
+     */
+    public long getMaxLeaseTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLeaseTimeNanos.get());
+    }
+
+    /**
+     * Gets the number of connections established.
+     *
+     * @return the number of connections.
+     */
+    public long getConnections() {
+        return connections.sum();
+    }
+
+    /**
+     * Gets the average time to establish a connection, including the TLS handshake, if any.
+     *
+     * @return the average time, in milliseconds.
+     */
+    public double getAverageConnectTime() {
+        return averageMillis(connectTimeNanos.sum(), connections.sum());
+    }
+
+    /**
+     * Gets the ratio of leases that reused an already established connection.
+     *
+     * @return the ratio, between {@code 0} and {@code 1}.
+     */
+    public double getReuseRatio() {
+        long leaseCount = leases.sum();
+        if (leaseCount == 0) {
+            return 0;
+        }
+        return Math.max(0, leaseCount - connections.sum()) / (double) leaseCount;
+    }
+
+    /**
+     * Gets the number of TLS handshakes.
+     *
+     * @return the number of handshakes.
+     */
+    public long getTlsHandshakes() {
+        return tlsHandshakes.sum();
+    }
+
+    /**
+     * Gets the average time of the TLS handshakes.
+     *
+     * @return the average time, in milliseconds.
+     */
+    public double getAverageTlsHandshakeTime() {
+        return averageMillis(tlsHandshakeTimeNanos.sum(), tlsHandshakes.sum());
+    }
+
+    /**
+     * Gets the number of idle and expired connections evicted from the pool.
+     *
+     * @return the number of evictions.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private static double averageMillis(long totalNanos, long count) {
+        if (count == 0) {
+            return 0;
+        }
+        return totalNanos / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -28,10 +28,16 @@ import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.net.ssl.SSLException;
 import org.apache.commons.httpclient.URI;
 import org.apache.hc.client5.http.auth.AuthSchemeFactory;
 import org.apache.hc.client5.http.auth.StandardAuthScheme;
@@ -52,7 +58,6 @@ import org.apache.hc.client5.http.impl.classic.CustomHttpClientCreator;
 import org.apache.hc.client5.http.impl.classic.ZapProtocolExec;
 import org.apache.hc.client5.http.impl.classic.ZapRequestAddCookies;
 import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
-import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.ZapHttpClientConnectionOperator;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.client5.http.protocol.ResponseProcessCookies;
@@ -86,6 +91,7 @@ import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.net.URIAuthority;
 import org.apache.hc.core5.util.Args;
 import org.apache.hc.core5.util.ByteArrayBuffer;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -105,12 +111,15 @@ import org.zaproxy.addon.network.internal.client.BaseHttpSender;
 import org.zaproxy.addon.network.internal.client.LegacyUtils;
 import org.zaproxy.addon.network.internal.client.ResponseBodyConsumer;
 import org.zaproxy.addon.network.internal.client.SocksProxy;
+import org.zaproxy.addon.network.internal.client.apachev5.h2.HostStreamLimiter;
+import org.zaproxy.addon.network.internal.client.apachev5.h2.Http2NotNegotiatedException;
 import org.zaproxy.addon.network.internal.client.apachev5.h2.HttpMessageRequestProducer;
 import org.zaproxy.addon.network.internal.client.apachev5.h2.HttpMessageResponseConsumer;
 import org.zaproxy.addon.network.internal.client.apachev5.h2.ZapClientTlsStrategy;
 import org.zaproxy.addon.network.internal.server.http.handlers.LegacyProxyListenerHandler;
 import org.zaproxy.zap.network.HttpRequestConfig;
 import org.zaproxy.zap.users.User;
+import org.zaproxy.zap.utils.Stats;
 
 /** A {@link BaseHttpSender} using Apache HttpComponents Client. */
 public class HttpSenderApache
@@ -120,6 +129,24 @@ public class HttpSenderApache
 
     private static final int BUFFER_SIZE = 4096;
 
+    private static final String SCANNER_H2_STREAMS_STATS = "stats.network.http2.scanner.streams";
+    private static final String SCANNER_H2_STREAMS_IN_FLIGHT_STATS =
+            "stats.network.http2.scanner.streams.inflight";
+    private static final String SCANNER_H2_FALLBACK_STATS = "stats.network.http2.scanner.fallback";
+
+    /** The description of the TLS alert sent when no ALPN protocol is supported by the server. */
+    private static final String NO_APPLICATION_PROTOCOL_ALERT = "no_application_protocol";
+
+    /** The connection-specific headers, not allowed in HTTP/2 requests. */
+    private static final Set<String> HTTP1_ONLY_HEADERS =
+            Set.of(
+                    "connection",
+                    "host",
+                    "keep-alive",
+                    "proxy-connection",
+                    "transfer-encoding",
+                    "upgrade");
+
     private final Supplier<CookieStore> globalCookieStoreProvider;
     private final ConnectionOptions options;
     private final ClientCertificatesOptions clientCertificatesOptions;
@@ -135,13 +162,17 @@ public class HttpSenderApache
     private final OutgoingContentStrategy outgoingContentStrategy;
     private final LayeredConnectionSocketFactory sslSocketFactory;
 
-    private final PoolingHttpClientConnectionManager connectionManager;
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+    private final ZapPoolingHttpClientConnectionManager connectionManager;
     private final HttpProcessor proxyHttpProcessor;
     private final ZapRequestAddCookies zapRequestAddCookies;
     private final HttpProcessor mainHttpProcessor;
     private final RequestRetryStrategy requestRetryStrategy;
     private final CloseableHttpClient clientImpl;
     private final CloseableHttpAsyncClient h2ClientImpl;
+    private volatile CloseableHttpAsyncClient h2ScannerClientImpl;
+    private final HostStreamLimiter scannerStreamLimiter;
+    private final Set<String> scannerHttp1Hosts;
     private final HttpConnector httpConnector;
     private ConnectionConfig connConfig;
 
@@ -188,11 +219,16 @@ public class HttpSenderApache
                         .responseParserFactory(new LenientMessageParserFactory())
                         .build();
 
-        sslSocketFactory = new SslConnectionSocketFactory(options, clientCertificatesOptions);
+        connectionPoolMetrics = new ConnectionPoolMetrics();
+        sslSocketFactory =
+                new SslConnectionSocketFactory(
+                        options, clientCertificatesOptions, connectionPoolMetrics);
 
         connectionManager =
                 new ZapPoolingHttpClientConnectionManager(
-                        sslSocketFactory, managedHttpClientConnectionFactory);
+                        sslSocketFactory,
+                        managedHttpClientConnectionFactory,
+                        connectionPoolMetrics);
 
         proxyHttpProcessor =
                 HttpProcessorBuilder.create()
@@ -238,6 +274,9 @@ public class HttpSenderApache
                         new ZapClientTlsStrategy(false, options, clientCertificatesOptions));
         h2ClientImpl.start();
 
+        scannerStreamLimiter = new HostStreamLimiter(options::getHttp2MaxStreamsPerHost);
+        scannerHttp1Hosts = ConcurrentHashMap.newKeySet();
+
         httpConnector =
                 new HttpConnector(
                         managedHttpClientConnectionFactory,
@@ -247,12 +286,18 @@ public class HttpSenderApache
 
     private void refreshConnectionManager() {
         Timeout timeout = Timeout.ofSeconds(options.getTimeoutInSecs());
+        TimeValue ttl = toTimeValue(options.getPoolTtlInSecs());
         connConfig =
                 ConnectionConfig.custom()
                         .setConnectTimeout(timeout)
                         .setSocketTimeout(timeout)
+                        .setTimeToLive(ttl)
                         .build();
         connectionManager.setDefaultConnectionConfig(connConfig);
+        connectionManager.setMaxPerHost(options.getPoolMaxPerHost());
+
+        TimeValue idleTimeout = toTimeValue(options.getPoolIdleTimeoutInSecs());
+        connectionManager.setEviction(idleTimeout, idleTimeout != null ? idleTimeout : ttl);
 
         connectionManager.setDefaultSocketConfig(
                 SocketConfig.custom().setSoTimeout(timeout).build());
@@ -265,10 +310,37 @@ public class HttpSenderApache
                         .build());
     }
 
+    private static TimeValue toTimeValue(int seconds) {
+        return seconds > 0 ? TimeValue.ofSeconds(seconds) : null;
+    }
+
+    /**
+     * Gets the connection pool, to obtain its metrics and statistics.
+     *
+     * @return the connection pool.
+     */
+    public ZapPoolingHttpClientConnectionManager getConnectionPool() {
+        return connectionManager;
+    }
+
     @Override
     public void close() {
         clientImpl.close(CloseMode.GRACEFUL);
         h2ClientImpl.close(CloseMode.GRACEFUL);
+        synchronized (this) {
+            if (h2ScannerClientImpl != null) {
+                h2ScannerClientImpl.close(CloseMode.GRACEFUL);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of HTTP/2 streams in flight, sent by the active scanner.
+     *
+     * @return the number of streams in flight.
+     */
+    public int getScannerStreamsInFlight() {
+        return scannerStreamLimiter.getStreamsInFlight();
     }
 
     @Override
@@ -448,7 +520,16 @@ public class HttpSenderApache
         requestCtx.setRequestConfig(requestConfigBuilder.build());
 
         Map<String, Object> properties = getProperties(message);
-        HttpRequest request = createHttpRequest(properties, message);
+        boolean scannerHttp2 = isScannerHttp2(ctx, properties, message);
+        HttpRequest request;
+        List<HttpHeaderField> http1OnlyHeaders;
+        if (scannerHttp2) {
+            request = createHttp2Request(message.getRequestHeader(), true);
+            http1OnlyHeaders = getHttp1OnlyHeaders(message.getRequestHeader());
+        } else {
+            request = createHttpRequest(properties, message);
+            http1OnlyHeaders = List.of();
+        }
 
         requestCtx.increaseRequestCount();
         try {
@@ -481,7 +562,13 @@ public class HttpSenderApache
                     message.setTimeSentMillis(System.currentTimeMillis());
                     if (isHttp2(properties, message)) {
                         sendHttp2(message, request, requestCtx);
-                    } else {
+                    } else if (!scannerHttp2
+                            || !sendScannerHttp2(message, request, requestCtx)) {
+                        if (scannerHttp2) {
+                            scannerHttp2 = false;
+                            request = createHttpRequest(properties, message);
+                            message.setTimeSentMillis(System.currentTimeMillis());
+                        }
                         try {
                             clientImpl.execute(
                                     (ClassicHttpRequest) request,
@@ -524,6 +611,11 @@ public class HttpSenderApache
         }
 
         updateRequestHeaders(message.getRequestHeader(), requestCtx.getRequest());
+        if (scannerHttp2) {
+            // Keep the message as it was created, the headers are implied by HTTP/2.
+            http1OnlyHeaders.forEach(
+                    e -> message.getRequestHeader().addHeader(e.getName(), e.getValue()));
+        }
 
         if (isSet(requestCtx, RemoveTransferEncoding.ATTR_NAME) && !message.isEventStream()) {
             message.getResponseHeader().setContentLength(message.getResponseBody().length());
@@ -567,6 +659,108 @@ public class HttpSenderApache
         return "HTTP/2".equalsIgnoreCase(message.getRequestHeader().getVersion());
     }
 
+    private boolean isScannerHttp2(
+            HttpSenderContextApache ctx, Map<String, Object> properties, HttpMessage message) {
+        if (!options.isHttp2ForScanner()
+                || ctx.getInitiator() != HttpSender.ACTIVE_SCANNER_INITIATOR
+                || !properties.isEmpty()
+                || options.isSocksProxyEnabled()) {
+            return false;
+        }
+        HttpRequestHeader requestHeader = message.getRequestHeader();
+        return requestHeader.isSecure()
+                && !HttpRequestHeader.CONNECT.equals(requestHeader.getMethod())
+                && !isHttp2(properties, message)
+                && !scannerHttp1Hosts.contains(getHostKey(requestHeader));
+    }
+
+    private static String getHostKey(HttpRequestHeader requestHeader) {
+        return requestHeader.getHostName() + ":" + requestHeader.getHostPort();
+    }
+
+    /**
+     * Sends the given message of the active scanner through HTTP/2, multiplexed with the other
+     * requests to the same host.
+     *
+     * @return {@code true} if the message was sent, {@code false} if the host does not support
+     *     HTTP/2 and the message should be sent with HTTP/1.1.
+     */
+    private boolean sendScannerHttp2(
+            HttpMessage message, HttpRequest request, ZapHttpClientContext requestCtx)
+            throws IOException {
+        String host = getHostKey(message.getRequestHeader());
+        try {
+            int inFlight = scannerStreamLimiter.acquire(host);
+            Stats.setHighwaterMark(SCANNER_H2_STREAMS_IN_FLIGHT_STATS, inFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+
+        try {
+            executeHttp2(getH2ScannerClient(), message, request, requestCtx);
+            Stats.incCounter(SCANNER_H2_STREAMS_STATS);
+            return true;
+        } catch (IOException e) {
+            if (!isHttp2NotNegotiated(e)) {
+                throw e;
+            }
+            LOGGER.debug("HTTP/2 not supported by {}, using HTTP/1.1 instead.", host);
+            if (scannerHttp1Hosts.add(host)) {
+                Stats.incCounter(SCANNER_H2_FALLBACK_STATS);
+            }
+            return false;
+        } finally {
+            scannerStreamLimiter.release(host);
+        }
+    }
+
+    private static boolean isHttp2NotNegotiated(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof Http2NotNegotiatedException || isAlpnAlert(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells whether or not the given exception is the handshake alert sent by servers that do not
+     * support any of the protocols offered through ALPN.
+     */
+    private static boolean isAlpnAlert(Throwable e) {
+        return e instanceof SSLException
+                && e.getMessage() != null
+                && e.getMessage().contains(NO_APPLICATION_PROTOCOL_ALERT);
+    }
+
+    private CloseableHttpAsyncClient getH2ScannerClient() {
+        CloseableHttpAsyncClient client = h2ScannerClientImpl;
+        if (client == null) {
+            synchronized (this) {
+                client = h2ScannerClientImpl;
+                if (client == null) {
+                    client =
+                            CustomH2AsyncClientCreator.create(
+                                    charCodingConfig,
+                                    routePlanner,
+                                    authSchemeRegistry,
+                                    credentialsProvider,
+                                    defaultRequestConfig,
+                                    proxyHttpProcessor,
+                                    mainHttpProcessor,
+                                    requestRetryStrategy,
+                                    host -> connConfig,
+                                    new ZapClientTlsStrategy(
+                                            false, true, options, clientCertificatesOptions));
+                    client.start();
+                    h2ScannerClientImpl = client;
+                }
+            }
+        }
+        return client;
+    }
+
     private void sendHttp2(
             HttpMessage message, HttpRequest request, ZapHttpClientContext requestCtx)
             throws IOException {
@@ -593,6 +787,21 @@ public class HttpSenderApache
             client.start();
         }
 
+        try {
+            executeHttp2(client, message, request, requestCtx);
+        } finally {
+            if (!lax) {
+                client.close(CloseMode.GRACEFUL);
+            }
+        }
+    }
+
+    private static void executeHttp2(
+            CloseableHttpAsyncClient client,
+            HttpMessage message,
+            HttpRequest request,
+            ZapHttpClientContext requestCtx)
+            throws IOException {
         try {
             client.execute(
                             new HttpMessageRequestProducer(request, message.getRequestBody()),
@@ -629,10 +838,6 @@ public class HttpSenderApache
             throw new IOException(cause);
         } catch (Exception e) {
             throw new IOException(e);
-        } finally {
-            if (!lax) {
-                client.close(CloseMode.GRACEFUL);
-            }
         }
     }
 
@@ -760,26 +965,54 @@ public class HttpSenderApache
         }
     }
 
-    private static HttpRequest createHttpRequest(Map<String, Object> properties, HttpMessage msg) {
-        if (isHttp2(properties, msg)) {
-            HttpRequestHeader requestHeader = msg.getRequestHeader();
-
-            String path = requestHeader.getURI().getEscapedPathQuery();
-            URI uri = requestHeader.getURI();
-            HttpRequest request =
-                    new BasicHttpRequest(
-                            requestHeader.getMethod(),
-                            uri.getScheme() == null ? HttpHeader.HTTPS : uri.getScheme(),
-                            new URIAuthority(new String(uri.getRawHost()), uri.getPort()),
-                            path == null ? "/" : path);
-
-            for (HttpHeaderField header : requestHeader.getHeaders()) {
-                String name = header.getName();
-                String value = header.getValue();
-                request.addHeader(name, value);
+    /**
+     * Creates an HTTP/2 request from the given request header.
+     *
+     * @param requestHeader the request header.
+     * @param skipHttp1Headers {@code true} if the connection-specific headers, which are not
+     *     allowed in HTTP/2, should not be added, {@code false} otherwise.
+     * @return the HTTP/2 request.
+     */
+    private static HttpRequest createHttp2Request(
+            HttpRequestHeader requestHeader, boolean skipHttp1Headers) {
+        String path = requestHeader.getURI().getEscapedPathQuery();
+        URI uri = requestHeader.getURI();
+        HttpRequest request =
+                new BasicHttpRequest(
+                        requestHeader.getMethod(),
+                        uri.getScheme() == null ? HttpHeader.HTTPS : uri.getScheme(),
+                        new URIAuthority(new String(uri.getRawHost()), uri.getPort()),
+                        path == null ? "/" : path);
+
+        for (HttpHeaderField header : requestHeader.getHeaders()) {
+            String name = header.getName();
+            String value = header.getValue();
+            if (skipHttp1Headers && isHttp1OnlyHeader(name, value)) {
+                continue;
             }
+            request.addHeader(name, value);
+        }
+
+        return request;
+    }
+
+    private static List<HttpHeaderField> getHttp1OnlyHeaders(HttpRequestHeader requestHeader) {
+        return requestHeader.getHeaders().stream()
+                .filter(e -> isHttp1OnlyHeader(e.getName(), e.getValue()))
+                .collect(Collectors.toList());
+    }
 
-            return request;
+    private static boolean isHttp1OnlyHeader(String name, String value) {
+        String lcName = name.toLowerCase(Locale.ROOT);
+        if ("te".equals(lcName)) {
+            return !"trailers".equalsIgnoreCase(value.trim());
+        }
+        return HTTP1_ONLY_HEADERS.contains(lcName);
+    }
+
+    private static HttpRequest createHttpRequest(Map<String, Object> properties, HttpMessage msg) {
+        if (isHttp2(properties, msg)) {
+            return createHttp2Request(msg.getRequestHeader(), false);
         }
 
         boolean hostNormalisation = !Boolean.FALSE.equals(properties.get("host.normalization"));
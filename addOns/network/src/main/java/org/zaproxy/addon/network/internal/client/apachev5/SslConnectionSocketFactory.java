@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.security.SecureRandom;
+import java.util.Objects;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocket;
@@ -33,6 +34,7 @@ import org.apache.hc.client5.http.ssl.HttpsSupport;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.Closer;
 import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.apache.logging.log4j.LogManager;
@@ -61,6 +63,7 @@ public class SslConnectionSocketFactory implements LayeredConnectionSocketFactor
 
     private final ConnectionOptions connectionOptions;
     private final ClientCertificatesOptions clientCertificatesOptions;
+    private final ConnectionPoolMetrics metrics;
 
     private final KeyStores keyStores;
 
@@ -73,8 +76,16 @@ public class SslConnectionSocketFactory implements LayeredConnectionSocketFactor
     public SslConnectionSocketFactory(
             ConnectionOptions connectionOptions,
             ClientCertificatesOptions clientCertificatesOptions) {
+        this(connectionOptions, clientCertificatesOptions, new ConnectionPoolMetrics());
+    }
+
+    public SslConnectionSocketFactory(
+            ConnectionOptions connectionOptions,
+            ClientCertificatesOptions clientCertificatesOptions,
+            ConnectionPoolMetrics metrics) {
         this.connectionOptions = connectionOptions;
         this.clientCertificatesOptions = clientCertificatesOptions;
+        this.metrics = Objects.requireNonNull(metrics);
 
         keyStores = clientCertificatesOptions.getKeyStores();
         keyStores.addChangeListener(
@@ -160,8 +171,12 @@ public class SslConnectionSocketFactory implements LayeredConnectionSocketFactor
     public Socket createLayeredSocket(
             Socket socket, String target, int port, Object attachment, HttpContext context)
             throws IOException {
-        return getSslConnectionSocketFactory(context)
-                .createLayeredSocket(socket, target, port, attachment, context);
+        long start = System.nanoTime();
+        Socket layeredSocket =
+                getSslConnectionSocketFactory(context)
+                        .createLayeredSocket(socket, target, port, attachment, context);
+        metrics.tlsHandshakeCompleted(System.nanoTime() - start);
+        return layeredSocket;
     }
 
     @Override
@@ -191,14 +206,35 @@ public class SslConnectionSocketFactory implements LayeredConnectionSocketFactor
             final HttpContext context)
             throws IOException {
 
-        return getSslConnectionSocketFactory(context)
-                .connectSocket(
-                        socket,
-                        host,
-                        remoteAddress,
-                        localAddress,
-                        connectTimeout,
-                        attachment,
-                        context);
+        Socket sock = socket != null ? socket : createSocket(context);
+        if (sock instanceof SSLSocket) {
+            return getSslConnectionSocketFactory(context)
+                    .connectSocket(
+                            sock,
+                            host,
+                            remoteAddress,
+                            localAddress,
+                            connectTimeout,
+                            attachment,
+                            context);
+        }
+
+        // Connect and then layer the TLS, separately, to measure the handshake.
+        if (localAddress != null) {
+            sock.bind(localAddress);
+        }
+        try {
+            if (TimeValue.isPositive(connectTimeout) && sock.getSoTimeout() == 0) {
+                sock.setSoTimeout(connectTimeout.toMillisecondsIntBound());
+            }
+            sock.connect(
+                    remoteAddress,
+                    Timeout.defaultsToDisabled(connectTimeout).toMillisecondsIntBound());
+        } catch (IOException e) {
+            Closer.closeQuietly(sock);
+            throw e;
+        }
+        return createLayeredSocket(
+                sock, host.getHostName(), remoteAddress.getPort(), attachment, context);
     }
 }
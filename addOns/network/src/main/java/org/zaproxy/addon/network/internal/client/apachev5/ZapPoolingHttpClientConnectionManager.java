@@ -19,23 +19,65 @@
  */
 package org.zaproxy.addon.network.internal.client.apachev5;
 
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.hc.client5.http.HttpRoute;
 import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.ZapHttpClientConnectionOperator;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
 import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
 import org.apache.hc.core5.http.URIScheme;
 import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
 import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.addon.network.ConnectionOptions;
 
-/** A {@link PoolingHttpClientConnectionManager} with custom configuration. */
+/**
+ * A {@link PoolingHttpClientConnectionManager} with custom configuration.
+ *
+ * <p>Keeps the {@link ConnectionPoolMetrics metrics} of the pool and allows to evict idle and
+ * expired connections periodically.
+ */
 public class ZapPoolingHttpClientConnectionManager extends PoolingHttpClientConnectionManager {
 
+    private static final Logger LOGGER =
+            LogManager.getLogger(ZapPoolingHttpClientConnectionManager.class);
+
+    private final ConnectionPoolMetrics metrics;
+
+    private ScheduledExecutorService evictionExecutor;
+    private TimeValue maxIdleTime;
+    private TimeValue evictionInterval;
+
     public ZapPoolingHttpClientConnectionManager(
             LayeredConnectionSocketFactory sslSocketFactory,
             ManagedHttpClientConnectionFactory connectionFactory) {
+        this(sslSocketFactory, connectionFactory, new ConnectionPoolMetrics());
+    }
+
+    public ZapPoolingHttpClientConnectionManager(
+            LayeredConnectionSocketFactory sslSocketFactory,
+            ManagedHttpClientConnectionFactory connectionFactory,
+            ConnectionPoolMetrics metrics) {
         super(
                 new ZapHttpClientConnectionOperator(
                         RegistryBuilder.<ConnectionSocketFactory>create()
@@ -50,8 +92,140 @@ public class ZapPoolingHttpClientConnectionManager extends PoolingHttpClientConn
                 PoolReusePolicy.LIFO,
                 null,
                 connectionFactory);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        setMaxPerHost(ConnectionOptions.DEFAULT_POOL_MAX_PER_HOST);
+    }
+
+    /**
+     * Sets the maximum number of connections per host.
+     *
+     * <p>The maximum number of connections in total is a hundred times this value.
+     *
+     * @param max the maximum number of connections per host.
+     */
+    public void setMaxPerHost(int max) {
+        setDefaultMaxPerRoute(max);
+        setMaxTotal(max * 100);
+    }
+
+    /**
+     * Gets the metrics of the pool.
+     *
+     * @return the metrics, never {@code null}.
+     */
+    public ConnectionPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the statistics of the pool for each host, that is, the number of leased, available,
+     * and pending connections.
+     *
+     * @return the statistics, keyed by host.
+     */
+    public Map<String, PoolStats> getHostStats() {
+        Map<String, PoolStats> stats = new TreeMap<>();
+        for (HttpRoute route : getRoutes()) {
+            stats.merge(
+                    route.getTargetHost().toURI(),
+                    getStats(route),
+                    (a, b) ->
+                            new PoolStats(
+                                    a.getLeased() + b.getLeased(),
+                                    a.getPending() + b.getPending(),
+                                    a.getAvailable() + b.getAvailable(),
+                                    a.getMax() + b.getMax()));
+        }
+        return stats;
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        long start = System.nanoTime();
+        LeaseRequest leaseRequest = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                ConnectionEndpoint endpoint = leaseRequest.get(timeout);
+                metrics.leaseCompleted(System.nanoTime() - start);
+                return endpoint;
+            }
+
+            @Override
+            public boolean cancel() {
+                return leaseRequest.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void connect(ConnectionEndpoint endpoint, TimeValue timeout, HttpContext context)
+            throws IOException {
+        long start = System.nanoTime();
+        super.connect(endpoint, timeout, context);
+        metrics.connectionEstablished(System.nanoTime() - start);
+    }
+
+    /**
+     * Sets the eviction of idle and expired connections.
+     *
+     * <p>The eviction runs periodically in a background thread, while enabled.
+     *
+     * @param maxIdleTime the maximum time a connection can be idle, {@code null} or not positive
+     *     to not evict idle connections.
+     * @param checkInterval the interval between evictions, {@code null} or not positive to stop
+     *     the eviction.
+     */
+    public synchronized void setEviction(TimeValue maxIdleTime, TimeValue checkInterval) {
+        this.maxIdleTime = TimeValue.isPositive(maxIdleTime) ? maxIdleTime : null;
+
+        TimeValue interval = TimeValue.isPositive(checkInterval) ? checkInterval : null;
+        if (Objects.equals(evictionInterval, interval)) {
+            return;
+        }
+        evictionInterval = interval;
+
+        if (evictionExecutor != null) {
+            evictionExecutor.shutdownNow();
+            evictionExecutor = null;
+        }
+
+        if (interval == null) {
+            return;
+        }
+
+        long delay = Math.max(1, interval.toMilliseconds());
+        evictionExecutor =
+                Executors.newSingleThreadScheduledExecutor(
+                        new DefaultThreadFactory("ZAP-pool-evictor", true));
+        evictionExecutor.scheduleWithFixedDelay(
+                this::evictConnections, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /** Closes the expired connections and, if enabled, the idle connections. */
+    void evictConnections() {
+        TimeValue idleTime;
+        synchronized (this) {
+            idleTime = maxIdleTime;
+        }
+        try {
+            int available = getTotalStats().getAvailable();
+            closeExpired();
+            if (idleTime != null) {
+                closeIdle(idleTime);
+            }
+            metrics.connectionsEvicted(available - getTotalStats().getAvailable());
+        } catch (Exception e) {
+            LOGGER.warn("An error occurred while evicting the connections:", e);
+        }
+    }
 
-        setDefaultMaxPerRoute(1000);
-        setMaxTotal(getDefaultMaxPerRoute() * 100);
+    @Override
+    public void close(CloseMode closeMode) {
+        setEviction(null, null);
+        super.close(closeMode);
     }
 }
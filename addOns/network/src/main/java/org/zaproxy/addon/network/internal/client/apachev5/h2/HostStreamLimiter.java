@@ -0,0 +1,146 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.client.apachev5.h2;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Limits the number of concurrent HTTP/2 streams per host.
+ *
+ * <p>The threads that exceed the limit wait until a stream of the same host is released. The
+ * limit is read each time a stream is acquired, so changes take effect immediately.
+ *
+ * <p>The hosts are tracked only while they have streams in flight or threads waiting.
+ */
+public class HostStreamLimiter {
+
+    private final IntSupplier maxStreamsPerHost;
+    private final Map<String, HostStreams> hosts;
+    private final AtomicInteger streamsInFlight;
+
+    /**
+     * Constructs a {@code HostStreamLimiter} with the given limit.
+     *
+     * @param maxStreamsPerHost the supplier of the maximum number of streams per host.
+     */
+    public HostStreamLimiter(IntSupplier maxStreamsPerHost) {
+        this.maxStreamsPerHost = Objects.requireNonNull(maxStreamsPerHost);
+        this.hosts = new ConcurrentHashMap<>();
+        this.streamsInFlight = new AtomicInteger();
+    }
+
+    /**
+     * Acquires a stream for the given host, waiting if the limit was reached.
+     *
+     * @param host the host, for example, {@code example.org:443}.
+     * @return the number of streams in flight, for all hosts, after acquiring the stream.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public int acquire(String host) throws InterruptedException {
+        HostStreams streams =
+                hosts.compute(
+                        host,
+                        (k, v) -> {
+                            HostStreams result = v != null ? v : new HostStreams();
+                            result.users++;
+                            return result;
+                        });
+        try {
+            return streams.acquire();
+        } catch (InterruptedException e) {
+            removeUser(host);
+            throw e;
+        }
+    }
+
+    /**
+     * Releases a stream previously acquired for the given host.
+     *
+     * @param host the host.
+     */
+    public void release(String host) {
+        HostStreams streams = hosts.get(host);
+        if (streams != null && streams.release()) {
+            removeUser(host);
+        }
+    }
+
+    private void removeUser(String host) {
+        hosts.computeIfPresent(host, (k, v) -> --v.users == 0 ? null : v);
+    }
+
+    /**
+     * Gets the number of streams in flight, for all hosts.
+     *
+     * @return the number of streams in flight.
+     */
+    public int getStreamsInFlight() {
+        return streamsInFlight.get();
+    }
+
+    /**
+     * Gets the number of streams in flight for the given host.
+     *
+     * @param host the host.
+     * @return the number of streams in flight.
+     */
+    public int getStreamsInFlight(String host) {
+        HostStreams streams = hosts.get(host);
+        return streams != null ? streams.getInFlight() : 0;
+    }
+
+    int getHostCount() {
+        return hosts.size();
+    }
+
+    private class HostStreams {
+
+        /** The threads with a stream or waiting for one, changed only while computing the map. */
+        private int users;
+
+        private int inFlight;
+
+        synchronized int acquire() throws InterruptedException {
+            while (inFlight >= Math.max(1, maxStreamsPerHost.getAsInt())) {
+                wait();
+            }
+            inFlight++;
+            return streamsInFlight.incrementAndGet();
+        }
+
+        synchronized boolean release() {
+            if (inFlight == 0) {
+                return false;
+            }
+            inFlight--;
+            streamsInFlight.decrementAndGet();
+            notifyAll();
+            return true;
+        }
+
+        synchronized int getInFlight() {
+            return inFlight;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.client.apachev5.h2;
+
+import javax.net.ssl.SSLException;
+
+/** Thrown when a host did not select HTTP/2 through ALPN during the TLS handshake. */
+public class Http2NotNegotiatedException extends SSLException {
+
+    private static final long serialVersionUID = 1L;
+
+    public Http2NotNegotiatedException(String hostName) {
+        super("HTTP/2 not negotiated with " + hostName);
+    }
+}
@@ -68,6 +68,7 @@ public class ZapClientTlsStrategy implements TlsStrategy {
     private static final String SSL = "SSL";
 
     private final boolean strict;
+    private final boolean requireHttp2;
     private final ConnectionOptions options;
     private final ClientCertificatesOptions clientCertificatesOptions;
     private final KeyStores keyStores;
@@ -82,7 +83,25 @@ public class ZapClientTlsStrategy implements TlsStrategy {
             boolean strict,
             ConnectionOptions options,
             ClientCertificatesOptions clientCertificatesOptions) {
+        this(strict, false, options, clientCertificatesOptions);
+    }
+
+    /**
+     * Constructs a {@code ZapClientTlsStrategy}.
+     *
+     * @param strict {@code true} if the certificates should be verified, {@code false} otherwise.
+     * @param requireHttp2 {@code true} if the handshake should fail when HTTP/2 is not negotiated
+     *     through ALPN, {@code false} otherwise.
+     * @param options the connection options.
+     * @param clientCertificatesOptions the client certificates options.
+     */
+    public ZapClientTlsStrategy(
+            boolean strict,
+            boolean requireHttp2,
+            ConnectionOptions options,
+            ClientCertificatesOptions clientCertificatesOptions) {
         this.strict = strict;
+        this.requireHttp2 = requireHttp2;
         this.strictSslContext = createSslContext(null);
         this.laxSslContext = createSslContext(LAX_TRUST_MANAGER);
         this.hostnameVerifier =
@@ -180,6 +199,11 @@ public class ZapClientTlsStrategy implements TlsStrategy {
                 },
                 (e, sslEngine) -> {
                     verifySession(endpoint.getHostName(), sslEngine.getSession());
+                    if (requireHttp2
+                            && !TlsUtils.APPLICATION_PROTOCOL_HTTP_2.equals(
+                                    sslEngine.getApplicationProtocol())) {
+                        throw new Http2NotNegotiatedException(endpoint.getHostName());
+                    }
                     return null;
                 },
                 handshakeTimeout,
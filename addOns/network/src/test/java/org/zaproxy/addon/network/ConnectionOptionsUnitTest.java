@@ -29,6 +29,8 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.zaproxy.addon.network.ConnectionOptions.DEFAULT_DEFAULT_USER_AGENT;
+import static org.zaproxy.addon.network.ConnectionOptions.DEFAULT_HTTP2_MAX_STREAMS_PER_HOST;
+import static org.zaproxy.addon.network.ConnectionOptions.DEFAULT_POOL_MAX_PER_HOST;
 import static org.zaproxy.addon.network.ConnectionOptions.DEFAULT_TIMEOUT;
 import static org.zaproxy.addon.network.ConnectionOptions.DNS_DEFAULT_TTL_SUCCESSFUL_QUERIES;
 
@@ -69,6 +71,13 @@ class ConnectionOptionsUnitTest {
     private static final String TLS_PROTOCOL_KEY = "network.connection.tlsProtocols.protocol";
     private static final String TLS_ALLOW_UNSAFE_RENEGOTIATION =
             "network.connection.tlsProtocols.allowUnsafeRenegotiation";
+    private static final String HTTP2_SCANNER_KEY = "network.connection.http2.scanner";
+    private static final String HTTP2_MAX_STREAMS_PER_HOST_KEY =
+            "network.connection.http2.maxStreamsPerHost";
+    private static final String POOL_MAX_PER_HOST_KEY = "network.connection.pool.maxPerHost";
+    private static final String POOL_IDLE_TIMEOUT_KEY =
+            "network.connection.pool.idleTimeoutInSecs";
+    private static final String POOL_TTL_KEY = "network.connection.pool.ttlInSecs";
 
     private static final String HTTP_PROXY_KEY = "network.connection.httpProxy";
     private static final String HTTP_PROXY_PASSWORD_KEY = HTTP_PROXY_KEY + ".password";
@@ -151,6 +160,13 @@ class ConnectionOptionsUnitTest {
                 is(equalTo(ConnectionOptions.DNS_DEFAULT_TTL_SUCCESSFUL_QUERIES)));
         assertThat(options.getTlsProtocols(), is(equalTo(TlsUtils.getSupportedTlsProtocols())));
         assertThat(options.isAllowUnsafeRenegotiation(), is(equalTo(false)));
+        assertThat(options.isHttp2ForScanner(), is(equalTo(false)));
+        assertThat(
+                options.getHttp2MaxStreamsPerHost(),
+                is(equalTo(DEFAULT_HTTP2_MAX_STREAMS_PER_HOST)));
+        assertThat(options.getPoolMaxPerHost(), is(equalTo(DEFAULT_POOL_MAX_PER_HOST)));
+        assertThat(options.getPoolIdleTimeoutInSecs(), is(equalTo(0)));
+        assertThat(options.getPoolTtlInSecs(), is(equalTo(0)));
 
         HttpProxy httpProxy = options.getHttpProxy();
         assertThat(options.isHttpProxyEnabled(), is(equalTo(false)));
@@ -423,6 +439,129 @@ class ConnectionOptionsUnitTest {
         assertAllowUnsafeRenegotiationProperties(allow);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldLoadConfigWithHttp2ForScanner(boolean enabled) {
+        // Given
+        config.setProperty(HTTP2_SCANNER_KEY, enabled);
+        // When
+        options.load(config);
+        // Then
+        assertThat(options.isHttp2ForScanner(), is(equalTo(enabled)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldSetAndPersistHttp2ForScanner(boolean enabled) throws Exception {
+        // Given / When
+        options.setHttp2ForScanner(enabled);
+        // Then
+        assertThat(options.isHttp2ForScanner(), is(equalTo(enabled)));
+        assertThat(config.getBoolean(HTTP2_SCANNER_KEY), is(equalTo(enabled)));
+    }
+
+    @Test
+    void shouldLoadConfigWithHttp2MaxStreamsPerHost() {
+        // Given
+        config.setProperty(HTTP2_MAX_STREAMS_PER_HOST_KEY, "5");
+        // When
+        options.load(config);
+        // Then
+        assertThat(options.getHttp2MaxStreamsPerHost(), is(equalTo(5)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-1", "0", "A", ""})
+    void shouldUseDefaultWithInvalidHttp2MaxStreamsPerHost(String maxStreams) {
+        // Given
+        config.setProperty(HTTP2_MAX_STREAMS_PER_HOST_KEY, maxStreams);
+        // When
+        options.load(config);
+        // Then
+        assertThat(
+                options.getHttp2MaxStreamsPerHost(),
+                is(equalTo(DEFAULT_HTTP2_MAX_STREAMS_PER_HOST)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "-1, " + DEFAULT_HTTP2_MAX_STREAMS_PER_HOST,
+        "0, " + DEFAULT_HTTP2_MAX_STREAMS_PER_HOST,
+        "1, 1",
+        "50, 50"
+    })
+    void shouldSetAndPersistHttp2MaxStreamsPerHost(int value, int expected) throws Exception {
+        // Given / When
+        options.setHttp2MaxStreamsPerHost(value);
+        // Then
+        assertThat(options.getHttp2MaxStreamsPerHost(), is(equalTo(expected)));
+        assertThat(config.getInt(HTTP2_MAX_STREAMS_PER_HOST_KEY), is(equalTo(expected)));
+    }
+
+    @Test
+    void shouldLoadConfigWithPoolOptions() {
+        // Given
+        config.setProperty(POOL_MAX_PER_HOST_KEY, "10");
+        config.setProperty(POOL_IDLE_TIMEOUT_KEY, "30");
+        config.setProperty(POOL_TTL_KEY, "120");
+        // When
+        options.load(config);
+        // Then
+        assertThat(options.getPoolMaxPerHost(), is(equalTo(10)));
+        assertThat(options.getPoolIdleTimeoutInSecs(), is(equalTo(30)));
+        assertThat(options.getPoolTtlInSecs(), is(equalTo(120)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-1", "A", ""})
+    void shouldUseDefaultsWithInvalidPoolOptions(String value) {
+        // Given
+        config.setProperty(POOL_MAX_PER_HOST_KEY, value);
+        config.setProperty(POOL_IDLE_TIMEOUT_KEY, value);
+        config.setProperty(POOL_TTL_KEY, value);
+        // When
+        options.load(config);
+        // Then
+        assertThat(options.getPoolMaxPerHost(), is(equalTo(DEFAULT_POOL_MAX_PER_HOST)));
+        assertThat(options.getPoolIdleTimeoutInSecs(), is(equalTo(0)));
+        assertThat(options.getPoolTtlInSecs(), is(equalTo(0)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "-1, " + DEFAULT_POOL_MAX_PER_HOST,
+        "0, " + DEFAULT_POOL_MAX_PER_HOST,
+        "1, 1",
+        "50, 50"
+    })
+    void shouldSetAndPersistPoolMaxPerHost(int value, int expected) throws Exception {
+        // Given / When
+        options.setPoolMaxPerHost(value);
+        // Then
+        assertThat(options.getPoolMaxPerHost(), is(equalTo(expected)));
+        assertThat(config.getInt(POOL_MAX_PER_HOST_KEY), is(equalTo(expected)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 0", "0, 0", "30, 30"})
+    void shouldSetAndPersistPoolIdleTimeout(int value, int expected) throws Exception {
+        // Given / When
+        options.setPoolIdleTimeoutInSecs(value);
+        // Then
+        assertThat(options.getPoolIdleTimeoutInSecs(), is(equalTo(expected)));
+        assertThat(config.getInt(POOL_IDLE_TIMEOUT_KEY), is(equalTo(expected)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 0", "0, 0", "120, 120"})
+    void shouldSetAndPersistPoolTtl(int value, int expected) throws Exception {
+        // Given / When
+        options.setPoolTtlInSecs(value);
+        // Then
+        assertThat(options.getPoolTtlInSecs(), is(equalTo(expected)));
+        assertThat(config.getInt(POOL_TTL_KEY), is(equalTo(expected)));
+    }
+
     private static void assertAllowUnsafeRenegotiationProperties(boolean allow) {
         assertThat(
                 System.getProperty("sun.security.ssl.allowUnsafeRenegotiation"),
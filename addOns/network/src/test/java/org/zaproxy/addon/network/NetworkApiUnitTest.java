@@ -148,8 +148,8 @@ class NetworkApiUnitTest extends TestUtils {
         // Given / When
         networkApi = new NetworkApi(extensionNetwork);
         // Then
-        assertThat(networkApi.getApiActions(), hasSize(29));
-        assertThat(networkApi.getApiViews(), hasSize(16));
+        assertThat(networkApi.getApiActions(), hasSize(32));
+        assertThat(networkApi.getApiViews(), hasSize(18));
         assertThat(networkApi.getApiOthers(), hasSize(3));
     }
 
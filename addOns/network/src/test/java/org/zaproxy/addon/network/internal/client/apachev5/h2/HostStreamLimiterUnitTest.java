@@ -0,0 +1,179 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.client.apachev5.h2;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link HostStreamLimiter}. */
+class HostStreamLimiterUnitTest {
+
+    private static final String HOST_A = "a.example.org:443";
+    private static final String HOST_B = "b.example.org:443";
+
+    private AtomicInteger maxStreams;
+    private HostStreamLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        maxStreams = new AtomicInteger(2);
+        limiter = new HostStreamLimiter(maxStreams::get);
+    }
+
+    @Test
+    void shouldCountStreamsInFlight() throws Exception {
+        // Given
+        limiter.acquire(HOST_A);
+        // When
+        int inFlight = limiter.acquire(HOST_B);
+        // Then
+        assertThat(inFlight, is(equalTo(2)));
+        assertThat(limiter.getStreamsInFlight(), is(equalTo(2)));
+        assertThat(limiter.getStreamsInFlight(HOST_A), is(equalTo(1)));
+        assertThat(limiter.getStreamsInFlight(HOST_B), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldDecreaseStreamsInFlightOnRelease() throws Exception {
+        // Given
+        limiter.acquire(HOST_A);
+        limiter.acquire(HOST_A);
+        // When
+        limiter.release(HOST_A);
+        // Then
+        assertThat(limiter.getStreamsInFlight(), is(equalTo(1)));
+        assertThat(limiter.getStreamsInFlight(HOST_A), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldIgnoreReleaseWithoutAcquire() {
+        // Given / When
+        limiter.release(HOST_A);
+        // Then
+        assertThat(limiter.getStreamsInFlight(), is(equalTo(0)));
+        assertThat(limiter.getStreamsInFlight(HOST_A), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldNotLimitOtherHosts() throws Exception {
+        // Given
+        limiter.acquire(HOST_A);
+        limiter.acquire(HOST_A);
+        // When
+        CompletableFuture<Integer> acquired = acquireAsync(HOST_B);
+        // Then
+        assertThat(acquired.get(5, TimeUnit.SECONDS), is(equalTo(3)));
+    }
+
+    @Test
+    void shouldWaitForReleaseWhenLimitReached() throws Exception {
+        // Given
+        limiter.acquire(HOST_A);
+        limiter.acquire(HOST_A);
+        // When
+        CompletableFuture<Integer> acquired = acquireAsync(HOST_A);
+        // Then
+        assertThrows(TimeoutException.class, () -> acquired.get(200, TimeUnit.MILLISECONDS));
+        limiter.release(HOST_A);
+        assertThat(acquired.get(5, TimeUnit.SECONDS), is(equalTo(2)));
+        assertThat(limiter.getStreamsInFlight(HOST_A), is(equalTo(2)));
+    }
+
+    @Test
+    void shouldUseUpdatedLimit() throws Exception {
+        // Given
+        limiter.acquire(HOST_A);
+        limiter.acquire(HOST_A);
+        maxStreams.set(3);
+        // When
+        int inFlight = limiter.acquire(HOST_A);
+        // Then
+        assertThat(inFlight, is(equalTo(3)));
+    }
+
+    @Test
+    void shouldAllowOneStreamWithInvalidLimit() throws Exception {
+        // Given
+        maxStreams.set(0);
+        // When
+        int inFlight = limiter.acquire(HOST_A);
+        // Then
+        assertThat(inFlight, is(equalTo(1)));
+    }
+
+    @Test
+    void shouldRemoveHostWithoutStreamsInFlight() throws Exception {
+        // Given
+        limiter.acquire(HOST_A);
+        limiter.acquire(HOST_B);
+        // When
+        limiter.release(HOST_A);
+        // Then
+        assertThat(limiter.getHostCount(), is(equalTo(1)));
+        assertThat(limiter.getStreamsInFlight(HOST_A), is(equalTo(0)));
+        assertThat(limiter.getStreamsInFlight(HOST_B), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldKeepHostWhileThreadsWaiting() throws Exception {
+        // Given
+        limiter.acquire(HOST_A);
+        limiter.acquire(HOST_A);
+        CompletableFuture<Integer> acquired = acquireAsync(HOST_A);
+        assertThrows(TimeoutException.class, () -> acquired.get(200, TimeUnit.MILLISECONDS));
+        // When
+        limiter.release(HOST_A);
+        acquired.get(5, TimeUnit.SECONDS);
+        limiter.release(HOST_A);
+        // Then
+        assertThat(limiter.getHostCount(), is(equalTo(1)));
+        limiter.release(HOST_A);
+        assertThat(limiter.getHostCount(), is(equalTo(0)));
+    }
+
+    private CompletableFuture<Integer> acquireAsync(String host) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        Thread thread =
+                new Thread(
+                        () -> {
+                            started.countDown();
+                            try {
+                                future.complete(limiter.acquire(host));
+                            } catch (InterruptedException e) {
+                                future.completeExceptionally(e);
+                            }
+                        });
+        thread.setDaemon(true);
+        thread.start();
+        started.await();
+        return future;
+    }
+}
@@ -23,6 +23,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -40,8 +43,10 @@ import org.parosproxy.paros.model.Session;
 import org.parosproxy.paros.network.HttpMalformedHeaderException;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.network.ExtensionNetwork;
+import org.zaproxy.addon.oast.OastService.OastThreadFactory;
 import org.zaproxy.addon.oast.OastState.OastStateEventType;
 import org.zaproxy.addon.oast.internal.AlertEntity;
+import org.zaproxy.addon.oast.internal.AlertPayloadIndex;
 import org.zaproxy.addon.oast.internal.MessageEntity;
 import org.zaproxy.addon.oast.internal.OastPermanentDatabase;
 import org.zaproxy.addon.oast.services.boast.BoastEntity;
@@ -57,6 +62,7 @@ import org.zaproxy.addon.oast.ui.OastOptionsPanel;
 import org.zaproxy.addon.oast.ui.OastPanel;
 import org.zaproxy.zap.extension.alert.ExtensionAlert;
 import org.zaproxy.zap.extension.help.ExtensionHelp;
+import org.zaproxy.zap.utils.Stats;
 import org.zaproxy.zap.utils.ThreadUtils;
 
 public class ExtensionOast extends ExtensionAdaptor {
@@ -68,6 +74,7 @@ public class ExtensionOast extends ExtensionAdaptor {
     private static final String NAME = ExtensionOast.class.getSimpleName();
     private static final Logger LOGGER = LogManager.getLogger(ExtensionOast.class);
     private static final String OAST_PERSISTENCE_UNIT_NAME = "oast";
+    private static final int ALERT_PERSIST_INTERVAL_MILLIS = 1000;
 
     private static final List<Class<? extends Extension>> DEPENDENCIES =
             List.of(ExtensionNetwork.class);
@@ -82,6 +89,8 @@ public class ExtensionOast extends ExtensionAdaptor {
     private CallbackService callbackService;
     private InteractshService interactshService;
     private OastPermanentDatabase permanentDatabase;
+    private AlertPayloadIndex alertPayloadIndex;
+    private ScheduledExecutorService alertPersistExecutor;
     private boolean wasUsePermanentDatabase;
 
     public ExtensionOast() {
@@ -158,16 +167,27 @@ public class ExtensionOast extends ExtensionAdaptor {
             trimDatabase(oastParam.getDaysToKeepRecords());
         }
 
+        alertPersistExecutor =
+                Executors.newSingleThreadScheduledExecutor(
+                        new OastThreadFactory("ZAP-OAST-Persist-"));
+        alertPersistExecutor.scheduleWithFixedDelay(
+                () -> getAlertPayloadIndex().flush(),
+                ALERT_PERSIST_INTERVAL_MILLIS,
+                ALERT_PERSIST_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+
         boastService.startService();
         callbackService.startService();
         interactshService.startService();
     }
 
     public void trimDatabase(int days) {
+        getAlertPayloadIndex().trim(days);
         getPermanentDatabase().trim(days);
     }
 
     public void clearAllRecords() {
+        getAlertPayloadIndex().clear();
         getPermanentDatabase().clearAllRecords();
         boastService.clearRegisteredServers();
         if (hasView()) {
@@ -247,6 +267,13 @@ public class ExtensionOast extends ExtensionAdaptor {
         return permanentDatabase;
     }
 
+    private synchronized AlertPayloadIndex getAlertPayloadIndex() {
+        if (alertPayloadIndex == null) {
+            alertPayloadIndex = new AlertPayloadIndex(getPermanentDatabase());
+        }
+        return alertPayloadIndex;
+    }
+
     private OastOptionsPanel getOastOptionsPanel() {
         if (oastOptionsPanel == null) {
             oastOptionsPanel = new OastOptionsPanel();
@@ -312,7 +339,7 @@ public class ExtensionOast extends ExtensionAdaptor {
 
     private void persistAlert(String payload, Alert alert) {
         var messageEntity = new MessageEntity(alert.getMessage());
-        getPermanentDatabase().persistEntity(new AlertEntity(payload, messageEntity, alert));
+        getAlertPayloadIndex().register(new AlertEntity(payload, messageEntity, alert));
     }
 
     private void activeScanAlertOastRequestHandler(OastRequest request) {
@@ -320,7 +347,7 @@ public class ExtensionOast extends ExtensionAdaptor {
             HttpMessage oastReceivedMsg = request.getHistoryReference().getHttpMessage();
             String uri = oastReceivedMsg.getRequestHeader().getURI().toString();
 
-            AlertEntity alertEntity = getPermanentDatabase().getAlertForPayload(uri);
+            AlertEntity alertEntity = getAlertPayloadIndex().take(uri);
             if (alertEntity == null) {
                 LOGGER.warn(
                         "Not raising alert, the interaction {} through '{}' from {} was not found.",
@@ -330,6 +357,14 @@ public class ExtensionOast extends ExtensionAdaptor {
                 return;
             }
 
+            Stats.incCounter("stats.oast.alerts.correlated");
+            long interactionTime = oastReceivedMsg.getTimeSentMillis();
+            if (interactionTime > 0) {
+                Stats.incCounter(
+                        "stats.oast.alerts.correlationTime",
+                        Math.max(0, System.currentTimeMillis() - interactionTime));
+            }
+
             Alert alert = alertEntity.toAlert();
             StringBuilder otherInfo = new StringBuilder(alert.getOtherInfo());
             if (otherInfo.length() > 0) {
@@ -389,6 +424,11 @@ public class ExtensionOast extends ExtensionAdaptor {
         unregisterOastService(boastService);
         unregisterOastService(callbackService);
         unregisterOastService(interactshService);
+        if (alertPersistExecutor != null) {
+            alertPersistExecutor.shutdownNow();
+            alertPersistExecutor = null;
+        }
+        getAlertPayloadIndex().flush();
         getPermanentDatabase().close();
     }
 
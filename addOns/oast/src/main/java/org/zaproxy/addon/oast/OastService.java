@@ -34,6 +34,15 @@ public abstract class OastService {
     private final List<OastRequestHandler> oastRequestHandlerList = new ArrayList<>();
     private final List<OastStateChangedListener> oastStateChangedListenerList = new ArrayList<>();
 
+    /**
+     * The number of polling periods, after a payload was generated, during which the service polls
+     * at the minimum frequency.
+     */
+    private static final int ACTIVE_POLLING_PERIODS = 2;
+
+    private volatile long lastPayloadGeneratedMillis;
+    private volatile long lastPollMillis;
+
     public abstract String getName();
 
     /** Starts the OastService. This method should be called after ZAP has initialised. */
@@ -65,6 +74,48 @@ public abstract class OastService {
 
     public abstract boolean isRegistered();
 
+    /**
+     * Notes that a payload was generated, so that the service polls more often while the
+     * interactions are likely to happen (e.g. during active scans).
+     */
+    protected void payloadGenerated() {
+        lastPayloadGeneratedMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Resets the polling timer, called when the poller is scheduled.
+     *
+     * @param pollNow {@code true} if the next check should poll, {@code false} if it should wait
+     *     for the polling frequency.
+     */
+    protected void resetPollTimer(boolean pollNow) {
+        lastPollMillis = pollNow ? 0 : System.currentTimeMillis();
+    }
+
+    /**
+     * Tells whether or not it's time to poll, and if so starts a new polling period.
+     *
+     * <p>The poller is expected to be scheduled at the minimum polling frequency. It polls at that
+     * frequency while payloads are being generated, and at the configured frequency otherwise.
+     *
+     * @param pollingFrequency the configured polling frequency, in seconds.
+     * @param minimumPollingFrequency the minimum polling frequency, in seconds.
+     * @return {@code true} if the service should poll, {@code false} otherwise.
+     */
+    protected boolean isPollDue(int pollingFrequency, int minimumPollingFrequency) {
+        long now = System.currentTimeMillis();
+        long frequencyMillis = pollingFrequency * 1000L;
+        boolean active =
+                now - lastPayloadGeneratedMillis < ACTIVE_POLLING_PERIODS * frequencyMillis;
+        long interval = active ? minimumPollingFrequency * 1000L : frequencyMillis;
+        // Allow for the scheduling jitter of the poller.
+        if (now - lastPollMillis < interval - minimumPollingFrequency * 500L) {
+            return false;
+        }
+        lastPollMillis = now;
+        return true;
+    }
+
     /**
      * Always returns a new payload. Registers with the service if required.
      *
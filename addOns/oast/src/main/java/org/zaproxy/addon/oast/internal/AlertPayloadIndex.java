@@ -0,0 +1,236 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.oast.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * An in-memory index of the payloads registered for alerts, used to correlate the interactions
+ * received with the alerts without scanning the database.
+ *
+ * <p>The alerts are written to the database in batches, through {@link #flush()}, and the index
+ * keeps just the payload once written. Interactions whose payload is not in the index (e.g.
+ * registered in a previous run) are looked up in the database.
+ */
+public class AlertPayloadIndex {
+
+    private static final Logger LOGGER = LogManager.getLogger(AlertPayloadIndex.class);
+
+    private final OastPermanentDatabase database;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Entry> pending = new LinkedHashMap<>();
+
+    public AlertPayloadIndex(OastPermanentDatabase database) {
+        this.database = database;
+    }
+
+    /**
+     * Registers the given alert, to be written to the database on the next flush.
+     *
+     * @param alert the alert with the payload.
+     */
+    public void register(AlertEntity alert) {
+        String key = createKey(alert.getPayload());
+        Entry entry = new Entry(alert);
+        synchronized (pending) {
+            entries.put(key, entry);
+            pending.put(key, entry);
+        }
+        Stats.incCounter("stats.oast.alerts.registered");
+    }
+
+    /**
+     * Writes the pending alerts to the database, in a single transaction.
+     *
+     * <p>The alerts are kept pending, to be written on the next flush, if the transaction fails.
+     */
+    public void flush() {
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            Map<String, Entry> batch = new LinkedHashMap<>(pending);
+            List<AlertEntity> alerts = new ArrayList<>(batch.size());
+            batch.values().forEach(e -> alerts.add(e.alert));
+            try {
+                database.persistEntities(alerts);
+            } catch (Exception e) {
+                LOGGER.error("Failed to persist the OAST alerts: {}", e.getMessage(), e);
+                return;
+            }
+            batch.forEach(
+                    (key, entry) -> {
+                        if (pending.remove(key, entry)) {
+                            entry.alert = null;
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Gets and removes the alert whose payload is contained in the given interaction.
+     *
+     * @param interaction the interaction, for example, the URI of the request received.
+     * @return the alert, or {@code null} if not found.
+     */
+    public AlertEntity take(String interaction) {
+        for (String candidate : getCandidateKeys(interaction)) {
+            AlertEntity alert = take(candidate, entries.get(candidate));
+            if (alert != null) {
+                Stats.incCounter("stats.oast.alerts.index.hit");
+                return alert;
+            }
+        }
+
+        Stats.incCounter("stats.oast.alerts.index.miss");
+        flush();
+        AlertEntity alert = database.getAlertForPayload(interaction);
+        if (alert != null) {
+            entries.remove(createKey(alert.getPayload()));
+        }
+        return alert;
+    }
+
+    private AlertEntity take(String key, Entry entry) {
+        if (entry == null) {
+            return null;
+        }
+        AlertEntity alert = null;
+        synchronized (pending) {
+            if (!entries.remove(key, entry)) {
+                return null;
+            }
+            if (pending.remove(key) != null) {
+                alert = entry.alert;
+            }
+        }
+        if (alert == null) {
+            alert = database.getAlertWithPayload(entry.payload);
+        }
+        if (alert != null) {
+            Stats.incCounter(
+                    "stats.oast.alerts.payloadAge", System.currentTimeMillis() - entry.created);
+        }
+        return alert;
+    }
+
+    /**
+     * Removes the payloads registered more than the given number of days ago, as done to the
+     * database.
+     *
+     * @param days the number of days to keep.
+     */
+    public void trim(int days) {
+        if (days <= 0) {
+            return;
+        }
+        long oldest = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(days);
+        synchronized (pending) {
+            entries.values().removeIf(e -> e.created < oldest && e.alert == null);
+        }
+    }
+
+    /** Removes all the payloads, including the ones not yet written to the database. */
+    public void clear() {
+        synchronized (pending) {
+            pending.clear();
+            entries.clear();
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String createKey(String payload) {
+        return payload.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the possible payloads contained in the given interaction, that is, the host name and
+     * its parent domains (for payloads that are host names) and the URI up to each path segment
+     * (for payloads that are URLs).
+     *
+     * @param interaction the interaction.
+     * @return the candidate keys, never {@code null}.
+     */
+    static List<String> getCandidateKeys(String interaction) {
+        List<String> candidates = new ArrayList<>();
+        String uri = createKey(interaction);
+        int schemeEnd = uri.indexOf("://");
+        int authorityStart = schemeEnd == -1 ? 0 : schemeEnd + 3;
+        int authorityEnd = indexOfAny(uri, authorityStart, "/?#");
+
+        String host = uri.substring(authorityStart, authorityEnd);
+        host = host.substring(host.lastIndexOf('@') + 1);
+        int portIdx = host.lastIndexOf(':');
+        if (portIdx != -1 && host.indexOf(']', portIdx) == -1) {
+            host = host.substring(0, portIdx);
+        }
+        if (host.endsWith(".")) {
+            host = host.substring(0, host.length() - 1);
+        }
+        for (int idx = 0; host.indexOf('.', idx) != -1; idx = host.indexOf('.', idx) + 1) {
+            candidates.add(host.substring(idx));
+        }
+
+        int pathEnd = indexOfAny(uri, authorityEnd, "?#");
+        for (int idx = uri.indexOf('/', authorityEnd + 1);
+                idx != -1 && idx < pathEnd;
+                idx = uri.indexOf('/', idx + 1)) {
+            candidates.add(uri.substring(0, idx));
+        }
+        if (pathEnd > authorityEnd + 1) {
+            candidates.add(uri.substring(0, pathEnd));
+        }
+        return candidates;
+    }
+
+    private static int indexOfAny(String str, int from, String chars) {
+        for (int i = from; i < str.length(); i++) {
+            if (chars.indexOf(str.charAt(i)) != -1) {
+                return i;
+            }
+        }
+        return str.length();
+    }
+
+    private static class Entry {
+
+        private final String payload;
+        private final long created;
+        private AlertEntity alert;
+
+        Entry(AlertEntity alert) {
+            this.payload = alert.getPayload();
+            this.created = System.currentTimeMillis();
+            this.alert = alert;
+        }
+    }
+}
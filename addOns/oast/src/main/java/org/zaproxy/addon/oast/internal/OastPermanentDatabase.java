@@ -19,7 +19,9 @@
  */
 package org.zaproxy.addon.oast.internal;
 
+import java.util.Collection;
 import javax.jdo.JDOObjectNotFoundException;
+import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import javax.jdo.Transaction;
 import org.apache.logging.log4j.LogManager;
@@ -34,11 +36,57 @@ public class OastPermanentDatabase extends PermanentDatabase {
         super(persistenceUnitName, classLoader);
     }
 
-    @SuppressWarnings("try")
+    /**
+     * Persists the given entities in a single transaction.
+     *
+     * @param entities the entities to persist.
+     */
+    public void persistEntities(Collection<?> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        PersistenceManager pm = getPm();
+        Transaction tx = pm.currentTransaction();
+        try {
+            tx.begin();
+            pm.makePersistentAll(entities);
+            tx.commit();
+        } finally {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            pm.close();
+        }
+    }
+
+    /**
+     * Gets and removes the alert whose payload is contained in the given interaction.
+     *
+     * <p>This scans all the alerts, {@link #getAlertWithPayload(String)} should be preferred when
+     * the payload is known.
+     *
+     * @param payload the interaction that might contain the payload of the alert.
+     * @return the alert, or {@code null} if not found.
+     */
     public AlertEntity getAlertForPayload(String payload) {
+        return takeAlert(":payload.indexOf(this.payload) != -1", payload);
+    }
+
+    /**
+     * Gets and removes the alert with the given payload.
+     *
+     * @param payload the payload of the alert.
+     * @return the alert, or {@code null} if not found.
+     */
+    public AlertEntity getAlertWithPayload(String payload) {
+        return takeAlert("this.payload == :payload", payload);
+    }
+
+    @SuppressWarnings("try")
+    private AlertEntity takeAlert(String filter, String payload) {
         try (var pm = getPm();
                 Query<AlertEntity> query = pm.newQuery(AlertEntity.class)) {
-            query.setFilter(":payload.indexOf(this.payload) != -1");
+            query.setFilter(filter);
             var entity = query.setParameters(payload).executeUnique();
 
             if (entity == null) {
@@ -92,14 +92,22 @@ public class BoastService extends OastService implements OptionsChangedListener
     }
 
     private void schedulePoller(int initialDelay) {
+        int minimumPollingFrequency = BoastParam.MINIMUM_POLLING_FREQUENCY;
+        resetPollTimer(initialDelay == 0);
         pollingSchedule =
                 executorService.scheduleAtFixedRate(
-                        new BoastPoller(this),
-                        initialDelay,
-                        getParam().getPollingFrequency(),
+                        this::pollIfDue,
+                        Math.min(initialDelay, minimumPollingFrequency),
+                        minimumPollingFrequency,
                         TimeUnit.SECONDS);
     }
 
+    private void pollIfDue() {
+        if (isPollDue(getParam().getPollingFrequency(), BoastParam.MINIMUM_POLLING_FREQUENCY)) {
+            new BoastPoller(this).run();
+        }
+    }
+
     public BoastParam getParam() {
         if (boastParam == null) {
             boastParam = new BoastParam();
@@ -157,11 +165,13 @@ public class BoastService extends OastService implements OptionsChangedListener
 
     @Override
     public String getNewPayload() throws IOException {
+        payloadGenerated();
         return register().getPayload();
     }
 
     @Override
     public OastPayload getNewOastPayload() throws IOException {
+        payloadGenerated();
         BoastServer server = register();
         return new OastPayload(server.getPayload(), server.getCanary());
     }
@@ -315,6 +315,7 @@ public class InteractshService extends OastService implements OptionsChangedList
             register();
         }
         Stats.incCounter("stats.oast.interactsh.payloadsGenerated");
+        payloadGenerated();
         return randomAlphanumericLc(1)
                 + '.'
                 + correlationId
@@ -329,6 +330,7 @@ public class InteractshService extends OastService implements OptionsChangedList
             register();
         }
         Stats.incCounter("stats.oast.interactsh.payloadsGenerated");
+        payloadGenerated();
         String payloadId = correlationId + randomAlphanumericLc(13);
         String canary = StringUtils.reverse(payloadId);
         String payload = randomAlphanumericLc(1) + '.' + payloadId + '.' + serverUrl.getHost();
@@ -352,14 +354,22 @@ public class InteractshService extends OastService implements OptionsChangedList
             return;
         }
         LOGGER.debug("Start Polling the Interactsh Server ...");
+        int minimumPollingFrequency = InteractshParam.MINIMUM_POLLING_FREQUENCY;
+        resetPollTimer(initialDelay == 0);
         pollingSchedule =
                 executorService.scheduleAtFixedRate(
-                        new InteractshPoller(this),
-                        initialDelay,
-                        param.getPollingFrequency(),
+                        this::pollIfDue,
+                        Math.min(initialDelay, minimumPollingFrequency),
+                        minimumPollingFrequency,
                         TimeUnit.SECONDS);
     }
 
+    private void pollIfDue() {
+        if (isPollDue(param.getPollingFrequency(), InteractshParam.MINIMUM_POLLING_FREQUENCY)) {
+            new InteractshPoller(this).run();
+        }
+    }
+
     /**
      * @return new interactions from the server.
      */
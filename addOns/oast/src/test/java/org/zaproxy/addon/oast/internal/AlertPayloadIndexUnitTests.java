@@ -0,0 +1,192 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.oast.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/** Unit test for {@link AlertPayloadIndex}. */
+class AlertPayloadIndexUnitTests {
+
+    private OastPermanentDatabase database;
+    private AlertPayloadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        database = mock(OastPermanentDatabase.class);
+        index = new AlertPayloadIndex(database);
+    }
+
+    @Test
+    void shouldGetHostAndParentDomainsAsCandidates() {
+        // Given
+        String interaction = "http://a.payloadid.oast.example.com./path?q=1";
+        // When
+        List<String> candidates = AlertPayloadIndex.getCandidateKeys(interaction);
+        // Then
+        assertThat(
+                candidates,
+                contains(
+                        "a.payloadid.oast.example.com",
+                        "payloadid.oast.example.com",
+                        "oast.example.com",
+                        "example.com",
+                        "http://a.payloadid.oast.example.com./path"));
+    }
+
+    @Test
+    void shouldGetPathPrefixesAsCandidates() {
+        // Given
+        String interaction = "http://127.0.0.1:8080/CallbackId/extra#frag";
+        // When
+        List<String> candidates = AlertPayloadIndex.getCandidateKeys(interaction);
+        // Then
+        assertThat(candidates, hasItem("http://127.0.0.1:8080/callbackid"));
+        assertThat(candidates, hasItem("http://127.0.0.1:8080/callbackid/extra"));
+    }
+
+    @Test
+    void shouldTakePendingAlertWithoutAccessingDatabase() {
+        // Given
+        AlertEntity alert = createAlert("x.payloadid.oast.example.com");
+        index.register(alert);
+        // When
+        AlertEntity taken = index.take("http://x.payloadid.oast.example.com/");
+        // Then
+        assertThat(taken, is(sameInstance(alert)));
+        verify(database, never()).persistEntities(any());
+        verify(database, never()).getAlertWithPayload(anyString());
+        verify(database, never()).getAlertForPayload(anyString());
+    }
+
+    @Test
+    void shouldPersistPendingAlertsInOneBatch() {
+        // Given
+        index.register(createAlert("a.example.com"));
+        index.register(createAlert("b.example.com"));
+        // When
+        index.flush();
+        index.flush();
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<?>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(database).persistEntities(captor.capture());
+        assertThat(captor.getValue().size(), is(2));
+    }
+
+    @Test
+    void shouldKeepAlertsPendingIfPersistFails() {
+        // Given
+        AlertEntity alert = createAlert("a.example.com");
+        index.register(alert);
+        index.register(createAlert("b.example.com"));
+        willThrow(new RuntimeException("Failed to persist."))
+                .willDoNothing()
+                .given(database)
+                .persistEntities(any());
+        index.flush();
+        // When
+        index.flush();
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<?>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(database, times(2)).persistEntities(captor.capture());
+        assertThat(captor.getAllValues().get(1).size(), is(2));
+        assertThat(captor.getAllValues().get(1), hasItem(alert));
+    }
+
+    @Test
+    void shouldTakeAlertNotPersistedWithoutAccessingDatabase() {
+        // Given
+        AlertEntity alert = createAlert("x.payloadid.oast.example.com");
+        index.register(alert);
+        willThrow(new RuntimeException("Failed to persist.")).given(database).persistEntities(any());
+        index.flush();
+        // When
+        AlertEntity taken = index.take("http://x.payloadid.oast.example.com/");
+        // Then
+        assertThat(taken, is(sameInstance(alert)));
+        verify(database, never()).getAlertWithPayload(anyString());
+        verify(database, never()).getAlertForPayload(anyString());
+    }
+
+    @Test
+    void shouldTakePersistedAlertByExactPayload() {
+        // Given
+        AlertEntity alert = createAlert("x.payloadid.oast.example.com");
+        index.register(alert);
+        index.flush();
+        AlertEntity persisted = createAlert("x.payloadid.oast.example.com");
+        given(database.getAlertWithPayload("x.payloadid.oast.example.com")).willReturn(persisted);
+        // When
+        AlertEntity taken = index.take("http://x.payloadid.oast.example.com/");
+        // Then
+        assertThat(taken, is(sameInstance(persisted)));
+        verify(database, never()).getAlertForPayload(anyString());
+        assertThat(index.size(), is(0));
+    }
+
+    @Test
+    void shouldFallBackToDatabaseScanForUnknownPayloads() {
+        // Given
+        String interaction = "http://unknown.example.com/";
+        AlertEntity persisted = createAlert("unknown.example.com");
+        given(database.getAlertForPayload(interaction)).willReturn(persisted);
+        // When
+        AlertEntity taken = index.take(interaction);
+        // Then
+        assertThat(taken, is(sameInstance(persisted)));
+    }
+
+    @Test
+    void shouldNotTakeSameAlertTwice() {
+        // Given
+        index.register(createAlert("x.example.com"));
+        index.take("http://x.example.com/");
+        // When
+        AlertEntity taken = index.take("http://x.example.com/");
+        // Then
+        assertThat(taken, is(nullValue()));
+    }
+
+    private static AlertEntity createAlert(String payload) {
+        AlertEntity alert = mock(AlertEntity.class);
+        given(alert.getPayload()).willReturn(payload);
+        return alert;
+    }
+}
@@ -275,6 +275,7 @@ public class ExtensionOpenApi extends ExtensionAdaptor implements CommandLineLis
                             contextId,
                             false,
                             maxMessages));
+            results.setThroughput(requestor.getRequestsSent(), requestor.getElapsedTime());
         } catch (IOException e) {
             if (initViaUi) {
                 ThreadUtils.invokeAndWaitHandled(
@@ -409,6 +410,7 @@ public class ExtensionOpenApi extends ExtensionAdaptor implements CommandLineLis
                             false,
                             maxMessages);
             results.setErrors(errors);
+            results.setThroughput(requestor.getRequestsSent(), requestor.getElapsedTime());
         } catch (IOException e) {
             if (initViaUi) {
                 ThreadUtils.invokeAndWaitHandled(
@@ -465,6 +467,10 @@ public class ExtensionOpenApi extends ExtensionAdaptor implements CommandLineLis
                                 getProgressPanel().addProgressPane(currentImportPane);
                             }
                             errors.addAll(requestor.run(requestModels));
+                            LOGGER.debug(
+                                    "Sent {} requests in {} ms.",
+                                    requestor.getRequestsSent(),
+                                    requestor.getElapsedTime());
                             // Needs to be called after converter.getRequestModels() to get loop
                             // errors
                             errors.addAll(converter.getErrorMessages());
@@ -27,6 +27,8 @@ public class OpenApiResults {
 
     private List<String> errors = new ArrayList<>();
     private List<HistoryReference> historyReferences = new ArrayList<>();
+    private int requestsSent;
+    private long importTime;
 
     public List<String> getErrors() {
         return errors;
@@ -47,4 +49,49 @@ public class OpenApiResults {
     public List<HistoryReference> getHistoryReferences() {
         return historyReferences;
     }
+
+    /**
+     * Sets the number of requests sent and the time it took to send them.
+     *
+     * @param requestsSent the number of requests sent.
+     * @param importTime the time, in milliseconds.
+     * @since 59
+     */
+    public void setThroughput(int requestsSent, long importTime) {
+        this.requestsSent = requestsSent;
+        this.importTime = importTime;
+    }
+
+    /**
+     * Gets the number of requests sent.
+     *
+     * @return the number of requests sent.
+     * @since 59
+     */
+    public int getRequestsSent() {
+        return requestsSent;
+    }
+
+    /**
+     * Gets the time, in milliseconds, that it took to send the requests.
+     *
+     * @return the time to send the requests.
+     * @since 59
+     */
+    public long getImportTime() {
+        return importTime;
+    }
+
+    /**
+     * Gets the number of requests sent per second.
+     *
+     * @return the requests per second, {@code 0} if no requests were sent.
+     * @since 59
+     */
+    public double getRequestsPerSecond() {
+        if (requestsSent == 0) {
+            return 0;
+        }
+        return requestsSent * 1000.0 / Math.max(1, importTime);
+    }
 }
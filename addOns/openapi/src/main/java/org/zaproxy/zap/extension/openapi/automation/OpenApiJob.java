@@ -170,6 +170,13 @@ public class OpenApiJob extends AutomationJob {
                                 "openapi.automation.info.urlsadded",
                                 this.getName(),
                                 results.getHistoryReferences().size()));
+                progress.info(
+                        Constant.messages.getString(
+                                "openapi.automation.info.throughput",
+                                this.getName(),
+                                results.getRequestsSent(),
+                                results.getImportTime(),
+                                String.format("%.1f", results.getRequestsPerSecond())));
             } else {
                 progress.error(
                         Constant.messages.getString(
@@ -200,6 +207,13 @@ public class OpenApiJob extends AutomationJob {
                                 "openapi.automation.info.urlsadded",
                                 this.getName(),
                                 results.getHistoryReferences().size()));
+                progress.info(
+                        Constant.messages.getString(
+                                "openapi.automation.info.throughput",
+                                this.getName(),
+                                results.getRequestsSent(),
+                                results.getImportTime(),
+                                String.format("%.1f", results.getRequestsPerSecond())));
             } catch (Exception e) {
                 progress.error(
                         Constant.messages.getString(
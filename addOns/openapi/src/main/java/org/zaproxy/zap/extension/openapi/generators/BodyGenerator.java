@@ -32,6 +32,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -44,6 +45,13 @@ public class BodyGenerator {
 
     private Generators generators;
     private DataGenerator dataGenerator;
+
+    /**
+     * The bodies already generated for object schemas, by schema instance. The referenced schemas
+     * are resolved to the same instance by the parser so each is generated just once per import.
+     */
+    private final Map<Schema<?>, String> objectBodies = new IdentityHashMap<>();
+
     private static final Logger LOGGER = LogManager.getLogger(BodyGenerator.class);
     public static final String TEXT_FILE_CONTENTS =
             "Lorem ipsum dolor sit amet, consectetur adipiscing elit. Phasellus eu tortor efficitur";
@@ -103,7 +111,12 @@ public class BodyGenerator {
         @SuppressWarnings("rawtypes")
         Map<String, Schema> properties = schema.getProperties();
         if (properties != null) {
-            return generateFromObjectSchema(properties);
+            String body = objectBodies.get(schema);
+            if (body == null) {
+                body = generateFromObjectSchema(properties);
+                objectBodies.put(schema, body);
+            }
+            return body;
         } else if (schema.getAdditionalProperties() instanceof Schema) {
             return generate((Schema<?>) schema.getAdditionalProperties());
         }
@@ -20,8 +20,16 @@
 package org.zaproxy.zap.extension.openapi.network;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.httpclient.URI;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -35,10 +43,22 @@ import org.zaproxy.zap.users.User;
 
 public class Requestor {
 
+    /**
+     * The default number of threads used to send the requests.
+     *
+     * @since 59
+     */
+    public static final int DEFAULT_THREADS = 4;
+
+    private static final AtomicInteger THREAD_POOL_ID = new AtomicInteger();
+
     private final int initiator;
     private List<RequesterListener> listeners = new ArrayList<>();
     private HttpSender sender;
     private final HttpRequestConfig requestConfig;
+    private int threads = DEFAULT_THREADS;
+    private volatile int requestsSent;
+    private volatile long elapsedTime;
     private static final Logger LOGGER = LogManager.getLogger(Requestor.class);
 
     public Requestor(int initiator) {
@@ -53,53 +73,188 @@ public class Requestor {
     }
 
     public List<String> run(User user, List<RequestModel> requestsModel) {
+        long start = System.currentTimeMillis();
         List<String> errors = new ArrayList<>();
+        requestsSent = 0;
         try {
-            for (RequestModel requestModel : requestsModel) {
-                String url = requestModel.getUrl();
-                HttpMessage httpRequest = new HttpMessage(new URI(url, false));
-                httpRequest.getRequestHeader().setMethod(requestModel.getMethod().name());
-                for (HttpHeaderField hhf : requestModel.getHeaders()) {
-                    httpRequest.getRequestHeader().setHeader(hhf.getName(), hhf.getValue());
-                }
-                httpRequest.getRequestBody().setBody(requestModel.getBody());
-                httpRequest
-                        .getRequestHeader()
-                        .setContentLength(httpRequest.getRequestBody().length());
-
-                httpRequest.setRequestingUser(user);
-
-                try {
-
-                    sender.sendAndReceive(httpRequest, requestConfig);
-                } catch (IOException e) {
-                    errors.add(
-                            Constant.messages.getString(
-                                    "openapi.import.error",
-                                    url,
-                                    e.getClass().getName(),
-                                    e.getMessage()));
-                    LOGGER.debug(e.getMessage(), e);
-                }
+            if (threads <= 1 || requestsModel.size() <= 1) {
+                runSequentially(user, requestsModel, errors);
+            } else {
+                runConcurrently(user, requestsModel, errors);
             }
         } catch (IOException e) {
             errors.add(e.getMessage());
             LOGGER.error(e.getMessage(), e);
+        } finally {
+            elapsedTime = System.currentTimeMillis() - start;
         }
         return errors;
     }
 
+    private void runSequentially(User user, List<RequestModel> requestsModel, List<String> errors)
+            throws IOException {
+        for (RequestModel requestModel : requestsModel) {
+            HttpMessage httpRequest = createMessage(user, requestModel);
+            try {
+                sender.sendAndReceive(httpRequest, requestConfig);
+            } catch (IOException e) {
+                addError(errors, requestModel.getUrl(), e);
+            }
+            requestsSent++;
+        }
+    }
+
+    /**
+     * Sends the requests using a bounded number of threads.
+     *
+     * <p>The messages are buffered per request and the listeners notified in the order of the
+     * requests, from the calling thread, so the messages are persisted in the same order as when
+     * sent sequentially. At most twice the number of threads are sent ahead of the oldest request
+     * not yet notified, which bounds the buffered messages.
+     */
+    private void runConcurrently(User user, List<RequestModel> requestsModel, List<String> errors)
+            throws IOException {
+        int poolId = THREAD_POOL_ID.incrementAndGet();
+        AtomicInteger threadId = new AtomicInteger();
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        threads,
+                        r -> {
+                            Thread thread =
+                                    new Thread(
+                                            r,
+                                            "ZAP-OpenApi-Requestor-"
+                                                    + poolId
+                                                    + "-"
+                                                    + threadId.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        int maxPending = threads * 2;
+        Deque<Future<SentRequest>> pending = new ArrayDeque<>(maxPending);
+        Iterator<RequestModel> it = requestsModel.iterator();
+        try {
+            Future<SentRequest> next;
+            do {
+                while (it.hasNext()
+                        && pending.size() < maxPending
+                        && !Thread.currentThread().isInterrupted()) {
+                    RequestModel requestModel = it.next();
+                    HttpMessage httpRequest = createMessage(user, requestModel);
+                    pending.add(executor.submit(() -> send(requestModel, httpRequest)));
+                }
+                next = pending.poll();
+            } while (notifyListeners(next, errors));
+        } catch (IOException e) {
+            while (notifyListeners(pending.poll(), errors)) {
+                // Notify the requests already sent.
+            }
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SentRequest send(RequestModel requestModel, HttpMessage httpRequest) {
+        SentRequest sentRequest = new SentRequest(requestModel.getUrl());
+        HttpRequestConfig config =
+                HttpRequestConfig.builder()
+                        .setRedirectionValidator(new BufferingMessageHandler(sentRequest))
+                        .build();
+        try {
+            sender.sendAndReceive(httpRequest, config);
+        } catch (IOException e) {
+            sentRequest.exception = e;
+        }
+        return sentRequest;
+    }
+
+    private boolean notifyListeners(Future<SentRequest> future, List<String> errors) {
+        if (future == null) {
+            return false;
+        }
+
+        SentRequest sentRequest;
+        try {
+            sentRequest = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            LOGGER.error(e.getMessage(), e);
+            return true;
+        }
+
+        sentRequest.messages.forEach(this::notifyListeners);
+        if (sentRequest.exception != null) {
+            addError(errors, sentRequest.url, sentRequest.exception);
+        }
+        requestsSent++;
+        return true;
+    }
+
+    private static HttpMessage createMessage(User user, RequestModel requestModel)
+            throws IOException {
+        HttpMessage httpRequest = new HttpMessage(new URI(requestModel.getUrl(), false));
+        httpRequest.getRequestHeader().setMethod(requestModel.getMethod().name());
+        for (HttpHeaderField hhf : requestModel.getHeaders()) {
+            httpRequest.getRequestHeader().setHeader(hhf.getName(), hhf.getValue());
+        }
+        httpRequest.getRequestBody().setBody(requestModel.getBody());
+        httpRequest.getRequestHeader().setContentLength(httpRequest.getRequestBody().length());
+
+        httpRequest.setRequestingUser(user);
+        return httpRequest;
+    }
+
+    private static void addError(List<String> errors, String url, IOException e) {
+        errors.add(
+                Constant.messages.getString(
+                        "openapi.import.error", url, e.getClass().getName(), e.getMessage()));
+        LOGGER.debug(e.getMessage(), e);
+    }
+
+    /**
+     * Sets the number of threads used to send the requests of the definition.
+     *
+     * <p>The requests are still subject to the rate limits of the network add-on.
+     *
+     * @param threads the number of threads, {@code 1} to send the requests sequentially.
+     * @throws IllegalArgumentException if {@code threads} is less than {@code 1}.
+     * @since 59
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be greater than 0.");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Gets the number of requests sent by the last (or current) run.
+     *
+     * @return the number of requests sent.
+     * @since 59
+     */
+    public int getRequestsSent() {
+        return requestsSent;
+    }
+
+    /**
+     * Gets the time, in milliseconds, that the last run took to send all the requests.
+     *
+     * @return the elapsed time.
+     * @since 59
+     */
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
     public String getResponseBody(URI uri) throws NullPointerException, IOException {
         HttpMessage httpRequest = new HttpMessage(uri);
         httpRequest.getRequestHeader().setHeader("Accept", "application/json,*/*");
         sender.sendAndReceive(httpRequest, true);
-        for (RequesterListener listener : listeners) {
-            try {
-                listener.handleMessage(httpRequest, initiator);
-            } catch (Exception e) {
-                LOGGER.error(e.getMessage(), e);
-            }
-        }
+        notifyListeners(httpRequest);
         return httpRequest.getResponseBody().toString();
     }
 
@@ -115,18 +270,54 @@ public class Requestor {
         sender.setUser(user);
     }
 
+    private void notifyListeners(HttpMessage message) {
+        for (RequesterListener listener : listeners) {
+            try {
+                listener.handleMessage(message, initiator);
+            } catch (Exception e) {
+                LOGGER.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    /** The messages sent for a request, and the exception, if any. */
+    private static class SentRequest {
+
+        private final String url;
+        private final List<HttpMessage> messages = new ArrayList<>(1);
+        private IOException exception;
+
+        SentRequest(String url) {
+            this.url = url;
+        }
+    }
+
+    /** Buffers the messages sent, to notify the {@link #listeners} later, in order. */
+    private static class BufferingMessageHandler implements HttpRedirectionValidator {
+
+        private final SentRequest sentRequest;
+
+        BufferingMessageHandler(SentRequest sentRequest) {
+            this.sentRequest = sentRequest;
+        }
+
+        @Override
+        public void notifyMessageReceived(HttpMessage message) {
+            sentRequest.messages.add(message);
+        }
+
+        @Override
+        public boolean isValid(URI redirection) {
+            return true;
+        }
+    }
+
     /** Notifies the {@link #listeners} of the messages sent. */
     private class MessageHandler implements HttpRedirectionValidator {
 
         @Override
         public void notifyMessageReceived(HttpMessage message) {
-            for (RequesterListener listener : listeners) {
-                try {
-                    listener.handleMessage(message, initiator);
-                } catch (Exception e) {
-                    LOGGER.error(e.getMessage(), e);
-                }
-            }
+            notifyListeners(message);
         }
 
         @Override
@@ -26,8 +26,11 @@ import static org.mockito.Mockito.mock;
 
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.zaproxy.addon.commonlib.ValueProvider;
 
 /** Unit test for {@link BodyGenerator}. */
 class BodyGeneratorUnitTest {
@@ -67,4 +70,25 @@ class BodyGeneratorUnitTest {
         // Then
         assertThat(body, is(equalTo("{\"foo\":\"bar\"}")));
     }
+
+    @Test
+    void shouldGenerateObjectSchemaBodyOnce() {
+        // Given
+        AtomicInteger valuesProvided = new AtomicInteger();
+        ValueProvider valueProvider =
+                (uri, url, fieldId, defaultValue, definedValues, envAttrs, fieldAttrs) -> {
+                    valuesProvided.incrementAndGet();
+                    return "John";
+                };
+        bodyGenerator = new Generators(valueProvider).getBodyGenerator();
+        ObjectSchema schema = new ObjectSchema();
+        schema.addProperty("name", new StringSchema());
+        String first = bodyGenerator.generate(schema);
+        // When
+        String second = bodyGenerator.generate(schema);
+        // Then
+        assertThat(second, is(equalTo("{\"name\":\"John\"}")));
+        assertThat(second, is(equalTo(first)));
+        assertThat(valuesProvided.get(), is(equalTo(1)));
+    }
 }
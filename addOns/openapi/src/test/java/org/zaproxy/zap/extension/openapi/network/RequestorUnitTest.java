@@ -25,6 +25,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import fi.iki.elonen.NanoHTTPD;
@@ -129,6 +130,51 @@ class RequestorUnitTest extends AbstractServerTest {
         assertThat(messages.get(3), is(equalTo("GET /final Final")));
     }
 
+    @Test
+    void shouldNotifyMessagesInRequestOrderWhenSentConcurrently() {
+        // Given
+        String baseUrl = "http://localhost:" + nano.getListeningPort() + "/";
+        this.nano.addHandler(
+                new NanoServerHandler("/") {
+                    @Override
+                    protected Response serve(IHTTPSession session) {
+                        if ("/0".equals(session.getUri())) {
+                            try {
+                                Thread.sleep(250);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        return newFixedLengthResponse("");
+                    }
+                });
+        List<RequestModel> requests = new ArrayList<>();
+        List<String> expectedPaths = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            requests.add(requestModel(RequestMethod.GET, baseUrl + i));
+            expectedPaths.add("/" + i);
+        }
+        List<String> paths = new ArrayList<>();
+        Requestor requestor = new Requestor(HttpSender.MANUAL_REQUEST_INITIATOR);
+        requestor.setThreads(4);
+        requestor.addListener(
+                (msg, initiator) -> paths.add(msg.getRequestHeader().getURI().getEscapedPath()));
+        // When
+        List<String> errors = requestor.run(requests);
+        // Then
+        assertThat(errors, is(empty()));
+        assertThat(paths, is(equalTo(expectedPaths)));
+        assertThat(requestor.getRequestsSent(), is(equalTo(10)));
+    }
+
+    @Test
+    void shouldNotAllowLessThanOneThread() {
+        // Given
+        Requestor requestor = new Requestor(HttpSender.MANUAL_REQUEST_INITIATOR);
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> requestor.setThreads(0));
+    }
+
     private static RequestModel requestModel(RequestMethod method, String url) {
         RequestModel request = new RequestModel();
         request.setMethod(method);
@@ -0,0 +1,139 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.paramdigger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.zaproxy.addon.commonlib.http.ComparableResponse;
+
+/**
+ * What is known about an endpoint, when guessing with adaptive chunks: the baseline responses and
+ * the maximum length of the payload it accepts.
+ *
+ * <p>The profiles with stable baseline responses are kept for a while, so that later guesses on
+ * the same endpoint do not need to request them again. They are keyed by the full URL, as the
+ * baseline responses depend on the query. The profiles are removed when the session changes.
+ */
+class EndpointProfile {
+
+    static final long TIME_TO_LIVE_MS = 5 * 60 * 1000L;
+    private static final int MAX_PROFILES = 100;
+
+    private static final Map<String, EndpointProfile> PROFILES =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, EndpointProfile> eldest) {
+                    return size() > MAX_PROFILES;
+                }
+            };
+
+    private final ComparableResponse primary;
+    private final ComparableResponse base;
+    private final int maxPayloadLength;
+    private final long createdAt;
+
+    EndpointProfile(ComparableResponse primary, ComparableResponse base, int maxPayloadLength) {
+        this(primary, base, maxPayloadLength, System.currentTimeMillis());
+    }
+
+    EndpointProfile(
+            ComparableResponse primary,
+            ComparableResponse base,
+            int maxPayloadLength,
+            long createdAt) {
+        this.primary = primary;
+        this.base = base;
+        this.maxPayloadLength = maxPayloadLength;
+        this.createdAt = createdAt;
+    }
+
+    ComparableResponse getPrimary() {
+        return primary;
+    }
+
+    ComparableResponse getBase() {
+        return base;
+    }
+
+    int getMaxPayloadLength() {
+        return maxPayloadLength;
+    }
+
+    boolean isExpired(long now) {
+        return now - createdAt >= TIME_TO_LIVE_MS;
+    }
+
+    /**
+     * Tells whether or not the given responses, to the same request, are the same.
+     *
+     * @param response the first response.
+     * @param other the second response.
+     * @return {@code true} if the responses are the same, {@code false} otherwise.
+     */
+    static boolean isStable(ComparableResponse response, ComparableResponse other) {
+        return response.getStatusCode() == other.getStatusCode()
+                && response.getBody().equals(other.getBody());
+    }
+
+    /**
+     * Gets the profile of the given endpoint.
+     *
+     * @param method the method used to guess.
+     * @param url the URL of the endpoint.
+     * @return the profile, or {@code null} if none or expired.
+     */
+    static EndpointProfile get(Method method, String url) {
+        String key = createKey(method, url);
+        synchronized (PROFILES) {
+            EndpointProfile profile = PROFILES.get(key);
+            if (profile != null && profile.isExpired(System.currentTimeMillis())) {
+                PROFILES.remove(key);
+                return null;
+            }
+            return profile;
+        }
+    }
+
+    /**
+     * Keeps the profile of the given endpoint.
+     *
+     * @param method the method used to guess.
+     * @param url the URL of the endpoint.
+     * @param profile the profile.
+     */
+    static void put(Method method, String url, EndpointProfile profile) {
+        synchronized (PROFILES) {
+            PROFILES.put(createKey(method, url), profile);
+        }
+    }
+
+    /** Removes all the profiles. */
+    static void clear() {
+        synchronized (PROFILES) {
+            PROFILES.clear();
+        }
+    }
+
+    private static String createKey(Method method, String url) {
+        return method.name() + ' ' + url;
+    }
+}
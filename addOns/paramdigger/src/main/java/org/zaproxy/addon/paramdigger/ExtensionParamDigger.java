@@ -86,9 +86,9 @@ public class ExtensionParamDigger extends ExtensionAdaptor {
             extensionHook.getHookMenu().addToolsMenuItem(getMenu());
             extensionHook.getHookView().addStatusPanel(getParamDiggerPanel());
             extensionHook.getHookMenu().addPopupMenuItem(getPopupMsg());
-
-            extensionHook.addSessionListener(new SessionChangedListenerImpl());
         }
+
+        extensionHook.addSessionListener(new SessionChangedListenerImpl());
     }
 
     private ExtensionPopupMenuItem getPopupMsg() {
@@ -112,6 +112,7 @@ public class ExtensionParamDigger extends ExtensionAdaptor {
         if (paramDiggerPanel != null) {
             paramDiggerPanel.unload();
         }
+        EndpointProfile.clear();
     }
 
     public void startScan(ParamDiggerConfig config) {
@@ -163,12 +164,14 @@ public class ExtensionParamDigger extends ExtensionAdaptor {
 
         @Override
         public void sessionChanged(Session session) {
-            getParamDiggerPanel().reset();
+            if (hasView()) {
+                getParamDiggerPanel().reset();
+            }
         }
 
         @Override
         public void sessionAboutToChange(Session session) {
-            // Nothing to do
+            EndpointProfile.clear();
         }
 
         @Override
@@ -65,6 +65,7 @@ public class ParamDiggerConfig {
     private String customHeaderWordlistPath;
     private String customCookieWordlistPath;
     private int urlGuessChunkSize;
+    private boolean urlAdaptiveChunks;
     private int buster;
     private String customCacheBusterName;
     private static final String DEFAULT_CACHEBUSTER_NAME = "fcbz";
@@ -353,6 +354,22 @@ public class ParamDiggerConfig {
         return urlGuessChunkSize;
     }
 
+    /**
+     * Sets whether or not the chunks of the URL guess are sized to the maximum payload accepted by
+     * the target, instead of using a fixed number of chunks.
+     *
+     * @param urlAdaptiveChunks {@code true} if the chunks should be adaptive, {@code false}
+     *     otherwise.
+     * @see #setUrlGuessChunkSize(int)
+     */
+    public void setUrlAdaptiveChunks(boolean urlAdaptiveChunks) {
+        this.urlAdaptiveChunks = urlAdaptiveChunks;
+    }
+
+    public boolean getUrlAdaptiveChunks() {
+        return urlAdaptiveChunks;
+    }
+
     public String getCacheBusterName() {
         // TODO allow users to set this
         if (customCacheBusterName != null) {
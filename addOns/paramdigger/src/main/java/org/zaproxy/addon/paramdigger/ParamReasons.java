@@ -20,15 +20,18 @@
 package org.zaproxy.addon.paramdigger;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.parosproxy.paros.model.HistoryReference;
 
 public class ParamReasons {
     private List<Reason> reasons;
     private Map<String, String> params;
     private HistoryReference ref;
+    private final Set<String> reflectedParams = new HashSet<>();
 
     public ParamReasons(List<Reason> reasons, Map<String, String> params) {
         this.reasons = Objects.requireNonNull(reasons);
@@ -71,4 +74,22 @@ public class ParamReasons {
     public HistoryReference getRef() {
         return ref;
     }
+
+    /**
+     * Adds a parameter whose value was reflected in the response.
+     *
+     * @param param the name of the parameter.
+     */
+    public void addReflectedParam(String param) {
+        this.reflectedParams.add(param);
+    }
+
+    /**
+     * Gets the parameters whose value was reflected in the response.
+     *
+     * @return the names of the parameters, never {@code null}.
+     */
+    public Set<String> getReflectedParams() {
+        return reflectedParams;
+    }
 }
@@ -387,11 +387,13 @@ public class UrlBruteForce implements Callable<ParamReasons> {
         }
 
         if (!resp1.getBody().contains(baseValue)) {
-            for (String values : params.values()) {
+            for (Map.Entry<String, String> param : params.entrySet()) {
+                String values = param.getValue();
                 if (resp2.getBody().contains(values)) {
                     Pattern searchValuePattern = Pattern.compile("['\"\\s]" + values + "['\"\\s]");
                     if (searchValuePattern.matcher(resp2.getBody()).find()) {
                         reasons.addReason(Reason.PARAM_VALUE_REFLECTION);
+                        reasons.addReflectedParam(param.getKey());
                     }
                 }
             }
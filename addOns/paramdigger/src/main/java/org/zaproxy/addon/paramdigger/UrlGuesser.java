@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -72,6 +73,16 @@ public class UrlGuesser implements Runnable {
     private final String INIT_PARAM_2 = "pow";
     private final String INIT_VALUE_2 = "4321";
 
+    /** The minimum payload length assumed to be accepted, when probing the endpoint. */
+    static final int MIN_PAYLOAD_LENGTH = 512;
+    /** The maximum payload length probed in the URL. */
+    static final int MAX_URL_PAYLOAD_LENGTH = 8192;
+    /** The maximum payload length probed in the body. */
+    static final int MAX_BODY_PAYLOAD_LENGTH = 65536;
+
+    private static final int PAYLOAD_LENGTH_PRECISION = 256;
+    private static final List<Integer> PAYLOAD_TOO_LARGE_CODES = List.of(400, 413, 414, 431);
+
     private float statusCodeThreshold;
     private float httpHeadersThreshold;
     private float bodyTreesStructureHeuristicThreshold;
@@ -147,8 +158,18 @@ public class UrlGuesser implements Runnable {
     }
 
     private void startGuess(Method method, List<String> wordlist) {
-        ComparableResponse primary = firstRequest(method, INIT_PARAM_1, INIT_VALUE_1);
-        ComparableResponse base = firstRequest(method, INIT_PARAM_2, INIT_VALUE_2);
+        boolean adaptive = config.getUrlAdaptiveChunks();
+        EndpointProfile profile = adaptive ? EndpointProfile.get(method, config.getUrl()) : null;
+        ComparableResponse primary;
+        ComparableResponse base;
+        if (profile != null) {
+            LOGGER.debug("Using cached baseline responses for {} {}", method, config.getUrl());
+            primary = profile.getPrimary();
+            base = profile.getBase();
+        } else {
+            primary = firstRequest(method, INIT_PARAM_1, INIT_VALUE_1);
+            base = firstRequest(method, INIT_PARAM_2, INIT_VALUE_2);
+        }
 
         // Set threshold values
         this.statusCodeThreshold = ComparableResponse.statusCodeHeuristic(primary, base);
@@ -161,8 +182,24 @@ public class UrlGuesser implements Runnable {
         this.scan.notifyListenersProgress();
         // TODO Add heuristic method to mine parameters from base response.
 
-        List<Map<String, String>> paramGroups =
-                Utils.slice(Utils.populate(wordlist), config.getUrlGuessChunkSize());
+        List<Map<String, String>> paramGroups;
+        if (adaptive) {
+            if (profile == null) {
+                profile = createProfile(method, primary, base);
+            }
+            paramGroups =
+                    Utils.pack(
+                            Utils.populate(wordlist),
+                            method,
+                            profile.getMaxPayloadLength() * 9 / 10);
+            LOGGER.debug(
+                    "Packed {} params in {} groups, max payload length {}",
+                    wordlist.size(),
+                    paramGroups.size(),
+                    profile.getMaxPayloadLength());
+        } else {
+            paramGroups = Utils.slice(Utils.populate(wordlist), config.getUrlGuessChunkSize());
+        }
         this.scan.setMaximum(paramGroups.size());
         List<Map<String, String>> usableParams = new ArrayList<>();
 
@@ -171,7 +208,7 @@ public class UrlGuesser implements Runnable {
             if (this.scan.isStopped()) {
                 return;
             }
-            paramGroups = narrowDownParams(base, method, paramGroups);
+            paramGroups = narrowDownParams(base, method, paramGroups, adaptive);
             paramGroups = Utils.confirmUsableParameters(paramGroups, usableParams);
             this.scan.setMaximum(paramGroups.size());
             this.scan.notifyListenersProgress();
@@ -214,8 +251,63 @@ public class UrlGuesser implements Runnable {
         }
     }
 
+    private EndpointProfile createProfile(
+            Method method, ComparableResponse primary, ComparableResponse base) {
+        ComparableResponse baseAgain = firstRequest(method, INIT_PARAM_2, INIT_VALUE_2);
+        EndpointProfile profile =
+                new EndpointProfile(primary, base, probeMaxPayloadLength(method, base));
+        if (EndpointProfile.isStable(base, baseAgain)) {
+            EndpointProfile.put(method, config.getUrl(), profile);
+        }
+        return profile;
+    }
+
+    /**
+     * Probes the maximum length of the payload accepted by the endpoint, with a binary search
+     * between {@link #MIN_PAYLOAD_LENGTH} and the maximum for the method.
+     *
+     * @param method the method to use.
+     * @param base the base response.
+     * @return the maximum payload length accepted.
+     */
+    int probeMaxPayloadLength(Method method, ComparableResponse base) {
+        int low = MIN_PAYLOAD_LENGTH;
+        int high = method == Method.GET ? MAX_URL_PAYLOAD_LENGTH : MAX_BODY_PAYLOAD_LENGTH;
+        if (isPayloadAccepted(method, base, high)) {
+            return high;
+        }
+        while (high - low > PAYLOAD_LENGTH_PRECISION) {
+            if (this.scan.isStopped()) {
+                break;
+            }
+            int mid = (low + high) >>> 1;
+            if (isPayloadAccepted(method, base, mid)) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean isPayloadAccepted(Method method, ComparableResponse base, int length) {
+        String value = "1".repeat(Math.max(1, length - INIT_PARAM_2.length() - 1));
+        HttpMessage msg = new HttpMessage();
+        Map<String, String> params = Map.of(INIT_PARAM_2, value);
+        String valueSent = createBruteForce(method, value, params).requester(msg, method, params);
+        if (valueSent == null || msg.getResponseHeader().isEmpty()) {
+            return false;
+        }
+        int statusCode = msg.getResponseHeader().getStatusCode();
+        return statusCode == base.getStatusCode()
+                || (statusCode < 500 && !PAYLOAD_TOO_LARGE_CODES.contains(statusCode));
+    }
+
     private List<Map<String, String>> narrowDownParams(
-            ComparableResponse base, Method method, List<Map<String, String>> paramGroups) {
+            ComparableResponse base,
+            Method method,
+            List<Map<String, String>> paramGroups,
+            boolean adaptive) {
         List<Map<String, String>> narrowedParamGroups = new ArrayList<>();
         List<Future<ParamReasons>> futures = new ArrayList<>();
 
@@ -242,9 +334,14 @@ public class UrlGuesser implements Runnable {
             try {
                 ParamReasons narrowedParam = future.get();
                 if (narrowedParam != null && !narrowedParam.isEmpty()) {
-                    List<Map<String, String>> slices = Utils.slice(narrowedParam.getParams(), 2);
-                    for (Map<String, String> slice : slices) {
-                        narrowedParamGroups.add(slice);
+                    if (adaptive && !narrowedParam.getReflectedParams().isEmpty()) {
+                        narrowedParamGroups.addAll(splitReflected(narrowedParam));
+                    } else {
+                        List<Map<String, String>> slices =
+                                Utils.slice(narrowedParam.getParams(), 2);
+                        for (Map<String, String> slice : slices) {
+                            narrowedParamGroups.add(slice);
+                        }
                     }
                     this.scan.notifyListenersProgress();
                 }
@@ -256,28 +353,53 @@ public class UrlGuesser implements Runnable {
         return narrowedParamGroups;
     }
 
+    /**
+     * Splits the reflected parameters into their own groups, already identified, and keeps the
+     * remaining parameters in one group, to be checked again.
+     *
+     * @param paramReasons the reasons of the group, with the reflected parameters.
+     * @return the new groups.
+     */
+    static List<Map<String, String>> splitReflected(ParamReasons paramReasons) {
+        List<Map<String, String>> groups = new ArrayList<>();
+        Map<String, String> remaining = new LinkedHashMap<>(paramReasons.getParams());
+        for (String param : paramReasons.getReflectedParams()) {
+            String value = remaining.remove(param);
+            if (value != null) {
+                groups.add(Map.of(param, value));
+            }
+        }
+        if (!remaining.isEmpty()) {
+            groups.add(remaining);
+        }
+        return groups;
+    }
+
     public ComparableResponse firstRequest(Method method, String param, String value) {
         HttpMessage msg = new HttpMessage();
         Map<String, String> initialParam = new HashMap<>();
         initialParam.put(param, value);
 
-        UrlBruteForce initialBruter =
-                new UrlBruteForce(
-                        null,
-                        value,
-                        method,
-                        initialParam,
-                        Mode.BRUTEFORCE,
-                        scan,
-                        this,
-                        this.httpSender,
-                        wordlist,
-                        null);
-
-        String valueSent = initialBruter.requester(msg, method, initialParam);
+        String valueSent =
+                createBruteForce(method, value, initialParam).requester(msg, method, initialParam);
         return new ComparableResponse(msg, valueSent);
     }
 
+    private UrlBruteForce createBruteForce(
+            Method method, String value, Map<String, String> params) {
+        return new UrlBruteForce(
+                null,
+                value,
+                method,
+                params,
+                Mode.BRUTEFORCE,
+                scan,
+                this,
+                this.httpSender,
+                wordlist,
+                null);
+    }
+
     public float getStatusCodeThreshold() {
         return statusCodeThreshold;
     }
@@ -25,6 +25,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -106,6 +107,52 @@ public class Utils {
         return list;
     }
 
+    /**
+     * Packs the given parameters into as few groups as possible, each fitting in the given payload
+     * length.
+     *
+     * @param map the Map of parameters to be packed.
+     * @param method the method used to send the parameters, which defines their length.
+     * @param maxLength the maximum length of the parameters of each group.
+     * @return a List<Map<String, String>> of parameters, every group has at least one parameter.
+     */
+    public static List<Map<String, String>> pack(
+            Map<String, String> map, Method method, int maxLength) {
+        List<Map<String, String>> list = new ArrayList<>();
+        Map<String, String> group = new LinkedHashMap<>();
+        int groupLength = 0;
+        for (Entry<String, String> entry : map.entrySet()) {
+            int length = getPayloadLength(method, entry.getKey(), entry.getValue());
+            if (!group.isEmpty() && groupLength + length > maxLength) {
+                list.add(group);
+                group = new LinkedHashMap<>();
+                groupLength = 0;
+            }
+            group.put(entry.getKey(), entry.getValue());
+            groupLength += length;
+        }
+        if (!group.isEmpty()) {
+            list.add(group);
+        }
+        return list;
+    }
+
+    private static int getPayloadLength(Method method, String name, String value) {
+        switch (method) {
+            case XML:
+                // <name>value</name>
+                return 2 * name.length() + value.length() + 5;
+            case JSON:
+                // "name":"value",
+                return name.length() + value.length() + 6;
+            case GET:
+            case POST:
+            default:
+                // name=value&
+                return name.length() + value.length() + 2;
+        }
+    }
+
     /**
      * Returns a query string from a given parameter map. The query string is not encoded.
      *
@@ -96,6 +96,7 @@ public class ParamDiggerDialog extends StandardFieldsDialog {
     private static final int COOKIE_GUESS_TAB = 3;
 
     private static final String URL_CHUNK_SIZE = "paramdigger.dialog.urlguess.chunksize";
+    private static final String URL_ADAPTIVE_CHUNKS = "paramdigger.dialog.urlguess.adaptivechunks";
     private static final String FCBZ_CACHE_BUSTER = "paramdigger.dialog.fcbz.cache.buster";
 
     private static final String URLGUESS_WORDLIST = "paramdigger.dialog.urlguess.wordlist";
@@ -197,6 +198,7 @@ public class ParamDiggerDialog extends StandardFieldsDialog {
         this.addWordlistSelectField(URL_GUESS_TAB, URL_FILE_LOCATON, "", false);
 
         this.addNumberField(URL_GUESS_TAB, URL_CHUNK_SIZE, 2, 40, 2);
+        this.addCheckBoxField(URL_GUESS_TAB, URL_ADAPTIVE_CHUNKS, false);
 
         List<Method> urlGuessMethods = new ArrayList<>();
         urlGuessMethods.add(Method.GET);
@@ -488,6 +490,7 @@ public class ParamDiggerDialog extends StandardFieldsDialog {
 
         config.setAddFcbzCacheBuster(this.getBoolValue(FCBZ_CACHE_BUSTER));
         config.setUrlGuessChunkSize(this.getIntValue(URL_CHUNK_SIZE));
+        config.setUrlAdaptiveChunks(this.getBoolValue(URL_ADAPTIVE_CHUNKS));
 
         this.setWordlistsSettings(config, URLGUESS_WORDLIST, URL_GUESS_TAB);
         this.setWordlistsSettings(config, HEADERGUESS_WORDLIST, HEADER_GUESS_TAB);
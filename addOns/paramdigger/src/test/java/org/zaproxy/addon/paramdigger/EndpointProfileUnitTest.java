@@ -0,0 +1,105 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.paramdigger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.addon.commonlib.http.ComparableResponse;
+import org.zaproxy.zap.testutils.TestUtils;
+
+/** Unit test for {@link EndpointProfile}. */
+class EndpointProfileUnitTest extends TestUtils {
+
+    private static final String URL = "https://example.com/path";
+
+    @BeforeEach
+    void setUp() {
+        mockMessages(new ExtensionParamDigger());
+    }
+
+    @AfterEach
+    void tearDown() {
+        EndpointProfile.clear();
+    }
+
+    @Test
+    void shouldGetProfileOfSameMethodAndUrl() {
+        // Given
+        EndpointProfile profile = createProfile(System.currentTimeMillis());
+        EndpointProfile.put(Method.GET, URL + "?a=1", profile);
+        // When
+        EndpointProfile retrieved = EndpointProfile.get(Method.GET, URL + "?a=1");
+        // Then
+        assertThat(retrieved, is(sameInstance(profile)));
+    }
+
+    @Test
+    void shouldNotGetProfileOfDifferentQuery() {
+        // Given
+        EndpointProfile.put(Method.GET, URL + "?a=1", createProfile(System.currentTimeMillis()));
+        // When
+        EndpointProfile retrieved = EndpointProfile.get(Method.GET, URL + "?a=2");
+        // Then
+        assertThat(retrieved, is(nullValue()));
+    }
+
+    @Test
+    void shouldNotGetProfileOfDifferentMethod() {
+        // Given
+        EndpointProfile.put(Method.GET, URL, createProfile(System.currentTimeMillis()));
+        // When
+        EndpointProfile retrieved = EndpointProfile.get(Method.POST, URL);
+        // Then
+        assertThat(retrieved, is(nullValue()));
+    }
+
+    @Test
+    void shouldNotGetExpiredProfile() {
+        // Given
+        long createdAt = System.currentTimeMillis() - EndpointProfile.TIME_TO_LIVE_MS;
+        EndpointProfile.put(Method.GET, URL, createProfile(createdAt));
+        // When
+        EndpointProfile retrieved = EndpointProfile.get(Method.GET, URL);
+        // Then
+        assertThat(retrieved, is(nullValue()));
+    }
+
+    @Test
+    void shouldNotGetProfilesOnceCleared() {
+        // Given
+        EndpointProfile.put(Method.GET, URL, createProfile(System.currentTimeMillis()));
+        // When
+        EndpointProfile.clear();
+        // Then
+        assertThat(EndpointProfile.get(Method.GET, URL), is(nullValue()));
+    }
+
+    private static EndpointProfile createProfile(long createdAt) {
+        ComparableResponse response = new ComparableResponse(200, "Body", Map.of(), "");
+        return new EndpointProfile(response, response, 1024, createdAt);
+    }
+}
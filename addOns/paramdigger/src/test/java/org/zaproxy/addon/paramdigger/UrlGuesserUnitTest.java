@@ -23,7 +23,9 @@ import static fi.iki.elonen.NanoHTTPD.newFixedLengthResponse;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.RETURNS_MOCKS;
@@ -40,8 +42,12 @@ import java.net.URLEncoder;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -121,6 +127,7 @@ class UrlGuesserUnitTest extends TestUtils {
     void tearDown() throws Exception {
         stopServer();
         executor.shutdown();
+        EndpointProfile.clear();
     }
 
     @Test
@@ -508,4 +515,67 @@ class UrlGuesserUnitTest extends TestUtils {
         // Then
         verify(this.scan, times(0)).addParamGuessResult(any());
     }
+
+    @Test
+    void shouldGuessUrlParametersWithAdaptiveChunks() throws Exception {
+        // Given
+        String path = "/adaptive";
+        AtomicInteger guessRequests = new AtomicInteger();
+        this.nano.addHandler(
+                new NanoServerHandler(path) {
+                    @Override
+                    protected Response serve(IHTTPSession session) {
+                        String query = session.getQueryParameterString();
+                        if (query == null || query.length() < 256) {
+                            guessRequests.incrementAndGet();
+                        }
+                        String name = getFirstParamValue(session, "q");
+                        name = name == null ? " " : name;
+                        String response =
+                                getHtml("ReflectionInBody.html", new String[][] {{"q", name}});
+
+                        return newFixedLengthResponse(response);
+                    }
+                });
+
+        HttpMessage msg = getHttpMessage(path);
+        config.setUrl(msg.getRequestHeader().getURI().toString());
+        config.setDoUrlGuess(true);
+        config.setUrlGetRequest(true);
+        config.setUrlAdaptiveChunks(true);
+        given(scan.getConfig()).willReturn(config);
+        urlGuesser = new UrlGuesser(0, scan, httpSender, executor);
+
+        // When
+        urlGuesser.run();
+
+        // Then
+        ArgumentCaptor<ParamGuessResult> result = ArgumentCaptor.forClass(ParamGuessResult.class);
+        verify(scan).addParamGuessResult(result.capture());
+        assertThat(result.getValue().getParamName(), equalTo("q"));
+        assertThat(result.getValue().getReasons(), hasItem(Reason.PARAM_VALUE_REFLECTION));
+        // Baselines (3), all params, remaining params, and verification.
+        assertThat(guessRequests.get(), lessThanOrEqualTo(7));
+    }
+
+    @Test
+    void shouldSplitReflectedParamsIntoTheirOwnGroups() {
+        // Given
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("a", "111110");
+        params.put("q", "111111");
+        params.put("b", "111112");
+        ParamReasons reasons = new ParamReasons();
+        reasons.addReason(Reason.PARAM_VALUE_REFLECTION);
+        reasons.setParams(params);
+        reasons.addReflectedParam("q");
+
+        // When
+        List<Map<String, String>> groups = UrlGuesser.splitReflected(reasons);
+
+        // Then
+        assertThat(groups, hasSize(2));
+        assertThat(groups.get(0), equalTo(Map.of("q", "111111")));
+        assertThat(groups.get(1).keySet(), contains("a", "b"));
+    }
 }
@@ -20,6 +20,7 @@
 package org.zaproxy.addon.paramdigger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -31,6 +32,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -87,6 +89,50 @@ class UtilsUnitTest extends TestUtils {
         assertThat(sliced.get(0).size(), equalTo(30));
     }
 
+    @Test
+    void shouldPackParamsUpToMaxLength() {
+        // Given
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("a", "111110");
+        map.put("bb", "111111");
+        map.put("ccc", "111112");
+        // When
+        List<Map<String, String>> packed = Utils.pack(map, Method.GET, 20);
+
+        // Then
+        assertThat(packed, hasSize(2));
+        assertThat(packed.get(0).keySet(), contains("a", "bb"));
+        assertThat(packed.get(1).keySet(), contains("ccc"));
+    }
+
+    @Test
+    void shouldPackAllParamsInOneGroupIfTheyFit() {
+        // Given
+        List<String> params = Utils.read(this.file);
+        Map<String, String> map = Utils.populate(params);
+
+        // When
+        List<Map<String, String>> packed = Utils.pack(map, Method.JSON, 8192);
+
+        // Then
+        assertThat(packed, hasSize(1));
+        assertThat(packed.get(0).size(), equalTo(60));
+    }
+
+    @Test
+    void shouldPackParamLongerThanMaxLengthInItsOwnGroup() {
+        // Given
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("a", "1");
+        map.put("long_parameter_name", "111111");
+        // When
+        List<Map<String, String>> packed = Utils.pack(map, Method.XML, 10);
+
+        // Then
+        assertThat(packed, hasSize(2));
+        assertThat(packed.get(1).keySet(), contains("long_parameter_name"));
+    }
+
     @Test
     void shouldGetQueryStringWithoutErrors() {
         // Given
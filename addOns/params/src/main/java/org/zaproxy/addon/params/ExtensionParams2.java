@@ -19,6 +19,7 @@
  */
 package org.zaproxy.addon.params;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
@@ -28,6 +29,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import javax.swing.tree.TreeNode;
 import org.apache.logging.log4j.LogManager;
@@ -78,10 +84,22 @@ public class ExtensionParams2 extends ExtensionAdaptor {
     private PopupMenuRemoveAntiCSRF popupMenuRemoveAntiCsrf = null;
     private PopupMenuAddSession popupMenuAddSession = null;
     private PopupMenuRemoveSession popupMenuRemoveSession = null;
-    private Map<String, SiteParameters> siteParamsMap = new HashMap<>();
+    private Map<String, SiteParameters> siteParamsMap = new ConcurrentHashMap<>();
 
     private static final Logger LOGGER = LogManager.getLogger(ExtensionParams2.class);
 
+    /** The interval, in seconds, between the writes of the changed parameters to the session. */
+    private static final int PERSIST_INTERVAL_SECS = 2;
+
+    /**
+     * The parameters changed, with the version of the change, to not remove the parameters changed
+     * again while being written.
+     */
+    private final Map<HtmlParameterStats, Long> pendingParams = new ConcurrentHashMap<>();
+
+    private final AtomicLong pendingVersion = new AtomicLong();
+    private ScheduledExecutorService persistExecutor;
+
     private static boolean attemptedCoreExtensionFactoryRemoval;
 
     // TODO: Remove migration logic once targetting 2.18
@@ -139,6 +157,19 @@ public class ExtensionParams2 extends ExtensionAdaptor {
             return;
         }
 
+        persistExecutor =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, "ZAP-Params-Persist");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        persistExecutor.scheduleWithFixedDelay(
+                this::persistPendingParams,
+                PERSIST_INTERVAL_SECS,
+                PERSIST_INTERVAL_SECS,
+                TimeUnit.SECONDS);
+
         extensionHook.addApiImplementor(new ParamsAPI(this));
         extensionHook.addSessionListener(new SessionChangedListenerImpl());
         extensionHook.addSiteMapListener(new SiteMapListenerImpl());
@@ -189,10 +220,20 @@ public class ExtensionParams2 extends ExtensionAdaptor {
         if (extensionPassiveScan != null && paramScanner != null) {
             extensionPassiveScan.getPassiveScannersManager().remove(paramScanner);
         }
+        shutdownPersistExecutor();
+    }
+
+    private void shutdownPersistExecutor() {
+        if (persistExecutor != null) {
+            persistExecutor.shutdown();
+            persistExecutor = null;
+        }
+        persistPendingParams();
     }
 
     @Override
     public void destroy() {
+        shutdownPersistExecutor();
         if (paramsTableJdo != null) {
             paramsTableJdo.unload();
             paramsTableJdo = null;
@@ -272,11 +313,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
             this.getParamsPanel().addSite(site);
         }
 
-        SiteParameters sps = this.siteParamsMap.get(site);
-        if (sps == null) {
-            sps = new SiteParameters(this, site);
-            this.siteParamsMap.put(site, sps);
-        }
+        SiteParameters sps = getSiteParameters(site);
 
         // Cookie Parameters
         TreeSet<HtmlParameter> params;
@@ -352,30 +389,55 @@ public class ExtensionParams2 extends ExtensionAdaptor {
         return sb.toString();
     }
 
-    private void persist(HtmlParameterStats param) {
+    /**
+     * Marks the given parameter to be written to the session, which is done periodically in
+     * batches.
+     *
+     * @param param the parameter changed.
+     */
+    void persist(HtmlParameterStats param) {
+        if (ParamsTableJdo.getPmf() == null) {
+            return;
+        }
+        pendingParams.put(param, pendingVersion.incrementAndGet());
+    }
+
+    /**
+     * Writes the changed parameters to the session, in a single transaction.
+     *
+     * <p>The parameters are kept pending, to be written again later, if the transaction fails.
+     */
+    synchronized void persistPendingParams() {
+        if (pendingParams.isEmpty()) {
+            return;
+        }
         var pmf = ParamsTableJdo.getPmf();
         if (pmf == null) {
             return;
         }
+
+        Map<HtmlParameterStats, Long> pending = new HashMap<>(pendingParams);
+        List<HtmlParameterStats> batch = new ArrayList<>(pending.keySet());
+        List<RecordParam> records = new ArrayList<>(batch.size());
+        for (HtmlParameterStats param : batch) {
+            records.add(
+                    new RecordParam(
+                            param.getId(),
+                            param.getSite(),
+                            param.getType().name(),
+                            param.getName(),
+                            param.getTimesUsed(),
+                            setToString(param.getFlags()),
+                            setToString(param.getValues())));
+        }
         try {
-            if (param.getId() < 0) {
-                RecordParam rp =
-                        ParamsDao.insert(
-                                pmf,
-                                param.getSite(),
-                                param.getType().name(),
-                                param.getName(),
-                                param.getTimesUsed(),
-                                setToString(param.getFlags()),
-                                setToString(param.getValues()));
-                param.setId(rp.paramId());
-            } else {
-                ParamsDao.update(
-                        pmf,
-                        param.getId(),
-                        param.getTimesUsed(),
-                        setToString(param.getFlags()),
-                        setToString(param.getValues()));
+            List<RecordParam> saved = ParamsDao.save(pmf, records);
+            for (int i = 0; i < batch.size(); i++) {
+                HtmlParameterStats param = batch.get(i);
+                if (param.getId() < 0) {
+                    param.setId(saved.get(i).paramId());
+                }
+                pendingParams.remove(param, pending.get(param));
             }
         } catch (Exception e) {
             if (!ErrorUtils.handleDiskSpaceException(e)) {
@@ -419,7 +481,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
             HtmlParameter headerParam =
                     new HtmlParameter(
                             HtmlParameter.Type.header, hdrField.getName(), hdrField.getValue());
-            ThreadUtils.invokeLater(() -> persist(sps.addParam(site, headerParam, msg)));
+            persist(sps.addParam(site, headerParam, msg));
         }
 
         // TODO Only do if response URL different to request?
@@ -543,12 +605,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
     }
 
     public SiteParameters getSiteParameters(String site) {
-        SiteParameters sps = this.siteParamsMap.get(site);
-        if (sps == null) {
-            sps = new SiteParameters(this, site);
-            siteParamsMap.put(site, sps);
-        }
-        return sps;
+        return siteParamsMap.computeIfAbsent(site, k -> new SiteParameters(this, k));
     }
 
     public Collection<SiteParameters> getAllSiteParameters() {
@@ -661,7 +718,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
 
         @Override
         public void sessionAboutToChange(Session session) {
-            // Nothing to do
+            persistPendingParams();
         }
 
         @Override
@@ -671,7 +728,8 @@ public class ExtensionParams2 extends ExtensionAdaptor {
 
         private void sessionChangedEventHandler(Session session) {
             // Clear all scans
-            siteParamsMap = new HashMap<>();
+            pendingParams.clear();
+            siteParamsMap = new ConcurrentHashMap<>();
             if (getView() != null) {
                 getParamsPanel().reset();
             }
@@ -21,17 +21,30 @@ package org.zaproxy.addon.params;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.parosproxy.paros.network.HtmlParameter;
 
 public class HtmlParameterStats implements Comparable<HtmlParameterStats> {
+
+    /**
+     * The maximum number of values kept. Once reached the values are a (reservoir) sample of all
+     * the values seen, and the number of distinct values is estimated.
+     */
+    public static final int MAX_VALUES = 100;
+
     private long id = -1;
     private String site;
     private String name;
     private HtmlParameter.Type type;
-    private int timesUsed = 0;
+    private final AtomicInteger timesUsed = new AtomicInteger();
     private Set<String> flags = Collections.synchronizedSet(new HashSet<>());
     private Set<String> values = Collections.synchronizedSet(new HashSet<>());
+    // Guarded by values, created once more than MAX_VALUES distinct values are seen.
+    private DistinctCountSketch distinctValues;
+    private long valuesNotSampled;
 
     public HtmlParameterStats(
             String site, String name, HtmlParameter.Type type, String value, Set<String> flags) {
@@ -55,8 +68,8 @@ public class HtmlParameterStats implements Comparable<HtmlParameterStats> {
         this.site = site;
         this.name = name;
         this.type = HtmlParameter.Type.valueOf(type);
-        this.timesUsed = timesUsed;
-        this.values = values;
+        this.timesUsed.set(timesUsed);
+        this.values = Collections.synchronizedSet(values);
         this.flags = flags;
     }
 
@@ -89,11 +102,11 @@ public class HtmlParameterStats implements Comparable<HtmlParameterStats> {
     }
 
     public int getTimesUsed() {
-        return timesUsed;
+        return timesUsed.get();
     }
 
     public void incTimesUsed() {
-        this.timesUsed++;
+        this.timesUsed.incrementAndGet();
     }
 
     public Set<String> getValues() {
@@ -104,7 +117,51 @@ public class HtmlParameterStats implements Comparable<HtmlParameterStats> {
         if (value == null) {
             value = "";
         }
-        this.values.add(value);
+        synchronized (values) {
+            if (distinctValues != null) {
+                distinctValues.add(value);
+            }
+            if (values.contains(value)) {
+                return;
+            }
+            if (values.size() < MAX_VALUES) {
+                values.add(value);
+                return;
+            }
+
+            if (distinctValues == null) {
+                distinctValues = new DistinctCountSketch();
+                values.forEach(distinctValues::add);
+                distinctValues.add(value);
+            }
+            valuesNotSampled++;
+            long index = ThreadLocalRandom.current().nextLong(values.size() + valuesNotSampled);
+            if (index < values.size()) {
+                Iterator<String> it = values.iterator();
+                for (long i = 0; i < index; i++) {
+                    it.next();
+                }
+                it.next();
+                it.remove();
+                values.add(value);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of distinct values seen. Exact while there are at most {@link #MAX_VALUES}
+     * values, estimated afterwards.
+     *
+     * @return the number of distinct values.
+     */
+    public int getDistinctValueCount() {
+        synchronized (values) {
+            if (distinctValues == null) {
+                return values.size();
+            }
+            long estimate = Math.max(values.size(), distinctValues.estimate());
+            return (int) Math.min(Integer.MAX_VALUE, estimate);
+        }
     }
 
     public String getValuesSummary() {
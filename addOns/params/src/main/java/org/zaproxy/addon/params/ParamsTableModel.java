@@ -93,7 +93,7 @@ public class ParamsTableModel extends AbstractTableModel {
                 obj = param.getTimesUsed();
                 break;
             case 3:
-                obj = param.getValues().size();
+                obj = param.getDistinctValueCount();
                 break;
             case 4:
                 obj = getPercentChange(param);
@@ -109,10 +109,11 @@ public class ParamsTableModel extends AbstractTableModel {
     }
 
     private int getPercentChange(HtmlParameterStats param) {
-        if (param.getValues().size() == 1) {
+        int distinctValues = param.getDistinctValueCount();
+        if (distinctValues == 1) {
             return 0;
         }
-        return (param.getValues().size() * 100 / param.getTimesUsed());
+        return (int) Math.min(100, (long) distinctValues * 100 / param.getTimesUsed());
     }
 
     public HtmlParameterStats getHtmlParameterStatsAtRow(int row) {
@@ -28,13 +28,19 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.withSettings;
 
+import java.util.HashSet;
+import java.util.List;
+import javax.jdo.PersistenceManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
 import org.mockito.quality.Strictness;
 import org.parosproxy.paros.control.Control;
 import org.parosproxy.paros.extension.ExtensionHook;
@@ -42,6 +48,10 @@ import org.parosproxy.paros.extension.ExtensionLoader;
 import org.parosproxy.paros.extension.SessionChangedListener;
 import org.parosproxy.paros.model.Model;
 import org.parosproxy.paros.model.Session;
+import org.parosproxy.paros.network.HtmlParameter;
+import org.zaproxy.addon.params.internal.db.ParamsDao;
+import org.zaproxy.addon.params.internal.db.ParamsTableJdo;
+import org.zaproxy.addon.params.internal.db.RecordParam;
 import org.zaproxy.addon.pscan.ExtensionPassiveScan2;
 import org.zaproxy.addon.pscan.PassiveScannersManager;
 import org.zaproxy.zap.extension.params.ExtensionParams;
@@ -135,4 +145,49 @@ class ExtensionParams2UnitTest extends TestUtils {
         verify(extensionHook, never()).addApiImplementor(any());
         verify(extensionHook, never()).addSiteMapListener(any());
     }
+
+    @Test
+    void shouldKeepPendingParamsIfSaveFails() {
+        try (MockedStatic<ParamsTableJdo> jdo = mockStatic(ParamsTableJdo.class);
+                MockedStatic<ParamsDao> dao = mockStatic(ParamsDao.class)) {
+            // Given
+            jdo.when(ParamsTableJdo::getPmf).thenReturn(mock(PersistenceManagerFactory.class));
+            HtmlParameterStats param = createParam();
+            extension.persist(param);
+            dao.when(() -> ParamsDao.save(any(), any()))
+                    .thenThrow(new RuntimeException("Failed to save."));
+            extension.persistPendingParams();
+            dao.when(() -> ParamsDao.save(any(), any())).thenReturn(List.of(createRecord(5)));
+            // When
+            extension.persistPendingParams();
+            // Then
+            dao.verify(() -> ParamsDao.save(any(), any()), times(2));
+            assertThat(param.getId(), is(equalTo(5L)));
+        }
+    }
+
+    @Test
+    void shouldNotSaveParamsAgainOnceSaved() {
+        try (MockedStatic<ParamsTableJdo> jdo = mockStatic(ParamsTableJdo.class);
+                MockedStatic<ParamsDao> dao = mockStatic(ParamsDao.class)) {
+            // Given
+            jdo.when(ParamsTableJdo::getPmf).thenReturn(mock(PersistenceManagerFactory.class));
+            extension.persist(createParam());
+            dao.when(() -> ParamsDao.save(any(), any())).thenReturn(List.of(createRecord(5)));
+            extension.persistPendingParams();
+            // When
+            extension.persistPendingParams();
+            // Then
+            dao.verify(() -> ParamsDao.save(any(), any()), times(1));
+        }
+    }
+
+    private static HtmlParameterStats createParam() {
+        return new HtmlParameterStats(
+                "example.com:443", "name", HtmlParameter.Type.url, "value", new HashSet<>());
+    }
+
+    private static RecordParam createRecord(long id) {
+        return new RecordParam(id, "example.com:443", "url", "name", 1, "", "value");
+    }
 }
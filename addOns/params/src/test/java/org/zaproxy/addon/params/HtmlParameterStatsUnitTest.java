@@ -0,0 +1,100 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.params;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.network.HtmlParameter;
+
+/** Unit test for {@link HtmlParameterStats}. */
+class HtmlParameterStatsUnitTest {
+
+    @Test
+    void shouldCountTimesUsed() {
+        // Given
+        HtmlParameterStats stats = createStats("a");
+        // When
+        stats.incTimesUsed();
+        stats.incTimesUsed();
+        // Then
+        assertThat(stats.getTimesUsed(), is(equalTo(3)));
+    }
+
+    @Test
+    void shouldCountDistinctValuesExactlyWhileUnderLimit() {
+        // Given
+        HtmlParameterStats stats = createStats("value0");
+        // When
+        for (int i = 0; i < HtmlParameterStats.MAX_VALUES; i++) {
+            stats.addValue("value" + i);
+            stats.addValue("value" + i);
+        }
+        // Then
+        assertThat(stats.getValues(), hasSize(HtmlParameterStats.MAX_VALUES));
+        assertThat(stats.getDistinctValueCount(), is(equalTo(HtmlParameterStats.MAX_VALUES)));
+    }
+
+    @Test
+    void shouldBoundValuesKept() {
+        // Given
+        HtmlParameterStats stats = createStats("value0");
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            stats.addValue("value" + i);
+        }
+        // Then
+        assertThat(stats.getValues(), hasSize(HtmlParameterStats.MAX_VALUES));
+    }
+
+    @Test
+    void shouldEstimateDistinctValuesOverLimit() {
+        // Given
+        HtmlParameterStats stats = createStats("value0");
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            stats.addValue("value" + i);
+        }
+        // Then
+        assertThat(stats.getDistinctValueCount(), is(allOf(greaterThan(9_000), lessThan(11_000))));
+    }
+
+    @Test
+    void shouldTreatNullValueAsEmpty() {
+        // Given
+        HtmlParameterStats stats = createStats(null);
+        // When
+        stats.addValue("");
+        // Then
+        assertThat(stats.getDistinctValueCount(), is(equalTo(1)));
+    }
+
+    private static HtmlParameterStats createStats(String value) {
+        return new HtmlParameterStats(
+                "example.com:443", "param", HtmlParameter.Type.url, value, new HashSet<>());
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.swing.ImageIcon;
 import org.apache.logging.log4j.LogManager;
@@ -240,6 +241,39 @@ public class ExtensionPassiveScan2 extends ExtensionAdaptor {
         return 0;
     }
 
+    /**
+     * Gets a future that is completed once the passive scanner has no more records to scan, that
+     * is, the queue is empty and no message is being scanned.
+     *
+     * <p>The future is cancelled if the passive scanner is stopped before that.
+     *
+     * @return the future, already completed if there's nothing to scan or the passive scanner is
+     *     disabled.
+     * @since 0.7.0
+     */
+    public CompletableFuture<Void> getQueueDrained() {
+        PassiveScanController controller = psc;
+        if (passiveScanEnabled && controller != null) {
+            return controller.getQueueDrained();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Gets the progress of the passive scanner, including the scan rate and the estimated time to
+     * scan the queued records.
+     *
+     * @return the progress, never {@code null}.
+     * @since 0.7.0
+     */
+    public PassiveScanProgress getProgress() {
+        PassiveScanController controller = psc;
+        if (passiveScanEnabled && controller != null) {
+            return controller.getProgress();
+        }
+        return new PassiveScanProgress(0, 0, 0);
+    }
+
     /**
      * Empties the passive scanner queue without passively scanning the messages.
      *
@@ -21,7 +21,12 @@ package org.zaproxy.addon.pscan;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import net.sf.json.JSONObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -54,6 +59,7 @@ public class PassiveScanApi extends ApiImplementor {
     private static final String VIEW_CURRENT_TASKS = "currentTasks";
     private static final String VIEW_MAX_ALERTS_PER_RULE = "maxAlertsPerRule";
     private static final String VIEW_MAX_BODY_SIZE_IN_BYTES = "maxBodySizeInBytes";
+    private static final String VIEW_PROGRESS = "progress";
 
     private static final String ACTION_SET_ENABLED = "setEnabled";
     private static final String ACTION_SET_SCAN_ONLY_IN_SCOPE = "setScanOnlyInScope";
@@ -75,6 +81,7 @@ public class PassiveScanApi extends ApiImplementor {
     private static final String PARAM_ALERT_THRESHOLD = "alertThreshold";
     private static final String PARAM_MAX_ALERTS = "maxAlerts";
     private static final String PARAM_MAX_SIZE = "maxSize";
+    private static final String PARAM_WAIT_IN_SECS = "waitInSecs";
 
     private final ExtensionPassiveScan2 extension;
     private final PassiveScannersManager scannersManager;
@@ -119,6 +126,7 @@ public class PassiveScanApi extends ApiImplementor {
         this.addApiView(new ApiView(VIEW_CURRENT_TASKS));
         this.addApiView(new ApiView(VIEW_MAX_ALERTS_PER_RULE));
         this.addApiView(new ApiView(VIEW_MAX_BODY_SIZE_IN_BYTES));
+        this.addApiView(new ApiView(VIEW_PROGRESS, null, new String[] {PARAM_WAIT_IN_SECS}));
     }
 
     @Override
@@ -342,12 +350,38 @@ public class PassiveScanApi extends ApiImplementor {
                                 VIEW_MAX_BODY_SIZE_IN_BYTES,
                                 Integer.toString(getOptions().getMaxBodySizeInBytesToScan()));
                 break;
+            case VIEW_PROGRESS:
+                waitForQueueDrained(getParam(params, PARAM_WAIT_IN_SECS, 0));
+                PassiveScanProgress progress = extension.getProgress();
+                Map<String, String> progressMap = new HashMap<>();
+                progressMap.put("recordsToScan", String.valueOf(progress.getRecordsToScan()));
+                progressMap.put("recordsScanned", String.valueOf(progress.getRecordsScanned()));
+                progressMap.put("rate", String.format(Locale.ROOT, "%.2f", progress.getRate()));
+                long eta = progress.getEstimatedTimeRemaining();
+                progressMap.put(
+                        "eta",
+                        String.valueOf(eta < 0 ? -1 : TimeUnit.MILLISECONDS.toSeconds(eta)));
+                result = new ApiResponseSet<>(name, progressMap);
+                break;
             default:
                 throw new ApiException(ApiException.Type.BAD_VIEW);
         }
         return result;
     }
 
+    private void waitForQueueDrained(int waitInSecs) {
+        if (waitInSecs <= 0) {
+            return;
+        }
+        try {
+            extension.getQueueDrained().get(waitInSecs, TimeUnit.SECONDS);
+        } catch (TimeoutException | ExecutionException | CancellationException e) {
+            // Return the current progress.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private ApiResponseSet<String> getResponseForTask(PassiveScanTask task, String name) {
         Map<String, String> map = new HashMap<>();
         if (task != null) {
@@ -0,0 +1,80 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.pscan;
+
+/**
+ * The progress of the passive scanner.
+ *
+ * @since 0.7.0
+ */
+public class PassiveScanProgress {
+
+    private final int recordsToScan;
+    private final long recordsScanned;
+    private final double rate;
+
+    public PassiveScanProgress(int recordsToScan, long recordsScanned, double rate) {
+        this.recordsToScan = recordsToScan;
+        this.recordsScanned = recordsScanned;
+        this.rate = rate;
+    }
+
+    /**
+     * Gets the number of records still to scan, queued or being scanned.
+     *
+     * @return the number of records to scan.
+     */
+    public int getRecordsToScan() {
+        return recordsToScan;
+    }
+
+    /**
+     * Gets the number of records scanned since the passive scanner started.
+     *
+     * @return the number of records scanned.
+     */
+    public long getRecordsScanned() {
+        return recordsScanned;
+    }
+
+    /**
+     * Gets the recent scan rate.
+     *
+     * @return the number of records scanned per second.
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Gets the estimated time to scan the remaining records, based on the recent scan rate.
+     *
+     * @return the time in milliseconds, or {@code -1} if it can't be estimated.
+     */
+    public long getEstimatedTimeRemaining() {
+        if (recordsToScan <= 0) {
+            return 0;
+        }
+        if (rate <= 0) {
+            return -1;
+        }
+        return (long) (recordsToScan / rate * 1000);
+    }
+}
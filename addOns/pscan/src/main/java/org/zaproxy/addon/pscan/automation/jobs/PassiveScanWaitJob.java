@@ -23,8 +23,13 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -40,6 +45,7 @@ import org.zaproxy.addon.automation.JobResultData;
 import org.zaproxy.addon.automation.jobs.JobData;
 import org.zaproxy.addon.automation.jobs.JobUtils;
 import org.zaproxy.addon.pscan.ExtensionPassiveScan2;
+import org.zaproxy.addon.pscan.PassiveScanProgress;
 import org.zaproxy.addon.pscan.automation.internal.PassiveScanWaitJobDialog;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
 
@@ -49,6 +55,9 @@ public class PassiveScanWaitJob extends AutomationJob {
 
     private static final String PARAM_MAX_DURATION = "maxDuration";
 
+    private static final long STOP_CHECK_INTERVAL_MILLIS = 500;
+    private static final long PROGRESS_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
     private final ExtensionPassiveScan2 pscan;
 
     private Data data;
@@ -82,19 +91,50 @@ public class PassiveScanWaitJob extends AutomationJob {
             endTime = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(maxDuration);
         }
 
-        while (pscan.getRecordsToScan() > 0) {
-            if (System.currentTimeMillis() > endTime || forceStop) {
+        CompletableFuture<Void> drained = pscan.getQueueDrained();
+        long nextProgressTime = System.currentTimeMillis() + PROGRESS_INTERVAL_MILLIS;
+        while (!drained.isDone()) {
+            long now = System.currentTimeMillis();
+            if (now > endTime || forceStop) {
                 break;
             }
+            if (now >= nextProgressTime) {
+                reportProgress(progress, pscan.getProgress());
+                nextProgressTime = now + PROGRESS_INTERVAL_MILLIS;
+            }
             try {
-                Thread.sleep(500);
+                drained.get(
+                        Math.min(STOP_CHECK_INTERVAL_MILLIS, endTime - now),
+                        TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException | CancellationException e) {
+                // Check again.
             } catch (InterruptedException e) {
-                // Ignore
+                Thread.currentThread().interrupt();
+                break;
             }
         }
         progress.addJobResultData(this.getJobResultData());
     }
 
+    private void reportProgress(AutomationProgress progress, PassiveScanProgress scanProgress) {
+        long eta = scanProgress.getEstimatedTimeRemaining();
+        if (eta < 0) {
+            progress.info(
+                    Constant.messages.getString(
+                            "pscan.automation.info.pscanwait.progress.noeta",
+                            getName(),
+                            scanProgress.getRecordsToScan()));
+            return;
+        }
+        progress.info(
+                Constant.messages.getString(
+                        "pscan.automation.info.pscanwait.progress",
+                        getName(),
+                        scanProgress.getRecordsToScan(),
+                        String.format(Locale.ROOT, "%.1f", scanProgress.getRate()),
+                        TimeUnit.MILLISECONDS.toSeconds(eta)));
+    }
+
     @Override
     public void stop() {
         forceStop = true;
@@ -19,11 +19,15 @@
  */
 package org.zaproxy.addon.pscan.internal.scanner;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.db.DatabaseException;
@@ -32,6 +36,7 @@ import org.parosproxy.paros.model.HistoryReference;
 import org.parosproxy.paros.model.Session;
 import org.parosproxy.paros.network.HttpMalformedHeaderException;
 import org.zaproxy.addon.pscan.ExtensionPassiveScan2;
+import org.zaproxy.addon.pscan.PassiveScanProgress;
 import org.zaproxy.addon.pscan.internal.PassiveScannerOptions;
 import org.zaproxy.zap.extension.alert.ExtensionAlert;
 import org.zaproxy.zap.utils.Stats;
@@ -40,6 +45,8 @@ public class PassiveScanController extends Thread {
 
     private static final Logger LOGGER = LogManager.getLogger(PassiveScanController.class);
 
+    private static final long RATE_WINDOW_MILLIS = 5000;
+
     private ExtensionHistory extHist;
     private PassiveScanTaskHelper helper;
     private Session session;
@@ -52,6 +59,15 @@ public class PassiveScanController extends Thread {
     private int postSleep = 200;
     private volatile boolean shutDown = false;
 
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final AtomicLong scannedRecords = new AtomicLong();
+    private final List<CompletableFuture<Void>> drainedFutures = new ArrayList<>();
+
+    private final Object rateLock = new Object();
+    private long rateWindowStart = System.currentTimeMillis();
+    private long rateWindowScanned;
+    private double rate;
+
     public PassiveScanController(
             ExtensionPassiveScan2 extPscan, ExtensionHistory extHistory, ExtensionAlert extAlert) {
         setName("ZAP-PassiveScanController");
@@ -109,6 +125,7 @@ public class PassiveScanController extends Thread {
                         }
                     }
                     lastId = this.getLastHistoryId();
+                    notifyIfDrained();
                 }
                 href = getHistoryReference(currentId);
 
@@ -123,10 +140,11 @@ public class PassiveScanController extends Thread {
                             href.getURI(),
                             currentId,
                             href.getHistoryType());
-                    getExecutor().submit(new PassiveScanTask(href, helper));
+                    submit(new PassiveScanTask(href, helper));
                 }
                 int recordsToScan = this.getRecordsToScan();
                 Stats.setHighwaterMark("stats.pscan.recordsToScan", recordsToScan);
+                updateRate();
 
             } catch (Exception e) {
                 if (shutDown) {
@@ -142,6 +160,100 @@ public class PassiveScanController extends Thread {
         }
     }
 
+    private void submit(PassiveScanTask task) {
+        pendingTasks.incrementAndGet();
+        try {
+            getExecutor()
+                    .submit(
+                            () -> {
+                                try {
+                                    task.run();
+                                } finally {
+                                    taskFinished();
+                                }
+                            });
+        } catch (RejectedExecutionException e) {
+            pendingTasks.decrementAndGet();
+            helper.removeTaskFromList(task);
+            throw e;
+        }
+    }
+
+    private void taskFinished() {
+        scannedRecords.incrementAndGet();
+        if (pendingTasks.decrementAndGet() == 0) {
+            notifyIfDrained();
+        }
+    }
+
+    /**
+     * Completes the futures waiting for the queue to be drained, if there are no more records to
+     * scan. The history is only checked if there are futures waiting.
+     */
+    private void notifyIfDrained() {
+        synchronized (drainedFutures) {
+            if (drainedFutures.isEmpty()) {
+                return;
+            }
+        }
+        if (pendingTasks.get() > 0 || getRecordsToScan() > 0) {
+            return;
+        }
+        List<CompletableFuture<Void>> futures;
+        synchronized (drainedFutures) {
+            futures = new ArrayList<>(drainedFutures);
+            drainedFutures.clear();
+        }
+        futures.forEach(f -> f.complete(null));
+    }
+
+    /**
+     * Gets a future that is completed once there are no more records to scan, that is, the queue
+     * is empty and no task is running.
+     *
+     * @return the future, already completed if there's nothing to scan.
+     */
+    public CompletableFuture<Void> getQueueDrained() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (drainedFutures) {
+            drainedFutures.add(future);
+        }
+        notifyIfDrained();
+        return future;
+    }
+
+    /**
+     * Gets the progress of the scan, with the rate measured over the last few seconds.
+     *
+     * @return the progress.
+     */
+    public PassiveScanProgress getProgress() {
+        double currentRate;
+        synchronized (rateLock) {
+            currentRate = rate;
+        }
+        return new PassiveScanProgress(getRecordsToScan(), scannedRecords.get(), currentRate);
+    }
+
+    /**
+     * Updates the scan rate, if the current window has elapsed. Called from the scan loop, so that
+     * the rate does not depend on how often the progress is obtained.
+     */
+    private void updateRate() {
+        long now = System.currentTimeMillis();
+        synchronized (rateLock) {
+            long elapsed = now - rateWindowStart;
+            if (elapsed < RATE_WINDOW_MILLIS) {
+                return;
+            }
+            long scanned = scannedRecords.get();
+            double windowRate = (scanned - rateWindowScanned) * 1000.0 / elapsed;
+            rate = rate == 0 ? windowRate : (rate + windowRate) / 2;
+            rateWindowStart = now;
+            rateWindowScanned = scanned;
+        }
+    }
+
     private PassiveScannerOptions getOptions() {
         return extHist.getModel().getOptionsParam().getParamSet(PassiveScannerOptions.class);
     }
@@ -176,7 +288,7 @@ public class PassiveScanController extends Thread {
     }
 
     public int getRecordsToScan() {
-        return this.getLastHistoryId() - getLastScannedId() + helper.getRunningTasks().size();
+        return this.getLastHistoryId() - getLastScannedId() + pendingTasks.get();
     }
 
     private int getLastScannedId() {
@@ -193,6 +305,12 @@ public class PassiveScanController extends Thread {
             this.executor.shutdown();
         }
         this.helper.shutdownTasks();
+        List<CompletableFuture<Void>> futures;
+        synchronized (drainedFutures) {
+            futures = new ArrayList<>(drainedFutures);
+            drainedFutures.clear();
+        }
+        futures.forEach(f -> f.cancel(false));
     }
 
     public List<PassiveScanTask> getRunningTasks() {
@@ -80,7 +80,7 @@ class PassiveScanApiUnitTest extends TestUtils {
         pscanApi = new PassiveScanApi(extension, scannersManager);
         // Then
         assertThat(pscanApi.getApiActions(), hasSize(12));
-        assertThat(pscanApi.getApiViews(), hasSize(7));
+        assertThat(pscanApi.getApiViews(), hasSize(8));
         assertThat(pscanApi.getApiOthers(), hasSize(0));
     }
 
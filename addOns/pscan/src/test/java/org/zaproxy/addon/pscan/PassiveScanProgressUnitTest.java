@@ -0,0 +1,60 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.pscan;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link PassiveScanProgress}. */
+class PassiveScanProgressUnitTest {
+
+    @Test
+    void shouldEstimateTimeRemainingFromRate() {
+        // Given
+        PassiveScanProgress progress = new PassiveScanProgress(50, 100, 10);
+        // When
+        long eta = progress.getEstimatedTimeRemaining();
+        // Then
+        assertThat(eta, is(equalTo(5000L)));
+    }
+
+    @Test
+    void shouldHaveNoTimeRemainingIfNothingToScan() {
+        // Given
+        PassiveScanProgress progress = new PassiveScanProgress(0, 100, 0);
+        // When
+        long eta = progress.getEstimatedTimeRemaining();
+        // Then
+        assertThat(eta, is(equalTo(0L)));
+    }
+
+    @Test
+    void shouldNotEstimateTimeRemainingWithoutRate() {
+        // Given
+        PassiveScanProgress progress = new PassiveScanProgress(10, 0, 0);
+        // When
+        long eta = progress.getEstimatedTimeRemaining();
+        // Then
+        assertThat(eta, is(equalTo(-1L)));
+    }
+}
@@ -26,15 +26,14 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.invocation.InvocationOnMock;
-import org.mockito.stubbing.Answer;
 import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.control.Control;
 import org.parosproxy.paros.extension.ExtensionLoader;
@@ -43,6 +42,7 @@ import org.zaproxy.addon.automation.AutomationEnvironment;
 import org.zaproxy.addon.automation.AutomationJob.Order;
 import org.zaproxy.addon.automation.AutomationProgress;
 import org.zaproxy.addon.pscan.ExtensionPassiveScan2;
+import org.zaproxy.addon.pscan.PassiveScanProgress;
 import org.zaproxy.addon.pscan.PassiveScannersManager;
 import org.zaproxy.zap.utils.I18N;
 
@@ -136,17 +136,10 @@ class PassiveScanWaitJobUnitTest {
     @Test
     void shouldWaitForPassiveScan() {
         // Given
-        when(pscan.getRecordsToScan())
-                .thenAnswer(
-                        new Answer<Integer>() {
-                            private int records = 5;
-
-                            @Override
-                            public Integer answer(InvocationOnMock invocation) {
-                                records = records - 1;
-                                return records;
-                            }
-                        });
+        CompletableFuture<Void> drained = new CompletableFuture<>();
+        given(pscan.getQueueDrained()).willReturn(drained);
+        CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS)
+                .execute(() -> drained.complete(null));
 
         AutomationProgress progress = new AutomationProgress();
         AutomationEnvironment env = mock(AutomationEnvironment.class);
@@ -157,6 +150,7 @@ class PassiveScanWaitJobUnitTest {
         job.runJob(env, progress);
 
         // Then
+        assertThat(drained.isDone(), is(equalTo(true)));
         assertThat(progress.hasWarnings(), is(equalTo(false)));
         assertThat(progress.hasErrors(), is(equalTo(false)));
         assertThat(progress.getJobResultData("passiveScanData2"), is(notNullValue()));
@@ -165,7 +159,8 @@ class PassiveScanWaitJobUnitTest {
     @Test
     void shouldExitIfPassiveScanTakesLongerThanConfig() {
         // Given
-        given(pscan.getRecordsToScan()).willReturn(1);
+        given(pscan.getQueueDrained()).willReturn(new CompletableFuture<>());
+        given(pscan.getProgress()).willReturn(new PassiveScanProgress(1, 0, 0));
 
         AutomationProgress progress = new AutomationProgress();
         AutomationEnvironment env = mock(AutomationEnvironment.class);
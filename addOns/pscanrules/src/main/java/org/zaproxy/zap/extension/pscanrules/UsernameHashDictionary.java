@@ -0,0 +1,93 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.pscanrules;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.zaproxy.addon.commonlib.AhoCorasickMatcher;
+
+/**
+ * The hashes of a set of usernames, with a single pass search for all of them in a text.
+ *
+ * <p>The hashes are hexadecimal, so they are matched case insensitively.
+ */
+class UsernameHashDictionary {
+
+    private final List<String> usernames;
+    private final List<UsernameHash> hashes;
+    private final AhoCorasickMatcher matcher;
+
+    UsernameHashDictionary(List<String> usernames) {
+        this.usernames = List.copyOf(usernames);
+        this.hashes = new ArrayList<>(usernames.size() * 6);
+
+        for (String username : usernames) {
+            for (Map.Entry<String, String> entry : createHashes(username).entrySet()) {
+                hashes.add(new UsernameHash(username, entry.getKey(), entry.getValue()));
+            }
+        }
+        this.matcher =
+                new AhoCorasickMatcher(hashes.stream().map(UsernameHash::value).toList(), true);
+    }
+
+    private static Map<String, String> createHashes(String username) {
+        Map<String, String> hashes = new HashMap<>();
+        hashes.put("MD2", DigestUtils.md2Hex(username));
+        hashes.put("MD5", DigestUtils.md5Hex(username));
+        hashes.put("SHA1", DigestUtils.sha1Hex(username));
+        hashes.put("SHA256", DigestUtils.sha256Hex(username));
+        hashes.put("SHA384", DigestUtils.sha384Hex(username));
+        hashes.put("SHA512", DigestUtils.sha512Hex(username));
+        return hashes;
+    }
+
+    List<String> getUsernames() {
+        return usernames;
+    }
+
+    List<UsernameHash> getHashes() {
+        return hashes;
+    }
+
+    /**
+     * Finds the hashes contained in the given text.
+     *
+     * @param text the text to search.
+     * @return the evidence (first occurrence) of each hash, in the same order as {@link
+     *     #getHashes()}, {@code null} if the hash was not found.
+     */
+    String[] find(String text) {
+        String[] evidence = new String[hashes.size()];
+        matcher.find(
+                text,
+                (index, start, end) -> {
+                    if (evidence[index] == null) {
+                        evidence[index] = text.substring(start, end);
+                    }
+                    return true;
+                });
+        return evidence;
+    }
+
+    record UsernameHash(String username, String type, String value) {}
+}
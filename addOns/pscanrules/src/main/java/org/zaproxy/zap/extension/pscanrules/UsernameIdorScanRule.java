@@ -29,7 +29,6 @@ import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.htmlparser.jericho.Source;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
@@ -38,6 +37,7 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.PolicyTag;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
+import org.zaproxy.zap.extension.pscanrules.UsernameHashDictionary.UsernameHash;
 import org.zaproxy.zap.users.User;
 
 public class UsernameIdorScanRule extends PluginPassiveScanner
@@ -73,15 +73,29 @@ public class UsernameIdorScanRule extends PluginPassiveScanner
 
     private static Supplier<Iterable<String>> payloadProvider = DEFAULT_PAYLOAD_PROVIDER;
 
-    private List<User> getUsers() {
-        List<User> usersList = new ArrayList<>();
+    /** The hashes of the usernames, rebuilt only when the usernames change. */
+    private volatile UsernameHashDictionary dictionary;
+
+    private List<String> getUsernames() {
+        List<String> usernames = new ArrayList<>();
 
         for (String payload : getUsernameIdorPayloads().get()) {
-            usersList.add(new User(-1, payload));
+            usernames.add(payload);
+        }
+
+        for (User user : getHelper().getUsers()) {
+            usernames.add(user.getName());
         }
+        return usernames;
+    }
 
-        usersList.addAll(getHelper().getUsers());
-        return usersList;
+    private UsernameHashDictionary getDictionary(List<String> usernames) {
+        UsernameHashDictionary current = dictionary;
+        if (current == null || !current.getUsernames().equals(usernames)) {
+            current = new UsernameHashDictionary(usernames);
+            dictionary = current;
+        }
+        return current;
     }
 
     @Override
@@ -89,8 +103,8 @@ public class UsernameIdorScanRule extends PluginPassiveScanner
         if (!msg.getResponseHeader().isText()) {
             return;
         }
-        List<User> scanUsers = getUsers();
-        if (scanUsers.isEmpty()) { // Should continue if not empty
+        List<String> usernames = getUsernames();
+        if (usernames.isEmpty()) { // Should continue if not empty
             LOGGER.debug("There does not appear to be any contexts with configured users.");
             return;
         }
@@ -98,23 +112,14 @@ public class UsernameIdorScanRule extends PluginPassiveScanner
         long start = System.currentTimeMillis();
 
         String response = msg.getResponseHeader().toString() + msg.getResponseBody().toString();
-        String username;
-
-        for (User user : scanUsers) {
-            username = user.getName();
-            Map<String, String> hashes = new HashMap<>();
-            hashes.put("MD2", DigestUtils.md2Hex(username));
-            hashes.put("MD5", DigestUtils.md5Hex(username));
-            hashes.put("SHA1", DigestUtils.sha1Hex(username));
-            hashes.put("SHA256", DigestUtils.sha256Hex(username));
-            hashes.put("SHA384", DigestUtils.sha384Hex(username));
-            hashes.put("SHA512", DigestUtils.sha512Hex(username));
-            for (Map.Entry<String, String> entry : hashes.entrySet()) {
-                String hash = entry.getValue();
-                String evidence = match(response, Pattern.compile(hash, Pattern.CASE_INSENSITIVE));
-                if (evidence != null) {
-                    this.raiseAlert(username, evidence, entry.getKey(), id, msg);
-                }
+
+        UsernameHashDictionary hashDictionary = getDictionary(usernames);
+        List<UsernameHash> hashes = hashDictionary.getHashes();
+        String[] evidences = hashDictionary.find(response);
+        for (int i = 0; i < evidences.length; i++) {
+            if (evidences[i] != null) {
+                UsernameHash hash = hashes.get(i);
+                this.raiseAlert(hash.username(), evidences[i], hash.type(), id, msg);
             }
         }
         LOGGER.debug("\tScan of record {} took {} ms", id, System.currentTimeMillis() - start);
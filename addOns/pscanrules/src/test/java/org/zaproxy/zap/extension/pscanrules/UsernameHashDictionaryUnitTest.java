@@ -0,0 +1,105 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.pscanrules;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.zap.extension.pscanrules.UsernameHashDictionary.UsernameHash;
+
+/** Unit test for {@link UsernameHashDictionary}. */
+class UsernameHashDictionaryUnitTest {
+
+    @Test
+    void shouldCreateAllHashesOfAllUsernames() {
+        // Given / When
+        UsernameHashDictionary dictionary = new UsernameHashDictionary(List.of("a", "b"));
+        // Then
+        assertThat(dictionary.getUsernames(), is(equalTo(List.of("a", "b"))));
+        assertThat(dictionary.getHashes().size(), is(equalTo(12)));
+        assertThat(
+                dictionary.getHashes().stream()
+                        .filter(h -> h.username().equals("b") && h.type().equals("MD5"))
+                        .map(UsernameHash::value)
+                        .findFirst()
+                        .orElse(null),
+                is(equalTo(DigestUtils.md5Hex("b"))));
+    }
+
+    @Test
+    void shouldFindNothingIfNoHashes() {
+        // Given
+        UsernameHashDictionary dictionary = new UsernameHashDictionary(List.of("user"));
+        // When
+        String[] evidence = dictionary.find("no hashes here 0123456789abcdef");
+        // Then
+        for (String e : evidence) {
+            assertThat(e, is(nullValue()));
+        }
+    }
+
+    @Test
+    void shouldFindHashesCaseInsensitiveKeepingOriginalCase() {
+        // Given
+        String md5 = DigestUtils.md5Hex("user");
+        String sha1 = DigestUtils.sha1Hex("user").toUpperCase();
+        UsernameHashDictionary dictionary = new UsernameHashDictionary(List.of("user"));
+        // When
+        String[] evidence = dictionary.find("x" + md5 + " y" + sha1 + "z " + md5);
+        // Then
+        List<UsernameHash> hashes = dictionary.getHashes();
+        int found = 0;
+        for (int i = 0; i < hashes.size(); i++) {
+            switch (hashes.get(i).type()) {
+                case "MD5" -> assertThat(evidence[i], is(equalTo(md5)));
+                case "SHA1" -> assertThat(evidence[i], is(equalTo(sha1)));
+                default -> assertThat(evidence[i], is(nullValue()));
+            }
+            found += evidence[i] != null ? 1 : 0;
+        }
+        assertThat(found, is(equalTo(2)));
+    }
+
+    @Test
+    void shouldFindHashWithinLongerHexString() {
+        // Given
+        String md5 = DigestUtils.md5Hex("user");
+        UsernameHashDictionary dictionary = new UsernameHashDictionary(List.of("user", "other"));
+        // When
+        String[] evidence = dictionary.find("abab" + md5.substring(0, 10) + "0" + md5 + "ff");
+        // Then
+        assertThat(evidence[indexOf(dictionary, "user", "MD5")], is(equalTo(md5)));
+    }
+
+    private static int indexOf(UsernameHashDictionary dictionary, String username, String type) {
+        List<UsernameHash> hashes = dictionary.getHashes();
+        for (int i = 0; i < hashes.size(); i++) {
+            if (hashes.get(i).username().equals(username) && hashes.get(i).type().equals(type)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
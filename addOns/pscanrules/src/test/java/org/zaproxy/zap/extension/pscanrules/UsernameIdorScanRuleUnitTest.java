@@ -230,6 +230,34 @@ class UsernameIdorScanRuleUnitTest extends PassiveScannerTest<UsernameIdorScanRu
         assertEquals(alertsRaised.get(0).getEvidence(), FOOBAR_MD2);
     }
 
+    @Test
+    void shouldRaiseAlertForHashOfUserAddedAfterPreviousScan() {
+        // Given
+        msg.getResponseHeader().setHeader("X-Test-Thing", FOOBAR_MD2);
+        msg.setResponseBody("Some text <h1>Some Title Element</h1>");
+        scanHttpResponseReceive(msg);
+        when(passiveScanData.getUsers())
+                .thenReturn(Arrays.asList(new User(1, "guest"), new User(2, "foobar")));
+        // When
+        scanHttpResponseReceive(msg);
+        // Then
+        assertEquals(alertsRaised.size(), 1);
+        assertEquals(alertsRaised.get(0).getEvidence(), FOOBAR_MD2);
+    }
+
+    @Test
+    void shouldRaiseAlertPerUserWithSameHash() {
+        // Given
+        msg.setResponseBody("Some text <b>" + ADMIN_MD5 + "</b>");
+        when(passiveScanData.getUsers()).thenReturn(Arrays.asList(new User(1, "admin")));
+        // When
+        scanHttpResponseReceive(msg);
+        // Then
+        assertEquals(alertsRaised.size(), 2);
+        assertEquals(alertsRaised.get(0).getEvidence(), ADMIN_MD5);
+        assertEquals(alertsRaised.get(1).getEvidence(), ADMIN_MD5);
+    }
+
     @Test
     void shouldNotRaiseAlertForImageResponse() {
         // Given
@@ -54,17 +54,22 @@ import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.control.Control;
 import org.parosproxy.paros.core.scanner.Alert;
+import org.parosproxy.paros.db.DatabaseException;
 import org.parosproxy.paros.extension.ExtensionAdaptor;
 import org.parosproxy.paros.extension.ExtensionHook;
+import org.parosproxy.paros.model.HistoryReference;
 import org.parosproxy.paros.model.Model;
 import org.parosproxy.paros.model.SiteMap;
 import org.parosproxy.paros.model.SiteNode;
+import org.parosproxy.paros.network.HttpMalformedHeaderException;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.view.View;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.templateresolver.FileTemplateResolver;
 import org.xhtmlrenderer.pdf.ITextRenderer;
+import org.zaproxy.addon.commonlib.ExtensionCommonlib;
+import org.zaproxy.addon.commonlib.alerts.AlertSummary;
 import org.zaproxy.zap.extension.alert.AlertNode;
 import org.zaproxy.zap.extension.alert.ExtensionAlert;
 import org.zaproxy.zap.extension.stats.ExtensionStats;
@@ -550,6 +555,10 @@ public class ExtensionReports extends ExtensionAdaptor {
 
     public List<HttpMessage> getHttpMessagesForRule(int ruleId, int max) {
         try {
+            AlertSummary summary = getAlertSummary();
+            if (summary != null && max <= AlertSummary.MAX_HISTORY_IDS) {
+                return getHttpMessagesForRule(summary, ruleId, max);
+            }
             return getHttpMessagesForRule(this.getRootAlertNode(), ruleId, max);
         } catch (Exception e) {
             LOGGER.error("Failed to get HttpMessages for rule Id {}", ruleId, e);
@@ -557,6 +566,33 @@ public class ExtensionReports extends ExtensionAdaptor {
         return new ArrayList<>();
     }
 
+    private static List<HttpMessage> getHttpMessagesForRule(
+            AlertSummary summary, int ruleId, int max)
+            throws HttpMalformedHeaderException, DatabaseException {
+        List<HttpMessage> list = new ArrayList<>();
+        for (AlertSummary.AlertGroup group : summary.getGroups()) {
+            if (group.pluginId() != ruleId) {
+                continue;
+            }
+            for (Integer historyId : group.historyIds()) {
+                if (list.size() >= max) {
+                    return list;
+                }
+                list.add(new HistoryReference(historyId, true).getHttpMessage());
+            }
+        }
+        return list;
+    }
+
+    private static AlertSummary getAlertSummary() {
+        ExtensionCommonlib extCommonlib =
+                Control.getSingleton().getExtensionLoader().getExtension(ExtensionCommonlib.class);
+        if (extCommonlib == null) {
+            return null;
+        }
+        return extCommonlib.getAlertSummary();
+    }
+
     List<HttpMessage> getHttpMessagesForRule(AlertNode rootNode, int ruleId, int max) {
         List<HttpMessage> list = new ArrayList<>();
 
@@ -579,6 +615,10 @@ public class ExtensionReports extends ExtensionAdaptor {
 
     public Map<Integer, Integer> getAlertCountsByRule() {
         try {
+            AlertSummary summary = getAlertSummary();
+            if (summary != null) {
+                return new HashMap<>(summary.getCountsByRule());
+            }
             return this.getAlertCountsByRule(this.getRootAlertNode());
         } catch (Exception e) {
             LOGGER.error("Failed to access alerts tree", e);
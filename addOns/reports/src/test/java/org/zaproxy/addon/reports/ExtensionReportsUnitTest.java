@@ -27,6 +27,7 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.withSettings;
@@ -65,6 +66,8 @@ import org.parosproxy.paros.extension.ExtensionLoader;
 import org.parosproxy.paros.model.Model;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpRequestHeader;
+import org.zaproxy.addon.commonlib.ExtensionCommonlib;
+import org.zaproxy.addon.commonlib.alerts.AlertSummary;
 import org.zaproxy.addon.insights.internal.Insight;
 import org.zaproxy.zap.extension.alert.AlertNode;
 import org.zaproxy.zap.model.Context;
@@ -152,6 +155,23 @@ class ExtensionReportsUnitTest extends TestUtils {
         assertThat(counts.get(4), is(equalTo(8)));
     }
 
+    @Test
+    void shouldReturnCountsByRuleFromAlertSummary() {
+        // Given
+        AlertSummary summary = mock(AlertSummary.class);
+        given(summary.getCountsByRule()).willReturn(Map.of(1, 2, 3, 4));
+        ExtensionCommonlib extCommonlib = mock(ExtensionCommonlib.class);
+        given(extCommonlib.getAlertSummary()).willReturn(summary);
+        given(extensionLoader.getExtension(ExtensionCommonlib.class)).willReturn(extCommonlib);
+        ExtensionReports extRep = new ExtensionReports();
+
+        // When
+        Map<Integer, Integer> counts = extRep.getAlertCountsByRule();
+
+        // Then
+        assertThat(counts, is(equalTo(Map.of(1, 2, 3, 4))));
+    }
+
     @Test
     void shouldReturnExpectedCountsWithSameAlertWithDifferentRisk() {
         // Given
@@ -0,0 +1,834 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.selenium;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * A pool of browsers, shared by the components that launch browsers, to avoid the cost of
+ * starting a browser each time one is needed.
+ *
+ * <p>The browsers are pooled by key, a browser is only leased to the components that ask for the
+ * same key, which should identify the configuration of the browser (for example, the component,
+ * the browser ID, and the proxy used). The state of the browsers is reset when they are returned
+ * and they are checked that are still usable before being leased again. Browsers not used for a
+ * while are closed.
+ *
+ * <p>The number of browsers is bounded, if no more browsers can be started the lease waits for a
+ * browser to be returned (or closes an idle browser of other key), failing if none is available
+ * after the wait timeout.
+ *
+ * @since 15.55.0
+ * @see ExtensionSelenium#getBrowserPool()
+ */
+public class BrowserPool {
+
+    static final int DEFAULT_MAX_BROWSERS = 16;
+    static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(2);
+    static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final String STATS_PREFIX = "stats.selenium.pool.";
+    private static final Logger LOGGER = LogManager.getLogger(BrowserPool.class);
+
+    private final Object lock = new Object();
+    private final Map<String, Deque<Entry>> idleBrowsers = new HashMap<>();
+    private final Map<String, Integer> warmingUp = new HashMap<>();
+    private final Set<Entry> leasedBrowsers = new HashSet<>();
+    private final LongSupplier clock;
+    private final long idleTimeoutMillis;
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    private int maxBrowsers;
+    private long waitTimeoutMillis;
+    private int browserCount;
+    private int leasedCount;
+    private boolean closed;
+    private ScheduledExecutorService executor;
+
+    /** Constructs a {@code BrowserPool} with default limits. */
+    public BrowserPool() {
+        this(
+                DEFAULT_MAX_BROWSERS,
+                DEFAULT_IDLE_TIMEOUT,
+                DEFAULT_WAIT_TIMEOUT,
+                System::currentTimeMillis);
+    }
+
+    BrowserPool(int maxBrowsers, Duration idleTimeout, Duration waitTimeout, LongSupplier clock) {
+        setMaxBrowsers(maxBrowsers);
+        setWaitTimeout(waitTimeout);
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Sets the maximum number of browsers, leased and idle.
+     *
+     * @param maxBrowsers the maximum number of browsers.
+     * @throws IllegalArgumentException if the given number is not positive.
+     */
+    public void setMaxBrowsers(int maxBrowsers) {
+        if (maxBrowsers <= 0) {
+            throw new IllegalArgumentException("The maximum number of browsers must be positive.");
+        }
+        synchronized (lock) {
+            this.maxBrowsers = maxBrowsers;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Gets the maximum number of browsers, leased and idle.
+     *
+     * @return the maximum number of browsers.
+     */
+    public int getMaxBrowsers() {
+        synchronized (lock) {
+            return maxBrowsers;
+        }
+    }
+
+    /**
+     * Sets the time to wait for a browser, when the maximum number of browsers is reached.
+     *
+     * @param waitTimeout the time to wait.
+     * @throws IllegalArgumentException if the given time is negative.
+     */
+    public void setWaitTimeout(Duration waitTimeout) {
+        if (waitTimeout.isNegative()) {
+            throw new IllegalArgumentException("The wait timeout must not be negative.");
+        }
+        synchronized (lock) {
+            this.waitTimeoutMillis = waitTimeout.toMillis();
+        }
+    }
+
+    /**
+     * Gets the time to wait for a browser, when the maximum number of browsers is reached.
+     *
+     * @return the time to wait.
+     */
+    public Duration getWaitTimeout() {
+        synchronized (lock) {
+            return Duration.ofMillis(waitTimeoutMillis);
+        }
+    }
+
+    /**
+     * Leases a browser with the given key, starting one with the given factory if none is idle.
+     *
+     * <p>The lease should be closed once the browser is no longer needed, to return it to the pool.
+     *
+     * @param key the key of the browser.
+     * @param factory the factory to start a new browser, if needed.
+     * @return the lease of the browser.
+     * @throws Exception if an error occurred while starting the browser.
+     * @throws TimeoutException if no browser was available after the wait timeout, the maximum
+     *     number of browsers is leased.
+     * @throws IllegalStateException if the pool is closed.
+     * @see #setWaitTimeout(Duration)
+     */
+    public Lease lease(String key, BrowserFactory factory) throws Exception {
+        Entry entry = acquire(key);
+        if (entry == null) {
+            try {
+                entry = createEntry(key, factory);
+            } catch (Exception e) {
+                synchronized (lock) {
+                    browserCount--;
+                    leasedCount--;
+                    lock.notifyAll();
+                }
+                throw e;
+            }
+            synchronized (lock) {
+                leasedBrowsers.add(entry);
+            }
+        }
+        Stats.incCounter(STATS_PREFIX + "leased");
+        return new Lease(entry);
+    }
+
+    /**
+     * Starts browsers with the given key in the background, until the given number of browsers
+     * are idle or the maximum number of browsers is reached.
+     *
+     * <p>Leases for the same key wait for the browsers being started.
+     *
+     * @param key the key of the browsers.
+     * @param factory the factory to start the browsers.
+     * @param count the number of idle browsers wanted.
+     */
+    public void warmUp(String key, BrowserFactory factory, int count) {
+        int needed;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            Deque<Entry> idle = idleBrowsers.get(key);
+            int available = (idle != null ? idle.size() : 0) + warmingUp.getOrDefault(key, 0);
+            needed = Math.min(count - available, maxBrowsers - browserCount);
+            if (needed <= 0) {
+                return;
+            }
+            browserCount += needed;
+            warmingUp.merge(key, needed, Integer::sum);
+        }
+
+        ScheduledExecutorService exec = getExecutor();
+        if (exec == null) {
+            synchronized (lock) {
+                browserCount -= needed;
+                warmingUp.computeIfPresent(key, (k, v) -> v > needed ? v - needed : null);
+                lock.notifyAll();
+            }
+            return;
+        }
+        for (int i = 0; i < needed; i++) {
+            exec.execute(() -> warmUp(key, factory));
+        }
+    }
+
+    private void warmUp(String key, BrowserFactory factory) {
+        Entry entry = null;
+        try {
+            entry = createEntry(key, factory);
+        } catch (Exception e) {
+            LOGGER.warn("Failed to start browser for {}: {}", key, e.getMessage());
+            LOGGER.debug(e, e);
+        }
+
+        boolean discard = false;
+        synchronized (lock) {
+            warmingUp.computeIfPresent(key, (k, v) -> v > 1 ? v - 1 : null);
+            if (entry == null) {
+                browserCount--;
+            } else if (closed) {
+                discard = true;
+            } else {
+                entry.lastUsed = clock.getAsLong();
+                idleBrowsers.computeIfAbsent(key, k -> new ArrayDeque<>()).addFirst(entry);
+            }
+            lock.notifyAll();
+        }
+        if (discard) {
+            discard(entry);
+        }
+    }
+
+    /**
+     * Acquires an idle browser or a slot to start a new one.
+     *
+     * @return the idle browser, or {@code null} if a new browser should be started.
+     * @throws TimeoutException if no browser was available after the wait timeout.
+     */
+    private Entry acquire(String key) throws InterruptedException, TimeoutException {
+        long deadline;
+        synchronized (lock) {
+            deadline = clock.getAsLong() + waitTimeoutMillis;
+        }
+        while (true) {
+            Entry idle;
+            Entry evicted = null;
+            synchronized (lock) {
+                if (closed) {
+                    throw new IllegalStateException("The browser pool is closed.");
+                }
+                idle = pollIdle(key);
+                if (idle == null) {
+                    boolean warming = warmingUp.containsKey(key);
+                    if (!warming && browserCount >= maxBrowsers) {
+                        evicted = pollEldestIdle();
+                    }
+                    if (warming || (browserCount >= maxBrowsers && evicted == null)) {
+                        long remaining = deadline - clock.getAsLong();
+                        if (remaining > 0) {
+                            lock.wait(remaining);
+                            continue;
+                        }
+                        if (browserCount >= maxBrowsers) {
+                            Stats.incCounter(STATS_PREFIX + "timeout");
+                            throw new TimeoutException(
+                                    "No browser available for "
+                                            + key
+                                            + ", all the "
+                                            + maxBrowsers
+                                            + " browsers are in use.");
+                        }
+                        // Still warming up, start another one as there is room for it.
+                    }
+                    if (evicted == null) {
+                        browserCount++;
+                    }
+                    leasedCount++;
+                } else {
+                    leasedCount++;
+                    leasedBrowsers.add(idle);
+                }
+            }
+
+            if (evicted != null) {
+                // Keep the slot of the evicted browser for the new one.
+                discardOnly(evicted);
+                return null;
+            }
+            if (idle == null) {
+                return null;
+            }
+            if (isHealthy(idle.browser.getWebDriver())) {
+                reused.increment();
+                Stats.incCounter(STATS_PREFIX + "reused");
+                return idle;
+            }
+            synchronized (lock) {
+                leasedCount--;
+                leasedBrowsers.remove(idle);
+            }
+            discard(idle);
+        }
+    }
+
+    private Entry pollIdle(String key) {
+        Deque<Entry> idle = idleBrowsers.get(key);
+        if (idle == null) {
+            return null;
+        }
+        Entry entry = idle.pollFirst();
+        if (idle.isEmpty()) {
+            idleBrowsers.remove(key);
+        }
+        return entry;
+    }
+
+    private Entry pollEldestIdle() {
+        Deque<Entry> eldestDeque = null;
+        for (Deque<Entry> idle : idleBrowsers.values()) {
+            if (eldestDeque == null || idle.peekLast().lastUsed < eldestDeque.peekLast().lastUsed) {
+                eldestDeque = idle;
+            }
+        }
+        if (eldestDeque == null) {
+            return null;
+        }
+        Entry entry = eldestDeque.pollLast();
+        if (eldestDeque.isEmpty()) {
+            idleBrowsers.remove(entry.key);
+        }
+        return entry;
+    }
+
+    private Entry createEntry(String key, BrowserFactory factory) throws Exception {
+        PooledBrowser browser = factory.create();
+        created.increment();
+        Stats.incCounter(STATS_PREFIX + "created");
+        return new Entry(key, browser);
+    }
+
+    private void release(Entry entry, boolean reusable) {
+        boolean keep = reusable && !isClosed() && reset(entry.browser);
+        getExecutor();
+        synchronized (lock) {
+            leasedCount--;
+            leasedBrowsers.remove(entry);
+            if (keep && !closed && !entry.retired) {
+                entry.lastUsed = clock.getAsLong();
+                idleBrowsers.computeIfAbsent(entry.key, k -> new ArrayDeque<>()).addFirst(entry);
+                lock.notifyAll();
+                return;
+            }
+        }
+        discard(entry);
+    }
+
+    private boolean isClosed() {
+        synchronized (lock) {
+            return closed;
+        }
+    }
+
+    private void discard(Entry entry) {
+        synchronized (lock) {
+            browserCount--;
+            lock.notifyAll();
+        }
+        discardOnly(entry);
+    }
+
+    private void discardOnly(Entry entry) {
+        discarded.increment();
+        Stats.incCounter(STATS_PREFIX + "discarded");
+        try {
+            entry.browser.close();
+        } catch (Exception e) {
+            LOGGER.debug("An error occurred while closing the browser.", e);
+        }
+    }
+
+    /**
+     * Resets the state of the given browser, so that it can be leased again.
+     *
+     * @return {@code true} if the browser can be reused, {@code false} otherwise.
+     */
+    static boolean reset(PooledBrowser browser) {
+        WebDriver wd = browser.getWebDriver();
+        try {
+            try {
+                wd.switchTo().alert().accept();
+            } catch (WebDriverException e) {
+                // No alert.
+            }
+
+            ChromiumDriver chromiumDriver = wd instanceof ChromiumDriver cd ? cd : null;
+            Set<String> origins = new HashSet<>();
+            Set<String> handles = wd.getWindowHandles();
+            if (handles.size() > 1) {
+                String main = handles.iterator().next();
+                for (String handle : handles) {
+                    if (!handle.equals(main)) {
+                        wd.switchTo().window(handle);
+                        addVisitedOrigins(chromiumDriver, origins);
+                        wd.close();
+                    }
+                }
+                wd.switchTo().window(main);
+            }
+            addVisitedOrigins(chromiumDriver, origins);
+
+            boolean allStateCleared = false;
+            if (chromiumDriver != null) {
+                chromiumDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+                for (String origin : origins) {
+                    chromiumDriver.executeCdpCommand(
+                            "Storage.clearDataForOrigin",
+                            Map.of("origin", origin, "storageTypes", "all"));
+                }
+                allStateCleared = true;
+            } else {
+                wd.manage().deleteAllCookies();
+            }
+            if (wd instanceof JavascriptExecutor jsExecutor) {
+                try {
+                    jsExecutor.executeScript(
+                            "try { localStorage.clear(); sessionStorage.clear(); } catch (e) {}");
+                } catch (WebDriverException e) {
+                    // Not available for the current page.
+                }
+            }
+            wd.get("about:blank");
+            return allStateCleared || !browser.isRequireCleanSession();
+        } catch (RuntimeException e) {
+            LOGGER.debug("Failed to reset the browser, it will not be reused.", e);
+            return false;
+        }
+    }
+
+    /**
+     * Adds the origins of the pages navigated in the current window of the given browser, so that
+     * their storage can be cleared.
+     */
+    private static void addVisitedOrigins(ChromiumDriver driver, Set<String> origins) {
+        if (driver == null) {
+            return;
+        }
+        Map<String, Object> history =
+                driver.executeCdpCommand("Page.getNavigationHistory", Map.of());
+        if (history.get("entries") instanceof List<?> entries) {
+            for (Object entry : entries) {
+                if (entry instanceof Map<?, ?> map && map.get("url") instanceof String url) {
+                    String origin = getOrigin(url);
+                    if (origin != null) {
+                        origins.add(origin);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the origin of the given URL, as serialised by the browser.
+     *
+     * @return the origin, or {@code null} if not an HTTP(S) URL.
+     */
+    static String getOrigin(String url) {
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            return null;
+        }
+        String scheme = uri.getScheme();
+        String host = uri.getHost();
+        if (scheme == null || host == null) {
+            return null;
+        }
+        scheme = scheme.toLowerCase(Locale.ROOT);
+        boolean http = "http".equals(scheme);
+        if (!http && !"https".equals(scheme)) {
+            return null;
+        }
+        int port = uri.getPort();
+        boolean defaultPort = port == -1 || port == (http ? 80 : 443);
+        return scheme + "://" + host.toLowerCase(Locale.ROOT) + (defaultPort ? "" : ":" + port);
+    }
+
+    private static boolean isHealthy(WebDriver wd) {
+        try {
+            wd.getWindowHandle();
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Discarding unusable browser: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private ScheduledExecutorService getExecutor() {
+        synchronized (lock) {
+            if (executor == null && !closed) {
+                AtomicInteger threadNumber = new AtomicInteger(1);
+                ScheduledThreadPoolExecutor exec =
+                        new ScheduledThreadPoolExecutor(
+                                2,
+                                r -> {
+                                    Thread thread =
+                                            new Thread(
+                                                    r,
+                                                    "ZAP-BrowserPool-"
+                                                            + threadNumber.getAndIncrement());
+                                    thread.setDaemon(true);
+                                    return thread;
+                                });
+                long period = Math.max(1000, idleTimeoutMillis / 2);
+                exec.scheduleWithFixedDelay(
+                        this::closeExpired, period, period, TimeUnit.MILLISECONDS);
+                executor = exec;
+            }
+            return executor;
+        }
+    }
+
+    void closeExpired() {
+        List<Entry> expired = new ArrayList<>();
+        long now = clock.getAsLong();
+        synchronized (lock) {
+            Iterator<Deque<Entry>> it = idleBrowsers.values().iterator();
+            while (it.hasNext()) {
+                Deque<Entry> idle = it.next();
+                idle.removeIf(
+                        e -> {
+                            if (now - e.lastUsed >= idleTimeoutMillis) {
+                                expired.add(e);
+                                return true;
+                            }
+                            return false;
+                        });
+                if (idle.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+        expired.forEach(this::discard);
+    }
+
+    /** Closes all the idle browsers. */
+    public void closeIdle() {
+        List<Entry> idle = new ArrayList<>();
+        synchronized (lock) {
+            idleBrowsers.values().forEach(idle::addAll);
+            idleBrowsers.clear();
+        }
+        idle.forEach(this::discard);
+    }
+
+    /**
+     * Closes the idle browsers with the given key.
+     *
+     * @param key the key of the browsers.
+     */
+    public void closeIdle(String key) {
+        Deque<Entry> idle;
+        synchronized (lock) {
+            idle = idleBrowsers.remove(key);
+        }
+        if (idle != null) {
+            idle.forEach(this::discard);
+        }
+    }
+
+    /**
+     * Closes the browsers whose key matches the given filter, the idle browsers are closed
+     * immediately and the leased browsers when returned.
+     *
+     * <p>Should be used when the browsers are no longer usable, for example, if the component that
+     * created them is unloaded.
+     *
+     * @param keyFilter the filter of the keys of the browsers to close.
+     */
+    public void closeBrowsers(Predicate<String> keyFilter) {
+        List<Entry> idle = new ArrayList<>();
+        synchronized (lock) {
+            Iterator<Map.Entry<String, Deque<Entry>>> it = idleBrowsers.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Deque<Entry>> keyIdle = it.next();
+                if (keyFilter.test(keyIdle.getKey())) {
+                    idle.addAll(keyIdle.getValue());
+                    it.remove();
+                }
+            }
+            leasedBrowsers.stream()
+                    .filter(e -> keyFilter.test(e.key))
+                    .forEach(e -> e.retired = true);
+        }
+        idle.forEach(this::discard);
+    }
+
+    /**
+     * Closes the pool and the idle browsers. The leased browsers are closed when returned.
+     *
+     * @see #closeIdle()
+     */
+    public void close() {
+        ScheduledExecutorService exec;
+        synchronized (lock) {
+            closed = true;
+            exec = executor;
+            executor = null;
+            lock.notifyAll();
+        }
+        if (exec != null) {
+            exec.shutdownNow();
+        }
+        closeIdle();
+    }
+
+    /**
+     * Gets the number of idle browsers.
+     *
+     * @return the number of idle browsers.
+     */
+    public int getIdleCount() {
+        synchronized (lock) {
+            int count = 0;
+            for (Deque<Entry> idle : idleBrowsers.values()) {
+                count += idle.size();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Gets the number of leased browsers.
+     *
+     * @return the number of leased browsers.
+     */
+    public int getLeasedCount() {
+        synchronized (lock) {
+            return leasedCount;
+        }
+    }
+
+    /**
+     * Gets the number of browsers started by the pool.
+     *
+     * @return the number of browsers started.
+     */
+    public long getCreatedCount() {
+        return created.sum();
+    }
+
+    /**
+     * Gets the number of times an idle browser was leased, instead of starting a new one.
+     *
+     * @return the number of browsers reused.
+     */
+    public long getReusedCount() {
+        return reused.sum();
+    }
+
+    /**
+     * Gets the number of browsers closed by the pool, because no longer usable, idle, or evicted.
+     *
+     * @return the number of browsers closed.
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    /** A factory of browsers for the pool. */
+    @FunctionalInterface
+    public interface BrowserFactory {
+
+        /**
+         * Starts a new browser.
+         *
+         * @return the browser.
+         * @throws Exception if an error occurred while starting the browser.
+         */
+        PooledBrowser create() throws Exception;
+    }
+
+    /**
+     * A browser managed by the pool, with optional resources associated to it (for example, the
+     * proxy it uses).
+     */
+    public static class PooledBrowser {
+
+        private final WebDriver webDriver;
+        private final Object attachment;
+        private final Runnable closer;
+        private boolean requireCleanSession;
+
+        /**
+         * Constructs a {@code PooledBrowser} with the given {@code WebDriver}, quit when the
+         * browser is closed.
+         *
+         * @param webDriver the {@code WebDriver}.
+         */
+        public PooledBrowser(WebDriver webDriver) {
+            this(webDriver, null, webDriver::quit);
+        }
+
+        /**
+         * Constructs a {@code PooledBrowser} with the given {@code WebDriver}, attachment, and
+         * closer.
+         *
+         * @param webDriver the {@code WebDriver}.
+         * @param attachment the resources associated with the browser, might be {@code null}.
+         * @param closer called to close the browser (and any attached resources), it should quit
+         *     the {@code WebDriver}.
+         */
+        public PooledBrowser(WebDriver webDriver, Object attachment, Runnable closer) {
+            this.webDriver = webDriver;
+            this.attachment = attachment;
+            this.closer = closer;
+        }
+
+        public WebDriver getWebDriver() {
+            return webDriver;
+        }
+
+        public Object getAttachment() {
+            return attachment;
+        }
+
+        /**
+         * Sets whether or not the browser should only be reused if the cookies of all sites can be
+         * cleared, otherwise only the ones of the last page are.
+         *
+         * @param requireCleanSession {@code true} if all cookies must be cleared, {@code false}
+         *     otherwise.
+         * @return this, for chaining.
+         */
+        public PooledBrowser setRequireCleanSession(boolean requireCleanSession) {
+            this.requireCleanSession = requireCleanSession;
+            return this;
+        }
+
+        public boolean isRequireCleanSession() {
+            return requireCleanSession;
+        }
+
+        void close() {
+            closer.run();
+        }
+    }
+
+    /**
+     * The lease of a browser, to return it to the pool once no longer needed.
+     *
+     * @see #close()
+     * @see #invalidate()
+     */
+    public class Lease implements AutoCloseable {
+
+        private final Entry entry;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        public WebDriver getWebDriver() {
+            return entry.browser.getWebDriver();
+        }
+
+        public Object getAttachment() {
+            return entry.browser.getAttachment();
+        }
+
+        /** Returns the browser to the pool, it's reset before leased again. */
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(entry, true);
+            }
+        }
+
+        /** Closes the browser, for example, if it's no longer usable. */
+        public void invalidate() {
+            if (released.compareAndSet(false, true)) {
+                release(entry, false);
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final String key;
+        private final PooledBrowser browser;
+        private long lastUsed;
+        private boolean retired;
+
+        Entry(String key, PooledBrowser browser) {
+            this.key = key;
+            this.browser = browser;
+        }
+    }
+}
@@ -161,6 +161,8 @@ public class ExtensionSelenium extends ExtensionAdaptor {
 
     private List<BrowserHook> browserHooks = Collections.synchronizedList(new ArrayList<>());
 
+    private final BrowserPool browserPool = new BrowserPool();
+
     private ExtensionScript extScript;
 
     private ScriptType seleniumScriptType;
@@ -326,6 +328,7 @@ public class ExtensionSelenium extends ExtensionAdaptor {
     @Override
     public void optionsLoaded() {
         registerCustomBrowsers();
+        getOptions().setBrowserPool(browserPool);
     }
 
     @Override
@@ -342,6 +345,7 @@ public class ExtensionSelenium extends ExtensionAdaptor {
 
     @Override
     public void destroy() {
+        browserPool.close();
         webDrivers.forEach(
                 wd -> {
                     try {
@@ -353,6 +357,16 @@ public class ExtensionSelenium extends ExtensionAdaptor {
         webDrivers.clear();
     }
 
+    /**
+     * Gets the pool of browsers, shared by the components that launch browsers.
+     *
+     * @return the pool of browsers, never {@code null}.
+     * @since 15.55.0
+     */
+    public BrowserPool getBrowserPool() {
+        return browserPool;
+    }
+
     /**
      * Adds the given WebDriver provider.
      *
@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -156,6 +157,16 @@ public class SeleniumOptions extends VersionedAbstractParam {
 
     private static final String CUSTOM_BROWSERS_KEY = SELENIUM_BASE_KEY + ".customBrowsers.browser";
 
+    private static final String BROWSER_POOL_SIZE_KEY = SELENIUM_BASE_KEY + ".pool.maxBrowsers";
+
+    private static final String BROWSER_POOL_WAIT_TIME_KEY =
+            SELENIUM_BASE_KEY + ".pool.waitTimeInSecs";
+
+    static final int DEFAULT_BROWSER_POOL_SIZE = BrowserPool.DEFAULT_MAX_BROWSERS;
+
+    static final int DEFAULT_BROWSER_POOL_WAIT_TIME_IN_SECS =
+            (int) BrowserPool.DEFAULT_WAIT_TIMEOUT.toSeconds();
+
     private final File extensionsDir;
 
     /** The path to Chrome binary. */
@@ -186,6 +197,9 @@ public class SeleniumOptions extends VersionedAbstractParam {
     private boolean confirmRemoveBrowserPreference = true;
     private List<CustomBrowserImpl> customBrowsers =
             Collections.synchronizedList(new ArrayList<>());
+    private int browserPoolSize = DEFAULT_BROWSER_POOL_SIZE;
+    private int browserPoolWaitTimeInSecs = DEFAULT_BROWSER_POOL_WAIT_TIME_IN_SECS;
+    private BrowserPool browserPool;
 
     public SeleniumOptions() {
         extensionsDir = new File(Constant.getZapHome() + "/selenium/extensions/");
@@ -261,6 +275,13 @@ public class SeleniumOptions extends VersionedAbstractParam {
 
         confirmRemoveBrowserPreference = getBoolean(CONFIRM_REMOVE_BROWSER_PREF, true);
 
+        browserPoolSize = Math.max(1, getInt(BROWSER_POOL_SIZE_KEY, DEFAULT_BROWSER_POOL_SIZE));
+        browserPoolWaitTimeInSecs =
+                Math.max(
+                        0,
+                        getInt(BROWSER_POOL_WAIT_TIME_KEY, DEFAULT_BROWSER_POOL_WAIT_TIME_IN_SECS));
+        configureBrowserPool();
+
         customBrowsers = readCustomBrowsers();
     }
 
@@ -638,6 +659,78 @@ public class SeleniumOptions extends VersionedAbstractParam {
         return NO_FILES;
     }
 
+    /**
+     * Gets the maximum number of browsers of the pool, leased and idle.
+     *
+     * @return the maximum number of browsers.
+     * @since 15.55.0
+     * @see BrowserPool#getMaxBrowsers()
+     */
+    public int getBrowserPoolSize() {
+        return browserPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of browsers of the pool, leased and idle.
+     *
+     * @param browserPoolSize the maximum number of browsers.
+     * @throws IllegalArgumentException if the given number is not positive.
+     * @since 15.55.0
+     */
+    public void setBrowserPoolSize(int browserPoolSize) {
+        if (browserPoolSize <= 0) {
+            throw new IllegalArgumentException("The browser pool size must be positive.");
+        }
+        this.browserPoolSize = browserPoolSize;
+        getConfig().setProperty(BROWSER_POOL_SIZE_KEY, browserPoolSize);
+        configureBrowserPool();
+    }
+
+    /**
+     * Gets the time, in seconds, to wait for a browser of the pool when all are in use.
+     *
+     * @return the time to wait, in seconds.
+     * @since 15.55.0
+     * @see BrowserPool#getWaitTimeout()
+     */
+    public int getBrowserPoolWaitTimeInSecs() {
+        return browserPoolWaitTimeInSecs;
+    }
+
+    /**
+     * Sets the time, in seconds, to wait for a browser of the pool when all are in use.
+     *
+     * @param browserPoolWaitTimeInSecs the time to wait, in seconds.
+     * @throws IllegalArgumentException if the given time is negative.
+     * @since 15.55.0
+     */
+    public void setBrowserPoolWaitTimeInSecs(int browserPoolWaitTimeInSecs) {
+        if (browserPoolWaitTimeInSecs < 0) {
+            throw new IllegalArgumentException("The browser pool wait time must not be negative.");
+        }
+        this.browserPoolWaitTimeInSecs = browserPoolWaitTimeInSecs;
+        getConfig().setProperty(BROWSER_POOL_WAIT_TIME_KEY, browserPoolWaitTimeInSecs);
+        configureBrowserPool();
+    }
+
+    /**
+     * Sets the pool of browsers configured with these options.
+     *
+     * @param browserPool the pool of browsers.
+     */
+    void setBrowserPool(BrowserPool browserPool) {
+        this.browserPool = browserPool;
+        configureBrowserPool();
+    }
+
+    private void configureBrowserPool() {
+        if (browserPool == null) {
+            return;
+        }
+        browserPool.setMaxBrowsers(browserPoolSize);
+        browserPool.setWaitTimeout(Duration.ofSeconds(browserPoolWaitTimeInSecs));
+    }
+
     public String getLastDirectory() {
         return lastDirectory;
     }
@@ -0,0 +1,411 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.selenium;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.quality.Strictness;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.zaproxy.zap.extension.selenium.BrowserPool.BrowserFactory;
+import org.zaproxy.zap.extension.selenium.BrowserPool.Lease;
+import org.zaproxy.zap.extension.selenium.BrowserPool.PooledBrowser;
+
+/** Unit test for {@link BrowserPool}. */
+class BrowserPoolUnitTest {
+
+    private static final String KEY = "key";
+    private static final String OTHER_KEY = "other-key";
+
+    private AtomicLong time;
+    private List<WebDriver> created;
+    private List<WebDriver> closed;
+    private BrowserPool pool;
+
+    @BeforeEach
+    void setUp() {
+        time = new AtomicLong(1_000_000);
+        created = new ArrayList<>();
+        closed = new ArrayList<>();
+        pool = createPool(4);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        pool.close();
+    }
+
+    @Test
+    void shouldStartBrowserIfNoneIdle() throws Exception {
+        // Given / When
+        try (Lease lease = pool.lease(KEY, factory())) {
+            // Then
+            assertThat(lease.getWebDriver(), is(sameInstance(created.get(0))));
+            assertThat(pool.getLeasedCount(), is(1));
+            assertThat(pool.getCreatedCount(), is(1L));
+        }
+    }
+
+    @Test
+    void shouldReuseReturnedBrowser() throws Exception {
+        // Given
+        Lease lease = pool.lease(KEY, factory());
+        WebDriver wd = lease.getWebDriver();
+        lease.close();
+
+        // When
+        try (Lease otherLease = pool.lease(KEY, factory())) {
+            // Then
+            assertThat(otherLease.getWebDriver(), is(sameInstance(wd)));
+            assertThat(pool.getCreatedCount(), is(1L));
+            assertThat(pool.getReusedCount(), is(1L));
+        }
+    }
+
+    @Test
+    void shouldNotShareBrowsersBetweenKeys() throws Exception {
+        // Given
+        Lease lease = pool.lease(KEY, factory());
+        WebDriver wd = lease.getWebDriver();
+        lease.close();
+
+        // When
+        try (Lease otherLease = pool.lease(OTHER_KEY, factory())) {
+            // Then
+            assertThat(otherLease.getWebDriver(), is(not(sameInstance(wd))));
+            assertThat(pool.getCreatedCount(), is(2L));
+            assertThat(pool.getIdleCount(), is(1));
+        }
+    }
+
+    @Test
+    void shouldCloseInvalidatedBrowser() throws Exception {
+        // Given
+        Lease lease = pool.lease(KEY, factory());
+
+        // When
+        lease.invalidate();
+
+        // Then
+        assertThat(closed, is(List.of(created.get(0))));
+        assertThat(pool.getIdleCount(), is(0));
+        assertThat(pool.getLeasedCount(), is(0));
+    }
+
+    @Test
+    void shouldNotReturnBrowserTwice() throws Exception {
+        // Given
+        Lease lease = pool.lease(KEY, factory());
+
+        // When
+        lease.close();
+        lease.close();
+        lease.invalidate();
+
+        // Then
+        assertThat(pool.getIdleCount(), is(1));
+        assertThat(closed.size(), is(0));
+    }
+
+    @Test
+    void shouldReplaceUnusableIdleBrowser() throws Exception {
+        // Given
+        Lease lease = pool.lease(KEY, factory());
+        WebDriver wd = lease.getWebDriver();
+        lease.close();
+        given(wd.getWindowHandle()).willThrow(NoSuchSessionException.class);
+
+        // When
+        try (Lease otherLease = pool.lease(KEY, factory())) {
+            // Then
+            assertThat(otherLease.getWebDriver(), is(not(sameInstance(wd))));
+            assertThat(closed, is(List.of(wd)));
+            assertThat(pool.getDiscardedCount(), is(1L));
+        }
+    }
+
+    @Test
+    void shouldNotReuseBrowserRequiringCleanSessionIfNotAllCookiesCleared() throws Exception {
+        // Given
+        Lease lease =
+                pool.lease(KEY, () -> createBrowser().setRequireCleanSession(true));
+
+        // When
+        lease.close();
+
+        // Then
+        assertThat(pool.getIdleCount(), is(0));
+        assertThat(closed.size(), is(1));
+    }
+
+    @Test
+    void shouldClearStorageOfAllVisitedOriginsOfChromiumBrowsers() {
+        // Given
+        ChromiumDriver wd =
+                mock(
+                        ChromiumDriver.class,
+                        withSettings()
+                                .defaultAnswer(RETURNS_DEEP_STUBS)
+                                .strictness(Strictness.LENIENT));
+        given(wd.getWindowHandles()).willReturn(Set.of("main"));
+        given(wd.executeCdpCommand("Page.getNavigationHistory", Map.of()))
+                .willReturn(
+                        Map.of(
+                                "entries",
+                                List.of(
+                                        Map.of("url", "https://a.example.com/path"),
+                                        Map.of("url", "http://b.example.com:8080/"),
+                                        Map.of("url", "about:blank"))));
+        PooledBrowser browser = new PooledBrowser(wd).setRequireCleanSession(true);
+
+        // When
+        boolean reusable = BrowserPool.reset(browser);
+
+        // Then
+        assertThat(reusable, is(true));
+        verify(wd).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        verify(wd)
+                .executeCdpCommand(
+                        "Storage.clearDataForOrigin",
+                        Map.of("origin", "https://a.example.com", "storageTypes", "all"));
+        verify(wd)
+                .executeCdpCommand(
+                        "Storage.clearDataForOrigin",
+                        Map.of("origin", "http://b.example.com:8080", "storageTypes", "all"));
+        verify(wd, times(2)).executeCdpCommand(eq("Storage.clearDataForOrigin"), any());
+    }
+
+    @Test
+    void shouldGetOriginOfHttpUrls() {
+        // Given / When / Then
+        assertThat(BrowserPool.getOrigin("HTTPS://Example.com:443/a?b"), is("https://example.com"));
+        assertThat(BrowserPool.getOrigin("http://example.com:80/"), is("http://example.com"));
+        assertThat(BrowserPool.getOrigin("http://example.com:8443"), is("http://example.com:8443"));
+        assertThat(BrowserPool.getOrigin("about:blank"), is(nullValue()));
+        assertThat(BrowserPool.getOrigin("data:text/html,x"), is(nullValue()));
+    }
+
+    @Test
+    void shouldCloseIdleBrowserOfOtherKeyWhenFull() throws Exception {
+        // Given
+        pool = createPool(1);
+        pool.lease(OTHER_KEY, factory()).close();
+
+        // When
+        try (Lease lease = pool.lease(KEY, factory())) {
+            // Then
+            assertThat(closed, is(List.of(created.get(0))));
+            assertThat(lease.getWebDriver(), is(sameInstance(created.get(1))));
+        }
+    }
+
+    @Test
+    void shouldCloseIdleBrowsersOfGivenKey() throws Exception {
+        // Given
+        pool = createPool(2);
+        pool.lease(KEY, factory()).close();
+        pool.lease(OTHER_KEY, factory()).close();
+
+        // When
+        pool.closeIdle(KEY);
+
+        // Then
+        assertThat(closed, is(List.of(created.get(0))));
+        assertThat(pool.getIdleCount(), is(1));
+    }
+
+    @Test
+    void shouldWaitForReturnedBrowserWhenFull() throws Exception {
+        // Given
+        pool = createPool(1);
+        Lease lease = pool.lease(KEY, factory());
+        CompletableFuture<Lease> otherLease =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return pool.lease(KEY, factory());
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        // When
+        Thread.sleep(100);
+        lease.close();
+
+        // Then
+        assertThat(
+                otherLease.get(5, TimeUnit.SECONDS).getWebDriver(),
+                is(sameInstance(created.get(0))));
+        assertThat(pool.getCreatedCount(), is(1L));
+    }
+
+    @Test
+    void shouldFailLeaseIfNoBrowserAvailableAfterWaitTimeout() throws Exception {
+        // Given
+        pool = createPool(1);
+        pool.setWaitTimeout(Duration.ZERO);
+        try (Lease lease = pool.lease(KEY, factory())) {
+            // When / Then
+            assertThrows(TimeoutException.class, () -> pool.lease(OTHER_KEY, factory()));
+            assertThat(pool.getCreatedCount(), is(1L));
+            assertThat(pool.getLeasedCount(), is(1));
+        }
+    }
+
+    @Test
+    void shouldCloseBrowsersOfMatchingKeysIdleNowAndLeasedWhenReturned() throws Exception {
+        // Given
+        Lease leased = pool.lease(KEY, factory());
+        pool.lease(KEY, factory()).close();
+        pool.lease(OTHER_KEY, factory()).close();
+
+        // When
+        pool.closeBrowsers(KEY::equals);
+        leased.close();
+
+        // Then
+        assertThat(closed, is(List.of(created.get(1), created.get(0))));
+        assertThat(pool.getIdleCount(), is(1));
+        assertThat(pool.getLeasedCount(), is(0));
+    }
+
+    @Test
+    void shouldWarmUpBrowsers() throws Exception {
+        // Given
+        pool.warmUp(KEY, factory(), 2);
+
+        // When
+        try (Lease lease1 = pool.lease(KEY, factory());
+                Lease lease2 = pool.lease(KEY, factory())) {
+            // Then
+            assertThat(pool.getCreatedCount(), is(2L));
+            assertThat(pool.getReusedCount(), is(2L));
+            assertThat(lease1.getWebDriver(), is(not(sameInstance(lease2.getWebDriver()))));
+        }
+    }
+
+    @Test
+    void shouldCloseExpiredIdleBrowsers() throws Exception {
+        // Given
+        pool.lease(KEY, factory()).close();
+        time.addAndGet(BrowserPool.DEFAULT_IDLE_TIMEOUT.toMillis());
+
+        // When
+        pool.closeExpired();
+
+        // Then
+        assertThat(pool.getIdleCount(), is(0));
+        assertThat(closed.size(), is(1));
+    }
+
+    @Test
+    void shouldCloseReturnedBrowsersOnceClosed() throws Exception {
+        // Given
+        Lease lease = pool.lease(KEY, factory());
+
+        // When
+        pool.close();
+        lease.close();
+
+        // Then
+        assertThat(closed.size(), is(1));
+        assertThrows(IllegalStateException.class, () -> pool.lease(KEY, factory()));
+    }
+
+    @Test
+    void shouldReleaseSlotIfBrowserFailsToStart() throws Exception {
+        // Given
+        pool = createPool(1);
+        BrowserFactory failing =
+                () -> {
+                    throw new IllegalStateException();
+                };
+        assertThrows(IllegalStateException.class, () -> pool.lease(KEY, failing));
+
+        // When
+        try (Lease lease = pool.lease(KEY, factory())) {
+            // Then
+            assertThat(pool.getLeasedCount(), is(1));
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaxBrowsers() {
+        // Given / When / Then
+        assertThrows(IllegalArgumentException.class, () -> pool.setMaxBrowsers(0));
+    }
+
+    @Test
+    void shouldRejectNegativeWaitTimeout() {
+        // Given / When / Then
+        assertThrows(
+                IllegalArgumentException.class, () -> pool.setWaitTimeout(Duration.ofSeconds(-1)));
+    }
+
+    private BrowserPool createPool(int maxBrowsers) {
+        if (pool != null) {
+            pool.close();
+        }
+        return new BrowserPool(
+                maxBrowsers, BrowserPool.DEFAULT_IDLE_TIMEOUT, Duration.ofSeconds(5), time::get);
+    }
+
+    private BrowserFactory factory() {
+        return this::createBrowser;
+    }
+
+    private synchronized PooledBrowser createBrowser() {
+        WebDriver wd =
+                mock(
+                        WebDriver.class,
+                        withSettings()
+                                .defaultAnswer(RETURNS_DEEP_STUBS)
+                                .strictness(Strictness.LENIENT));
+        created.add(wd);
+        return new PooledBrowser(wd, null, () -> closed.add(wd));
+    }
+}
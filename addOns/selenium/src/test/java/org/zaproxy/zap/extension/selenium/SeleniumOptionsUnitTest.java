@@ -33,6 +33,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -126,6 +127,45 @@ class SeleniumOptionsUnitTest extends TestUtils {
         assertThat(config.getBoolean("selenium.confirmRemoveBrowserArg"), is(equalTo(value)));
     }
 
+    @Test
+    void shouldLoadConfigWithBrowserPoolLimits() {
+        // Given
+        ZapXmlConfiguration config =
+                configWith(
+                        "<selenium>\n"
+                                + "  <pool>\n"
+                                + "    <maxBrowsers>4</maxBrowsers>\n"
+                                + "    <waitTimeInSecs>10</waitTimeInSecs>\n"
+                                + "  </pool>\n"
+                                + "</selenium>");
+        BrowserPool pool = new BrowserPool();
+        options.setBrowserPool(pool);
+        // When
+        options.load(config);
+        // Then
+        assertThat(options.getBrowserPoolSize(), is(equalTo(4)));
+        assertThat(options.getBrowserPoolWaitTimeInSecs(), is(equalTo(10)));
+        assertThat(pool.getMaxBrowsers(), is(equalTo(4)));
+        assertThat(pool.getWaitTimeout(), is(equalTo(Duration.ofSeconds(10))));
+    }
+
+    @Test
+    void shouldSetAndPersistBrowserPoolLimits() {
+        // Given
+        ZapXmlConfiguration config = new ZapXmlConfiguration();
+        options.load(config);
+        BrowserPool pool = new BrowserPool();
+        options.setBrowserPool(pool);
+        // When
+        options.setBrowserPoolSize(2);
+        options.setBrowserPoolWaitTimeInSecs(5);
+        // Then
+        assertThat(config.getInt("selenium.pool.maxBrowsers"), is(equalTo(2)));
+        assertThat(config.getInt("selenium.pool.waitTimeInSecs"), is(equalTo(5)));
+        assertThat(pool.getMaxBrowsers(), is(equalTo(2)));
+        assertThat(pool.getWaitTimeout(), is(equalTo(Duration.ofSeconds(5))));
+    }
+
     static Stream<Arguments> browserNameKey() {
         return Stream.of(
                 arguments("chrome", "selenium.chromeArgs.arg"),
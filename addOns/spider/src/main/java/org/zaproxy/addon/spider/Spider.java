@@ -828,6 +828,20 @@ public class Spider {
         }
     }
 
+    /**
+     * Notifies the listeners that a parser parsed a resource.
+     *
+     * @param parser the parser that parsed the resource.
+     * @param timeNanos the time taken to parse the resource, in nanoseconds.
+     * @param resourcesFound the number of resources found by the parser.
+     */
+    protected synchronized void notifyListenersResourceParsed(
+            SpiderParser parser, long timeNanos, int resourcesFound) {
+        for (SpiderListener l : listeners) {
+            l.resourceParsed(parser, timeNanos, resourcesFound);
+        }
+    }
+
     /**
      * Notifies the listeners that the spider is complete.
      *
@@ -92,6 +92,10 @@ public class SpiderController implements SpiderParserListener {
 
     private final Function<SpiderResourceFound, String> bodyNormalizer;
 
+    /** The number of resources found by the parsers, in the current thread. */
+    private final ThreadLocal<int[]> resourcesFoundCount =
+            ThreadLocal.withInitial(() -> new int[1]);
+
     /**
      * Instantiates a new spider controller.
      *
@@ -352,6 +356,7 @@ public class SpiderController implements SpiderParserListener {
 
     @Override
     public void resourceFound(SpiderResourceFound resourceFound) {
+        resourcesFoundCount.get()[0]++;
         LOGGER.debug(
                 "New {} resource found: {}", resourceFound.getMethod(), resourceFound.getUri());
 
@@ -405,6 +410,18 @@ public class SpiderController implements SpiderParserListener {
         spider.submitTask(task);
     }
 
+    /**
+     * Gets the number of resources found by the parsers, in the current thread.
+     *
+     * <p>Used to know how many resources each parser found, the parsers notify the resources in
+     * the thread that's parsing.
+     *
+     * @return the number of resources found.
+     */
+    int getResourcesFoundCount() {
+        return resourcesFoundCount.get()[0];
+    }
+
     /**
      * Builds a canonical string representation for HTTP header fields by sorting the headers based
      * on the name, trimming and lowercasing the name and value, and removing duplicates.
@@ -20,6 +20,7 @@
 package org.zaproxy.addon.spider;
 
 import org.zaproxy.addon.spider.filters.FetchFilter.FetchStatus;
+import org.zaproxy.addon.spider.parser.SpiderParser;
 
 /**
  * The listener interface for receiving spider related events. The class that is interested in
@@ -56,6 +57,16 @@ public interface SpiderListener {
      */
     void notifySpiderTaskResult(SpiderTaskResult spiderTaskResult);
 
+    /**
+     * Notifies that a parser parsed a resource.
+     *
+     * @param parser the parser that parsed the resource.
+     * @param timeNanos the time taken to parse the resource, in nanoseconds.
+     * @param resourcesFound the number of resources found by the parser.
+     * @since 0.21.0
+     */
+    default void resourceParsed(SpiderParser parser, long timeNanos, int resourcesFound) {}
+
     /**
      * Event triggered when the spider is finished. This event is triggered either when the spider
      * has completed scanning a website, in which case the parameter <code>successful</code> is
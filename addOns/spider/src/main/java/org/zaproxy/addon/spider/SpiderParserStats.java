@@ -0,0 +1,72 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.spider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of a spider parser, in a spider scan.
+ *
+ * <p>Contains the number of resources parsed, the time taken to parse them, and the number of
+ * resources found.
+ *
+ * @since 0.21.0
+ * @see SpiderScan#getParserStats()
+ */
+public class SpiderParserStats {
+
+    private final LongAdder resourcesParsed = new LongAdder();
+    private final LongAdder timeNanos = new LongAdder();
+    private final LongAdder resourcesFound = new LongAdder();
+
+    void add(long timeNanos, int resourcesFound) {
+        this.resourcesParsed.increment();
+        this.timeNanos.add(timeNanos);
+        this.resourcesFound.add(resourcesFound);
+    }
+
+    /**
+     * Gets the number of resources parsed.
+     *
+     * @return the number of resources parsed.
+     */
+    public long getResourcesParsed() {
+        return resourcesParsed.sum();
+    }
+
+    /**
+     * Gets the time taken to parse the resources, in milliseconds.
+     *
+     * @return the time taken, in milliseconds.
+     */
+    public long getTimeInMs() {
+        return TimeUnit.NANOSECONDS.toMillis(timeNanos.sum());
+    }
+
+    /**
+     * Gets the number of resources found, including the ones already found or not in scope.
+     *
+     * @return the number of resources found.
+     */
+    public long getResourcesFound() {
+        return resourcesFound.sum();
+    }
+}
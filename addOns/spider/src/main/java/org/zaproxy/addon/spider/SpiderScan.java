@@ -26,7 +26,9 @@ import java.util.ConcurrentModificationException;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -99,6 +101,9 @@ public class SpiderScan implements ScanListenner, SpiderListener, GenericScanner
 
     private Set<String> foundURIsOutOfScope;
 
+    /** The statistics of the parsers, by name of the parser class. */
+    private final Map<String, SpiderParserStats> parserStats = new ConcurrentHashMap<>();
+
     private SpiderThread spiderThread;
 
     private State state;
@@ -333,6 +338,23 @@ public class SpiderScan implements ScanListenner, SpiderListener, GenericScanner
         return foundURIsOutOfScope;
     }
 
+    /**
+     * Gets the statistics of the parsers that parsed resources during the scan.
+     *
+     * @return an unmodifiable map with the statistics, by name of the parser class.
+     * @since 0.21.0
+     */
+    public Map<String, SpiderParserStats> getParserStats() {
+        return Collections.unmodifiableMap(parserStats);
+    }
+
+    @Override
+    public void resourceParsed(SpiderParser parser, long timeNanos, int resourcesFound) {
+        parserStats
+                .computeIfAbsent(parser.getClass().getName(), k -> new SpiderParserStats())
+                .add(timeNanos, resourcesFound);
+    }
+
     @Override
     public void notifySpiderTaskResult(SpiderTaskResult spiderTaskResult) {
         HttpMessage msg = spiderTaskResult.getHttpMessage();
@@ -362,7 +362,8 @@ public class SpiderTask implements Runnable {
      * @param message the HTTP Message
      */
     static void processResource(Spider parent, int depth, HttpMessage message) {
-        List<SpiderParser> parsers = parent.getController().getParsers();
+        SpiderController controller = parent.getController();
+        List<SpiderParser> parsers = controller.getParsers();
 
         // Get the full path of the file
         String path = null;
@@ -386,7 +387,7 @@ public class SpiderTask implements Runnable {
         boolean alreadyConsumed = false;
         for (SpiderParser parser : parsers) {
             try {
-                alreadyConsumed |= parse(ctx, alreadyConsumed, parser, path);
+                alreadyConsumed |= parse(parent, controller, ctx, alreadyConsumed, parser, path);
             } catch (Exception e) {
                 LOGGER.error(
                         "An error occurred while parsing the resource [{}] with [{}]: {}",
@@ -399,14 +400,28 @@ public class SpiderTask implements Runnable {
     }
 
     private static boolean parse(
-            ParseContext ctx, boolean alreadyConsumed, SpiderParser parser, String path) {
+            Spider parent,
+            SpiderController controller,
+            ParseContext ctx,
+            boolean alreadyConsumed,
+            SpiderParser parser,
+            String path) {
         if (!parser.canParseResource(ctx, alreadyConsumed)) {
             LOGGER.debug("Parser {} cannot parse resource '{}'", parser, path);
             return false;
         }
 
         LOGGER.debug("Parser {} can parse resource '{}'", parser, path);
-        return parser.parseResource(ctx);
+        int resourcesFound = controller.getResourcesFoundCount();
+        long start = System.nanoTime();
+        try {
+            return parser.parseResource(ctx);
+        } finally {
+            parent.notifyListenersResourceParsed(
+                    parser,
+                    System.nanoTime() - start,
+                    controller.getResourcesFoundCount() - resourcesFound);
+        }
     }
 
     private ExtensionHistory getExtensionHistory() {
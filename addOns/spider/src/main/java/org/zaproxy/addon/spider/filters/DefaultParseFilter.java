@@ -53,7 +53,7 @@ public class DefaultParseFilter extends ParseFilter {
 
     /** a pattern to match the sitemap.xml file. */
     private static final Pattern SITEMAP_FILENAME_PATTERN =
-            Pattern.compile(".*/sitemap.xml$", Pattern.CASE_INSENSITIVE);
+            Pattern.compile(".*/[^/]*sitemap[^/]*\\.xml(?:\\.gz)?$", Pattern.CASE_INSENSITIVE);
 
     /** a pattern to match the .DS_Store files. */
     private static final Pattern DS_STORE_FILENAME_PATTERN = Pattern.compile(".*/\\.DS_Store$");
@@ -19,9 +19,14 @@
  */
 package org.zaproxy.addon.spider.parser;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import net.htmlparser.jericho.Element;
 import net.htmlparser.jericho.Source;
 import org.apache.commons.httpclient.URI;
 import org.parosproxy.paros.network.HttpMessage;
@@ -47,6 +52,7 @@ public class ParseContext {
     private final int depth;
     private String baseUrl;
     private Source source;
+    private Map<String, List<Element>> elementsByName;
 
     /**
      * Constructs a {@code ParseContext} with the given values.
@@ -220,4 +226,29 @@ public class ParseContext {
         }
         return source;
     }
+
+    /**
+     * Gets the elements with the given name from the {@link #getSource() source}, in document
+     * order.
+     *
+     * <p>All the elements are indexed by name in a single traversal of the source, on the first
+     * call, so that the parsers do not need to search the source for each element name.
+     *
+     * @param name the name of the elements, for example, {@code a} or {@code form}.
+     * @return the elements, never {@code null}.
+     * @since 0.21.0
+     */
+    public List<Element> getElements(String name) {
+        if (elementsByName == null) {
+            Map<String, List<Element>> elements = new HashMap<>();
+            for (Element element : getSource().getAllElements()) {
+                String elementName = element.getName();
+                if (elementName != null) {
+                    elements.computeIfAbsent(elementName, k -> new ArrayList<>()).add(element);
+                }
+            }
+            elementsByName = elements;
+        }
+        return elementsByName.getOrDefault(name.toLowerCase(Locale.ROOT), Collections.emptyList());
+    }
 }
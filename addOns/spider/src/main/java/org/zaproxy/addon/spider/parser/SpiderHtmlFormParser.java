@@ -40,7 +40,6 @@ import net.htmlparser.jericho.FormField;
 import net.htmlparser.jericho.FormFields;
 import net.htmlparser.jericho.HTMLElementName;
 import net.htmlparser.jericho.Segment;
-import net.htmlparser.jericho.Source;
 import org.apache.commons.httpclient.URI;
 import org.apache.commons.lang3.StringUtils;
 import org.parosproxy.paros.network.HttpMessage;
@@ -66,7 +65,6 @@ public class SpiderHtmlFormParser extends SpiderParser {
             return false;
         }
 
-        Source source = ctx.getSource();
         HttpMessage message = ctx.getHttpMessage();
 
         // Get the context (base url)
@@ -74,7 +72,8 @@ public class SpiderHtmlFormParser extends SpiderParser {
         uri = message.getRequestHeader().getURI();
 
         // Try to see if there's any BASE tag that could change the base URL
-        Element base = source.getFirstElement(HTMLElementName.BASE);
+        List<Element> bases = ctx.getElements(HTMLElementName.BASE);
+        Element base = bases.isEmpty() ? null : bases.get(0);
         if (base != null) {
             getLogger().debug("Base tag was found in HTML: {}", base.getDebugInfo());
             String href = base.getAttributeValue("href");
@@ -84,7 +83,7 @@ public class SpiderHtmlFormParser extends SpiderParser {
         }
 
         // Go through the forms
-        List<Element> forms = source.getAllElements(HTMLElementName.FORM);
+        List<Element> forms = ctx.getElements(HTMLElementName.FORM);
 
         for (Element form : forms) {
             // Clear the attributes for each form and store their key and values
@@ -96,7 +95,7 @@ public class SpiderHtmlFormParser extends SpiderParser {
             String formMethod = form.getAttributeValue("method");
 
             // A single form can have multiple actions associated to it
-            List<FormAction> formActions = processFormActions(form, formMethod, baseURL, source);
+            List<FormAction> formActions = processFormActions(form, formMethod, baseURL, ctx);
 
             for (FormAction fAction : formActions) {
                 String action = fAction.action;
@@ -182,7 +181,7 @@ public class SpiderHtmlFormParser extends SpiderParser {
      * @return a list of FormAction objects containing the action and associated method
      */
     private List<FormAction> processFormActions(
-            Element form, String originalMethod, String baseURL, Source source) {
+            Element form, String originalMethod, String baseURL, ParseContext ctx) {
         List<FormAction> formActions = new ArrayList<>();
 
         String action = form.getAttributeValue("action");
@@ -206,7 +205,7 @@ public class SpiderHtmlFormParser extends SpiderParser {
         if (StringUtils.isNotEmpty(form.getAttributeValue("id"))) {
             String targetId = form.getAttributeValue("id");
             formButtonElements.addAll(
-                    source.getAllElements(HTMLElementName.BUTTON).stream()
+                    ctx.getElements(HTMLElementName.BUTTON).stream()
                             .filter(this::allowedButtonType)
                             .filter(
                                     element ->
@@ -21,6 +21,7 @@ package org.zaproxy.addon.spider.parser;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.htmlparser.jericho.Element;
@@ -93,7 +94,7 @@ public class SpiderHtmlParser extends SpiderParser {
         String baseURL = ctx.getBaseUrl();
 
         // Try to see if there's any BASE tag that could change the base URL
-        List<Element> elements = source.getAllElements(HTMLElementName.BASE);
+        List<Element> elements = ctx.getElements(HTMLElementName.BASE);
         Element base = elements.isEmpty() ? null : elements.get(0);
 
         if (base != null) {
@@ -110,14 +111,14 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Parse the source
-        parseSource(ctx, ctx.getSource(), baseURL);
+        parseSource(ctx, ctx::getElements, baseURL);
 
         // Parse the comments
         if (ctx.getSpiderParam().isParseComments()) {
             List<StartTag> comments = source.getAllStartTags(StartTagType.COMMENT);
             for (StartTag comment : comments) {
                 Source s = new Source(comment.getTagContent());
-                if (!parseSource(ctx, s, baseURL)) {
+                if (!parseSource(ctx, s::getAllElements, baseURL)) {
                     Matcher matcher = PLAIN_COMMENTS_URL_PATTERN.matcher(s.toString());
                     while (matcher.find()) {
                         processUrl(ctx, matcher.group(), baseURL);
@@ -158,22 +159,23 @@ public class SpiderHtmlParser extends SpiderParser {
      * Parses the HTML Jericho source for the elements that contain references to other resources.
      *
      * @param ctx the parse context.
-     * @param source the source.
+     * @param source the function that provides the elements of the source with a given name.
      * @param baseURL the base URL
      * @return {@code true} if at least one URL was found, {@code false} otherwise.
      */
-    private boolean parseSource(ParseContext ctx, Source source, String baseURL) {
+    private boolean parseSource(
+            ParseContext ctx, Function<String, List<Element>> source, String baseURL) {
         getLogger().debug("Parsing an HTML message...");
         boolean resourcesfound = false;
         // Process A elements
-        List<Element> elements = source.getAllElements(HTMLElementName.A);
+        List<Element> elements = source.apply(HTMLElementName.A);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "href");
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "ping");
         }
 
         // Process Applet elements
-        elements = source.getAllElements(HTMLElementName.APPLET);
+        elements = source.apply(HTMLElementName.APPLET);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "archive");
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "codebase");
@@ -181,93 +183,93 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Process AREA elements
-        elements = source.getAllElements(HTMLElementName.AREA);
+        elements = source.apply(HTMLElementName.AREA);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "href");
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "ping");
         }
 
         // Process AUDIO elements
-        elements = source.getAllElements(HTMLElementName.AUDIO);
+        elements = source.apply(HTMLElementName.AUDIO);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process Blockquote elements
-        elements = source.getAllElements(HTMLElementName.BLOCKQUOTE);
+        elements = source.apply(HTMLElementName.BLOCKQUOTE);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "cite");
         }
 
         // Process Embed Elements
-        elements = source.getAllElements(HTMLElementName.EMBED);
+        elements = source.apply(HTMLElementName.EMBED);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process Frame Elements
-        elements = source.getAllElements(HTMLElementName.FRAME);
+        elements = source.apply(HTMLElementName.FRAME);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process IFrame Elements
-        elements = source.getAllElements(HTMLElementName.IFRAME);
+        elements = source.apply(HTMLElementName.IFRAME);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process Input elements
-        elements = source.getAllElements(HTMLElementName.INPUT);
+        elements = source.apply(HTMLElementName.INPUT);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process ISINDEX elements
-        elements = source.getAllElements(HTMLElementName.ISINDEX);
+        elements = source.apply(HTMLElementName.ISINDEX);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "action");
         }
 
         // Process Link elements
-        elements = source.getAllElements(HTMLElementName.LINK);
+        elements = source.apply(HTMLElementName.LINK);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "href");
         }
 
         // Process Object elements
-        elements = source.getAllElements(HTMLElementName.OBJECT);
+        elements = source.apply(HTMLElementName.OBJECT);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "data");
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "codebase");
         }
 
         // Process Param elements
-        elements = source.getAllElements(HTMLElementName.PARAM);
+        elements = source.apply(HTMLElementName.PARAM);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "value");
         }
 
         // Process Script elements with src
-        elements = source.getAllElements(HTMLElementName.SCRIPT);
+        elements = source.apply(HTMLElementName.SCRIPT);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process Table elements
-        elements = source.getAllElements(HTMLElementName.TABLE);
+        elements = source.apply(HTMLElementName.TABLE);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "background");
         }
 
         // Process TD elements
-        elements = source.getAllElements(HTMLElementName.TD);
+        elements = source.apply(HTMLElementName.TD);
         for (Element src : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, src, "background");
         }
 
         // Process Video elements
-        elements = source.getAllElements(HTMLElementName.VIDEO);
+        elements = source.apply(HTMLElementName.VIDEO);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
             List<Element> videoSourceElements = el.getAllElements(HTMLElementName.SOURCE);
@@ -278,7 +280,7 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Process Img elements
-        elements = source.getAllElements(HTMLElementName.IMG);
+        elements = source.apply(HTMLElementName.IMG);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "longdesc");
@@ -289,7 +291,7 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Process IMPORT elements
-        elements = source.getAllElements(IMPORT_TAG);
+        elements = source.apply(IMPORT_TAG);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "implementation");
         }
@@ -311,7 +313,7 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         for (String tag : elementsWithText) {
-            elements = source.getAllElements(tag);
+            elements = source.apply(tag);
             for (Element el : elements) {
                 Matcher matcher =
                         INLINE_CONTENT_URL_PATTERN.matcher(
@@ -344,7 +346,7 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Process META elements
-        elements = source.getAllElements(HTMLElementName.META);
+        elements = source.apply(HTMLElementName.META);
         for (Element el : elements) {
             // If we have http-equiv attribute, then urls can be found.
             String equiv = el.getAttributeValue("http-equiv");
@@ -375,13 +377,13 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Process HTML manifest elements
-        elements = source.getAllElements(HTMLElementName.HTML);
+        elements = source.apply(HTMLElementName.HTML);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "manifest");
         }
 
         // Process BODY background elements
-        elements = source.getAllElements(HTMLElementName.BODY);
+        elements = source.apply(HTMLElementName.BODY);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "background");
         }
@@ -19,16 +19,21 @@
  */
 package org.zaproxy.addon.spider.parser;
 
+import java.io.ByteArrayInputStream;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.apache.commons.text.StringEscapeUtils;
 import org.parosproxy.paros.network.HttpMessage;
 
 /**
  * Used to parse OData content in Atom format.
  *
- * <p>It's derived from the SpiderTextParser. Even if the format of the file is XML we will process
- * it as a simple text file
+ * <p>The content is read as a stream of XML events, the URLs are notified as they are found. If
+ * the content is not well-formed XML it's processed as a simple text file, like the
+ * SpiderTextParser.
  */
 public class SpiderODataAtomParser extends SpiderParser {
 
@@ -39,6 +44,13 @@ public class SpiderODataAtomParser extends SpiderParser {
     private static final Pattern PATTERN_BASE =
             Pattern.compile("base=\"(http(s?)://[^\\x00-\\x1f\"'\\s<>#]+)\"");
 
+    /** The pattern of the values of the href attributes, the same as in {@link #PATTERN_URL}. */
+    private static final Pattern PATTERN_HREF_VALUE = Pattern.compile("[\\w();&'/,=\\-]*");
+
+    /** The pattern of the values of the base attributes, the same as in {@link #PATTERN_BASE}. */
+    private static final Pattern PATTERN_BASE_VALUE =
+            Pattern.compile("http(s?)://[^\\x00-\\x1f\"'\\s<>#]+");
+
     @Override
     public boolean parseResource(ParseContext ctx) {
         getLogger().debug("Parsing an OData Atom resource.");
@@ -47,10 +59,76 @@ public class SpiderODataAtomParser extends SpiderParser {
 
         // Get the context (base url)
         String baseURL = ctx.getBaseUrl();
+        boolean baseFound = false;
 
-        // Use a simple pattern matcher to find urls (absolute and relative)
+        boolean foundAtLeastOneResult = false;
+        XMLStreamReader reader = null;
+        try {
+            reader =
+                    StreamingXml.createReader(
+                            new ByteArrayInputStream(message.getResponseBody().getBytes()));
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+
+                // Handle base attribute if any
+                // xml:base="http://myserver:8001/remoting/myapp.svc/"
+                if (!baseFound) {
+                    String base = getBaseAttributeValue(reader);
+                    if (base != null) {
+                        baseURL = base;
+                        baseFound = true;
+                    }
+                }
+
+                String href = StreamingXml.getAttributeValue(reader, "href");
+                if (href != null && PATTERN_HREF_VALUE.matcher(href).matches()) {
+                    processUrl(ctx, href, baseURL);
+                    foundAtLeastOneResult = true;
+                }
+            }
+        } catch (XMLStreamException e) {
+            getLogger().debug("Failed to parse as XML: {}", e.getMessage());
+            if (!foundAtLeastOneResult) {
+                return parseAsText(ctx, message.getResponseBody().toString());
+            }
+        } finally {
+            close(reader);
+        }
+
+        // resource is consumed only if at least one link is found
+        return foundAtLeastOneResult;
+    }
 
-        String bodyAsStr = message.getResponseBody().toString();
+    private static String getBaseAttributeValue(XMLStreamReader reader) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if ("base".equals(reader.getAttributeLocalName(i))) {
+                String value = reader.getAttributeValue(i);
+                if (PATTERN_BASE_VALUE.matcher(value).matches()) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void close(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            getLogger().debug(e, e);
+        }
+    }
+
+    private boolean parseAsText(ParseContext ctx, String bodyAsStr) {
+        // Get the context (base url)
+        String baseURL = ctx.getBaseUrl();
+
+        // Use a simple pattern matcher to find urls (absolute and relative)
 
         // Handle base tag if any
         // xml:base="http://myserver:8001/remoting/myapp.svc/"
@@ -19,7 +19,10 @@
  */
 package org.zaproxy.addon.spider.parser;
 
-import java.util.StringTokenizer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.regex.Pattern;
 import org.parosproxy.paros.network.HttpMessage;
 
 /** The Class SpiderRobotstxtParser used for parsing Robots.txt files. */
@@ -27,8 +30,9 @@ public class SpiderRobotstxtParser extends SpiderParser {
 
     private static final String COMMENT_TOKEN = "#";
 
-    private static final String PATTERNS_DISALLOW = "(?i)Disallow:.*";
-    private static final String PATTERNS_ALLOW = "(?i)Allow:.*";
+    private static final Pattern PATTERN_MARKUP = Pattern.compile("<[^>]+>");
+    private static final Pattern PATTERN_DISALLOW = Pattern.compile("(?i)Disallow:.*");
+    private static final Pattern PATTERN_ALLOW = Pattern.compile("(?i)Allow:.*");
 
     private static final int PATTERNS_DISALLOW_LENGTH = 9;
     private static final int PATTERNS_ALLOW_LENGTH = 6;
@@ -45,33 +49,43 @@ public class SpiderRobotstxtParser extends SpiderParser {
 
         HttpMessage message = ctx.getHttpMessage();
 
-        StringTokenizer st = new StringTokenizer(message.getResponseBody().toString(), "\n");
-        while (st.hasMoreTokens()) {
-            String line = st.nextToken();
-
-            int commentStart = line.indexOf(COMMENT_TOKEN);
-            if (commentStart != -1) {
-                line = line.substring(0, commentStart);
+        try (BufferedReader reader =
+                new BufferedReader(new StringReader(message.getResponseBody().toString()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                processLine(ctx, line);
             }
+        } catch (IOException e) {
+            // Not expected, reading from a string.
+            getLogger().debug(e, e);
+        }
 
-            // remove HTML markup and clean
-            line = line.replaceAll("<[^>]+>", "");
-            line = line.trim();
+        // We consider the message fully parsed, so it doesn't get parsed by 'fallback' parsers
+        return true;
+    }
 
-            if (line.isEmpty()) {
-                continue;
-            }
-            getLogger().debug("Processing robots.txt line: {}", line);
+    private void processLine(ParseContext ctx, String line) {
+        int commentStart = line.indexOf(COMMENT_TOKEN);
+        if (commentStart != -1) {
+            line = line.substring(0, commentStart);
+        }
 
-            if (line.matches(PATTERNS_DISALLOW)) {
-                processPath(ctx, line.substring(PATTERNS_DISALLOW_LENGTH));
-            } else if (line.matches(PATTERNS_ALLOW)) {
-                processPath(ctx, line.substring(PATTERNS_ALLOW_LENGTH));
-            }
+        // remove HTML markup and clean
+        if (line.indexOf('<') != -1) {
+            line = PATTERN_MARKUP.matcher(line).replaceAll("");
         }
+        line = line.trim();
 
-        // We consider the message fully parsed, so it doesn't get parsed by 'fallback' parsers
-        return true;
+        if (line.isEmpty()) {
+            return;
+        }
+        getLogger().debug("Processing robots.txt line: {}", line);
+
+        if (PATTERN_DISALLOW.matcher(line).matches()) {
+            processPath(ctx, line.substring(PATTERNS_DISALLOW_LENGTH));
+        } else if (PATTERN_ALLOW.matcher(line).matches()) {
+            processPath(ctx, line.substring(PATTERNS_ALLOW_LENGTH));
+        }
     }
 
     private void processPath(ParseContext ctx, String path) {
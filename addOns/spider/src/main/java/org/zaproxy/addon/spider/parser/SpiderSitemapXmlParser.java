@@ -19,119 +19,120 @@
  */
 package org.zaproxy.addon.spider.parser;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-import org.apache.logging.log4j.LogManager;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpStatusCode;
-import org.w3c.dom.Document;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
-import org.zaproxy.zap.utils.XmlUtils;
 
 /**
  * SitemapXMLParser is used for parsing URLs from a sitemap.xml file, which sometimes (very
  * helpfully) resides in the web root.
  *
+ * <p>Both sitemaps and sitemap indexes are supported, also if compressed with gzip. The file is
+ * read as a stream, the URLs are notified as they are found.
+ *
  * @author 70pointer
  */
 public class SpiderSitemapXmlParser extends SpiderParser {
 
-    /** a pattern to match the sitemap.xml file name */
-    private static final Pattern SITEMAP_XML_FILENAME_PATTERN = Pattern.compile("/sitemap\\.xml$");
-
-    /** used to parse the XML based file format */
-    private static DocumentBuilder dBuilder;
-
-    /** an x path expression to match the "loc" tag in sitemap.xml */
-    private static XPathExpression xpathLocationExpression;
+    /** a pattern to match the file name of sitemaps, e.g. sitemap.xml or post-sitemap.xml.gz */
+    private static final Pattern SITEMAP_XML_FILENAME_PATTERN =
+            Pattern.compile("/[^/]*sitemap[^/]*\\.xml(?:\\.gz)?$", Pattern.CASE_INSENSITIVE);
 
-    /** an x path expression to match xhtml:link hrefs in sitemap.xml */
-    private static XPathExpression xpathXhtmlLinkHrefExpression;
+    /** The maximum size of an uncompressed sitemap, as defined by the sitemaps protocol. */
+    private static final long MAX_UNCOMPRESSED_SIZE = 50L * 1024 * 1024;
 
-    /** statically initialise the XML DocumentBuilderFactory and DocumentBuilder */
-    static {
-        try {
-            dBuilder = XmlUtils.newXxeDisabledDocumentBuilderFactory().newDocumentBuilder();
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            xpathLocationExpression = xpath.compile("/urlset/url/loc/text()");
-            xpathXhtmlLinkHrefExpression = xpath.compile("//*[@href or @HREF]");
-        } catch (ParserConfigurationException | XPathExpressionException e) {
-            LogManager.getLogger(SpiderSitemapXmlParser.class).error(e);
-        }
-    }
+    private static final String LOC_ELEMENT = "loc";
 
     @Override
     public boolean parseResource(ParseContext ctx) {
 
         getLogger().debug("Parsing a sitemap.xml resource...");
         HttpMessage message = ctx.getHttpMessage();
+        byte[] response = message.getResponseBody().getBytes();
         if (!ctx.getSpiderParam().isParseSitemapXml()
-                || !message.getResponseHeader().isXml()
+                || !(message.getResponseHeader().isXml() || StreamingXml.isGzip(response))
                 || HttpStatusCode.isClientError(message.getResponseHeader().getStatusCode())
                 || HttpStatusCode.isServerError(message.getResponseHeader().getStatusCode())) {
             return false;
         }
 
-        // Get the response content
-        byte[] response = message.getResponseBody().getBytes();
-        boolean consumed = false;
-        try {
-            Document xmldoc = dBuilder.parse(new InputSource(new ByteArrayInputStream(response)));
-
-            consumed |= processUrlset(xmldoc, ctx);
-            consumed |= processXhtmlLinkHrefs(xmldoc, ctx);
-        } catch (SAXException | IOException | XPathExpressionException e) {
+        try (InputStream is = StreamingXml.open(response, MAX_UNCOMPRESSED_SIZE)) {
+            return parse(StreamingXml.createReader(is), ctx);
+        } catch (XMLStreamException | IOException e) {
             getLogger().warn("An error occurred trying to parse sitemap.xml. {}", e.getMessage());
             getLogger().debug(e, e);
             return false;
         }
-        return consumed;
     }
 
-    private boolean processUrlset(Document xmldoc, ParseContext ctx)
-            throws XPathExpressionException {
-        getLogger().debug("Processing sitemap Urlset...");
-
-        NodeList locationNodes =
-                (NodeList) xpathLocationExpression.evaluate(xmldoc, XPathConstants.NODESET);
-        for (int i = 0; i < locationNodes.getLength(); i++) {
-            processUrl(ctx, locationNodes.item(i).getNodeValue());
+    private boolean parse(XMLStreamReader reader, ParseContext ctx) throws XMLStreamException {
+        boolean consumed = false;
+        Deque<String> parents = new ArrayDeque<>();
+        try {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.DTD:
+                        throw new XMLStreamException("DOCTYPE declaration is not allowed.");
+
+                    case XMLStreamConstants.START_ELEMENT:
+                        consumed |= processCandidate(reader, "href", ctx);
+                        consumed |= processCandidate(reader, "HREF", ctx);
+
+                        String name = StreamingXml.getElementName(reader);
+                        if (LOC_ELEMENT.equals(name) && isLocation(parents)) {
+                            consumed |= processLocation(reader.getElementText(), ctx);
+                        } else {
+                            parents.push(name);
+                        }
+                        break;
+
+                    case XMLStreamConstants.END_ELEMENT:
+                        parents.pop();
+                        break;
+
+                    default:
+                }
+            }
+        } finally {
+            reader.close();
         }
-        return locationNodes.getLength() != 0;
+        return consumed;
     }
 
-    private boolean processXhtmlLinkHrefs(Document xmldoc, ParseContext ctx)
-            throws XPathExpressionException {
-        getLogger().debug("Processing sitemap.xml xhtml:link hrefs...");
-        boolean consumed = false;
+    /**
+     * Tells whether or not a {@code loc} element with the given parents has the location of a page
+     * ({@code /urlset/url/loc}) or of a sitemap ({@code /sitemapindex/sitemap/loc}).
+     */
+    private static boolean isLocation(Deque<String> parents) {
+        if (parents.size() != 2) {
+            return false;
+        }
+        String parent = parents.peekFirst();
+        String root = parents.peekLast();
+        return ("url".equals(parent) && "urlset".equals(root))
+                || ("sitemap".equals(parent) && "sitemapindex".equals(root));
+    }
 
-        NodeList xhtmlLinkHrefNodes =
-                (NodeList) xpathXhtmlLinkHrefExpression.evaluate(xmldoc, XPathConstants.NODESET);
-        for (int i = 0; i < xhtmlLinkHrefNodes.getLength(); i++) {
-            NamedNodeMap attrs = xhtmlLinkHrefNodes.item(i).getAttributes();
-            consumed |= processCandidate(attrs, "href", ctx);
-            consumed |= processCandidate(attrs, "HREF", ctx);
+    private boolean processLocation(String location, ParseContext ctx) {
+        if (location.isEmpty()) {
+            return false;
         }
-        return consumed;
+        processUrl(ctx, location);
+        return true;
     }
 
-    private boolean processCandidate(NamedNodeMap attrs, String attrName, ParseContext ctx) {
-        Node candidate = attrs.getNamedItem(attrName);
+    private boolean processCandidate(XMLStreamReader reader, String attrName, ParseContext ctx) {
+        String candidate = StreamingXml.getAttributeValue(reader, attrName);
         if (candidate != null) {
-            processUrl(ctx, candidate.getNodeValue());
+            processUrl(ctx, candidate);
             return true;
         }
         return false;
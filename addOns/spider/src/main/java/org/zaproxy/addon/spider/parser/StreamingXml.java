@@ -0,0 +1,159 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.spider.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Helper to read XML responses as a stream of events, instead of building a DOM.
+ *
+ * <p>DTDs and external entities are not supported, to prevent XXE.
+ */
+final class StreamingXml {
+
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private StreamingXml() {}
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Tells whether or not the given data is compressed with gzip.
+     *
+     * @param data the data to check.
+     * @return {@code true} if the data starts with the gzip magic number, {@code false} otherwise.
+     */
+    static boolean isGzip(byte[] data) {
+        return data.length >= GZIP_MAGIC.length
+                && data[0] == GZIP_MAGIC[0]
+                && data[1] == GZIP_MAGIC[1];
+    }
+
+    /**
+     * Opens a stream for the given data, decompressing it if compressed with gzip.
+     *
+     * @param data the data.
+     * @param maxUncompressedBytes the maximum number of bytes to read when decompressing.
+     * @return the stream with the (uncompressed) data.
+     * @throws IOException if an error occurred while starting the decompression.
+     */
+    static InputStream open(byte[] data, long maxUncompressedBytes) throws IOException {
+        InputStream is = new ByteArrayInputStream(data);
+        if (isGzip(data)) {
+            return new LimitedInputStream(new GZIPInputStream(is), maxUncompressedBytes);
+        }
+        return is;
+    }
+
+    /**
+     * Creates a reader for the given stream.
+     *
+     * @param is the stream with the XML.
+     * @return the reader.
+     * @throws XMLStreamException if an error occurred while creating the reader.
+     */
+    static XMLStreamReader createReader(InputStream is) throws XMLStreamException {
+        return XML_INPUT_FACTORY.createXMLStreamReader(is);
+    }
+
+    /**
+     * Gets the value of the attribute with the given local name and no prefix, of the current
+     * start element.
+     *
+     * @param reader the reader, positioned in a start element.
+     * @param localName the local name of the attribute.
+     * @return the value of the attribute, or {@code null} if not present.
+     */
+    static String getAttributeValue(XMLStreamReader reader, String localName) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            if ((prefix == null || prefix.isEmpty())
+                    && localName.equals(reader.getAttributeLocalName(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the name of the current element, the prefix (if any) and local name.
+     *
+     * @param reader the reader, positioned in a start or end element.
+     * @return the name of the element.
+     */
+    static String getElementName(XMLStreamReader reader) {
+        String prefix = reader.getPrefix();
+        if (prefix == null || prefix.isEmpty()) {
+            return reader.getLocalName();
+        }
+        return prefix + ":" + reader.getLocalName();
+    }
+
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkLimit();
+            int b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            checkLimit();
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        private void checkLimit() throws IOException {
+            if (remaining <= 0) {
+                throw new IOException("Uncompressed data exceeds the maximum allowed size.");
+            }
+        }
+    }
+}
@@ -32,6 +32,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.withSettings;
 
@@ -175,6 +176,22 @@ class SpiderTaskUnitTest extends TestUtils {
         verify(parserC).canParseResource(any(), eq(true));
     }
 
+    @Test
+    void shouldNotifyResourceParsedByParsersThatParsed() {
+        // Given
+        SpiderParser parserA = mock(SpiderParser.class);
+        given(parserA.canParseResource(any(), anyBoolean())).willReturn(true);
+        SpiderParser parserB = mock(SpiderParser.class);
+        given(parserB.canParseResource(any(), anyBoolean())).willReturn(false);
+        given(controller.getParsers()).willReturn(List.of(parserA, parserB));
+        given(controller.getResourcesFoundCount()).willReturn(2, 5);
+        // When
+        SpiderTask.processResource(parent, 1, msg);
+        // Then
+        verify(parent).notifyListenersResourceParsed(eq(parserA), anyLong(), eq(3));
+        verify(parent, never()).notifyListenersResourceParsed(eq(parserB), anyLong(), anyInt());
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {HttpHeader.HTTP10, HttpHeader.HTTP11, "HTTP/2"})
     void shouldUseHttpVersionFromResourceFound(String httpVersion) throws Exception {
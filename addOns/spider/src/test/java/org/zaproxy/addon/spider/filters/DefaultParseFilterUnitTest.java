@@ -227,6 +227,20 @@ class DefaultParseFilterUnitTest {
         assertThat(filterResult.isFiltered(), is(equalTo(false)));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"/sitemap.xml.gz", "/post-sitemap.xml", "/sitemaps/sitemap_1.xml.gz"})
+    void shouldNotFilterHttpMessageWithSitemapFileRequestEvenIfNotText(String path)
+            throws Exception {
+        // Given
+        DefaultParseFilter filter = createDefaultParseFilter();
+        HttpMessage httpMessage = createHttpMessageWithRequestUri(path);
+        httpMessage.getResponseHeader().setHeader(HttpHeader.CONTENT_TYPE, "application/gzip");
+        // When
+        FilterResult filterResult = filter.filtered(httpMessage);
+        // Then
+        assertThat(filterResult.isFiltered(), is(equalTo(false)));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"/.DS_Store", "/foo/bar/.DS_Store", "/.DS_Store?foo-bar"})
     void shouldNotFilterHttpMessageWithDsStoreUri(String path) throws Exception {
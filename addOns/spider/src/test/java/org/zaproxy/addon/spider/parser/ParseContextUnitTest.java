@@ -20,6 +20,8 @@
 package org.zaproxy.addon.spider.parser;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
@@ -30,6 +32,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import net.htmlparser.jericho.Element;
 import org.apache.commons.httpclient.URI;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -173,4 +178,48 @@ class ParseContextUnitTest {
         // Then
         verify(httpMessage).getResponseBody();
     }
+
+    @Test
+    void shouldGetElementsByNameInDocumentOrder() {
+        // Given
+        given(httpMessage.getResponseBody())
+                .willReturn(
+                        new HttpResponseBody(
+                                "<html><A href='1'></A><div><a href='2'><img src='3'></a></div>"));
+        ctx = new ParseContext(spiderParam, valueProvider, httpMessage, path, depth);
+        // When
+        List<Element> anchors = ctx.getElements("a");
+        List<Element> anchorsUpperCase = ctx.getElements("A");
+        List<Element> images = ctx.getElements("img");
+        // Then
+        assertThat(hrefs(anchors), contains("1", "2"));
+        assertThat(anchorsUpperCase, is(equalTo(anchors)));
+        assertThat(images.size(), is(equalTo(1)));
+        assertThat(images.get(0).getAttributeValue("src"), is(equalTo("3")));
+    }
+
+    @Test
+    void shouldGetNoElementsIfNoneWithName() {
+        // Given
+        ctx = new ParseContext(spiderParam, valueProvider, httpMessage, path, depth);
+        // When
+        List<Element> forms = ctx.getElements("form");
+        // Then
+        assertThat(forms, is(empty()));
+    }
+
+    @Test
+    void shouldIndexElementsFromSharedSource() {
+        // Given
+        ctx = new ParseContext(spiderParam, valueProvider, httpMessage, path, depth);
+        // When
+        List<Element> elements = ctx.getElements("html");
+        // Then
+        assertThat(elements.get(0).getSource(), is(sameInstance(ctx.getSource())));
+        verify(httpMessage).getResponseBody();
+    }
+
+    private static List<String> hrefs(List<Element> elements) {
+        return elements.stream().map(e -> e.getAttributeValue("href")).collect(Collectors.toList());
+    }
 }
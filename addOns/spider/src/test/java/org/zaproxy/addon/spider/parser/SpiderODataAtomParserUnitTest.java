@@ -0,0 +1,121 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.spider.parser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link SpiderODataAtomParser}. */
+class SpiderODataAtomParserUnitTest extends SpiderParserTestUtils<SpiderODataAtomParser> {
+
+    @Override
+    protected SpiderODataAtomParser createParser() {
+        return new SpiderODataAtomParser();
+    }
+
+    @Test
+    void shouldParseXmlMessageNotAlreadyParsed() {
+        // Given
+        messageWith("application/atom+xml", "<feed/>");
+        // When
+        boolean canParse = parser.canParseResource(ctx, false);
+        // Then
+        assertThat(canParse, is(equalTo(true)));
+    }
+
+    @Test
+    void shouldNotParseMessageIfAlreadyParsed() {
+        // Given
+        messageWith("application/atom+xml", "<feed/>");
+        // When
+        boolean canParse = parser.canParseResource(ctx, true);
+        // Then
+        assertThat(canParse, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldFindUrlsRelativeToXmlBase() {
+        // Given
+        messageWith(
+                "application/atom+xml",
+                "<feed xml:base=\"http://example.org/app.svc/\">"
+                        + "<entry><link rel=\"edit\" href=\"Customers\"/></entry>"
+                        + "<entry><link rel=\"edit\" href=\"Customers/Orders\"/></entry>"
+                        + "</feed>");
+        // When
+        boolean completelyParsed = parser.parseResource(ctx);
+        // Then
+        assertThat(completelyParsed, is(equalTo(true)));
+        assertThat(
+                listener.getUrlsFound(),
+                contains(
+                        "http://example.org/app.svc/Customers",
+                        "http://example.org/app.svc/Customers/Orders"));
+    }
+
+    @Test
+    void shouldIgnoreHrefsNotInODataFormat() {
+        // Given
+        messageWith(
+                "application/atom+xml",
+                "<feed><link href=\"http://example.org/other.svc?a=b\"/></feed>");
+        // When
+        boolean completelyParsed = parser.parseResource(ctx);
+        // Then
+        assertThat(completelyParsed, is(equalTo(false)));
+        assertThat(listener.getUrlsFound(), is(empty()));
+    }
+
+    @Test
+    void shouldFindUrlsInMalformedXmlAsText() {
+        // Given
+        messageWith(
+                "application/atom+xml",
+                "<feed xml:base=\"http://example.org/app.svc/\">"
+                        + "&undefined;<link href=\"Products\">");
+        // When
+        boolean completelyParsed = parser.parseResource(ctx);
+        // Then
+        assertThat(completelyParsed, is(equalTo(true)));
+        assertThat(
+                listener.getUrlsFound(), contains("http://example.org/app.svc/Products"));
+    }
+
+    private void messageWith(String contentType, String body) {
+        try {
+            msg.setRequestHeader("GET /app.svc/Customers HTTP/1.1\r\nHost: example.org\r\n");
+            msg.setResponseHeader(
+                    "HTTP/1.1 200 OK\r\n"
+                            + "Content-Type: "
+                            + contentType
+                            + "; charset=UTF-8\r\n"
+                            + "Content-Length: "
+                            + body.length());
+            msg.setResponseBody(body);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.zaproxy.addon.spider.parser;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.withSettings;
@@ -82,6 +83,7 @@ abstract class SpiderParserTestUtils<T extends SpiderParser> extends TestUtils {
                 .willAnswer(
                         new CachedAnswer<>(
                                 msg, msg -> new Source(msg.getResponseBody().toString())));
+        given(ctx.getElements(any())).willCallRealMethod();
 
         parser = createParser();
         listener = createTestSpiderParserListener();
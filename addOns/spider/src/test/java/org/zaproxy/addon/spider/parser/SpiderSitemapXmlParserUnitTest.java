@@ -26,7 +26,10 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -76,6 +79,34 @@ class SpiderSitemapXmlParserUnitTest extends SpiderParserTestUtils<SpiderSitemap
         assertThat(canParse, is(equalTo(true)));
     }
 
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "/sitemap.xml.gz",
+                "/sitemap_index.xml",
+                "/post-sitemap.xml",
+                "/sitemaps/Sitemap1.xml.gz"
+            })
+    void shouldParsePathsOfOtherSitemaps(String path) {
+        // Given
+        given(ctx.getPath()).willReturn(path);
+        // When
+        boolean canParse = parser.canParseResource(ctx, false);
+        // Then
+        assertThat(canParse, is(equalTo(true)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/", "/sitemap.html", "/sitemap.xml/other.xml", "/sitemap.xml.bak"})
+    void shouldNotParsePathsThatAreNotSitemaps(String path) {
+        // Given
+        given(ctx.getPath()).willReturn(path);
+        // When
+        boolean canParse = parser.canParseResource(ctx, false);
+        // Then
+        assertThat(canParse, is(equalTo(false)));
+    }
+
     @Test
     void shouldParseMessageEvenIfAlreadyParsed() {
         // Given
@@ -236,6 +267,67 @@ class SpiderSitemapXmlParserUnitTest extends SpiderParserTestUtils<SpiderSitemap
                         "https://example.com/app/sv/details?data=101920&lang=gen"));
     }
 
+    @Test
+    void shouldFindSitemapsInSitemapIndex() throws Exception {
+        // Given
+        messageWith("SitemapIndex.xml");
+        // When
+        boolean completelyParsed = parser.parseResource(ctx);
+        // Then
+        assertThat(completelyParsed, is(equalTo(true)));
+        assertThat(
+                listener.getUrlsFound(),
+                contains(
+                        "https://example.org/sitemap-posts.xml.gz",
+                        "https://example.org/sitemap-pages.xml"));
+    }
+
+    @Test
+    void shouldFindUrlsInGzipSitemap() throws Exception {
+        // Given
+        messageWith("application/gzip", "MultipleUrlsSitemap.xml");
+        msg.setResponseBody(gzip(msg.getResponseBody().getBytes()));
+        // When
+        boolean completelyParsed = parser.parseResource(ctx);
+        // Then
+        assertThat(completelyParsed, is(equalTo(true)));
+        assertThat(listener.getNumberOfUrlsFound(), is(equalTo(5)));
+    }
+
+    @Test
+    void shouldNotParseGzipMessageWithoutSitemap() throws Exception {
+        // Given
+        messageWith("application/gzip", "EmptyFile.xml");
+        msg.setResponseBody(gzip("Not XML".getBytes(StandardCharsets.UTF_8)));
+        // When
+        boolean completelyParsed = parser.parseResource(ctx);
+        // Then
+        assertThat(completelyParsed, is(equalTo(false)));
+        assertThat(listener.getNumberOfUrlsFound(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldNotFindLocationsOutsideOfUrls() throws Exception {
+        // Given
+        messageWith("MultipleUrlsSitemap.xml");
+        msg.setResponseBody(
+                "<urlset><loc>https://example.org/a</loc><other><url><loc>https://example.org/b"
+                        + "</loc></url></other></urlset>");
+        // When
+        boolean completelyParsed = parser.parseResource(ctx);
+        // Then
+        assertThat(completelyParsed, is(equalTo(false)));
+        assertThat(listener.getNumberOfUrlsFound(), is(equalTo(0)));
+    }
+
+    private static byte[] gzip(byte[] data) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzos = new GZIPOutputStream(baos)) {
+            gzos.write(data);
+        }
+        return baos.toByteArray();
+    }
+
     private void messageWith(String filename) {
         messageWith("text/xml", filename);
     }
@@ -19,8 +19,7 @@
  */
 package org.zaproxy.zap.extension.sqliplugin;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.BitSet;
 
 /**
  * Class for string diff management used to compare the original content to the one related to a
@@ -47,13 +46,16 @@ public class ResponseMatcher {
 
     private String strA;
     private String strB;
-    // Inner helper class for strB string counting
-    private Map<Integer, Integer> fullBCount;
+    // The characters of strB, computed once per original response
+    private final BitSet fullBChars;
+    // The characters of strA already seen, reused between comparisons
+    private final BitSet seenAChars;
     private double matchRatio;
     private boolean negativeLogic;
 
     public ResponseMatcher() {
-        fullBCount = new HashMap<>();
+        fullBChars = new BitSet(Character.MAX_VALUE + 1);
+        seenAChars = new BitSet(Character.MAX_VALUE + 1);
         matchRatio = -1;
         negativeLogic = false;
     }
@@ -70,7 +72,7 @@ public class ResponseMatcher {
      */
     public void setOriginalResponse(String b) {
         this.strB = b;
-        this.fullBCount.clear();
+        this.fullBChars.clear();
         matchRatio = -1;
     }
 
@@ -89,48 +91,30 @@ public class ResponseMatcher {
      */
     public double getQuickRatio() {
         int chr;
-        int count;
         int matches = 0;
         int start = 0;
-        while (start < Math.min(strA.length(), strB.length())) {
-            if (strA.charAt(start) == strB.charAt(start)) {
-                start += 1;
-
-            } else break;
+        int minLength = Math.min(strA.length(), strB.length());
+        while (start < minLength && strA.charAt(start) == strB.charAt(start)) {
+            start += 1;
         }
 
-        // viewing strA and strB as multisets, set matches to the cardinality
-        // of their intersection; this counts the number of matches
-        // without regard to order, so is clearly an upper bound
-        if (fullBCount.isEmpty()) {
-
+        // Each character of strB is counted at most once, the characters are gathered the first
+        // time the original response is compared (after the common prefix) and reused afterwards
+        if (fullBChars.isEmpty()) {
             for (int i = start; i < strB.length(); i++) {
-                chr = strB.charAt(i);
-                count = fullBCount.containsKey(chr) ? fullBCount.get(chr) : 1;
-                fullBCount.put(chr, count);
+                fullBChars.set(strB.charAt(i));
             }
         }
 
-        // avail[x] is the number of times x appears in 'strB' less the
-        // number of times we've seen it in 'strA' so far ... kinda
-        Map<Integer, Integer> avail = new HashMap<>();
-
+        // count the distinct characters of strA that are also available in strB
+        seenAChars.clear();
         for (int i = start; i < strA.length(); i++) {
             chr = strA.charAt(i);
-            if (avail.containsKey(chr)) {
-                count = avail.get(chr);
-
-            } else if (fullBCount.containsKey(chr)) {
-                count = fullBCount.get(chr);
-
-            } else {
-                count = 0;
-            }
-
-            avail.put(chr, count - 1);
-
-            if (count > 0) {
-                matches += 1;
+            if (!seenAChars.get(chr)) {
+                seenAChars.set(chr);
+                if (fullBChars.get(chr)) {
+                    matches += 1;
+                }
             }
         }
 
@@ -28,9 +28,11 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.model.HistoryReference;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpRequestHeader;
 import org.zaproxy.zap.extension.sse.db.ServerSentEventStream;
@@ -56,6 +58,8 @@ public class EventStreamProxy {
 
     private EventStreamListener listener;
 
+    private final Executor listenerExecutor;
+
     private static AtomicInteger streamIdGenerator = new AtomicInteger(0);
 
     private AtomicInteger eventIdGenerator = new AtomicInteger(0);
@@ -73,7 +77,34 @@ public class EventStreamProxy {
 
     public EventStreamProxy(
             HttpMessage message, BufferedReader reader, BufferedWriter writer, Socket socket) {
+        this(
+                message,
+                reader,
+                writer,
+                socket,
+                command -> new Thread(command, "ZAP-SSE-Listener").start());
+    }
+
+    /**
+     * Constructs an {@code EventStreamProxy} whose listener runs in the given executor.
+     *
+     * <p>The history ID of the stream is set right away if the message was already persisted,
+     * otherwise it should be set later with {@link #setHistoryReference(HistoryReference)}.
+     *
+     * @param message the message that started the stream.
+     * @param reader the reader of the events sent by the server.
+     * @param writer the writer to forward the events to the client.
+     * @param socket the socket of the connection.
+     * @param listenerExecutor the executor where the listener runs.
+     */
+    public EventStreamProxy(
+            HttpMessage message,
+            BufferedReader reader,
+            BufferedWriter writer,
+            Socket socket,
+            Executor listenerExecutor) {
         this.writer = writer;
+        this.listenerExecutor = listenerExecutor;
 
         listener = new EventStreamListener(this, reader, socket);
 
@@ -86,15 +117,22 @@ public class EventStreamProxy {
         dataStreamObject.setHost(reqHeader.getHostName());
         dataStreamObject.setPort(reqHeader.getHostPort());
 
-        // wait until HistoryReference is saved to database
-        while (message.getHistoryRef() == null) {
-            try {
-                Thread.sleep(5);
-            } catch (InterruptedException e) {
-                LOGGER.warn(e.getMessage(), e);
-            }
+        HistoryReference historyRef = message.getHistoryRef();
+        if (historyRef != null) {
+            dataStreamObject.setHistoryId(historyRef.getHistoryId());
         }
-        dataStreamObject.setHistoryId(message.getHistoryRef().getHistoryId());
+    }
+
+    /**
+     * Sets the history reference of the message that started the stream, once persisted.
+     *
+     * <p>The observers are not notified again, the stream was already opened. The history ID is
+     * persisted separately, by the extension.
+     *
+     * @param historyRef the history reference.
+     */
+    public void setHistoryReference(HistoryReference historyRef) {
+        dataStreamObject.setHistoryId(historyRef.getHistoryId());
     }
 
     public int getId() {
@@ -104,9 +142,8 @@ public class EventStreamProxy {
     public void start() {
         Stats.incCounter("stats.sse.streams");
 
-        // TODO use thread pool
-        (new Thread(listener, "ZAP-SSE-Listener")).start();
         notifyStateObservers(State.OPEN);
+        listenerExecutor.execute(listener);
     }
 
     public void stop() {
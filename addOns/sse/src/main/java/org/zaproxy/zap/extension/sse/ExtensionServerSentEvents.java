@@ -26,6 +26,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.lang.reflect.Method;
 import java.net.Socket;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -33,6 +34,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
@@ -81,10 +87,13 @@ public class ExtensionServerSentEvents extends ExtensionAdaptor
     /** Name of this extension. */
     public static final String NAME = "ExtensionServerSentEvents";
 
+    /** The interval, in milliseconds, between writes of the pending events to the database. */
+    private static final long FLUSH_EVENTS_INTERVAL_MS = 500;
+
     private Charset charset;
 
     /** Responsible for storing events. */
-    private EventStreamStorage storage;
+    private volatile EventStreamStorage storage;
 
     /** List of observers added to all event streams. */
     private List<EventStreamObserver> observers = new ArrayList<>();
@@ -92,6 +101,13 @@ public class ExtensionServerSentEvents extends ExtensionAdaptor
     private Map<Integer, EventStreamProxy> sseProxies = new HashMap<>();
     private EventStreamPanel panel;
 
+    /** Runs the listeners of all event streams. */
+    private ExecutorService listenerExecutor;
+
+    private ScheduledExecutorService scheduler;
+
+    private HistoryReferenceTracker historyReferenceTracker;
+
     public ExtensionServerSentEvents() {
         super(NAME);
 
@@ -103,6 +119,49 @@ public class ExtensionServerSentEvents extends ExtensionAdaptor
     @Override
     public void init() {
         super.init();
+
+        listenerExecutor = createListenerExecutor();
+        scheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, "ZAP-SSE-Scheduler");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        historyReferenceTracker = new HistoryReferenceTracker(scheduler);
+        scheduler.scheduleWithFixedDelay(
+                this::flushEvents,
+                FLUSH_EVENTS_INTERVAL_MS,
+                FLUSH_EVENTS_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates the executor for the listeners, using virtual threads if available (Java 21+), as
+     * the listeners spend most of the time blocked reading the events.
+     */
+    private static ExecutorService createListenerExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.debug("Virtual threads not available, using platform threads.");
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newCachedThreadPool(
+                r -> {
+                    Thread thread =
+                            new Thread(r, "ZAP-SSE-Listener-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private void flushEvents() {
+        if (storage != null) {
+            storage.flush();
+        }
     }
 
     private void addObserver(EventStreamObserver observer) {
@@ -144,6 +203,15 @@ public class ExtensionServerSentEvents extends ExtensionAdaptor
         super.unload();
         stopProxies();
         clearUpWorkPanel();
+
+        if (scheduler != null) {
+            historyReferenceTracker.clear();
+            scheduler.shutdownNow();
+        }
+        if (listenerExecutor != null) {
+            listenerExecutor.shutdown();
+        }
+        flushEvents();
     }
 
     private void stopProxies() {
@@ -204,13 +272,29 @@ public class ExtensionServerSentEvents extends ExtensionAdaptor
         BufferedReader reader = new BufferedReader(new InputStreamReader(remoteReader, charset));
         BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(localWriter, charset));
 
-        EventStreamProxy proxy = new EventStreamProxy(msg, reader, writer, socket);
+        EventStreamProxy proxy =
+                new EventStreamProxy(msg, reader, writer, socket, listenerExecutor);
         synchronized (observers) {
             for (EventStreamObserver observer : observers) {
                 proxy.addObserver(observer);
             }
         }
         proxy.start();
+
+        if (msg.getHistoryRef() == null) {
+            historyReferenceTracker
+                    .whenPersisted(msg)
+                    .thenAcceptAsync(
+                            historyRef -> {
+                                proxy.setHistoryReference(historyRef);
+                                EventStreamStorage currentStorage = storage;
+                                if (currentStorage != null) {
+                                    currentStorage.updateHistoryId(
+                                            proxy.getId(), historyRef.getHistoryId());
+                                }
+                            },
+                            listenerExecutor);
+        }
     }
 
     @Override
@@ -258,6 +342,8 @@ public class ExtensionServerSentEvents extends ExtensionAdaptor
 
     @Override
     public void sessionAboutToChange(Session session) {
+        flushEvents();
+
         if (View.isInitialised()) {
             // Prevent the table from being used
             storage.setTable(null);
@@ -0,0 +1,146 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.sse;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.parosproxy.paros.model.HistoryReference;
+import org.parosproxy.paros.network.HttpMessage;
+
+/**
+ * Notifies when the {@link HistoryReference} of messages is available.
+ *
+ * <p>The messages of the event streams are persisted asynchronously, this class checks all the
+ * pending messages with a single scheduled task, which runs only while there are messages still
+ * being persisted.
+ */
+class HistoryReferenceTracker {
+
+    static final long CHECK_INTERVAL_MS = 25;
+
+    static final long MAX_WAIT_MS = TimeUnit.SECONDS.toMillis(30);
+
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier clock;
+    private final List<PendingMessage> pendingMessages = new ArrayList<>();
+    private ScheduledFuture<?> checkTask;
+
+    HistoryReferenceTracker(ScheduledExecutorService scheduler) {
+        this(scheduler, System::currentTimeMillis);
+    }
+
+    HistoryReferenceTracker(ScheduledExecutorService scheduler, LongSupplier clock) {
+        this.scheduler = scheduler;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets a future completed once the given message has a history reference.
+     *
+     * <p>The future is cancelled if the message is not persisted in {@link #MAX_WAIT_MS}.
+     *
+     * @param message the message.
+     * @return the future with the history reference.
+     */
+    CompletableFuture<HistoryReference> whenPersisted(HttpMessage message) {
+        HistoryReference historyRef = message.getHistoryRef();
+        if (historyRef != null) {
+            return CompletableFuture.completedFuture(historyRef);
+        }
+
+        CompletableFuture<HistoryReference> future = new CompletableFuture<>();
+        synchronized (pendingMessages) {
+            pendingMessages.add(
+                    new PendingMessage(message, future, clock.getAsLong() + MAX_WAIT_MS));
+            if (checkTask == null) {
+                checkTask =
+                        scheduler.scheduleWithFixedDelay(
+                                this::checkPendingMessages,
+                                CHECK_INTERVAL_MS,
+                                CHECK_INTERVAL_MS,
+                                TimeUnit.MILLISECONDS);
+            }
+        }
+        return future;
+    }
+
+    void checkPendingMessages() {
+        List<PendingMessage> persisted = new ArrayList<>();
+        synchronized (pendingMessages) {
+            long now = clock.getAsLong();
+            for (Iterator<PendingMessage> it = pendingMessages.iterator(); it.hasNext(); ) {
+                PendingMessage pending = it.next();
+                if (pending.message.getHistoryRef() != null) {
+                    persisted.add(pending);
+                    it.remove();
+                } else if (now >= pending.deadline) {
+                    pending.future.cancel(false);
+                    it.remove();
+                }
+            }
+            stopCheckTaskIfIdle();
+        }
+
+        // Complete outside the lock, the dependants might take a while.
+        persisted.forEach(pending -> pending.future.complete(pending.message.getHistoryRef()));
+    }
+
+    int getPendingCount() {
+        synchronized (pendingMessages) {
+            return pendingMessages.size();
+        }
+    }
+
+    /** Cancels the futures of all pending messages. */
+    void clear() {
+        synchronized (pendingMessages) {
+            pendingMessages.forEach(pending -> pending.future.cancel(false));
+            pendingMessages.clear();
+            stopCheckTaskIfIdle();
+        }
+    }
+
+    private void stopCheckTaskIfIdle() {
+        if (pendingMessages.isEmpty() && checkTask != null) {
+            checkTask.cancel(false);
+            checkTask = null;
+        }
+    }
+
+    private static class PendingMessage {
+
+        private final HttpMessage message;
+        private final CompletableFuture<HistoryReference> future;
+        private final long deadline;
+
+        PendingMessage(
+                HttpMessage message, CompletableFuture<HistoryReference> future, long deadline) {
+            this.message = message;
+            this.future = future;
+            this.deadline = deadline;
+        }
+    }
+}
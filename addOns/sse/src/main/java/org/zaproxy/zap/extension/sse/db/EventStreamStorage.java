@@ -37,7 +37,7 @@ public class EventStreamStorage implements EventStreamObserver {
     /** Determines when events are stored in database. */
     public static final int EVENT_STREAM_OBSERVING_ORDER = 100;
 
-    private TableEventStream table;
+    private volatile TableEventStream table;
 
     public EventStreamStorage(TableEventStream table) {
         this.table = table;
@@ -66,6 +66,9 @@ public class EventStreamStorage implements EventStreamObserver {
                 || state.equals(State.INCLUDED)) {
             try {
                 if (table != null) {
+                    if (state.equals(State.CLOSED)) {
+                        table.flushEvents();
+                    }
                     table.insertOrUpdateStream(stream);
                 } else if (!state.equals(State.CLOSED)) {
                     LOGGER.warn(
@@ -85,6 +88,37 @@ public class EventStreamStorage implements EventStreamObserver {
         }
     }
 
+    /**
+     * Updates the history ID of the given stream, once the message that started it is persisted.
+     *
+     * @param streamId the ID of the stream.
+     * @param historyId the history ID.
+     */
+    public void updateHistoryId(int streamId, int historyId) {
+        TableEventStream currentTable = table;
+        if (currentTable == null) {
+            return;
+        }
+        try {
+            currentTable.updateHistoryId(streamId, historyId);
+        } catch (DatabaseException e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    /** Writes the pending events to the database. */
+    public void flush() {
+        TableEventStream currentTable = table;
+        if (currentTable == null) {
+            return;
+        }
+        try {
+            currentTable.flushEvents();
+        } catch (DatabaseException e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
     public TableEventStream getTable() {
         return table;
     }
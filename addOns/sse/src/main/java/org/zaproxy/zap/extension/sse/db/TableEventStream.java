@@ -46,6 +46,9 @@ import org.zaproxy.zap.extension.sse.ServerSentEvent;
 public class TableEventStream extends ParosAbstractTable {
     private static final Logger LOGGER = LogManager.getLogger(TableEventStream.class);
 
+    /** The maximum number of events pending before being written to the database. */
+    static final int EVENT_BATCH_SIZE = 50;
+
     private Set<Integer> streamIds;
     private LRUMap streamCache;
 
@@ -65,6 +68,7 @@ public class TableEventStream extends ParosAbstractTable {
 
     private PreparedStatement psSelectMaxStreamId;
 
+    /** The events not yet written to the database. */
     private Queue<ServerSentEvent> eventBuffer = new LinkedList<>();
     private Queue<ServerSentEventStream> streamBuffer = new LinkedList<>();
 
@@ -203,6 +207,7 @@ public class TableEventStream extends ParosAbstractTable {
      */
     public synchronized int getEventCount(ServerSentEvent criteria, List<Integer> inScopeStreamIds)
             throws DatabaseException {
+        flushEvents();
         try {
             String query = "SELECT COUNT(e.stream_id) FROM event_stream_event AS e " + "<where> ";
 
@@ -232,6 +237,7 @@ public class TableEventStream extends ParosAbstractTable {
 
     public synchronized int getIndexOf(ServerSentEvent criteria, List<Integer> inScopeStreamIds)
             throws DatabaseException {
+        flushEvents();
         try {
             String query =
                     "SELECT COUNT(e.event_id) "
@@ -254,6 +260,7 @@ public class TableEventStream extends ParosAbstractTable {
 
     public synchronized ServerSentEvent getEvent(int eventId, int streamId)
             throws DatabaseException {
+        flushEvents();
         try {
             psSelectEvent.setInt(1, eventId);
             psSelectEvent.setInt(2, streamId);
@@ -287,6 +294,7 @@ public class TableEventStream extends ParosAbstractTable {
             int limit,
             int payloadPreviewLength)
             throws DatabaseException {
+        flushEvents();
         try {
             String query =
                     "SELECT e.event_id, e.stream_id, e.timestamp, e.last_event_id, e.event_type, e.data, e.reconnection_time, e.raw_event "
@@ -533,24 +541,75 @@ public class TableEventStream extends ParosAbstractTable {
         }
     }
 
+    /**
+     * Updates the history ID of the given stream, if already inserted. Otherwise the history ID is
+     * written when the stream is inserted.
+     *
+     * @param streamId the ID of the stream.
+     * @param historyId the history ID.
+     * @throws DatabaseException if an error occurred while updating the stream.
+     */
+    public void updateHistoryId(int streamId, int historyId) throws DatabaseException {
+        synchronized (this) {
+            try {
+                if (getConnection().isClosed() || !streamIds.contains(streamId)) {
+                    return;
+                }
+                psUpdateHistoryFk.setInt(1, historyId);
+                psUpdateHistoryFk.setInt(2, streamId);
+                psUpdateHistoryFk.execute();
+            } catch (SQLException e) {
+                throw new DatabaseException(e);
+            }
+        }
+    }
+
+    /**
+     * Queues the given event to be written to the database.
+     *
+     * <p>The events are written in batches, once {@link #EVENT_BATCH_SIZE} events are pending, on
+     * {@link #flushEvents()}, or before reading events.
+     *
+     * @param event the event to insert.
+     * @throws DatabaseException if an error occurred while writing the events.
+     */
     public void insertEvent(ServerSentEvent event) throws DatabaseException {
         // synchronize on whole object to avoid race conditions with insertOrUpdateStreams()
         synchronized (this) {
+            eventBuffer.offer(event);
+            if (eventBuffer.size() >= EVENT_BATCH_SIZE) {
+                flushEvents();
+            }
+        }
+    }
+
+    /**
+     * Writes all pending events to the database, in a single batch.
+     *
+     * <p>The events are kept pending while the connection is closed, or if the batch could not be
+     * written.
+     *
+     * @throws DatabaseException if an error occurred while writing the events.
+     */
+    public void flushEvents() throws DatabaseException {
+        synchronized (this) {
+            if (eventBuffer.isEmpty()) {
+                return;
+            }
+
+            List<ServerSentEvent> batch = new ArrayList<>();
+            boolean written = false;
             try {
                 if (getConnection().isClosed()) {
-                    // temporarily buffer events and write them the next time
-                    eventBuffer.offer(event);
                     return;
                 }
 
-                do {
-                    while (!streamIds.contains(event.getStreamId())) {
-                        // maybe stream is buffered
-                        if (streamBuffer.size() > 0) {
-                            insertOrUpdateStream(streamBuffer.poll());
-                            continue;
-                        }
-                        throw new DatabaseException("stream not inserted: " + event.getStreamId());
+                ServerSentEvent event;
+                while ((event = eventBuffer.peek()) != null) {
+                    if (!isStreamInserted(event.getStreamId())) {
+                        eventBuffer.poll();
+                        LOGGER.warn("Stream not inserted, discarding event: {}", event);
+                        continue;
                     }
 
                     LOGGER.debug("insert event: {}", event);
@@ -569,14 +628,41 @@ public class TableEventStream extends ParosAbstractTable {
                         psInsertEvent.setInt(7, time);
                     }
                     psInsertEvent.setClob(8, new JDBCClob(event.getRawEvent()));
-                    psInsertEvent.execute();
+                    psInsertEvent.addBatch();
+                    batch.add(eventBuffer.poll());
+                }
 
-                    event = eventBuffer.poll();
-                } while (event != null);
+                if (!batch.isEmpty()) {
+                    psInsertEvent.executeBatch();
+                }
+                written = true;
             } catch (SQLException e) {
+                try {
+                    psInsertEvent.clearBatch();
+                } catch (SQLException ex) {
+                    LOGGER.debug(ex.getMessage(), ex);
+                }
                 throw new DatabaseException(e);
+            } finally {
+                if (!written && !batch.isEmpty()) {
+                    // Keep the events pending, in the same order, to write them in the next batch.
+                    Queue<ServerSentEvent> remaining = eventBuffer;
+                    eventBuffer = new LinkedList<>(batch);
+                    eventBuffer.addAll(remaining);
+                }
+            }
+        }
+    }
+
+    private boolean isStreamInserted(Integer streamId) throws DatabaseException {
+        while (!streamIds.contains(streamId)) {
+            // maybe stream is buffered
+            if (streamBuffer.isEmpty()) {
+                return false;
             }
+            insertOrUpdateStream(streamBuffer.poll());
         }
+        return true;
     }
 
     public List<ServerSentEventStream> getStreams(ServerSentEventStream criteria)
@@ -666,6 +752,7 @@ public class TableEventStream extends ParosAbstractTable {
     public void purgeStream(Integer streamId) throws DatabaseException {
         synchronized (this) {
             try {
+                eventBuffer.removeIf(event -> streamId.equals(event.getStreamId()));
                 if (streamIds.contains(streamId)) {
                     psDeleteEventsByStreamId.setInt(1, streamId);
                     psDeleteEventsByStreamId.execute();
@@ -40,8 +40,10 @@ abstract class BaseEventStreamTest {
     }
 
     protected HttpMessage getMockHttpMessage() throws URIException {
-        HistoryReference mockHistoryRef = mock(HistoryReference.class);
+        return getMockHttpMessage(mock(HistoryReference.class));
+    }
 
+    protected HttpMessage getMockHttpMessage(HistoryReference mockHistoryRef) throws URIException {
         HttpRequestHeader mockReqHeader = mock(HttpRequestHeader.class);
         when(mockReqHeader.getURI()).thenReturn(new URI("http", "example.com", "/", ""));
 
@@ -21,7 +21,9 @@ package org.zaproxy.zap.extension.sse;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -33,13 +35,19 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.net.Socket;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.parosproxy.paros.Constant;
+import org.parosproxy.paros.model.HistoryReference;
+import org.parosproxy.paros.network.HttpMessage;
+import org.zaproxy.zap.extension.sse.EventStreamProxy.State;
+import org.zaproxy.zap.extension.sse.db.ServerSentEventStream;
 import org.zaproxy.zap.utils.I18N;
 import org.zaproxy.zap.utils.Stats;
 import org.zaproxy.zap.utils.StatsListener;
@@ -328,4 +336,57 @@ class EventStreamProxyUnitTest extends BaseEventStreamTest {
         // Then
         verify(statsListener).counterInc("stats.sse.streams");
     }
+
+    @Test
+    void shouldRunListenerInGivenExecutor() throws IOException {
+        // Given
+        Executor executor = mock();
+        EventStreamProxy proxy =
+                new EventStreamProxy(getMockHttpMessage(), null, mock(), null, executor);
+
+        // When
+        proxy.start();
+
+        // Then
+        verify(executor).execute(any(EventStreamListener.class));
+    }
+
+    @Test
+    void shouldNotWaitForHistoryReferenceIfNotYetPersisted() throws IOException {
+        // Given
+        HttpMessage message = getMockHttpMessage(null);
+        EventStreamObserver observer = mock();
+        EventStreamProxy proxy = new EventStreamProxy(message, null, mock(), null, mock());
+        proxy.addObserver(observer);
+        ArgumentCaptor<ServerSentEventStream> stream =
+                ArgumentCaptor.forClass(ServerSentEventStream.class);
+
+        // When
+        proxy.start();
+
+        // Then
+        verify(observer).onServerSentEventStateChange(eq(State.OPEN), stream.capture());
+        assertThat(stream.getValue().getHistoryId(), is(nullValue()));
+    }
+
+    @Test
+    void shouldSetHistoryIdWithoutNotifyingObserversAgain() throws IOException {
+        // Given
+        HttpMessage message = getMockHttpMessage(null);
+        EventStreamObserver observer = mock();
+        EventStreamProxy proxy = new EventStreamProxy(message, null, mock(), null, mock());
+        proxy.addObserver(observer);
+        proxy.start();
+        HistoryReference historyRef = mock();
+        when(historyRef.getHistoryId()).thenReturn(42);
+        ArgumentCaptor<ServerSentEventStream> stream =
+                ArgumentCaptor.forClass(ServerSentEventStream.class);
+
+        // When
+        proxy.setHistoryReference(historyRef);
+
+        // Then
+        verify(observer, times(1)).onServerSentEventStateChange(eq(State.OPEN), stream.capture());
+        assertThat(stream.getValue().getHistoryId(), is(42));
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.sse;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.model.HistoryReference;
+import org.parosproxy.paros.network.HttpMessage;
+
+/** Unit test for {@link HistoryReferenceTracker}. */
+class HistoryReferenceTrackerUnitTest {
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> checkTask;
+    private AtomicLong time;
+    private HistoryReferenceTracker tracker;
+
+    @BeforeEach
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void setUp() {
+        scheduler = mock(ScheduledExecutorService.class);
+        checkTask = mock(ScheduledFuture.class);
+        when(scheduler.scheduleWithFixedDelay(
+                        any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class)))
+                .thenReturn((ScheduledFuture) checkTask);
+        time = new AtomicLong();
+        tracker = new HistoryReferenceTracker(scheduler, time::get);
+    }
+
+    @Test
+    void shouldCompleteRightAwayIfAlreadyPersisted() {
+        // Given
+        HistoryReference historyRef = mock(HistoryReference.class);
+        HttpMessage message = mock(HttpMessage.class);
+        when(message.getHistoryRef()).thenReturn(historyRef);
+
+        // When
+        CompletableFuture<HistoryReference> future = tracker.whenPersisted(message);
+
+        // Then
+        assertThat(future.getNow(null), is(sameInstance(historyRef)));
+        verifyNoInteractions(scheduler);
+    }
+
+    @Test
+    void shouldCompleteOncePersisted() {
+        // Given
+        HistoryReference historyRef = mock(HistoryReference.class);
+        HttpMessage message = mock(HttpMessage.class);
+        when(message.getHistoryRef()).thenReturn(null, null, historyRef);
+        CompletableFuture<HistoryReference> future = tracker.whenPersisted(message);
+
+        // When
+        tracker.checkPendingMessages();
+        boolean doneBefore = future.isDone();
+        tracker.checkPendingMessages();
+
+        // Then
+        assertThat(doneBefore, is(false));
+        assertThat(future.getNow(null), is(sameInstance(historyRef)));
+        assertThat(tracker.getPendingCount(), is(0));
+        verify(checkTask).cancel(false);
+    }
+
+    @Test
+    void shouldUseSingleCheckTaskForAllMessages() {
+        // Given
+        HttpMessage message1 = mock(HttpMessage.class);
+        HttpMessage message2 = mock(HttpMessage.class);
+
+        // When
+        tracker.whenPersisted(message1);
+        tracker.whenPersisted(message2);
+
+        // Then
+        assertThat(tracker.getPendingCount(), is(2));
+        verify(scheduler, times(1))
+                .scheduleWithFixedDelay(
+                        any(Runnable.class),
+                        eq(HistoryReferenceTracker.CHECK_INTERVAL_MS),
+                        eq(HistoryReferenceTracker.CHECK_INTERVAL_MS),
+                        eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldCancelIfNotPersistedInTime() {
+        // Given
+        HttpMessage message = mock(HttpMessage.class);
+        CompletableFuture<HistoryReference> future = tracker.whenPersisted(message);
+        time.set(HistoryReferenceTracker.MAX_WAIT_MS);
+
+        // When
+        tracker.checkPendingMessages();
+
+        // Then
+        assertThat(future.isCancelled(), is(true));
+        assertThat(tracker.getPendingCount(), is(0));
+    }
+
+    @Test
+    void shouldCancelPendingOnClear() {
+        // Given
+        HttpMessage message = mock(HttpMessage.class);
+        CompletableFuture<HistoryReference> future = tracker.whenPersisted(message);
+
+        // When
+        tracker.clear();
+
+        // Then
+        assertThat(future.isCancelled(), is(true));
+        verify(checkTask).cancel(false);
+    }
+}
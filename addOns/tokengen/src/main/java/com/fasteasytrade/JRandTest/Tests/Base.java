@@ -217,7 +217,10 @@ public class Base {
 	 * @return double with 4 decimal places (as in C "%.4f")
 	 */
 	public String d4d(double d) {
-		return df.format(d);
+		// DecimalFormat is not thread-safe, the tests might run in parallel.
+		synchronized (df) {
+			return df.format(d);
+		}
 	}
 
 	/**
@@ -56,7 +56,7 @@ public class CharacterFrequencyMap {
     private Map<Integer, Set<Character>> charsPerPosn = new HashMap<>();
     private Set<Character> allChrs = new HashSet<>();
 
-    public void addToken(String token) {
+    public synchronized void addToken(String token) {
         tokens.add(token);
         if (token.length() > maxLength) {
             maxLength = token.length();
@@ -136,19 +136,28 @@ public class CharacterFrequencyMap {
         int min = mid - mdev;
         int max = mid + mdev;
 
+        // Count all columns in a single pass over the tokens.
+        List<Map<Character, Integer>> countsPerColumn = new ArrayList<>(maxLength);
+        for (int i = 0; i < maxLength; i++) {
+            countsPerColumn.add(new HashMap<>());
+        }
+        for (String token : tokens) {
+            if (token == null) {
+                continue;
+            }
+            for (int i = 0; i < token.length(); i++) {
+                countsPerColumn.get(i).merge(token.charAt(i), 1, Integer::sum);
+            }
+        }
+
         for (int i = 0; i < maxLength; i++) {
             StringBuilder sb = new StringBuilder();
             sb.append("Col ");
             sb.append(i);
+            Map<Character, Integer> counts = countsPerColumn.get(i);
             for (char c : allChrs) {
-                int instantsOfChr = 0;
-
                 // TODO handle decs as special case?
-                for (String token : tokens) {
-                    if (token != null && token.length() > i && token.charAt(i) == c) {
-                        instantsOfChr++;
-                    }
-                }
+                int instantsOfChr = counts.getOrDefault(c, 0);
                 sb.append(" ");
                 sb.append(c);
                 sb.append(":");
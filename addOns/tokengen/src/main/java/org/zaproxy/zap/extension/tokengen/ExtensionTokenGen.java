@@ -59,6 +59,7 @@ public class ExtensionTokenGen extends ExtensionAdaptor {
 
     private TokenParam tokenParam = null;
     private TokenOptionsPanel tokenOptionsPanel;
+    private TokenGenApi api;
 
     private List<TokenGenerator> generators = Collections.emptyList();
     private int runningGenerators = 0;
@@ -87,6 +88,9 @@ public class ExtensionTokenGen extends ExtensionAdaptor {
 
         extensionHook.addOptionsParamSet(getTokenParam());
 
+        api = new TokenGenApi(getMessages());
+        extensionHook.addApiImplementor(api);
+
         if (hasView()) {
             // Register our popup menu item, as long as we're not running as a daemon
             extensionHook.getHookMenu().addPopupMenuItem(getPopupTokenGen());
@@ -107,6 +111,10 @@ public class ExtensionTokenGen extends ExtensionAdaptor {
     public void unload() {
         stopTokenGeneration();
 
+        if (api != null) {
+            api.shutdown();
+        }
+
         if (hasView()) {
             if (analyseTokensDialog != null) {
                 analyseTokensDialog.dispose();
@@ -323,7 +331,8 @@ public class ExtensionTokenGen extends ExtensionAdaptor {
 
             gen.setExtension(this);
             gen.setHttpMessage(msg);
-            gen.setNumberTokens(numGen / numThreads); // TODO what about remainder?
+            // Spread the remainder over the first generators.
+            gen.setNumberTokens(numGen / numThreads + (i < numGen % numThreads ? 1 : 0));
             gen.setTargetToken(htmlParameterStats);
             gen.setRequestDelay(getTokenParam().getRequestDelayInMs(), TimeUnit.MILLISECONDS);
             gen.setShouldRemoveCookie(shouldRemoveCookie);
@@ -332,7 +341,7 @@ public class ExtensionTokenGen extends ExtensionAdaptor {
         }
     }
 
-    protected void generatorStopped(TokenGenerator gen) {
+    protected synchronized void generatorStopped(TokenGenerator gen) {
         this.runningGenerators--;
         LOGGER.debug("generatorStopped runningGenerators {}", runningGenerators);
 
@@ -0,0 +1,276 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.tokengen;
+
+import com.fasteasytrade.JRandTest.IO.OutputDestination;
+import com.fasteasytrade.JRandTest.Tests.Base;
+import com.fasteasytrade.JRandTest.Tests.Count16Bits;
+import com.fasteasytrade.JRandTest.Tests.Count1Bit;
+import com.fasteasytrade.JRandTest.Tests.Count2Bits;
+import com.fasteasytrade.JRandTest.Tests.Count3Bits;
+import com.fasteasytrade.JRandTest.Tests.Count4Bits;
+import com.fasteasytrade.JRandTest.Tests.Count8Bits;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.zap.extension.tokengen.TokenAnalysisTestResult.Result;
+
+/**
+ * Analyses the randomness of tokens, without a GUI.
+ *
+ * <p>The tests are independent from each other so they run in parallel, each reading its own
+ * stream of the tokens packed in a {@link TokenBytes}. The results are notified and returned in
+ * the same order as the tests are defined, regardless of when they finished. The tokens are packed
+ * incrementally, subsequent analyses of the same {@link CharacterFrequencyMap} pack only the
+ * tokens added in the meantime.
+ */
+public class TokenAnalyser {
+
+    private static final Logger LOGGER = LogManager.getLogger(TokenAnalyser.class);
+
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private final ResourceBundle messages;
+    private final ExecutorService executor;
+    private final TokenBytes tokenBytes;
+    private final List<TokenAnalyserListenner> listeners = new ArrayList<>();
+    private final List<OutputDestination> outputDestinations = new ArrayList<>();
+    private final List<Future<TestOutcome>> running = new ArrayList<>();
+    private volatile boolean cancelled;
+
+    /**
+     * Constructs a {@code TokenAnalyser} that runs the tests with as many threads as available
+     * processors.
+     *
+     * @param messages the resource bundle to obtain the summaries of the results.
+     */
+    public TokenAnalyser(ResourceBundle messages) {
+        this(messages, createExecutor(Runtime.getRuntime().availableProcessors()));
+    }
+
+    TokenAnalyser(ResourceBundle messages, ExecutorService executor) {
+        this.messages = messages;
+        this.executor = executor;
+        this.tokenBytes = new TokenBytes();
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        int poolNumber = POOL_NUMBER.incrementAndGet();
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(
+                Math.max(1, Math.min(threads, TokenAnalyserThread.NUM_TESTS)),
+                r -> {
+                    Thread thread =
+                            new Thread(
+                                    r,
+                                    "ZAP-TokenAnalyser-"
+                                            + poolNumber
+                                            + "-"
+                                            + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public void addListenner(TokenAnalyserListenner listener) {
+        listeners.add(listener);
+    }
+
+    public void addOutputDestination(OutputDestination outputDestination) {
+        if (outputDestination != null) {
+            outputDestinations.add(outputDestination);
+        }
+    }
+
+    /**
+     * Analyses the tokens of the given map.
+     *
+     * <p>The map should not be changed while being analysed.
+     *
+     * @param cfm the map with the tokens.
+     * @return the results, in the order of the tests, fewer if cancelled.
+     */
+    public List<TokenAnalysisTestResult> analyse(CharacterFrequencyMap cfm) {
+        cancelled = false;
+        tokenBytes.update(cfm);
+
+        List<Future<TestOutcome>> futures;
+        synchronized (running) {
+            running.clear();
+            running.add(submit(() -> checkMaxEntropy(cfm)));
+            running.add(submit(cfm::checkCharacterUniformity));
+            running.add(submit(cfm::checkCharacterTransitions));
+            running.add(submit(new Count1Bit(), TokenAnalysisTestResult.Type.COUNT_1_BIT));
+            running.add(submit(new Count2Bits(), TokenAnalysisTestResult.Type.COUNT_2_BITS));
+            running.add(submit(new Count3Bits(), TokenAnalysisTestResult.Type.COUNT_3_BITS));
+            running.add(submit(new Count4Bits(), TokenAnalysisTestResult.Type.COUNT_4_BITS));
+            running.add(submit(new Count8Bits(), TokenAnalysisTestResult.Type.COUNT_8_BITS));
+            running.add(submit(new Count16Bits(), TokenAnalysisTestResult.Type.COUNT_16_BITS));
+            futures = new ArrayList<>(running);
+        }
+
+        List<TokenAnalysisTestResult> results = new ArrayList<>(futures.size());
+        for (Future<TestOutcome> future : futures) {
+            if (cancelled) {
+                break;
+            }
+            TestOutcome outcome = getOutcome(future);
+            if (outcome == null) {
+                continue;
+            }
+            outputDestinations.forEach(od -> od.printf(outcome.output));
+            results.add(outcome.result);
+            notifyListenners(outcome.result);
+        }
+        return results;
+    }
+
+    private Future<TestOutcome> submit(Supplier<TokenAnalysisTestResult> test) {
+        return executor.submit(() -> new TestOutcome(test.get(), ""));
+    }
+
+    private Future<TestOutcome> submit(Base test, TokenAnalysisTestResult.Type type) {
+        return executor.submit(
+                () -> {
+                    // Buffered, the tests run in parallel and the output would be interleaved.
+                    StringBuilderOutput output = new StringBuilderOutput();
+                    TokenAnalysisTestResult result = new TokenAnalysisTestResult(type);
+                    test.registerInput(tokenBytes.newStream());
+                    test.addOutputDestination(output);
+                    test.runTest();
+                    result.setDetails(test.getDetails());
+                    result.setFailures(test.getErrors());
+                    result.setResult(Result.valueOf(test.getResult().name()));
+                    test.help(); // This outputs a summary to the output destination
+                    return new TestOutcome(result, output.toString());
+                });
+    }
+
+    private static TestOutcome getOutcome(Future<TestOutcome> future) {
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            LOGGER.error(e.getCause().getMessage(), e.getCause());
+            return null;
+        }
+    }
+
+    private TokenAnalysisTestResult checkMaxEntropy(CharacterFrequencyMap cfm) {
+        double maxEntropy = cfm.getMaxTheoreticalEntropy();
+        TokenAnalysisTestResult result =
+                new TokenAnalysisTestResult(TokenAnalysisTestResult.Type.MAX_ENTROPY);
+        if (maxEntropy >= 80) {
+            result.setResult(TokenAnalysisTestResult.Result.PASS);
+            result.setSummary(messages.getString("tokengen.analyse.summary.excellent"));
+        } else if (maxEntropy >= 60) {
+            result.setResult(TokenAnalysisTestResult.Result.HIGH);
+            result.setSummary(messages.getString("tokengen.analyse.summary.good"));
+        } else if (maxEntropy >= 40) {
+            result.setResult(TokenAnalysisTestResult.Result.MEDIUM);
+            result.setSummary(messages.getString("tokengen.analyse.summary.robust"));
+        } else if (maxEntropy >= 20) {
+            result.setResult(TokenAnalysisTestResult.Result.LOW);
+            result.setSummary(messages.getString("tokengen.analyse.summary.vulnerable"));
+        } else {
+            result.setResult(TokenAnalysisTestResult.Result.FAIL);
+            result.setSummary(messages.getString("tokengen.analyse.summary.deterministic"));
+        }
+        List<String> entDetails = new ArrayList<>();
+        entDetails.add(messages.getString("tokengen.analyse.detail.maxentropy") + " " + maxEntropy);
+        result.setDetails(entDetails);
+        return result;
+    }
+
+    private void notifyListenners(TokenAnalysisTestResult result) {
+        LOGGER.debug("notifyListenners {} {}", result.getType(), result.getResult().name());
+
+        for (TokenAnalyserListenner listener : listeners) {
+            listener.notifyTestResult(result);
+        }
+    }
+
+    /**
+     * Gets the number of tokens packed for analysis.
+     *
+     * @return the number of tokens.
+     */
+    public int getTokenCount() {
+        return tokenBytes.getTokenCount();
+    }
+
+    /** Cancels the analysis in progress, if any. */
+    public void cancel() {
+        cancelled = true;
+        synchronized (running) {
+            running.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /** Cancels the analysis in progress, if any, and stops the threads. */
+    public void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    private static class TestOutcome {
+
+        private final TokenAnalysisTestResult result;
+        private final String output;
+
+        TestOutcome(TokenAnalysisTestResult result, String output) {
+            this.result = result;
+            this.output = output;
+        }
+    }
+
+    private static class StringBuilderOutput implements OutputDestination {
+
+        private final StringBuilder sb = new StringBuilder();
+
+        @Override
+        public void printf(String s) {
+            sb.append(s);
+        }
+
+        @Override
+        public void puts(String s) {
+            sb.append(s);
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.tokengen;
+
+import com.fasteasytrade.JRandTest.IO.RandomStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * The tokens of a {@link CharacterFrequencyMap}, packed once into a single array of bytes.
+ *
+ * <p>The bytes are the same as read by {@link TokenRandomStream}, but each call to {@link
+ * #newStream()} returns an independent stream, which allows to run several tests at the same time.
+ * Further tokens are packed incrementally with {@link #update(CharacterFrequencyMap)}, the tokens
+ * are packed again only if their format (decimal, hexadecimal, or other) changed.
+ */
+public class TokenBytes {
+
+    private enum Format {
+        DECIMAL,
+        HEX,
+        RAW
+    }
+
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private CharacterFrequencyMap cfm;
+    private Format format;
+    private int tokenCount;
+    private byte[] bytes = new byte[0];
+    private int length;
+
+    /**
+     * Packs the tokens of the given map not yet packed.
+     *
+     * @param cfm the map with the tokens.
+     * @return the number of tokens packed by this call.
+     */
+    public synchronized int update(CharacterFrequencyMap cfm) {
+        Format currentFormat = getFormat(cfm);
+        if (this.cfm != cfm || format != currentFormat) {
+            this.cfm = cfm;
+            format = currentFormat;
+            tokenCount = 0;
+            length = 0;
+            bytes = new byte[0];
+        }
+
+        int packed = 0;
+        int size = cfm.size();
+        for (; tokenCount < size; tokenCount++) {
+            append(cfm.getByteArrayToken(tokenCount));
+            packed++;
+        }
+        return packed;
+    }
+
+    private static Format getFormat(CharacterFrequencyMap cfm) {
+        if (cfm.isAllDecimal()) {
+            return Format.DECIMAL;
+        }
+        if (cfm.isAllHex()) {
+            return Format.HEX;
+        }
+        return Format.RAW;
+    }
+
+    private void append(byte[] token) {
+        if (token == null || token.length == 0) {
+            return;
+        }
+
+        int required = length + token.length;
+        if (required > bytes.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, bytes.length * 2);
+            bytes = Arrays.copyOf(bytes, Math.max(required, capacity));
+        }
+        System.arraycopy(token, 0, bytes, length, token.length);
+        length = required;
+    }
+
+    /**
+     * Gets the number of tokens packed.
+     *
+     * @return the number of tokens.
+     */
+    public synchronized int getTokenCount() {
+        return tokenCount;
+    }
+
+    /**
+     * Gets the number of bytes packed.
+     *
+     * @return the number of bytes.
+     */
+    public synchronized int getLength() {
+        return length;
+    }
+
+    /**
+     * Creates a new stream over the bytes packed so far.
+     *
+     * <p>The stream is not affected by tokens packed after its creation.
+     *
+     * @return the new stream, never {@code null}.
+     */
+    public synchronized RandomStream newStream() {
+        return new Stream(bytes, length);
+    }
+
+    private static class Stream implements RandomStream {
+
+        private final byte[] bytes;
+        private final int length;
+        private int position;
+        private boolean open = true;
+        private String fileName = "TokenBytes";
+
+        Stream(byte[] bytes, int length) {
+            this.bytes = bytes;
+            this.length = length;
+            open = length > 0;
+        }
+
+        @Override
+        public boolean closeInputStream() {
+            open = false;
+            return true;
+        }
+
+        @Override
+        public String getFilename() {
+            return fileName;
+        }
+
+        @Override
+        public void setFilename(String fileName) {
+            this.fileName = fileName;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public boolean openInputStream() {
+            position = 0;
+            open = length > 0;
+            return true;
+        }
+
+        private BigInteger readNumber(int sizeInBytes) {
+            byte[] ba = new byte[sizeInBytes];
+            for (int i = 0; i < sizeInBytes; i++) {
+                if (!open) {
+                    return BigInteger.valueOf(-1);
+                }
+                ba[i] = bytes[position++];
+                if (position >= length) {
+                    open = false;
+                }
+            }
+            return new BigInteger(ba);
+        }
+
+        @Override
+        public byte readByte() {
+            return readNumber(1).byteValue();
+        }
+
+        @Override
+        public int readInt() {
+            return readNumber(4).intValue();
+        }
+
+        @Override
+        public long readLong() {
+            return readNumber(8).longValue();
+        }
+    }
+}
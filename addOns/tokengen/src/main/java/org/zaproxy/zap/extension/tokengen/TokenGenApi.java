@@ -0,0 +1,177 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.tokengen;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import net.sf.json.JSONObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.zap.extension.api.ApiAction;
+import org.zaproxy.zap.extension.api.ApiException;
+import org.zaproxy.zap.extension.api.ApiImplementor;
+import org.zaproxy.zap.extension.api.ApiResponse;
+import org.zaproxy.zap.extension.api.ApiResponseElement;
+import org.zaproxy.zap.extension.api.ApiResponseList;
+import org.zaproxy.zap.extension.api.ApiResponseSet;
+import org.zaproxy.zap.extension.api.ApiView;
+
+/**
+ * The API to analyse the randomness of tokens, for example, to assess the quality of session
+ * tokens in a CI pipeline.
+ *
+ * <p>The tokens are added incrementally and can be analysed any number of times, each analysis
+ * packs only the tokens added since the previous one.
+ */
+public class TokenGenApi extends ApiImplementor {
+
+    private static final Logger LOGGER = LogManager.getLogger(TokenGenApi.class);
+    private static final String PREFIX = "tokengen";
+
+    private static final String VIEW_NUMBER_OF_TOKENS = "numberOfTokens";
+    private static final String VIEW_ANALYSIS = "analysis";
+
+    private static final String ACTION_ADD_TOKENS = "addTokens";
+    private static final String ACTION_LOAD_TOKENS = "loadTokens";
+    private static final String ACTION_CLEAR_TOKENS = "clearTokens";
+
+    private static final String PARAM_TOKENS = "tokens";
+    private static final String PARAM_FILE_NAME = "fileName";
+
+    private final ResourceBundle messages;
+    private CharacterFrequencyMap cfm;
+    private volatile TokenAnalyser analyser;
+
+    /** Provided only for API client generator usage. */
+    public TokenGenApi() {
+        this(null);
+    }
+
+    public TokenGenApi(ResourceBundle messages) {
+        this.messages = messages;
+        this.cfm = new CharacterFrequencyMap();
+
+        this.addApiView(new ApiView(VIEW_NUMBER_OF_TOKENS));
+        this.addApiView(new ApiView(VIEW_ANALYSIS));
+
+        this.addApiAction(new ApiAction(ACTION_ADD_TOKENS, List.of(PARAM_TOKENS)));
+        this.addApiAction(new ApiAction(ACTION_LOAD_TOKENS, List.of(PARAM_FILE_NAME)));
+        this.addApiAction(new ApiAction(ACTION_CLEAR_TOKENS));
+    }
+
+    @Override
+    public String getPrefix() {
+        return PREFIX;
+    }
+
+    @Override
+    public ApiResponse handleApiView(String name, JSONObject params) throws ApiException {
+        LOGGER.debug("handleApiView {} {}", name, params);
+
+        switch (name) {
+            case VIEW_NUMBER_OF_TOKENS:
+                synchronized (this) {
+                    return new ApiResponseElement(name, String.valueOf(cfm.size()));
+                }
+
+            case VIEW_ANALYSIS:
+                ApiResponseList resultsList = new ApiResponseList(name);
+                analyse().forEach(result -> resultsList.addItem(resultToResponse(result)));
+                return resultsList;
+
+            default:
+                throw new ApiException(ApiException.Type.BAD_VIEW);
+        }
+    }
+
+    @Override
+    public ApiResponse handleApiAction(String name, JSONObject params) throws ApiException {
+        LOGGER.debug("handleApiAction {} {}", name, params);
+
+        switch (name) {
+            case ACTION_ADD_TOKENS:
+                String tokens = params.getString(PARAM_TOKENS);
+                synchronized (this) {
+                    tokens.lines()
+                            .map(String::trim)
+                            .filter(token -> !token.isEmpty())
+                            .forEach(cfm::addToken);
+                }
+                return ApiResponseElement.OK;
+
+            case ACTION_LOAD_TOKENS:
+                File file = new File(params.getString(PARAM_FILE_NAME));
+                if (!file.canRead()) {
+                    throw new ApiException(
+                            ApiException.Type.DOES_NOT_EXIST, file.getAbsolutePath());
+                }
+                synchronized (this) {
+                    try {
+                        cfm.load(file);
+                    } catch (IOException e) {
+                        throw new ApiException(
+                                ApiException.Type.ILLEGAL_PARAMETER, PARAM_FILE_NAME, e);
+                    }
+                }
+                return ApiResponseElement.OK;
+
+            case ACTION_CLEAR_TOKENS:
+                synchronized (this) {
+                    cfm = new CharacterFrequencyMap();
+                }
+                return ApiResponseElement.OK;
+
+            default:
+                throw new ApiException(ApiException.Type.BAD_ACTION);
+        }
+    }
+
+    private synchronized List<TokenAnalysisTestResult> analyse() {
+        if (analyser == null) {
+            analyser = new TokenAnalyser(messages);
+        }
+        return analyser.analyse(cfm);
+    }
+
+    private static ApiResponse resultToResponse(TokenAnalysisTestResult result) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("type", result.getType().name());
+        map.put("name", result.getName());
+        map.put("result", result.getResult().name());
+        if (result.getSummary() != null) {
+            map.put("summary", result.getSummary());
+        }
+        List<String> failures = result.getFailures();
+        map.put("failures", failures != null ? failures.size() : 0);
+        return new ApiResponseSet<>("result", map);
+    }
+
+    /** Stops the analysis in progress, if any, and releases the resources. */
+    void shutdown() {
+        TokenAnalyser currentAnalyser = analyser;
+        if (currentAnalyser != null) {
+            currentAnalyser.shutdown();
+        }
+    }
+}
@@ -39,8 +39,9 @@ public class TokenGenerator extends SwingWorker<Void, Void> {
     private HttpSender httpSender = null;
     private HtmlParameterStats targetToken = null;
     private ExtensionTokenGen extension = null;
-    private boolean stopGenerating = false;
-    private boolean paused = false;
+    private volatile boolean stopGenerating = false;
+    private volatile boolean paused = false;
+    private final Object pauseLock = new Object();
     private long requestDelayDuration;
     private TimeUnit requestDelayTimeUnit;
     private boolean shouldRemoveCookie = false;
@@ -82,13 +83,7 @@ public class TokenGenerator extends SwingWorker<Void, Void> {
         }
 
         for (int i = 0; i < numberTokens; i++) {
-            while (paused && !this.stopGenerating) {
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
-                    // Ignore
-                }
-            }
+            waitWhilePaused();
             if (this.stopGenerating) {
                 break;
             }
@@ -109,6 +104,18 @@ public class TokenGenerator extends SwingWorker<Void, Void> {
         this.extension.generatorStopped(this);
     }
 
+    private void waitWhilePaused() {
+        synchronized (pauseLock) {
+            while (paused && !this.stopGenerating) {
+                try {
+                    pauseLock.wait();
+                } catch (InterruptedException e) {
+                    // Ignore
+                }
+            }
+        }
+    }
+
     public void setNumberTokens(int numberTokens) {
         this.numberTokens = numberTokens;
     }
@@ -126,7 +133,10 @@ public class TokenGenerator extends SwingWorker<Void, Void> {
     }
 
     public void stopGenerating() {
-        this.stopGenerating = true;
+        synchronized (pauseLock) {
+            this.stopGenerating = true;
+            pauseLock.notifyAll();
+        }
     }
 
     public void setExtension(ExtensionTokenGen extension) {
@@ -138,7 +148,10 @@ public class TokenGenerator extends SwingWorker<Void, Void> {
     }
 
     public void setPaused(boolean paused) {
-        this.paused = paused;
+        synchronized (pauseLock) {
+            this.paused = paused;
+            pauseLock.notifyAll();
+        }
     }
 
     public void setRequestDelay(long duration, TimeUnit timeUnit) {
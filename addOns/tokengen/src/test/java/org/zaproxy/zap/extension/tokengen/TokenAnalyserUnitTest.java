@@ -0,0 +1,131 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.tokengen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.zap.extension.tokengen.TokenAnalysisTestResult.Type;
+
+/** Unit test for {@link TokenAnalyser}. */
+class TokenAnalyserUnitTest {
+
+    private TokenAnalyser analyser;
+
+    @BeforeEach
+    void setUp() {
+        analyser = new TokenAnalyser(new KeysResourceBundle(), Executors.newFixedThreadPool(4));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        analyser.shutdown();
+    }
+
+    @Test
+    void shouldReturnResultsInOrderOfTests() {
+        // Given
+        CharacterFrequencyMap cfm = createRandomTokens(500);
+        // When
+        List<TokenAnalysisTestResult> results = analyser.analyse(cfm);
+        // Then
+        assertThat(results, hasSize(TokenAnalyserThread.NUM_TESTS));
+        assertThat(
+                results.stream().map(TokenAnalysisTestResult::getType).collect(Collectors.toList()),
+                contains(Type.values()));
+    }
+
+    @Test
+    void shouldNotifyListenersInOrderOfTests() {
+        // Given
+        CharacterFrequencyMap cfm = createRandomTokens(500);
+        List<Type> notified = Collections.synchronizedList(new ArrayList<>());
+        analyser.addListenner(result -> notified.add(result.getType()));
+        // When
+        analyser.analyse(cfm);
+        // Then
+        assertThat(notified, contains(Type.values()));
+    }
+
+    @Test
+    void shouldProduceSameResultsOnReanalysis() {
+        // Given
+        CharacterFrequencyMap cfm = createRandomTokens(500);
+        List<TokenAnalysisTestResult> first = analyser.analyse(cfm);
+        // When
+        List<TokenAnalysisTestResult> second = analyser.analyse(cfm);
+        // Then
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i).getResult(), is(equalTo(first.get(i).getResult())));
+            assertThat(second.get(i).getDetails(), is(equalTo(first.get(i).getDetails())));
+        }
+    }
+
+    @Test
+    void shouldAnalyseTokensAddedAfterPreviousAnalysis() {
+        // Given
+        CharacterFrequencyMap cfm = createRandomTokens(500);
+        analyser.analyse(cfm);
+        createRandomTokens(500).getTokens().forEach(cfm::addToken);
+        // When
+        analyser.analyse(cfm);
+        // Then
+        assertThat(analyser.getTokenCount(), is(equalTo(1000)));
+    }
+
+    private static CharacterFrequencyMap createRandomTokens(int count) {
+        SecureRandom random = new SecureRandom();
+        CharacterFrequencyMap cfm = new CharacterFrequencyMap();
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < count; i++) {
+            random.nextBytes(bytes);
+            cfm.addToken(HexFormat.of().formatHex(bytes));
+        }
+        return cfm;
+    }
+
+    private static class KeysResourceBundle extends ResourceBundle {
+
+        @Override
+        protected Object handleGetObject(String key) {
+            return key;
+        }
+
+        @Override
+        public Enumeration<String> getKeys() {
+            return Collections.emptyEnumeration();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.tokengen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import com.fasteasytrade.JRandTest.IO.RandomStream;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link TokenBytes}. */
+class TokenBytesUnitTest {
+
+    @Test
+    void shouldReadSameBytesAsTokenRandomStream() throws Exception {
+        // Given
+        CharacterFrequencyMap cfm = new CharacterFrequencyMap();
+        cfm.addToken("0a1b2c");
+        cfm.addToken("ffee");
+        cfm.addToken("1234567890");
+        TokenBytes tokenBytes = new TokenBytes();
+        tokenBytes.update(cfm);
+        RandomStream expected = new TokenRandomStream(cfm);
+        expected.openInputStream();
+        // When
+        RandomStream stream = tokenBytes.newStream();
+        stream.openInputStream();
+        // Then
+        while (expected.isOpen()) {
+            assertThat(stream.isOpen(), is(equalTo(true)));
+            assertThat(stream.readByte(), is(equalTo(expected.readByte())));
+        }
+        assertThat(stream.isOpen(), is(equalTo(false)));
+        assertThat(stream.readInt(), is(equalTo(-1)));
+    }
+
+    @Test
+    void shouldPackOnlyNewTokens() {
+        // Given
+        CharacterFrequencyMap cfm = new CharacterFrequencyMap();
+        cfm.addToken("0a1b");
+        TokenBytes tokenBytes = new TokenBytes();
+        tokenBytes.update(cfm);
+        cfm.addToken("2c3d");
+        // When
+        int packed = tokenBytes.update(cfm);
+        // Then
+        assertThat(packed, is(equalTo(1)));
+        assertThat(tokenBytes.getTokenCount(), is(equalTo(2)));
+        assertThat(tokenBytes.getLength(), is(equalTo(4)));
+    }
+
+    @Test
+    void shouldPackAgainIfFormatChanged() {
+        // Given
+        CharacterFrequencyMap cfm = new CharacterFrequencyMap();
+        cfm.addToken("0a1b");
+        TokenBytes tokenBytes = new TokenBytes();
+        tokenBytes.update(cfm);
+        cfm.addToken("zzzz");
+        // When
+        int packed = tokenBytes.update(cfm);
+        // Then
+        assertThat(packed, is(equalTo(2)));
+        assertThat(tokenBytes.getLength(), is(equalTo(8)));
+    }
+
+    @Test
+    void shouldCreateIndependentStreams() throws Exception {
+        // Given
+        CharacterFrequencyMap cfm = new CharacterFrequencyMap();
+        cfm.addToken("0102030a");
+        TokenBytes tokenBytes = new TokenBytes();
+        tokenBytes.update(cfm);
+        RandomStream stream1 = tokenBytes.newStream();
+        RandomStream stream2 = tokenBytes.newStream();
+        // When
+        int value1 = stream1.readInt();
+        byte value2 = stream2.readByte();
+        // Then
+        assertThat(value1, is(equalTo(0x0102030a)));
+        assertThat(value2, is(equalTo((byte) 1)));
+    }
+
+    @Test
+    void shouldNotBeAffectedByTokensPackedAfterCreation() throws Exception {
+        // Given
+        CharacterFrequencyMap cfm = new CharacterFrequencyMap();
+        cfm.addToken("01");
+        TokenBytes tokenBytes = new TokenBytes();
+        tokenBytes.update(cfm);
+        RandomStream stream = tokenBytes.newStream();
+        cfm.addToken("02");
+        tokenBytes.update(cfm);
+        // When
+        byte value = stream.readByte();
+        // Then
+        assertThat(value, is(equalTo((byte) 1)));
+        assertThat(stream.isOpen(), is(equalTo(false)));
+    }
+}
@@ -27,21 +27,44 @@ import java.util.regex.Matcher;
 public class AppPattern {
 
     private String type = null;
+    private String pattern = null;
+    private volatile boolean compiled;
     private Pattern re2jPattern = null;
-    private java.util.regex.Pattern javaPattern = null;
+    private volatile java.util.regex.Pattern javaPattern = null;
     private String version = null;
     private int confidence = 100;
 
+    /**
+     * Sets the regex pattern.
+     *
+     * <p>The Java pattern is compiled straight away, which also validates the pattern, but the
+     * RE2/J pattern, used for matching, is only compiled when first used, most patterns are never
+     * needed for a given scan.
+     *
+     * @param pattern the regex pattern.
+     * @throws java.util.regex.PatternSyntaxException if the pattern is not valid.
+     */
     public void setPattern(String pattern) {
-        this.javaPattern = java.util.regex.Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
-        try {
-            // This takes precedence, if it compiles
-            this.re2jPattern = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
-        } catch (com.google.re2j.PatternSyntaxException e) {
-            // Ignore
+        java.util.regex.Pattern compiledPattern =
+                java.util.regex.Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
+        synchronized (this) {
+            this.pattern = pattern;
+            this.javaPattern = compiledPattern;
+            this.re2jPattern = null;
+            this.compiled = false;
         }
     }
 
+    /**
+     * Gets the regex pattern, as set.
+     *
+     * @return the regex pattern, might be {@code null}.
+     * @since 21.58.0
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
     /**
      * Returns the java version of the regex pattern - its provided as the core requires a java
      * Pattern when searching for evidence. It should not be used for matching in this package, use
@@ -54,9 +77,29 @@ public class AppPattern {
     }
 
     public Pattern getRe2jPattern() {
+        if (!compiled) {
+            synchronized (this) {
+                if (!compiled) {
+                    compileRe2j();
+                    compiled = true;
+                }
+            }
+        }
         return re2jPattern;
     }
 
+    private void compileRe2j() {
+        if (pattern == null) {
+            return;
+        }
+        try {
+            // This takes precedence, if it compiles
+            this.re2jPattern = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
+        } catch (com.google.re2j.PatternSyntaxException e) {
+            // Ignore
+        }
+    }
+
     public String getVersion() {
         return version;
     }
@@ -83,8 +126,9 @@ public class AppPattern {
 
     public Result findInString(String str) {
         Result result = new Result();
-        if (this.re2jPattern != null) {
-            com.google.re2j.Matcher re2jMatcher = this.re2jPattern.matcher(str);
+        Pattern re2j = getRe2jPattern();
+        if (re2j != null) {
+            com.google.re2j.Matcher re2jMatcher = re2j.matcher(str);
             if (re2jMatcher.find()) {
                 result.setEvidence(re2jMatcher.group());
                 for (int i = 1; i <= re2jMatcher.groupCount(); i++) {
@@ -92,7 +136,7 @@ public class AppPattern {
                 }
             }
         } else {
-            Matcher matcher = this.javaPattern.matcher(str);
+            Matcher matcher = getJavaPattern().matcher(str);
             if (matcher.find()) {
                 result.setEvidence(matcher.group());
                 for (int i = 1; i <= matcher.groupCount(); i++) {
@@ -57,9 +57,7 @@ public class PopupMenuEvidence extends ExtensionPopupMenu {
                     for (Map.Entry<String, AppPattern> entry : mp.entrySet()) {
                         Pattern p =
                                 Pattern.compile(
-                                        entry.getKey()
-                                                + ".*"
-                                                + entry.getValue().getJavaPattern().pattern());
+                                        entry.getKey() + ".*" + entry.getValue().getPattern());
                         addMenuItem(p, ExtensionSearch.Type.Header);
                     }
                 }
@@ -70,9 +68,7 @@ public class PopupMenuEvidence extends ExtensionPopupMenu {
                     for (Map.Entry<String, AppPattern> entry : mp.entrySet()) {
                         Pattern p =
                                 Pattern.compile(
-                                        entry.getKey()
-                                                + ".*"
-                                                + entry.getValue().getJavaPattern().pattern());
+                                        entry.getKey() + ".*" + entry.getValue().getPattern());
                         addMenuItem(p, ExtensionSearch.Type.Response);
                     }
                 }
@@ -90,9 +86,7 @@ public class PopupMenuEvidence extends ExtensionPopupMenu {
                                                             + ".*"
                                                             + objvalue.getKey()
                                                             + ".*"
-                                                            + objvalue.getValue()
-                                                                    .getJavaPattern()
-                                                                    .pattern());
+                                                            + objvalue.getValue().getPattern());
                                     addMenuItem(pat, ExtensionSearch.Type.Response);
                                 } else {
                                     Pattern pat =
@@ -103,9 +97,7 @@ public class PopupMenuEvidence extends ExtensionPopupMenu {
                                                             + ".*"
                                                             + objvalue.getKey()
                                                             + ".*"
-                                                            + objvalue.getValue()
-                                                                    .getJavaPattern()
-                                                                    .pattern());
+                                                            + objvalue.getValue().getPattern());
                                     addMenuItem(pat, ExtensionSearch.Type.Response);
                                 }
                             }
@@ -364,8 +364,8 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     }
 
     boolean skipValueCheck(Map.Entry<String, AppPattern> entry) {
-        return entry.getValue().getJavaPattern().toString().isEmpty()
-                && entry.getValue().getRe2jPattern().toString().isEmpty();
+        String pattern = entry.getValue().getPattern();
+        return pattern == null || pattern.isEmpty();
     }
 
     private ApplicationMatch checkUrlMatches(
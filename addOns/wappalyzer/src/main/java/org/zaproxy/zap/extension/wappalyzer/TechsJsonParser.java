@@ -29,6 +29,7 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -110,15 +111,8 @@ public class TechsJsonParser {
     }
 
     private String getStringResource(String resourceName) {
-        StringBuilder sb = new StringBuilder();
         try (InputStream in = ExtensionWappalyzer.class.getResourceAsStream(resourceName)) {
-            int numRead = 0;
-            byte[] buf = new byte[1024];
-            while ((numRead = in.read(buf)) != -1) {
-                sb.append(new String(buf, 0, numRead));
-            }
-            return sb.toString();
-
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
         } catch (IOException e) {
             parsingExceptionHandler.handleException(e);
         }
@@ -0,0 +1,119 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.wappalyzer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link AppPattern}. */
+class AppPatternUnitTest {
+
+    @Test
+    void shouldRejectInvalidPatternWhenSet() {
+        // Given
+        AppPattern appPattern = new AppPattern();
+        // When / Then
+        assertThrows(PatternSyntaxException.class, () -> appPattern.setPattern("a{"));
+        assertThat(appPattern.getPattern(), is(nullValue()));
+    }
+
+    @Test
+    void shouldKeepPatternAsSet() {
+        // Given
+        AppPattern appPattern = new AppPattern();
+        // When
+        appPattern.setPattern("Apache/([\\d.]+)");
+        // Then
+        assertThat(appPattern.getPattern(), is(equalTo("Apache/([\\d.]+)")));
+    }
+
+    @Test
+    void shouldCompilePatternsOnlyOnce() {
+        // Given
+        AppPattern appPattern = new AppPattern();
+        appPattern.setPattern("Apache");
+        // When
+        com.google.re2j.Pattern re2jPattern = appPattern.getRe2jPattern();
+        java.util.regex.Pattern javaPattern = appPattern.getJavaPattern();
+        // Then
+        assertThat(re2jPattern, is(notNullValue()));
+        assertThat(appPattern.getRe2jPattern(), is(sameInstance(re2jPattern)));
+        assertThat(javaPattern.pattern(), is(equalTo("Apache")));
+        assertThat(appPattern.getJavaPattern(), is(sameInstance(javaPattern)));
+    }
+
+    @Test
+    void shouldKeepJavaPatternCompiledWhenSet() {
+        // Given
+        AppPattern appPattern = new AppPattern();
+        // When
+        appPattern.setPattern("Apache");
+        // Then
+        java.util.regex.Pattern javaPattern = appPattern.getJavaPattern();
+        assertThat(javaPattern, is(notNullValue()));
+        assertThat(javaPattern.flags(), is(equalTo(java.util.regex.Pattern.CASE_INSENSITIVE)));
+    }
+
+    @Test
+    void shouldFindVersionInString() {
+        // Given
+        AppPattern appPattern = new AppPattern();
+        appPattern.setPattern("apache/([\\d.]+)");
+        // When
+        AppPattern.Result result = appPattern.findInString("Server: Apache/2.4.1 (Unix)");
+        // Then
+        assertThat(result.getEvidence(), is(equalTo("Apache/2.4.1")));
+        assertThat(result.getVersions(), contains("2.4.1"));
+    }
+
+    @Test
+    void shouldFallBackToJavaPatternIfNotSupportedByRe2j() {
+        // Given
+        AppPattern appPattern = new AppPattern();
+        appPattern.setPattern("foo(?=bar)");
+        // When
+        AppPattern.Result result = appPattern.findInString("foobar");
+        // Then
+        assertThat(appPattern.getRe2jPattern(), is(nullValue()));
+        assertThat(result.getEvidence(), is(equalTo("foo")));
+    }
+
+    @Test
+    void shouldRecompileWhenPatternChanged() {
+        // Given
+        AppPattern appPattern = new AppPattern();
+        appPattern.setPattern("foo");
+        appPattern.findInString("foo");
+        // When
+        appPattern.setPattern("bar");
+        // Then
+        assertThat(appPattern.findInString("bar").getEvidence(), is(equalTo("bar")));
+        assertThat(appPattern.getJavaPattern().pattern(), is(equalTo("bar")));
+    }
+}